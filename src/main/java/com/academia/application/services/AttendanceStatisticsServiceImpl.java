@@ -0,0 +1,43 @@
+package com.academia.application.services;
+
+import com.academia.application.exceptions.ResourceNotFoundException;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.ports.in.course.GetAttendanceStatisticsQuery;
+import com.academia.domain.ports.in.dtos.AbsenceReportDTO;
+import com.academia.domain.ports.in.dtos.AbsenceReportDTO.AbsentStudentDTO;
+import com.academia.domain.ports.in.dtos.CourseAttendanceSummaryDTO;
+import com.academia.domain.ports.out.AttendanceStatistics;
+import com.academia.domain.ports.out.CourseRosterReader;
+import com.academia.domain.ports.out.OrganizationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AttendanceStatisticsServiceImpl implements GetAttendanceStatisticsQuery {
+
+    private final AttendanceStatistics attendanceStatistics;
+    private final CourseRosterReader courseRosterReader;
+    private final OrganizationRepository organizationRepository;
+
+    @Override
+    public CourseAttendanceSummaryDTO summarizeCourse(Long courseId) {
+        CourseId id = new CourseId(courseId);
+        courseRosterReader.findActiveEnrollments(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Curso no encontrado con ID: " + courseId));
+        return new CourseAttendanceSummaryDTO(courseId, attendanceStatistics.summarizeCourse(id));
+    }
+
+    @Override
+    public AbsenceReportDTO findAbsences(Long organizationId, LocalDate date) {
+        OrganizationId id = new OrganizationId(organizationId);
+        organizationRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Organización no encontrada con ID: " + organizationId));
+        List<AbsentStudentDTO> absences = attendanceStatistics.findAbsences(id, date);
+        return new AbsenceReportDTO(organizationId, date, absences.size(), absences);
+    }
+}
@@ -0,0 +1,194 @@
+package com.academia.application.services;
+
+import com.academia.application.exceptions.ResourceNotFoundException;
+import com.academia.domain.model.aggregates.Organization;
+import com.academia.domain.model.aggregates.UserAccount;
+import com.academia.domain.model.entities.Student;
+import com.academia.domain.model.entities.User;
+import com.academia.domain.model.enums.AccountStatus;
+import com.academia.domain.model.events.DomainEvent;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.model.valueobjects.user.Email;
+import com.academia.domain.model.valueobjects.user.Name;
+import com.academia.domain.ports.in.commands.BulkRegisterStudentsCommand;
+import com.academia.domain.ports.in.commands.BulkRegisterStudentsCommand.StudentRow;
+import com.academia.domain.ports.in.dtos.BulkRegistrationResultDTO;
+import com.academia.domain.ports.in.dtos.BulkRegistrationResultDTO.RowResultDTO;
+import com.academia.domain.ports.in.student.BulkRegisterStudentsUseCase;
+import com.academia.domain.ports.out.DomainEventOutbox;
+import com.academia.domain.ports.out.OrganizationRepository;
+import com.academia.domain.ports.out.StudentRepository;
+import com.academia.domain.ports.out.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Registro masivo de estudiantes. Procesa el lote en bloques de {@value #CHUNK_SIZE} filas:
+ * cada bloque se valida con dos consultas IN (emails y legajos) y se escribe en su propia
+ * transacción, con inserciones agrupadas en lotes JDBC. Los eventos del bloque se agregan a la
+ * bandeja de salida en la misma transacción: si el bloque se revierte, no sale ninguno.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkRegisterStudentsServiceImpl implements BulkRegisterStudentsUseCase {
+
+    static final int CHUNK_SIZE = 500;
+
+    private final OrganizationRepository organizationRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final StudentRepository studentRepository;
+    private final DomainEventOutbox domainEventOutbox;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public BulkRegistrationResultDTO registerStudents(BulkRegisterStudentsCommand command) {
+        OrganizationId orgId = new OrganizationId(command.organizationId());
+        Organization organization = organizationRepository.findById(orgId)
+                .orElseThrow(() -> new ResourceNotFoundException("Organización no encontrada con ID: " + orgId.getValue()));
+
+        List<StudentRow> rows = command.students();
+        RowResultDTO[] results = new RowResultDTO[rows.size()];
+
+        // Duplicados dentro del propio lote: se detectan con conjuntos en memoria
+        Set<Email> seenEmails = new HashSet<>();
+        Set<String> seenStudentIds = new HashSet<>();
+
+        for (int start = 0; start < rows.size(); start += CHUNK_SIZE) {
+            int end = Math.min(start + CHUNK_SIZE, rows.size());
+            processChunk(organization, rows, start, end, seenEmails, seenStudentIds, results);
+        }
+
+        int registered = (int) Arrays.stream(results).filter(r -> r.accountId() != null).count();
+        log.info("Registro masivo en organización {}: {} de {} estudiantes registrados",
+                orgId.getValue(), registered, rows.size());
+
+        return new BulkRegistrationResultDTO(rows.size(), registered, rows.size() - registered, List.of(results));
+    }
+
+    private void processChunk(Organization organization, List<StudentRow> rows, int start, int end,
+                              Set<Email> seenEmails, Set<String> seenStudentIds, RowResultDTO[] results) {
+        OrganizationId orgId = organization.getId();
+
+        // 1. Validación de cada fila con los Value Objects del dominio
+        List<PendingRow> candidates = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            StudentRow row = rows.get(i);
+            try {
+                PendingRow pending = toPendingRow(i, row, organization);
+                if (!seenEmails.add(pending.email())) {
+                    results[i] = rejected(i, row, "El email está repetido dentro del lote.");
+                } else if (!seenStudentIds.add(row.studentIdNumber())) {
+                    results[i] = rejected(i, row, "El legajo está repetido dentro del lote.");
+                } else {
+                    candidates.add(pending);
+                }
+            } catch (IllegalArgumentException e) {
+                results[i] = rejected(i, row, e.getMessage());
+            }
+        }
+
+        // 2. Unicidad contra la BD: una consulta IN por índice único
+        Set<Email> takenEmails = userAccountRepository.findExistingEmails(orgId,
+                candidates.stream().map(PendingRow::email).toList());
+        Set<String> takenStudentIds = studentRepository.findExistingStudentIdNumbers(orgId,
+                candidates.stream().map(p -> p.row().studentIdNumber()).toList());
+
+        List<PendingRow> accepted = new ArrayList<>(candidates.size());
+        for (PendingRow pending : candidates) {
+            if (takenEmails.contains(pending.email())) {
+                results[pending.index()] = rejected(pending.index(), pending.row(),
+                        "El email '" + pending.email().value() + "' ya está en uso en esta organización.");
+            } else if (takenStudentIds.contains(pending.row().studentIdNumber())) {
+                results[pending.index()] = rejected(pending.index(), pending.row(),
+                        "El legajo '" + pending.row().studentIdNumber() + "' ya está en uso en esta organización.");
+            } else {
+                accepted.add(pending);
+            }
+        }
+
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        // 3. Escritura del bloque en una transacción propia
+        try {
+            List<UserAccount> saved = transactionTemplate.execute(status -> writeChunk(orgId, accepted));
+            for (int i = 0; i < accepted.size(); i++) {
+                PendingRow pending = accepted.get(i);
+                results[pending.index()] = new RowResultDTO(pending.index(), pending.email().value(),
+                        pending.row().studentIdNumber(), saved.get(i).getUser().getId().getValue(), "REGISTERED", null);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falló la escritura del bloque [{}, {}) de la organización {}: {}",
+                    start, end, orgId.getValue(), e.getMessage());
+            for (PendingRow pending : accepted) {
+                results[pending.index()] = rejected(pending.index(), pending.row(),
+                        "No se pudo persistir el bloque: " + e.getMessage());
+            }
+        }
+    }
+
+    private List<UserAccount> writeChunk(OrganizationId orgId, List<PendingRow> accepted) {
+        List<UserAccount> savedAccounts = userAccountRepository.saveAll(
+                accepted.stream().map(PendingRow::userAccount).toList());
+
+        List<Student> students = new ArrayList<>(accepted.size());
+        List<DomainEvent> events = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            UserAccount savedAccount = savedAccounts.get(i);
+            StudentRow row = accepted.get(i).row();
+
+            Student student = new Student(savedAccount.getUser().getId(), orgId, row.studentIdNumber(), row.enrollmentDate());
+            student.changeGradeLevel(row.initialGradeLevel());
+            students.add(student);
+
+            events.addAll(savedAccount.getDomainEvents());
+        }
+        studentRepository.insertAll(students);
+
+        domainEventOutbox.append(events);
+        return savedAccounts;
+    }
+
+    private PendingRow toPendingRow(int index, StudentRow row, Organization organization) {
+        Email email = new Email(row.email());
+        Name name = new Name(row.firstName(), row.lastName());
+        if (row.birthDate() == null || !row.birthDate().isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("La fecha de nacimiento debe ser una fecha pasada.");
+        }
+        if (row.studentIdNumber() == null || row.studentIdNumber().isBlank()) {
+            throw new IllegalArgumentException("El legajo no puede estar vacío.");
+        }
+        if (row.enrollmentDate() == null) {
+            throw new IllegalArgumentException("La fecha de inscripción es obligatoria.");
+        }
+        if (row.initialGradeLevel() == null || row.initialGradeLevel().isBlank()) {
+            throw new IllegalArgumentException("El nivel de grado no puede estar vacío.");
+        }
+
+        int age = Period.between(row.birthDate(), LocalDate.now()).getYears();
+        AccountStatus initialStatus = (age < organization.getDigitalConsentAge())
+                ? AccountStatus.TUTOR_MANAGED
+                : AccountStatus.PENDING_VERIFICATION;
+
+        User user = new User(null, organization.getId(), name, email, row.birthDate(), null, initialStatus);
+        return new PendingRow(index, row, email, UserAccount.register(user, organization));
+    }
+
+    private static RowResultDTO rejected(int index, StudentRow row, String error) {
+        return new RowResultDTO(index, row.email(), row.studentIdNumber(), null, "REJECTED", error);
+    }
+
+    private record PendingRow(int index, StudentRow row, Email email, UserAccount userAccount) {}
+}
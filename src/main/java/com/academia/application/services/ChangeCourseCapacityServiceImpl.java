@@ -0,0 +1,36 @@
+package com.academia.application.services;
+
+import com.academia.application.exceptions.ResourceNotFoundException;
+import com.academia.domain.model.aggregates.Course;
+import com.academia.domain.model.enums.EnrollmentStatus;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.ports.in.course.ChangeCourseCapacityUseCase;
+import com.academia.domain.ports.in.dtos.CourseCapacityDTO;
+import com.academia.domain.ports.out.CourseRepository;
+import com.academia.domain.ports.out.DomainEventPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class ChangeCourseCapacityServiceImpl implements ChangeCourseCapacityUseCase {
+
+    private final CourseRepository courseRepository;
+    private final DomainEventPublisher domainEventPublisher;
+
+    @Override
+    @Transactional
+    public CourseCapacityDTO changeCapacity(Long courseId, Integer capacity) {
+        Course course = courseRepository.findById(new CourseId(courseId))
+                .orElseThrow(() -> new ResourceNotFoundException("Curso no encontrado con ID: " + courseId));
+
+        course.changeCapacity(capacity);
+        courseRepository.save(course);
+
+        domainEventPublisher.publish(course.getDomainEvents());
+        course.clearDomainEvents();
+
+        return new CourseCapacityDTO(courseId, course.getCapacity(), course.countEnrollments(EnrollmentStatus.ACTIVE));
+    }
+}
@@ -0,0 +1,69 @@
+package com.academia.application.services;
+
+import com.academia.application.exceptions.ResourceNotFoundException;
+import com.academia.domain.model.valueobjects.academic.CheckIn;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.ports.in.commands.CheckInCommand;
+import com.academia.domain.ports.in.course.CheckInUseCase;
+import com.academia.domain.ports.in.dtos.CheckInCodeDTO;
+import com.academia.domain.ports.in.dtos.CheckInResultDTO;
+import com.academia.domain.ports.out.CheckInBuffer;
+import com.academia.domain.ports.out.CheckInCodeIssuer;
+import com.academia.domain.ports.out.CourseRosterReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Auto-registro de presencia. En el pico de entrada miles de estudiantes se registran en pocos
+ * minutos, así que el camino no abre transacciones: el padrón se lee de la caché y el registro
+ * queda en el {@link CheckInBuffer}, que lo vuelca a attendance_records por lotes.
+ */
+@Service
+@RequiredArgsConstructor
+public class CheckInServiceImpl implements CheckInUseCase {
+
+    private final CourseRosterReader courseRosterReader;
+    private final CheckInCodeIssuer checkInCodeIssuer;
+    private final CheckInBuffer checkInBuffer;
+
+    @Override
+    public CheckInCodeDTO issueCode(Long courseId) {
+        CourseId id = new CourseId(courseId);
+        findRoster(id);
+        LocalDate today = LocalDate.now();
+        return new CheckInCodeDTO(courseId, today, checkInCodeIssuer.codeFor(id, today));
+    }
+
+    @Override
+    public CheckInResultDTO checkIn(CheckInCommand command) {
+        CourseId courseId = new CourseId(command.courseId());
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+
+        if (command.code() == null || !MessageDigest.isEqual(
+                checkInCodeIssuer.codeFor(courseId, today).getBytes(StandardCharsets.UTF_8),
+                command.code().strip().getBytes(StandardCharsets.UTF_8))) {
+            throw new IllegalArgumentException("El código de asistencia no es válido para la sesión de hoy.");
+        }
+
+        Long enrollmentId = findRoster(courseId).get(new AccountId(command.studentAccountId()));
+        if (enrollmentId == null) {
+            throw new IllegalArgumentException("El estudiante " + command.studentAccountId() + " no tiene una inscripción activa en este curso.");
+        }
+
+        checkInBuffer.append(new CheckIn(enrollmentId, today, now));
+        return new CheckInResultDTO(courseId.getValue(), command.studentAccountId(), today, now);
+    }
+
+    private Map<AccountId, Long> findRoster(CourseId courseId) {
+        return courseRosterReader.findActiveEnrollments(courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Curso no encontrado con ID: " + courseId.getValue()));
+    }
+}
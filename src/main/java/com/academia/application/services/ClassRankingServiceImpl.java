@@ -0,0 +1,49 @@
+package com.academia.application.services;
+
+import com.academia.application.exceptions.ResourceNotFoundException;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.ports.in.dtos.ClassRankingDTO;
+import com.academia.domain.ports.in.dtos.StudentStandingDTO;
+import com.academia.domain.ports.in.student.GetClassRankingQuery;
+import com.academia.domain.ports.out.ClassRankingCalculator;
+import com.academia.domain.ports.out.OrganizationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class ClassRankingServiceImpl implements GetClassRankingQuery {
+
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 500;
+
+    private final OrganizationRepository organizationRepository;
+    private final ClassRankingCalculator classRankingCalculator;
+
+    @Override
+    public ClassRankingDTO getRanking(Long organizationId, Integer limit) {
+        OrganizationId orgId = requireOrganization(organizationId);
+        int size = limit != null ? limit : DEFAULT_LIMIT;
+        if (size < 1 || size > MAX_LIMIT) {
+            throw new IllegalArgumentException("La cantidad de puestos debe estar entre 1 y " + MAX_LIMIT + ".");
+        }
+        return classRankingCalculator.rank(orgId, size);
+    }
+
+    @Override
+    public Optional<StudentStandingDTO> getStanding(Long organizationId, Long studentAccountId) {
+        OrganizationId orgId = requireOrganization(organizationId);
+        return classRankingCalculator.standingOf(orgId, new AccountId(studentAccountId));
+    }
+
+    private OrganizationId requireOrganization(Long organizationId) {
+        OrganizationId orgId = new OrganizationId(organizationId);
+        if (organizationRepository.findById(orgId).isEmpty()) {
+            throw new ResourceNotFoundException("Organización no encontrada con ID: " + organizationId);
+        }
+        return orgId;
+    }
+}
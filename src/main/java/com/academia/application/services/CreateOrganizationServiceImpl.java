@@ -6,13 +6,14 @@ import com.academia.domain.model.entities.Role;
 import com.academia.domain.model.entities.User;
 import com.academia.domain.model.enums.AccountStatus;
 import com.academia.domain.model.enums.RoleScope;
+import com.academia.domain.model.events.DomainEvent;
 import com.academia.domain.model.valueobjects.ids.OrganizationId;
 import com.academia.domain.model.valueobjects.user.Email;
 import com.academia.domain.model.valueobjects.user.Name;
 import com.academia.domain.ports.in.commands.CreateOrganizationCommand;
 import com.academia.domain.ports.in.dtos.OrganizationDetailsDTO;
 import com.academia.domain.ports.in.organization.CreateOrganizationUseCase;
-import com.academia.domain.ports.out.DomainEventPublisher;
+import com.academia.domain.ports.out.DomainEventOutbox;
 import com.academia.domain.ports.out.OrganizationRepository;
 import com.academia.domain.ports.out.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +24,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 @Service
@@ -32,7 +35,7 @@ public class CreateOrganizationServiceImpl implements CreateOrganizationUseCase
 
     private final OrganizationRepository organizationRepository;
     private final UserAccountRepository userAccountRepository;
-    private final DomainEventPublisher domainEventPublisher;
+    private final DomainEventOutbox domainEventOutbox;
     private final PasswordEncoder passwordEncoder;
 
     @Override
@@ -48,10 +51,10 @@ public class CreateOrganizationServiceImpl implements CreateOrganizationUseCase
         Email adminEmail = new Email(command.adminEmail());
         validateAdminEmailAvailability(adminEmail);
 
-        // 3. Crear la organización usando el constructor de la base de código actual
-        Organization organization = new Organization(
-                null, // ID será asignado por la persistencia
+        // 3. Crear la organización con el subdominio pedido; el ID lo asigna la persistencia
+        Organization organization = Organization.create(
                 command.organizationName(),
+                command.subdomain(),
                 command.digitalConsentAge()
         );
 
@@ -72,15 +75,17 @@ public class CreateOrganizationServiceImpl implements CreateOrganizationUseCase
                 AccountStatus.ACTIVE // Los admins se crean directamente activos
         );
 
-        // 5. Crear el agregado UserAccount y asignar rol
-        UserAccount adminUserAccount = new UserAccount(adminUser);
+        // 5. Registrar la cuenta del administrador y asignar rol
+        UserAccount adminUserAccount = UserAccount.register(adminUser, savedOrganization);
         Role organizationAdminRole = createOrganizationAdminRole();
         adminUser.assignRole(organizationAdminRole);
 
         UserAccount savedAdminAccount = userAccountRepository.save(adminUserAccount);
 
-        // 6. Publicar eventos de dominio
-        domainEventPublisher.publish(savedAdminAccount.getDomainEvents());
+        // 6. Registrar los eventos de dominio en la bandeja de salida (se despachan tras el commit)
+        List<DomainEvent> events = new ArrayList<>(savedOrganization.getDomainEvents());
+        events.addAll(savedAdminAccount.getDomainEvents());
+        domainEventOutbox.append(events);
 
         log.info("Organización creada exitosamente con ID: {} y administrador ID: {}",
                 organizationId.getValue(), savedAdminAccount.getUser().getId().getValue());
@@ -11,7 +11,7 @@ import com.academia.domain.ports.in.commands.EnrollStudentInCourseCommand;
 import com.academia.domain.ports.in.dtos.EnrollmentResultDTO;
 import com.academia.domain.ports.in.course.EnrollStudentInCourseUseCase;
 import com.academia.domain.ports.out.CourseRepository;
-import com.academia.domain.ports.out.DomainEventPublisher;
+import com.academia.domain.ports.out.DomainEventOutbox;
 import com.academia.domain.ports.out.StudentRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -23,7 +23,7 @@ public class EnrollStudentInCourseServiceImpl implements EnrollStudentInCourseUs
 
     private final StudentRepository studentRepository;
     private final CourseRepository courseRepository;
-    private final DomainEventPublisher domainEventPublisher;
+    private final DomainEventOutbox domainEventOutbox;
     private final EnrollmentEligibilityChecker eligibilityChecker;
 
     @Override
@@ -45,16 +45,10 @@ public class EnrollStudentInCourseServiceImpl implements EnrollStudentInCourseUs
         // Guardamos el agregado Course, que contiene la nueva inscripción
         courseRepository.save(course);
 
-        // Publicamos los eventos con el tipo correcto
-        domainEventPublisher.publish(course.getDomainEvents());
+        // Los eventos se despachan después del commit, desde la bandeja de salida
+        domainEventOutbox.append(course.getDomainEvents());
         course.clearDomainEvents();
 
-        return new EnrollmentResultDTO(
-                newEnrollment.getId(),
-                newEnrollment.getStudentId().getValue(),
-                newEnrollment.getCourseId().getValue(),
-                newEnrollment.getStatus().name(),
-                newEnrollment.getEnrollmentDate()
-        );
+        return EnrollmentResultDTO.of(newEnrollment);
     }
 }
\ No newline at end of file
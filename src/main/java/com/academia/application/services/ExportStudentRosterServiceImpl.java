@@ -0,0 +1,51 @@
+package com.academia.application.services;
+
+import com.academia.application.exceptions.ResourceNotFoundException;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.ports.in.student.ExportStudentRosterUseCase;
+import com.academia.domain.ports.out.OrganizationRepository;
+import com.academia.domain.ports.out.StudentRosterReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@Slf4j
+public class ExportStudentRosterServiceImpl implements ExportStudentRosterUseCase {
+
+    private final OrganizationRepository organizationRepository;
+    private final StudentRosterReader studentRosterReader;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ExportStudentRosterServiceImpl(OrganizationRepository organizationRepository,
+                                          StudentRosterReader studentRosterReader,
+                                          PlatformTransactionManager transactionManager) {
+        this.organizationRepository = organizationRepository;
+        this.studentRosterReader = studentRosterReader;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public RosterExport prepareExport(Long organizationId) {
+        OrganizationId orgId = new OrganizationId(organizationId);
+        if (organizationRepository.findById(orgId).isEmpty()) {
+            throw new ResourceNotFoundException("Organización no encontrada con ID: " + organizationId);
+        }
+
+        // La lectura ocurre más tarde, en el hilo que escribe la respuesta; la transacción
+        // de solo lectura se abre allí y permite enrutar la exportación a una réplica
+        return consumer -> readOnlyTransaction.executeWithoutResult(status -> {
+            long start = System.nanoTime();
+            int[] count = {0};
+            studentRosterReader.forEachRosterEntry(orgId, entry -> {
+                consumer.accept(entry);
+                count[0]++;
+            });
+            log.info("Padrón de la organización {} exportado: {} estudiantes en {} ms",
+                    organizationId, count[0], (System.nanoTime() - start) / 1_000_000);
+        });
+    }
+}
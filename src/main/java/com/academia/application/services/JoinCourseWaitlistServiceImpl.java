@@ -0,0 +1,62 @@
+package com.academia.application.services;
+
+import com.academia.application.exceptions.ResourceNotFoundException;
+import com.academia.domain.model.aggregates.Course;
+import com.academia.domain.model.entities.Student;
+import com.academia.domain.model.services.EnrollmentEligibilityChecker;
+import com.academia.domain.model.valueobjects.academic.WaitlistEntry;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.ports.in.commands.EnrollStudentInCourseCommand;
+import com.academia.domain.ports.in.course.JoinCourseWaitlistUseCase;
+import com.academia.domain.ports.in.dtos.WaitlistEntryDTO;
+import com.academia.domain.ports.out.CourseRepository;
+import com.academia.domain.ports.out.CourseWaitlist;
+import com.academia.domain.ports.out.StudentRepository;
+import com.academia.domain.ports.out.WaitlistPriorityPolicy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class JoinCourseWaitlistServiceImpl implements JoinCourseWaitlistUseCase {
+
+    private final StudentRepository studentRepository;
+    private final CourseRepository courseRepository;
+    private final CourseWaitlist courseWaitlist;
+    private final WaitlistPriorityPolicy priorityPolicy;
+    private final EnrollmentEligibilityChecker eligibilityChecker;
+
+    @Override
+    @Transactional
+    public WaitlistEntryDTO joinWaitlist(EnrollStudentInCourseCommand command) {
+        AccountId studentId = new AccountId(command.studentAccountId());
+        CourseId courseId = new CourseId(command.courseId());
+
+        Student student = studentRepository.findByAccountId(studentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Estudiante no encontrado con ID de cuenta: " + studentId.getValue()));
+
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Curso no encontrado con ID: " + courseId.getValue()));
+
+        if (course.isEnrolled(studentId)) {
+            throw new IllegalStateException("El estudiante ya está inscrito en este curso.");
+        }
+        if (course.hasAvailableSeat()) {
+            throw new IllegalStateException("El curso tiene vacantes: el estudiante puede inscribirse directamente.");
+        }
+        // Se rechaza ahora a quien no podría ser promovido; la promoción vuelve a comprobarlo
+        eligibilityChecker.isStudentEligible(student, course);
+
+        WaitlistEntry entry = new WaitlistEntry(studentId, courseId, priorityPolicy.priorityOf(student), LocalDateTime.now());
+        if (!courseWaitlist.add(entry)) {
+            throw new IllegalStateException("El estudiante ya está en la lista de espera de este curso.");
+        }
+
+        return new WaitlistEntryDTO(courseId.getValue(), studentId.getValue(), entry.getPriority(),
+                entry.getRequestedAt(), courseWaitlist.size(courseId));
+    }
+}
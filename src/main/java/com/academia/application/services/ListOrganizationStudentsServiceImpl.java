@@ -0,0 +1,64 @@
+package com.academia.application.services;
+
+import com.academia.application.exceptions.ResourceNotFoundException;
+import com.academia.domain.model.enums.AccountStatus;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.ports.in.dtos.StudentPageDTO;
+import com.academia.domain.ports.in.dtos.StudentSummaryDTO;
+import com.academia.domain.ports.in.queries.ListStudentsQuery;
+import com.academia.domain.ports.in.student.ListOrganizationStudentsQuery;
+import com.academia.domain.ports.out.OrganizationRepository;
+import com.academia.domain.ports.out.StudentReadRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ListOrganizationStudentsServiceImpl implements ListOrganizationStudentsQuery {
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+
+    private final OrganizationRepository organizationRepository;
+    private final StudentReadRepository studentReadRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public StudentPageDTO listStudents(ListStudentsQuery query) {
+        OrganizationId orgId = new OrganizationId(query.organizationId());
+        if (organizationRepository.findById(orgId).isEmpty()) {
+            throw new ResourceNotFoundException("Organización no encontrada con ID: " + orgId.getValue());
+        }
+
+        int size = query.size() != null ? query.size() : DEFAULT_PAGE_SIZE;
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("El tamaño de página debe estar entre 1 y " + MAX_PAGE_SIZE + ".");
+        }
+        AccountStatus status = parseStatus(query.accountStatus());
+        long after = query.afterAccountId() != null ? query.afterAccountId() : 0L;
+
+        // Se pide una fila de más para saber si existe una página siguiente sin hacer un COUNT
+        List<StudentSummaryDTO> rows = studentReadRepository.findStudentsAfter(
+                orgId, after, query.gradeLevel(), status, size + 1);
+
+        if (rows.size() <= size) {
+            return new StudentPageDTO(rows, null);
+        }
+        List<StudentSummaryDTO> page = rows.subList(0, size);
+        return new StudentPageDTO(List.copyOf(page), page.get(size - 1).accountId());
+    }
+
+    private static AccountStatus parseStatus(String accountStatus) {
+        if (accountStatus == null || accountStatus.isBlank()) {
+            return null;
+        }
+        try {
+            return AccountStatus.valueOf(accountStatus.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Estado de cuenta desconocido: " + accountStatus);
+        }
+    }
+}
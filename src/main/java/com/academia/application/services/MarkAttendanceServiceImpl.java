@@ -0,0 +1,55 @@
+package com.academia.application.services;
+
+import com.academia.application.exceptions.ResourceNotFoundException;
+import com.academia.domain.model.aggregates.AttendanceSheet;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.ports.in.commands.MarkAttendanceCommand;
+import com.academia.domain.ports.in.course.MarkAttendanceUseCase;
+import com.academia.domain.ports.in.dtos.AttendanceSheetResultDTO;
+import com.academia.domain.ports.out.AttendanceRepository;
+import com.academia.domain.ports.out.DomainEventPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Toma de asistencia de una sesión completa. Un pedido se resuelve con dos sentencias:
+ * la lectura del padrón activo del curso y una única inserción multi-fila con upsert.
+ */
+@Service
+@RequiredArgsConstructor
+public class MarkAttendanceServiceImpl implements MarkAttendanceUseCase {
+
+    private final AttendanceRepository attendanceRepository;
+    private final DomainEventPublisher domainEventPublisher;
+
+    @Override
+    @Transactional
+    public AttendanceSheetResultDTO markAttendance(MarkAttendanceCommand command) {
+        if (command.entries() == null || command.entries().isEmpty()) {
+            throw new IllegalArgumentException("La planilla de asistencia no puede estar vacía.");
+        }
+        CourseId courseId = new CourseId(command.courseId());
+
+        AttendanceSheet sheet = attendanceRepository.openSheet(courseId, command.sessionDate())
+                .orElseThrow(() -> new ResourceNotFoundException("Curso no encontrado con ID: " + courseId.getValue()));
+
+        for (MarkAttendanceCommand.Entry entry : command.entries()) {
+            sheet.mark(new AccountId(entry.studentAccountId()), entry.status(), entry.notes());
+        }
+        sheet.record();
+
+        attendanceRepository.save(sheet);
+
+        domainEventPublisher.publish(sheet.getDomainEvents());
+        sheet.clearDomainEvents();
+
+        Map<String, Integer> totals = new LinkedHashMap<>();
+        sheet.countByStatus().forEach((status, count) -> totals.put(status.name(), count));
+        return new AttendanceSheetResultDTO(courseId.getValue(), sheet.getSessionDate(), sheet.getMarks().size(), totals);
+    }
+}
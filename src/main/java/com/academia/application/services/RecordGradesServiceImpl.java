@@ -0,0 +1,70 @@
+package com.academia.application.services;
+
+import com.academia.application.exceptions.ResourceNotFoundException;
+import com.academia.domain.model.aggregates.GradeSheet;
+import com.academia.domain.model.valueobjects.academic.Grade;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.ports.in.commands.RecordGradesCommand;
+import com.academia.domain.ports.in.course.RecordGradesUseCase;
+import com.academia.domain.ports.in.dtos.GradeSheetResultDTO;
+import com.academia.domain.ports.out.DomainEventPublisher;
+import com.academia.domain.ports.out.GradeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Carga masiva de calificaciones. Todas las notas se validan antes de tocar la BD; luego una
+ * consulta resuelve inscripciones y entregas de toda la planilla y una inserción multi-fila
+ * con upsert guarda las calificaciones.
+ */
+@Service
+@RequiredArgsConstructor
+public class RecordGradesServiceImpl implements RecordGradesUseCase {
+
+    private final GradeRepository gradeRepository;
+    private final DomainEventPublisher domainEventPublisher;
+
+    @Override
+    @Transactional
+    public GradeSheetResultDTO recordGrades(RecordGradesCommand command) {
+        if (command.entries() == null || command.entries().isEmpty()) {
+            throw new IllegalArgumentException("La planilla de calificaciones no puede estar vacía.");
+        }
+        CourseId courseId = new CourseId(command.courseId());
+
+        Set<AccountId> studentIds = new LinkedHashSet<>();
+        Set<Long> assignmentIds = new LinkedHashSet<>();
+        Grade[] grades = new Grade[command.entries().size()];
+        for (int i = 0; i < grades.length; i++) {
+            RecordGradesCommand.Entry entry = command.entries().get(i);
+            if (entry.grade() == null) {
+                throw new IllegalArgumentException("Falta el valor de la calificación en la fila " + (i + 1) + ".");
+            }
+            grades[i] = new Grade(entry.grade());
+            studentIds.add(new AccountId(entry.studentAccountId()));
+            assignmentIds.add(entry.assignmentId());
+        }
+
+        GradeSheet sheet = gradeRepository.openSheet(courseId, studentIds, assignmentIds)
+                .orElseThrow(() -> new ResourceNotFoundException("Curso no encontrado con ID: " + courseId.getValue()));
+
+        for (int i = 0; i < grades.length; i++) {
+            RecordGradesCommand.Entry entry = command.entries().get(i);
+            sheet.grade(new AccountId(entry.studentAccountId()), entry.assignmentId(), grades[i], entry.feedback());
+        }
+
+        Map<GradeSheet.Cell, Long> gradeIds = gradeRepository.save(sheet);
+        sheet.record(gradeIds);
+
+        domainEventPublisher.publish(sheet.getDomainEvents());
+        sheet.clearDomainEvents();
+
+        return new GradeSheetResultDTO(courseId.getValue(), sheet.getEntries().size(), sheet.countEnrollments());
+    }
+}
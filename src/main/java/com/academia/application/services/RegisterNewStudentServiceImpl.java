@@ -28,7 +28,7 @@ public class RegisterNewStudentServiceImpl implements RegisterNewStudentUseCase
     private final OrganizationRepository organizationRepository;
     private final UserAccountRepository userAccountRepository;
     private final StudentRepository studentRepository;
-    private final DomainEventPublisher domainEventPublisher;
+    private final DomainEventOutbox domainEventOutbox;
     private final StudentDTOMapper studentDTOMapper;
 
     @Override
@@ -53,7 +53,7 @@ public class RegisterNewStudentServiceImpl implements RegisterNewStudentUseCase
                 ? AccountStatus.TUTOR_MANAGED
                 : AccountStatus.PENDING_VERIFICATION;
 
-        // ID es null inicialmente, será asignado por la BD
+        // ID es null inicialmente, lo asigna el generador por bloques (id_allocations) al persistir
         User user = new User(null, orgId, name, email, command.birthDate(), null, initialStatus);
         UserAccount userAccount = UserAccount.register(user, organization);
 
@@ -62,9 +62,9 @@ public class RegisterNewStudentServiceImpl implements RegisterNewStudentUseCase
 
         Student student = new Student(newAccountId, orgId, command.studentIdNumber(), command.enrollmentDate());
         student.changeGradeLevel(command.initialGradeLevel());
-        Student savedStudent = studentRepository.save(student);
+        Student savedStudent = studentRepository.insert(student);
 
-        domainEventPublisher.publish(savedUserAccount.getDomainEvents());
+        domainEventOutbox.append(savedUserAccount.getDomainEvents());
 
         return studentDTOMapper.toDTO(savedUserAccount, savedStudent);
     }
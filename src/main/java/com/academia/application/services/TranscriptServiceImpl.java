@@ -0,0 +1,26 @@
+package com.academia.application.services;
+
+import com.academia.application.exceptions.ResourceNotFoundException;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.ports.in.dtos.TranscriptDTO;
+import com.academia.domain.ports.in.student.GetTranscriptQuery;
+import com.academia.domain.ports.out.StudentRepository;
+import com.academia.domain.ports.out.TranscriptReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class TranscriptServiceImpl implements GetTranscriptQuery {
+
+    private final StudentRepository studentRepository;
+    private final TranscriptReader transcriptReader;
+
+    @Override
+    public TranscriptDTO getTranscript(Long studentAccountId) {
+        AccountId studentId = new AccountId(studentAccountId);
+        studentRepository.findByAccountId(studentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Estudiante no encontrado con ID de cuenta: " + studentAccountId));
+        return transcriptReader.loadTranscript(studentId);
+    }
+}
@@ -0,0 +1,80 @@
+package com.academia.application.services;
+
+import com.academia.application.exceptions.ResourceNotFoundException;
+import com.academia.domain.model.aggregates.Course;
+import com.academia.domain.model.entities.Enrollment;
+import com.academia.domain.model.entities.Student;
+import com.academia.domain.model.services.EnrollmentEligibilityChecker;
+import com.academia.domain.model.valueobjects.academic.WaitlistEntry;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.ports.in.course.WithdrawStudentFromCourseUseCase;
+import com.academia.domain.ports.in.dtos.EnrollmentResultDTO;
+import com.academia.domain.ports.in.dtos.WithdrawalResultDTO;
+import com.academia.domain.ports.out.CourseRepository;
+import com.academia.domain.ports.out.CourseWaitlist;
+import com.academia.domain.ports.out.DomainEventOutbox;
+import com.academia.domain.ports.out.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WithdrawStudentFromCourseServiceImpl implements WithdrawStudentFromCourseUseCase {
+
+    private final StudentRepository studentRepository;
+    private final CourseRepository courseRepository;
+    private final CourseWaitlist courseWaitlist;
+    private final DomainEventOutbox domainEventOutbox;
+    private final EnrollmentEligibilityChecker eligibilityChecker;
+
+    @Override
+    @Transactional
+    public WithdrawalResultDTO withdrawStudent(Long courseId, Long studentAccountId) {
+        Course course = courseRepository.findById(new CourseId(courseId))
+                .orElseThrow(() -> new ResourceNotFoundException("Curso no encontrado con ID: " + courseId));
+
+        boolean seatReleased = course.withdrawStudent(new AccountId(studentAccountId));
+
+        // Cada vacante libre pasa al siguiente de la lista que siga cumpliendo las reglas. Quien ya
+        // no las cumple pierde su lugar: la lista solo guarda pedidos que todavía pueden inscribirse
+        List<Enrollment> promoted = new ArrayList<>();
+        Optional<WaitlistEntry> next;
+        while (course.hasAvailableSeat() && (next = courseWaitlist.pollNext(course.getId())).isPresent()) {
+            promote(course, next.get()).ifPresent(promoted::add);
+        }
+
+        // Un único guardado: devuelve la vacante, reserva las de los promovidos e inserta sus inscripciones
+        courseRepository.save(course);
+
+        // El retiro y las inscripciones de los promovidos se despachan desde la bandeja de salida
+        domainEventOutbox.append(course.getDomainEvents());
+        course.clearDomainEvents();
+
+        return new WithdrawalResultDTO(courseId, studentAccountId, seatReleased,
+                promoted.stream().map(EnrollmentResultDTO::of).toList());
+    }
+
+    private Optional<Enrollment> promote(Course course, WaitlistEntry entry) {
+        Optional<Student> student = studentRepository.findByAccountId(entry.getStudentId());
+        if (student.isEmpty()) {
+            log.info("Se descarta de la lista del curso {} al estudiante {}: ya no existe",
+                    course.getId().getValue(), entry.getStudentId().getValue());
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(course.enrollStudent(student.get(), eligibilityChecker));
+        } catch (IllegalStateException e) {
+            log.info("Se descarta de la lista del curso {} al estudiante {}: {}",
+                    course.getId().getValue(), entry.getStudentId().getValue(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
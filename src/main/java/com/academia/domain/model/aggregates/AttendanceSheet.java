@@ -0,0 +1,84 @@
+package com.academia.domain.model.aggregates;
+
+import com.academia.domain.model.enums.AttendanceStatus;
+import com.academia.domain.model.events.AttendanceEvents;
+import com.academia.domain.model.events.DomainEvent;
+import com.academia.domain.model.valueobjects.academic.AttendanceMark;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Planilla de asistencia de una sesión (curso + fecha).
+ * <p>
+ * Se abre con el padrón de inscripciones activas del curso, de modo que solo se puede
+ * marcar a estudiantes inscritos. No necesita las marcas previas: registrar una marca
+ * sobre una sesión ya tomada la reemplaza.
+ */
+@Getter
+public class AttendanceSheet {
+    private final CourseId courseId;
+    private final LocalDate sessionDate;
+    private final Map<AccountId, Long> activeEnrollments; // estudiante -> inscripción
+    private final Map<AccountId, AttendanceMark> marks = new LinkedHashMap<>();
+    private final List<DomainEvent> domainEvents = new ArrayList<>();
+
+    private AttendanceSheet(CourseId courseId, LocalDate sessionDate, Map<AccountId, Long> activeEnrollments) {
+        this.courseId = courseId;
+        this.sessionDate = sessionDate;
+        this.activeEnrollments = Map.copyOf(activeEnrollments);
+    }
+
+    public static AttendanceSheet open(CourseId courseId, LocalDate sessionDate, Map<AccountId, Long> activeEnrollments) {
+        if (sessionDate == null) {
+            throw new IllegalArgumentException("La fecha de la sesión es obligatoria.");
+        }
+        if (sessionDate.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("No se puede tomar asistencia de una sesión futura.");
+        }
+        return new AttendanceSheet(courseId, sessionDate, activeEnrollments);
+    }
+
+    public void mark(AccountId studentId, AttendanceStatus status, String notes) {
+        Long enrollmentId = activeEnrollments.get(studentId);
+        if (enrollmentId == null) {
+            throw new IllegalArgumentException("El estudiante " + studentId.getValue() + " no tiene una inscripción activa en este curso.");
+        }
+        if (marks.containsKey(studentId)) {
+            throw new IllegalArgumentException("El estudiante " + studentId.getValue() + " aparece más de una vez en la planilla.");
+        }
+        marks.put(studentId, new AttendanceMark(enrollmentId, studentId, status, notes));
+    }
+
+    /**
+     * Cierra la toma de asistencia y registra el evento con las marcas de la sesión.
+     */
+    public void record() {
+        if (marks.isEmpty()) {
+            throw new IllegalStateException("La planilla no tiene ninguna marca de asistencia.");
+        }
+        domainEvents.add(new AttendanceEvents.AttendanceRecorded(courseId, sessionDate, getMarks()));
+    }
+
+    public List<AttendanceMark> getMarks() { return List.copyOf(marks.values()); }
+
+    public Map<AttendanceStatus, Integer> countByStatus() {
+        Map<AttendanceStatus, Integer> totals = new EnumMap<>(AttendanceStatus.class);
+        for (AttendanceMark mark : marks.values()) {
+            totals.merge(mark.getStatus(), 1, Integer::sum);
+        }
+        return totals;
+    }
+
+    public Map<AccountId, Long> getActiveEnrollments() { return Collections.unmodifiableMap(activeEnrollments); }
+    public List<DomainEvent> getDomainEvents() { return List.copyOf(domainEvents); }
+    public void clearDomainEvents() { domainEvents.clear(); }
+}
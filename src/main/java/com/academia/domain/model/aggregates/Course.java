@@ -5,15 +5,19 @@ import com.academia.domain.model.entities.Student;
 import com.academia.domain.model.entities.Subject;
 import com.academia.domain.model.entities.AcademicTerm;
 import com.academia.domain.model.events.CourseEvents;
+import com.academia.domain.model.enums.EnrollmentStatus;
 import com.academia.domain.model.events.DomainEvent;
 import com.academia.domain.model.services.EnrollmentEligibilityChecker;
 import com.academia.domain.model.valueobjects.ids.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 @Getter
@@ -22,7 +26,14 @@ public class Course {
     private final Subject subject;
     private final AcademicTerm term;
     private AccountId teacherId;
+    private Integer capacity; // Nulo: sin límite de vacantes
     private Set<Enrollment> enrollments;
+    @Getter(AccessLevel.NONE)
+    private final EnrollmentIndex enrollmentsByStudent;
+    @Getter(AccessLevel.NONE)
+    private final int[] countsByStatus = new int[EnrollmentStatus.values().length];
+    @Getter(AccessLevel.NONE)
+    private final List<Enrollment> pendingEnrollments = new ArrayList<>();
     private final List<DomainEvent> domainEvents = new ArrayList<>();
 
     public Course(CourseId id, Subject subject, AcademicTerm term) {
@@ -30,6 +41,26 @@ public class Course {
         this.subject = subject;
         this.term = term;
         this.enrollments = new HashSet<>();
+        this.enrollmentsByStudent = new EnrollmentIndex(0);
+    }
+
+    public Course(CourseId id, Subject subject, AcademicTerm term, AccountId teacherId, Collection<Enrollment> enrollments) {
+        this(id, subject, term, teacherId, null, enrollments);
+    }
+
+    // Constructor de reconstitución desde la persistencia
+    public Course(CourseId id, Subject subject, AcademicTerm term, AccountId teacherId, Integer capacity,
+                  Collection<Enrollment> enrollments) {
+        this.id = id;
+        this.subject = subject;
+        this.term = term;
+        this.teacherId = teacherId;
+        this.capacity = capacity;
+        this.enrollments = new HashSet<>(enrollments);
+        this.enrollmentsByStudent = new EnrollmentIndex(enrollments.size());
+        for (Enrollment enrollment : this.enrollments) {
+            index(enrollment);
+        }
     }
 
     public void assignTeacher(Staff teacher) {
@@ -39,22 +70,102 @@ public class Course {
     }
 
     public Enrollment enrollStudent(Student student, EnrollmentEligibilityChecker eligibilityChecker) {
+        // Primero la comprobación local, que es O(1) y no necesita datos de otros agregados
+        if (isEnrolled(student.getAccountId())) {
+            throw new IllegalStateException("El estudiante ya está inscrito en este curso.");
+        }
+
+        // Rechazo temprano con el cupo leído al cargar el curso; la reserva definitiva la hace
+        // la persistencia con un UPDATE condicionado, que ve las inscripciones concurrentes
+        if (!hasAvailableSeat()) {
+            throw new IllegalStateException("El curso no tiene vacantes.");
+        }
+
         // Usar un Domain Service para lógica que cruza agregados
         if (!eligibilityChecker.isStudentEligible(student, this)) {
             throw new IllegalStateException("El estudiante no cumple los requisitos para inscribirse en este curso.");
         }
 
-        if (enrollments.stream().anyMatch(e -> e.getStudentId().equals(student.getAccountId()))) {
-            throw new IllegalStateException("El estudiante ya está inscrito en este curso.");
-        }
-
         Enrollment newEnrollment = new Enrollment(null, student.getAccountId(), this.id);
         this.enrollments.add(newEnrollment);
+        index(newEnrollment);
+        pendingEnrollments.add(newEnrollment);
         domainEvents.add(new CourseEvents.StudentEnrolledInCourse(student.getAccountId(), this.id));
         return newEnrollment;
     }
 
+    /**
+     * @param capacity El nuevo cupo, o {@code null} para quitar el límite. Puede quedar por debajo
+     *                 de los inscritos actuales: nadie pierde su vacante, solo se cierran las altas.
+     */
+    public void changeCapacity(Integer capacity) {
+        if (capacity != null && capacity < 1) {
+            throw new IllegalArgumentException("El cupo del curso debe ser de al menos una vacante.");
+        }
+        this.capacity = capacity;
+        domainEvents.add(new CourseEvents.CourseCapacityChanged(this.id, capacity));
+    }
+
+    public boolean hasAvailableSeat() {
+        return capacity == null || countEnrollments(EnrollmentStatus.ACTIVE) < capacity;
+    }
+
+    /**
+     * Retira al estudiante del curso. Los cambios de estado pasan por el agregado para que
+     * los contadores por estado sigan al día. Retirar a alguien ya retirado no cambia nada.
+     * @return {@code true} si el retiro liberó una vacante.
+     */
+    public boolean withdrawStudent(AccountId studentId) {
+        Enrollment enrollment = requireEnrollment(studentId);
+        EnrollmentStatus previous = enrollment.getStatus();
+        enrollment.withdraw();
+        moveCount(previous, enrollment.getStatus());
+        if (previous != EnrollmentStatus.ACTIVE) {
+            return false;
+        }
+        domainEvents.add(new CourseEvents.StudentWithdrawnFromCourse(studentId, this.id));
+        return true;
+    }
+
+    public boolean isEnrolled(AccountId studentId) {
+        return enrollmentsByStudent.find(studentId.getValue()) != null;
+    }
+
+    public Optional<Enrollment> findEnrollment(AccountId studentId) {
+        return Optional.ofNullable(enrollmentsByStudent.find(studentId.getValue()));
+    }
+
+    public int countEnrollments(EnrollmentStatus status) {
+        return countsByStatus[status.ordinal()];
+    }
+
     public List<DomainEvent> getDomainEvents() { return List.copyOf(domainEvents); }
     public void clearDomainEvents() { domainEvents.clear(); }
     public Set<Enrollment> getEnrollments() { return Collections.unmodifiableSet(enrollments); }
+
+    /**
+     * Inscripciones creadas en memoria que todavía no fueron persistidas.
+     * Permite a la persistencia escribir solo lo nuevo sin reescribir todo el conjunto.
+     */
+    public List<Enrollment> getNewEnrollments() {
+        // Solo se recorren las creadas en esta sesión; las que ya recibieron ID se descartan
+        pendingEnrollments.removeIf(enrollment -> !enrollment.isNew());
+        return List.copyOf(pendingEnrollments);
+    }
+
+    private void index(Enrollment enrollment) {
+        if (enrollmentsByStudent.add(enrollment.getStudentId().getValue(), enrollment)) {
+            countsByStatus[enrollment.getStatus().ordinal()]++;
+        }
+    }
+
+    private Enrollment requireEnrollment(AccountId studentId) {
+        return findEnrollment(studentId).orElseThrow(() ->
+                new IllegalArgumentException("El estudiante no está inscrito en este curso."));
+    }
+
+    private void moveCount(EnrollmentStatus from, EnrollmentStatus to) {
+        countsByStatus[from.ordinal()]--;
+        countsByStatus[to.ordinal()]++;
+    }
 }
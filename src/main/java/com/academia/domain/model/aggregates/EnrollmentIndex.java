@@ -0,0 +1,90 @@
+package com.academia.domain.model.aggregates;
+
+import com.academia.domain.model.entities.Enrollment;
+
+/**
+ * Índice de las inscripciones de un curso por ID de estudiante: tabla hash de direccionamiento
+ * abierto sobre {@code long}, sin cajas ni nodos por entrada. Las inscripciones no se quitan del
+ * agregado (un retiro cambia el estado), así que el índice solo admite altas.
+ */
+final class EnrollmentIndex {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] studentIds;
+    private Enrollment[] enrollments; // null marca la posición libre
+    private int size;
+    private int shift;
+
+    EnrollmentIndex(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    Enrollment find(long studentId) {
+        long[] keys = studentIds;
+        int mask = keys.length - 1;
+        for (int slot = slotOf(studentId); enrollments[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == studentId) {
+                return enrollments[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return {@code false} si el estudiante ya tenía una inscripción indexada.
+     */
+    boolean add(long studentId, Enrollment enrollment) {
+        if ((size + 1) * 2 > studentIds.length) {
+            rehash(studentIds.length << 1);
+        }
+        int mask = studentIds.length - 1;
+        int slot = slotOf(studentId);
+        while (enrollments[slot] != null) {
+            if (studentIds[slot] == studentId) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        studentIds[slot] = studentId;
+        enrollments[slot] = enrollment;
+        size++;
+        return true;
+    }
+
+    private int slotOf(long studentId) {
+        // Hash de Fibonacci: los IDs secuenciales se reparten por toda la tabla
+        return (int) ((studentId * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+
+    private void rehash(int capacity) {
+        long[] oldIds = studentIds;
+        Enrollment[] oldEnrollments = enrollments;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldEnrollments[i] != null) {
+                int slot = slotOf(oldIds[i]);
+                while (enrollments[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                studentIds[slot] = oldIds[i];
+                enrollments[slot] = oldEnrollments[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        studentIds = new long[capacity];
+        enrollments = new Enrollment[capacity];
+        shift = 64 - Integer.numberOfTrailingZeros(capacity);
+    }
+}
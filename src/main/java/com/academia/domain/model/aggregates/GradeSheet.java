@@ -0,0 +1,99 @@
+package com.academia.domain.model.aggregates;
+
+import com.academia.domain.model.events.DomainEvent;
+import com.academia.domain.model.events.GradeEvents;
+import com.academia.domain.model.valueobjects.academic.Grade;
+import com.academia.domain.model.valueobjects.academic.GradeEntry;
+import com.academia.domain.model.valueobjects.academic.WeightedGrade;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Planilla de calificaciones de un curso: varias tareas para varios estudiantes en una sola carga.
+ * <p>
+ * Se abre con las inscripciones activas, las tareas del curso y las entregas ya existentes de los
+ * estudiantes y tareas de la carga. Calificar una celda ya calificada reemplaza la nota.
+ */
+@Getter
+public class GradeSheet {
+    private final CourseId courseId;
+    private final Map<AccountId, Long> activeEnrollments; // estudiante -> inscripción
+    private final Map<Long, BigDecimal> assignmentWeights; // tarea -> peso
+    private final Map<Cell, Long> submissions; // (inscripción, tarea) -> entrega
+    private final Map<Cell, GradeEntry> entries = new LinkedHashMap<>();
+    private final List<DomainEvent> domainEvents = new ArrayList<>();
+
+    private GradeSheet(CourseId courseId, Map<AccountId, Long> activeEnrollments,
+                       Map<Long, BigDecimal> assignmentWeights, Map<Cell, Long> submissions) {
+        this.courseId = courseId;
+        this.activeEnrollments = Map.copyOf(activeEnrollments);
+        this.assignmentWeights = Map.copyOf(assignmentWeights);
+        this.submissions = Map.copyOf(submissions);
+    }
+
+    public static GradeSheet open(CourseId courseId, Map<AccountId, Long> activeEnrollments,
+                                  Map<Long, BigDecimal> assignmentWeights, Map<Cell, Long> submissions) {
+        return new GradeSheet(courseId, activeEnrollments, assignmentWeights, submissions);
+    }
+
+    public void grade(AccountId studentId, Long assignmentId, Grade grade, String feedback) {
+        Long enrollmentId = activeEnrollments.get(studentId);
+        if (enrollmentId == null) {
+            throw new IllegalArgumentException("El estudiante " + studentId.getValue() + " no tiene una inscripción activa en este curso.");
+        }
+        BigDecimal weight = assignmentWeights.get(assignmentId);
+        if (weight == null) {
+            throw new IllegalArgumentException("La tarea " + assignmentId + " no pertenece a este curso.");
+        }
+        Cell cell = new Cell(enrollmentId, assignmentId);
+        if (entries.containsKey(cell)) {
+            throw new IllegalArgumentException("El estudiante " + studentId.getValue() + " tiene más de una calificación para la tarea " + assignmentId + ".");
+        }
+        entries.put(cell, new GradeEntry(enrollmentId, studentId, assignmentId, submissions.get(cell), grade, weight, feedback));
+    }
+
+    /**
+     * Cierra la carga y registra un evento por inscripción con todas sus calificaciones guardadas.
+     * @param gradeIds El ID de la calificación guardada para cada celda de la planilla.
+     */
+    public void record(Map<Cell, Long> gradeIds) {
+        if (entries.isEmpty()) {
+            throw new IllegalStateException("La planilla no tiene ninguna calificación.");
+        }
+        Map<Long, List<WeightedGrade>> byEnrollment = new LinkedHashMap<>();
+        Map<Long, AccountId> students = new LinkedHashMap<>();
+        entries.forEach((cell, entry) -> {
+            Long gradeId = gradeIds.get(cell);
+            if (gradeId == null) {
+                throw new IllegalStateException("No se guardó la calificación de la inscripción " + cell.enrollmentId() +
+                        " para la tarea " + cell.assignmentId() + ".");
+            }
+            byEnrollment.computeIfAbsent(cell.enrollmentId(), id -> new ArrayList<>())
+                    .add(new WeightedGrade(gradeId, entry.getGrade(), entry.getWeight()));
+            students.put(cell.enrollmentId(), entry.getStudentId());
+        });
+        byEnrollment.forEach((enrollmentId, grades) ->
+                domainEvents.add(new GradeEvents.GradesRecorded(enrollmentId, students.get(enrollmentId), grades)));
+    }
+
+    public List<GradeEntry> getEntries() { return List.copyOf(entries.values()); }
+
+    public int countEnrollments() {
+        return (int) entries.keySet().stream().map(Cell::enrollmentId).distinct().count();
+    }
+
+    public List<DomainEvent> getDomainEvents() { return List.copyOf(domainEvents); }
+    public void clearDomainEvents() { domainEvents.clear(); }
+
+    /**
+     * Una celda de la planilla: la inscripción de un estudiante y una tarea.
+     */
+    public record Cell(Long enrollmentId, Long assignmentId) {}
+}
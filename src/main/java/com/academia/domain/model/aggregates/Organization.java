@@ -1,12 +1,16 @@
 package com.academia.domain.model.aggregates;
 
 import com.academia.domain.model.entities.AcademicTerm;
+import com.academia.domain.model.events.DomainEvent;
+import com.academia.domain.model.events.OrganizationEvents;
 import com.academia.domain.model.valueobjects.academic.TermDates;
 import com.academia.domain.model.valueobjects.ids.OrganizationId;
 import lombok.Getter;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 @Getter
@@ -17,6 +21,7 @@ public class Organization {
     private int digitalConsentAge;
     private boolean isActive;
     private Set<AcademicTerm> academicTerms;
+    private final List<DomainEvent> domainEvents = new ArrayList<>();
 
     // Constructor original (mantenido para compatibilidad)
     public Organization(OrganizationId id, String name, int consentAge) {
@@ -38,6 +43,17 @@ public class Organization {
         this.academicTerms = new HashSet<>();
     }
 
+    /**
+     * Alta de una organización nueva. {@code OrganizationCreated} se emite sin ID: lo asigna la
+     * persistencia, que lo vuelve a emitir con él (ver {@link #takePendingEventsFrom}).
+     */
+    public static Organization create(String name, String subdomain, int consentAge) {
+        Organization organization = new Organization(null, name, subdomain, consentAge);
+        organization.domainEvents.add(new OrganizationEvents.OrganizationCreated(
+                null, organization.name, organization.subdomain));
+        return organization;
+    }
+
     public void updateDetails(String newName, int newConsentAge) {
         this.name = newName;
         this.digitalConsentAge = newConsentAge;
@@ -68,4 +84,27 @@ public class Organization {
     public Set<AcademicTerm> getAcademicTerms() {
         return Collections.unmodifiableSet(academicTerms);
     }
+
+    /**
+     * Pasa a esta organización, recién persistida, los eventos pendientes de la que se guardó; el
+     * alta se vuelve a emitir con el ID asignado, conservando su eventId y su fecha.
+     */
+    public void takePendingEventsFrom(Organization unsaved) {
+        for (DomainEvent event : unsaved.domainEvents) {
+            if (event instanceof OrganizationEvents.OrganizationCreated created && created.organizationId() == null) {
+                domainEvents.add(new OrganizationEvents.OrganizationCreated(
+                        created.eventId(), created.occurredOn(), id, created.name(), created.subdomain()));
+            } else {
+                domainEvents.add(event);
+            }
+        }
+    }
+
+    public List<DomainEvent> getDomainEvents() {
+        return List.copyOf(domainEvents);
+    }
+
+    public void clearDomainEvents() {
+        domainEvents.clear();
+    }
 }
\ No newline at end of file
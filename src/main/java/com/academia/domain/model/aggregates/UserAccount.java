@@ -49,6 +49,22 @@ public class UserAccount {
         user.changePassword(newPassword.getValue());
     }
 
+    /**
+     * Pasa a esta cuenta, recién persistida, los eventos pendientes de la que se guardó. El registro
+     * se emite antes de que la persistencia asigne el ID, así que se vuelve a emitir con ese ID,
+     * conservando su eventId y su fecha.
+     */
+    public void takePendingEventsFrom(UserAccount unsaved) {
+        for (DomainEvent event : unsaved.domainEvents) {
+            if (event instanceof UserAccountEvents.UserRegisteredEvent registered && registered.accountId() == null) {
+                domainEvents.add(new UserAccountEvents.UserRegisteredEvent(
+                        registered.eventId(), registered.occurredOn(), user.getId(), registered.email()));
+            } else {
+                domainEvents.add(event);
+            }
+        }
+    }
+
     public List<DomainEvent> getDomainEvents() {
         return List.copyOf(domainEvents);
     }
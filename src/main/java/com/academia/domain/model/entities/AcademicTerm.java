@@ -9,5 +9,11 @@ public class AcademicTerm {
     private String name;
     private LocalDate startDate;
     private LocalDate endDate;
-    public AcademicTerm(Long id, OrganizationId orgId, String name, LocalDate start, LocalDate end) { /* ... */ }
+    public AcademicTerm(Long id, OrganizationId orgId, String name, LocalDate start, LocalDate end) {
+        this.id = id;
+        this.organizationId = orgId;
+        this.name = name;
+        this.startDate = start;
+        this.endDate = end;
+    }
 }
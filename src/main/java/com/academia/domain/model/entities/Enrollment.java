@@ -5,10 +5,11 @@ import com.academia.domain.model.valueobjects.ids.AccountId;
 import com.academia.domain.model.valueobjects.ids.CourseId;
 import lombok.Getter;
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Getter
 public class Enrollment {
-    private final Long id;
+    private Long id;
     private final AccountId studentId;
     private final CourseId courseId;
     private EnrollmentStatus status;
@@ -23,6 +24,24 @@ public class Enrollment {
         this.enrollmentDate = LocalDateTime.now();
     }
 
+    // Constructor de reconstitución desde la persistencia
+    public Enrollment(Long id, AccountId studentId, CourseId courseId, EnrollmentStatus status,
+                      Grade finalGrade, LocalDateTime enrollmentDate) {
+        this.id = id;
+        this.studentId = studentId;
+        this.courseId = courseId;
+        this.status = status;
+        this.finalGrade = finalGrade;
+        this.enrollmentDate = enrollmentDate;
+    }
+
+    public void setId(Long id) { this.id = id; }
+
+    public boolean isNew() { return id == null; }
+
+    /**
+     * Dentro de un curso, usar {@code Course.withdrawStudent} para que el agregado actualice sus contadores.
+     */
     public void withdraw() {
         if (this.status == EnrollmentStatus.COMPLETED) {
             throw new IllegalStateException("No se puede retirar de un curso ya completado.");
@@ -37,4 +56,20 @@ public class Enrollment {
         this.finalGrade = finalGrade;
         this.status = EnrollmentStatus.COMPLETED;
     }
-}
\ No newline at end of file
+
+    /**
+     * Un estudiante tiene a lo sumo una inscripción por curso, así que la identidad de negocio es
+     * el par estudiante-curso; el ID no sirve porque las inscripciones nuevas todavía no lo tienen.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Enrollment that)) return false;
+        return Objects.equals(studentId, that.studentId) && Objects.equals(courseId, that.courseId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentId, courseId);
+    }
+}
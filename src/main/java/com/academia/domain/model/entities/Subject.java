@@ -7,5 +7,15 @@ public class Subject {
     private OrganizationId organizationId;
     private String name;
     private String subjectCode;
-    public Subject(Long id, OrganizationId orgId, String name, String code) { /* ... */ }
-}
\ No newline at end of file
+    private String gradeLevel; // Nulo: la materia se puede cursar en cualquier nivel
+    public Subject(Long id, OrganizationId orgId, String name, String code) {
+        this(id, orgId, name, code, null);
+    }
+    public Subject(Long id, OrganizationId orgId, String name, String code, String gradeLevel) {
+        this.id = id;
+        this.organizationId = orgId;
+        this.name = name;
+        this.subjectCode = code;
+        this.gradeLevel = gradeLevel;
+    }
+}
@@ -0,0 +1,10 @@
+package com.academia.domain.model.enums;
+
+/**
+ * Reglas de inscripción que cada organización puede activar o desactivar.
+ * Que estudiante y curso sean de la misma organización no es configurable.
+ */
+public enum EnrollmentRuleType {
+    PREREQUISITES, // Correlativas aprobadas
+    GRADE_LEVEL    // Nivel del estudiante igual al de la materia
+}
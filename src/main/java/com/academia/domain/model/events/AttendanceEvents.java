@@ -0,0 +1,51 @@
+package com.academia.domain.model.events;
+import com.academia.domain.model.valueobjects.academic.AttendanceMark;
+import com.academia.domain.model.valueobjects.academic.CheckIn;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public class AttendanceEvents {
+    /**
+     * Se tomó (o corrigió) la asistencia de una sesión. Lleva las marcas registradas,
+     * no el estado completo de la planilla.
+     */
+    public record AttendanceRecorded(UUID eventId, Instant occurredOn, CourseId courseId, LocalDate sessionDate,
+                                     List<AttendanceMark> marks) implements DomainEvent {
+        public AttendanceRecorded(CourseId courseId, LocalDate sessionDate, List<AttendanceMark> marks) {
+            this(UUID.randomUUID(), Instant.now(), courseId, sessionDate, List.copyOf(marks));
+        }
+
+        @Override
+        public UUID getEventId() {
+            return eventId();
+        }
+
+        @Override
+        public Instant getOccurredOn() {
+            return occurredOn();
+        }
+    }
+
+    /**
+     * Se escribió en attendance_records un lote de auto-registros. Los registros no pisan
+     * marcas existentes, así que solo cuentan para sesiones que no tenían asistencia.
+     */
+    public record StudentsCheckedIn(UUID eventId, Instant occurredOn, List<CheckIn> checkIns) implements DomainEvent {
+        public StudentsCheckedIn(List<CheckIn> checkIns) {
+            this(UUID.randomUUID(), Instant.now(), List.copyOf(checkIns));
+        }
+
+        @Override
+        public UUID getEventId() {
+            return eventId();
+        }
+
+        @Override
+        public Instant getOccurredOn() {
+            return occurredOn();
+        }
+    }
+}
@@ -30,6 +30,36 @@ public class CourseEvents {
             return eventId();
         }
 
+        @Override
+        public Instant getOccurredOn() {
+            return occurredOn();
+        }
+    }
+    public record CourseCapacityChanged(UUID eventId, Instant occurredOn, CourseId courseId, Integer capacity) implements DomainEvent {
+        public CourseCapacityChanged(CourseId courseId, Integer capacity) {
+            this(UUID.randomUUID(), Instant.now(), courseId, capacity);
+        }
+
+        @Override
+        public UUID getEventId() {
+            return eventId();
+        }
+
+        @Override
+        public Instant getOccurredOn() {
+            return occurredOn();
+        }
+    }
+    public record StudentWithdrawnFromCourse(UUID eventId, Instant occurredOn, AccountId studentId, CourseId courseId) implements DomainEvent {
+        public StudentWithdrawnFromCourse(AccountId studentId, CourseId courseId) {
+            this(UUID.randomUUID(), Instant.now(), studentId, courseId);
+        }
+
+        @Override
+        public UUID getEventId() {
+            return eventId();
+        }
+
         @Override
         public Instant getOccurredOn() {
             return occurredOn();
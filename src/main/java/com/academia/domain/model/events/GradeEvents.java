@@ -0,0 +1,29 @@
+package com.academia.domain.model.events;
+import com.academia.domain.model.valueobjects.academic.WeightedGrade;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public class GradeEvents {
+    /**
+     * Se crearon o corrigieron calificaciones de una inscripción. Un solo evento agrupa todas
+     * las calificaciones de la inscripción guardadas en la misma operación.
+     */
+    public record GradesRecorded(UUID eventId, Instant occurredOn, Long enrollmentId, AccountId studentId,
+                                 List<WeightedGrade> grades) implements DomainEvent {
+        public GradesRecorded(Long enrollmentId, AccountId studentId, List<WeightedGrade> grades) {
+            this(UUID.randomUUID(), Instant.now(), enrollmentId, studentId, List.copyOf(grades));
+        }
+
+        @Override
+        public UUID getEventId() {
+            return eventId();
+        }
+
+        @Override
+        public Instant getOccurredOn() {
+            return occurredOn();
+        }
+    }
+}
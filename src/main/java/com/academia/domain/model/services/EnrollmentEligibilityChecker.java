@@ -1,37 +1,58 @@
 package com.academia.domain.model.services;
 import com.academia.domain.model.aggregates.Course;
 import com.academia.domain.model.entities.Student;
+import com.academia.domain.model.enums.EnrollmentRuleType;
+import com.academia.domain.model.services.eligibility.EligibilityContext;
+import com.academia.domain.model.services.eligibility.EnrollmentRule;
+import com.academia.domain.model.services.eligibility.GradeLevelRule;
+import com.academia.domain.model.services.eligibility.PrerequisitesRule;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.ports.out.EnrollmentRulePolicy;
+import com.academia.domain.ports.out.PrerequisiteCatalog;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Servicio de Dominio para encapsular lógica que no pertenece a un único agregado.
- * En este caso, verificar la elegibilidad podría requerir datos del historial del estudiante
+ * En este caso, verificar la elegibilidad requiere datos del historial del estudiante
  * y datos del curso, que son dos agregados diferentes.
+ * <p>
+ * Aplica en orden las reglas que la organización tiene activas. Los datos que necesitan
+ * (correlativas y materias aprobadas) ya llegan compilados a bitsets, así que cada regla es
+ * una comparación en memoria. La inscripción duplicada la controla {@link Course#enrollStudent}.
  */
 public class EnrollmentEligibilityChecker {
 
-    // En una implementación real, esto podría recibir repositorios en su constructor
-    // para buscar el historial académico del estudiante.
-    // private final StudentRepository studentRepository;
-    // private final CourseRepository courseRepository;
+    private final PrerequisiteCatalog prerequisiteCatalog;
+    private final EnrollmentRulePolicy rulePolicy;
+    private final Map<EnrollmentRuleType, EnrollmentRule> rules = new EnumMap<>(EnrollmentRuleType.class);
+
+    public EnrollmentEligibilityChecker(PrerequisiteCatalog prerequisiteCatalog, EnrollmentRulePolicy rulePolicy) {
+        this.prerequisiteCatalog = prerequisiteCatalog;
+        this.rulePolicy = rulePolicy;
+        rules.put(EnrollmentRuleType.PREREQUISITES, new PrerequisitesRule());
+        rules.put(EnrollmentRuleType.GRADE_LEVEL, new GradeLevelRule());
+    }
 
+    /**
+     * @throws IllegalStateException con el motivo de la primera regla que el estudiante no cumple.
+     */
     public boolean isStudentEligible(Student student, Course course) {
-        // Regla 1: El estudiante y el curso deben pertenecer a la misma organización.
-        if (!student.getOrganizationId().equals(course.getSubject().getOrganizationId())) {
+        // Regla fija: el estudiante y el curso deben pertenecer a la misma organización.
+        OrganizationId organizationId = course.getSubject().getOrganizationId();
+        if (!student.getOrganizationId().equals(organizationId)) {
             throw new IllegalStateException("El estudiante y el curso no pertenecen a la misma organización.");
         }
 
-        // Regla 2: El estudiante no debe estar ya inscrito en el curso.
-        boolean alreadyEnrolled = course.getEnrollments().stream()
-                .anyMatch(enrollment -> enrollment.getStudentId().equals(student.getAccountId()));
-        if (alreadyEnrolled) {
-            throw new IllegalStateException("El estudiante ya está inscrito en este curso.");
+        EligibilityContext context = new EligibilityContext(student, course, prerequisiteCatalog);
+        for (EnrollmentRuleType type : rulePolicy.enabledRules(organizationId)) {
+            Optional<String> violation = rules.get(type).evaluate(context);
+            if (violation.isPresent()) {
+                throw new IllegalStateException(violation.get());
+            }
         }
-
-        // Lógica futura:
-        // 1. Verificar si el grado del estudiante es compatible con el del curso.
-        // 2. Consultar el historial de inscripciones para ver si ha aprobado pre-requisitos.
-        // 3. Verificar si hay cupos disponibles.
-
-        return true; // Simplificado por ahora
+        return true;
     }
 }
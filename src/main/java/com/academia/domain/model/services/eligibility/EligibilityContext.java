@@ -0,0 +1,46 @@
+package com.academia.domain.model.services.eligibility;
+
+import com.academia.domain.model.aggregates.Course;
+import com.academia.domain.model.entities.Student;
+import com.academia.domain.ports.out.PrerequisiteCatalog;
+
+/**
+ * Datos de una inscripción que comparten las reglas. El grafo de correlativas y las materias
+ * aprobadas se piden al catálogo la primera vez que una regla los necesita.
+ */
+public final class EligibilityContext {
+
+    private final Student student;
+    private final Course course;
+    private final PrerequisiteCatalog catalog;
+    private PrerequisiteGraph prerequisites;
+    private PassedSubjects passedSubjects;
+
+    public EligibilityContext(Student student, Course course, PrerequisiteCatalog catalog) {
+        this.student = student;
+        this.course = course;
+        this.catalog = catalog;
+    }
+
+    public Student student() {
+        return student;
+    }
+
+    public Course course() {
+        return course;
+    }
+
+    public PrerequisiteGraph prerequisites() {
+        if (prerequisites == null) {
+            prerequisites = catalog.graphFor(course.getSubject().getOrganizationId());
+        }
+        return prerequisites;
+    }
+
+    public PassedSubjects passedSubjects() {
+        if (passedSubjects == null) {
+            passedSubjects = catalog.passedSubjects(student.getAccountId(), prerequisites());
+        }
+        return passedSubjects;
+    }
+}
@@ -0,0 +1,14 @@
+package com.academia.domain.model.services.eligibility;
+
+import java.util.Optional;
+
+/**
+ * Una regla del proceso de inscripción. Las reglas no consultan repositorios: leen del
+ * contexto, que carga (una vez por inscripción) el grafo de correlativas y las materias aprobadas.
+ */
+public interface EnrollmentRule {
+    /**
+     * @return El motivo del rechazo, o vacío si el estudiante cumple la regla.
+     */
+    Optional<String> evaluate(EligibilityContext context);
+}
@@ -0,0 +1,23 @@
+package com.academia.domain.model.services.eligibility;
+
+import java.util.Optional;
+
+/**
+ * Si la materia indica un nivel, el estudiante debe estar cursando ese nivel.
+ */
+public class GradeLevelRule implements EnrollmentRule {
+
+    @Override
+    public Optional<String> evaluate(EligibilityContext context) {
+        String subjectLevel = context.course().getSubject().getGradeLevel();
+        if (subjectLevel == null || subjectLevel.isBlank()) {
+            return Optional.empty();
+        }
+        String studentLevel = context.student().getCurrentGradeLevel();
+        if (studentLevel != null && studentLevel.trim().equalsIgnoreCase(subjectLevel.trim())) {
+            return Optional.empty();
+        }
+        return Optional.of("La materia es de " + subjectLevel + " y el estudiante cursa " +
+                (studentLevel != null ? studentLevel : "un nivel sin asignar") + ".");
+    }
+}
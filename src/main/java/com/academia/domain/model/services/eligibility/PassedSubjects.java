@@ -0,0 +1,33 @@
+package com.academia.domain.model.services.eligibility;
+
+/**
+ * Materias aprobadas por un estudiante, como bitset sobre los índices de un {@link PrerequisiteGraph}.
+ * Solo tiene sentido contra el grafo con el que se compiló: si el catálogo se recompila, los
+ * índices pueden cambiar y hay que volver a compilarlo.
+ */
+public final class PassedSubjects {
+
+    private final PrerequisiteGraph graph;
+    private final long[] words;
+
+    PassedSubjects(PrerequisiteGraph graph, long[] words) {
+        this.graph = graph;
+        this.words = words;
+    }
+
+    public boolean compiledFor(PrerequisiteGraph graph) {
+        return this.graph == graph;
+    }
+
+    public int count() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    long[] words() {
+        return words;
+    }
+}
@@ -0,0 +1,190 @@
+package com.academia.domain.model.services.eligibility;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Correlativas de una organización compiladas a bitsets.
+ * <p>
+ * Cada materia recibe un índice denso y sus correlativas directas quedan como un arreglo de
+ * {@code long} con un bit por materia. Comprobar si un estudiante las cumple es un AND NOT por
+ * palabra contra su {@link PassedSubjects}: 8 palabras para un catálogo de 500 materias.
+ * <p>
+ * Se compila una vez por organización y es inmutable; el grafo debe ser acíclico.
+ */
+public final class PrerequisiteGraph {
+
+    private static final long[] NONE = new long[0];
+
+    private final Map<Long, Integer> indexBySubject;
+    private final long[] subjectIds;
+    private final long[][] requirements; // NONE si la materia no tiene correlativas
+    private final int words;
+
+    private PrerequisiteGraph(Map<Long, Integer> indexBySubject, long[] subjectIds, long[][] requirements) {
+        this.indexBySubject = indexBySubject;
+        this.subjectIds = subjectIds;
+        this.requirements = requirements;
+        this.words = wordsFor(subjectIds.length);
+    }
+
+    /**
+     * @param subjectIds    Las materias de la organización.
+     * @param prerequisites Para cada materia, las que exige aprobadas.
+     * @throws IllegalArgumentException si una correlativa no pertenece al catálogo.
+     * @throws IllegalStateException si las correlativas forman un ciclo.
+     */
+    public static PrerequisiteGraph compile(Collection<Long> subjectIds, Map<Long, ? extends Collection<Long>> prerequisites) {
+        long[] ids = subjectIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        Map<Long, Integer> indexBySubject = new HashMap<>(ids.length * 2);
+        for (int i = 0; i < ids.length; i++) {
+            indexBySubject.put(ids[i], i);
+        }
+
+        int words = wordsFor(ids.length);
+        long[][] requirements = new long[ids.length][];
+        Arrays.fill(requirements, NONE);
+        prerequisites.forEach((subjectId, required) -> {
+            int index = indexOf(indexBySubject, subjectId);
+            for (Long prerequisiteId : required) {
+                int bit = indexOf(indexBySubject, prerequisiteId);
+                if (bit == index) {
+                    throw new IllegalStateException("La materia " + subjectId + " no puede ser correlativa de sí misma.");
+                }
+                if (requirements[index] == NONE) {
+                    requirements[index] = new long[words];
+                }
+                requirements[index][bit >>> 6] |= 1L << bit;
+            }
+        });
+
+        PrerequisiteGraph graph = new PrerequisiteGraph(indexBySubject, ids, requirements);
+        graph.verifyAcyclic();
+        return graph;
+    }
+
+    public int subjectCount() {
+        return subjectIds.length;
+    }
+
+    /**
+     * Compila las materias aprobadas de un estudiante para este grafo. Las que no están en el
+     * catálogo (por ejemplo, de otra organización) se ignoran.
+     */
+    public PassedSubjects passedSubjects(Collection<Long> passedSubjectIds) {
+        long[] passed = new long[words];
+        for (Long subjectId : passedSubjectIds) {
+            Integer bit = indexBySubject.get(subjectId);
+            if (bit != null) {
+                passed[bit >>> 6] |= 1L << bit;
+            }
+        }
+        return new PassedSubjects(this, passed);
+    }
+
+    /**
+     * @return {@code true} si el estudiante aprobó todas las correlativas directas de la materia.
+     */
+    public boolean isSatisfied(long subjectId, PassedSubjects passed) {
+        long[] required = requirementsOf(subjectId, passed);
+        long[] approved = passed.words();
+        for (int w = 0; w < required.length; w++) {
+            if ((required[w] & ~approved[w]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return Las correlativas directas de la materia que el estudiante todavía no aprobó.
+     */
+    public List<Long> missingPrerequisites(long subjectId, PassedSubjects passed) {
+        long[] required = requirementsOf(subjectId, passed);
+        long[] approved = passed.words();
+        List<Long> missing = new ArrayList<>();
+        for (int w = 0; w < required.length; w++) {
+            long pending = required[w] & ~approved[w];
+            while (pending != 0) {
+                missing.add(subjectIds[(w << 6) + Long.numberOfTrailingZeros(pending)]);
+                pending &= pending - 1;
+            }
+        }
+        return missing;
+    }
+
+    private long[] requirementsOf(long subjectId, PassedSubjects passed) {
+        if (!passed.compiledFor(this)) {
+            throw new IllegalArgumentException("Las materias aprobadas se compilaron para otro grafo de correlativas.");
+        }
+        Integer index = indexBySubject.get(subjectId);
+        // Una materia creada después de compilar el grafo todavía no tiene correlativas
+        return index == null ? NONE : requirements[index];
+    }
+
+    /**
+     * Orden topológico (Kahn): si quedan materias sin ordenar, forman un ciclo.
+     */
+    private void verifyAcyclic() {
+        int n = subjectIds.length;
+        int[] pendingRequirements = new int[n];
+        List<List<Integer>> unlocks = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            unlocks.add(new ArrayList<>());
+        }
+        for (int i = 0; i < n; i++) {
+            long[] required = requirements[i];
+            for (int w = 0; w < required.length; w++) {
+                long bits = required[w];
+                while (bits != 0) {
+                    unlocks.get((w << 6) + Long.numberOfTrailingZeros(bits)).add(i);
+                    pendingRequirements[i]++;
+                    bits &= bits - 1;
+                }
+            }
+        }
+        Deque<Integer> ready = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            if (pendingRequirements[i] == 0) {
+                ready.add(i);
+            }
+        }
+        int ordered = 0;
+        while (!ready.isEmpty()) {
+            int next = ready.poll();
+            ordered++;
+            for (int unlocked : unlocks.get(next)) {
+                if (--pendingRequirements[unlocked] == 0) {
+                    ready.add(unlocked);
+                }
+            }
+        }
+        if (ordered < n) {
+            List<Long> cycle = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                if (pendingRequirements[i] > 0) {
+                    cycle.add(subjectIds[i]);
+                }
+            }
+            throw new IllegalStateException("Las correlativas forman un ciclo entre las materias " + cycle + ".");
+        }
+    }
+
+    private static int indexOf(Map<Long, Integer> indexBySubject, Long subjectId) {
+        Integer index = indexBySubject.get(subjectId);
+        if (index == null) {
+            throw new IllegalArgumentException("La materia " + subjectId + " no pertenece al catálogo de la organización.");
+        }
+        return index;
+    }
+
+    private static int wordsFor(int subjects) {
+        return (subjects + 63) >>> 6;
+    }
+}
@@ -0,0 +1,22 @@
+package com.academia.domain.model.services.eligibility;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * El estudiante debe tener aprobadas todas las correlativas directas de la materia del curso.
+ */
+public class PrerequisitesRule implements EnrollmentRule {
+
+    @Override
+    public Optional<String> evaluate(EligibilityContext context) {
+        long subjectId = context.course().getSubject().getId();
+        PrerequisiteGraph graph = context.prerequisites();
+        PassedSubjects passed = context.passedSubjects();
+        if (graph.isSatisfied(subjectId, passed)) {
+            return Optional.empty();
+        }
+        List<Long> missing = graph.missingPrerequisites(subjectId, passed);
+        return Optional.of("El estudiante no aprobó las correlativas de la materia: " + missing + ".");
+    }
+}
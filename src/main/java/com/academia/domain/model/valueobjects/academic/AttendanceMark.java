@@ -0,0 +1,34 @@
+package com.academia.domain.model.valueobjects.academic;
+
+import com.academia.domain.model.enums.AttendanceStatus;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import lombok.Value;
+
+/**
+ * Asistencia de un estudiante a una sesión, ya resuelta contra su inscripción en el curso.
+ */
+@Value
+public class AttendanceMark {
+    public static final int MAX_NOTES_LENGTH = 500;
+
+    Long enrollmentId;
+    AccountId studentId;
+    AttendanceStatus status;
+    String notes;
+
+    public AttendanceMark(Long enrollmentId, AccountId studentId, AttendanceStatus status, String notes) {
+        if (enrollmentId == null || studentId == null) {
+            throw new IllegalArgumentException("La asistencia debe referirse a una inscripción y un estudiante.");
+        }
+        if (status == null) {
+            throw new IllegalArgumentException("El estado de asistencia es obligatorio.");
+        }
+        if (notes != null && notes.length() > MAX_NOTES_LENGTH) {
+            throw new IllegalArgumentException("Las observaciones no pueden superar los " + MAX_NOTES_LENGTH + " caracteres.");
+        }
+        this.enrollmentId = enrollmentId;
+        this.studentId = studentId;
+        this.status = status;
+        this.notes = (notes == null || notes.isBlank()) ? null : notes.strip();
+    }
+}
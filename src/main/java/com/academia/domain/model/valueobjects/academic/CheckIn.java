@@ -0,0 +1,26 @@
+package com.academia.domain.model.valueobjects.academic;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Registro de presencia hecho por el propio estudiante (código o QR de la sesión),
+ * ya resuelto contra su inscripción. Se persiste como asistencia PRESENT.
+ */
+@Value
+public class CheckIn {
+    Long enrollmentId;
+    LocalDate sessionDate;
+    LocalDateTime checkedInAt;
+
+    public CheckIn(Long enrollmentId, LocalDate sessionDate, LocalDateTime checkedInAt) {
+        if (enrollmentId == null || sessionDate == null || checkedInAt == null) {
+            throw new IllegalArgumentException("El registro de presencia requiere inscripción, sesión y hora.");
+        }
+        this.enrollmentId = enrollmentId;
+        this.sessionDate = sessionDate;
+        this.checkedInAt = checkedInAt;
+    }
+}
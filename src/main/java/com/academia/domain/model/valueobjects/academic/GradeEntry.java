@@ -0,0 +1,43 @@
+package com.academia.domain.model.valueobjects.academic;
+
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * Calificación de un estudiante en una tarea, ya resuelta contra su inscripción y su entrega.
+ * La entrega es nula si el estudiante todavía no tenía una para esa tarea.
+ */
+@Value
+public class GradeEntry {
+    public static final int MAX_FEEDBACK_LENGTH = 2000;
+
+    Long enrollmentId;
+    AccountId studentId;
+    Long assignmentId;
+    Long submissionId;
+    Grade grade;
+    BigDecimal weight;
+    String feedback;
+
+    public GradeEntry(Long enrollmentId, AccountId studentId, Long assignmentId, Long submissionId,
+                      Grade grade, BigDecimal weight, String feedback) {
+        if (enrollmentId == null || studentId == null || assignmentId == null) {
+            throw new IllegalArgumentException("La calificación debe referirse a una inscripción, un estudiante y una tarea.");
+        }
+        if (grade == null) {
+            throw new IllegalArgumentException("El valor de la calificación es obligatorio.");
+        }
+        if (feedback != null && feedback.length() > MAX_FEEDBACK_LENGTH) {
+            throw new IllegalArgumentException("La devolución no puede superar los " + MAX_FEEDBACK_LENGTH + " caracteres.");
+        }
+        this.enrollmentId = enrollmentId;
+        this.studentId = studentId;
+        this.assignmentId = assignmentId;
+        this.submissionId = submissionId;
+        this.grade = grade;
+        this.weight = weight;
+        this.feedback = (feedback == null || feedback.isBlank()) ? null : feedback.strip();
+    }
+}
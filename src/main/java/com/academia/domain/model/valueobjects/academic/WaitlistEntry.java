@@ -0,0 +1,42 @@
+package com.academia.domain.model.valueobjects.academic;
+
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * Pedido de un estudiante en la lista de espera de un curso completo. El orden natural es el de
+ * promoción: primero la mayor prioridad que fija la organización y, a igual prioridad, el pedido
+ * más antiguo. El ID del estudiante desempata para que el orden sea total.
+ */
+@Value
+public class WaitlistEntry implements Comparable<WaitlistEntry> {
+
+    private static final Comparator<WaitlistEntry> PROMOTION_ORDER = Comparator
+            .comparingInt((WaitlistEntry entry) -> entry.priority).reversed()
+            .thenComparing((WaitlistEntry entry) -> entry.requestedAt)
+            .thenComparing((WaitlistEntry entry) -> entry.studentId.getValue());
+
+    AccountId studentId;
+    CourseId courseId;
+    int priority;
+    LocalDateTime requestedAt;
+
+    public WaitlistEntry(AccountId studentId, CourseId courseId, int priority, LocalDateTime requestedAt) {
+        if (studentId == null || courseId == null || requestedAt == null) {
+            throw new IllegalArgumentException("La lista de espera requiere estudiante, curso y fecha del pedido.");
+        }
+        this.studentId = studentId;
+        this.courseId = courseId;
+        this.priority = priority;
+        this.requestedAt = requestedAt;
+    }
+
+    @Override
+    public int compareTo(WaitlistEntry other) {
+        return PROMOTION_ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,30 @@
+package com.academia.domain.model.valueobjects.academic;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * Calificación ya guardada, con el peso de su tarea para el promedio de la inscripción.
+ */
+@Value
+public class WeightedGrade {
+    public static final BigDecimal DEFAULT_WEIGHT = BigDecimal.ONE;
+    private static final BigDecimal MAX_WEIGHT = new BigDecimal("999.99");
+
+    Long gradeId;
+    Grade grade;
+    BigDecimal weight;
+
+    public WeightedGrade(Long gradeId, Grade grade, BigDecimal weight) {
+        if (gradeId == null || grade == null) {
+            throw new IllegalArgumentException("La calificación ponderada requiere el ID y el valor de la calificación.");
+        }
+        if (weight == null || weight.signum() <= 0 || weight.compareTo(MAX_WEIGHT) > 0) {
+            throw new IllegalArgumentException("El peso de la tarea debe ser mayor que 0 y no superar " + MAX_WEIGHT + ".");
+        }
+        this.gradeId = gradeId;
+        this.grade = grade;
+        this.weight = weight;
+    }
+}
@@ -0,0 +1,23 @@
+package com.academia.domain.ports.in.commands;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Comando inmutable que representa la intención de registrar un lote de estudiantes
+ * en una misma organización. Cada fila se valida de forma independiente.
+ */
+public record BulkRegisterStudentsCommand(
+        Long organizationId,
+        List<StudentRow> students
+) {
+    public record StudentRow(
+            String firstName,
+            String lastName,
+            String email,
+            LocalDate birthDate,
+            String studentIdNumber, // Legajo
+            LocalDate enrollmentDate,
+            String initialGradeLevel
+    ) {}
+}
@@ -0,0 +1,10 @@
+package com.academia.domain.ports.in.commands;
+
+/**
+ * Comando de auto-registro de presencia de un estudiante en la sesión de hoy de un curso.
+ */
+public record CheckInCommand(
+        Long courseId,
+        Long studentAccountId,
+        String code
+) {}
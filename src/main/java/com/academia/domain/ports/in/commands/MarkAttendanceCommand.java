@@ -0,0 +1,21 @@
+package com.academia.domain.ports.in.commands;
+
+import com.academia.domain.model.enums.AttendanceStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Comando para tomar la asistencia de una sesión completa de un curso.
+ */
+public record MarkAttendanceCommand(
+        Long courseId,
+        LocalDate sessionDate,
+        List<Entry> entries
+) {
+    public record Entry(
+            Long studentAccountId,
+            AttendanceStatus status,
+            String notes
+    ) {}
+}
@@ -0,0 +1,18 @@
+package com.academia.domain.ports.in.commands;
+
+import java.util.List;
+
+/**
+ * Comando para cargar de una vez las calificaciones de varias tareas de un curso.
+ */
+public record RecordGradesCommand(
+        Long courseId,
+        List<Entry> entries
+) {
+    public record Entry(
+            Long studentAccountId,
+            Long assignmentId,
+            Double grade,
+            String feedback
+    ) {}
+}
@@ -0,0 +1,13 @@
+package com.academia.domain.ports.in.course;
+
+import com.academia.domain.ports.in.dtos.CourseCapacityDTO;
+
+public interface ChangeCourseCapacityUseCase {
+    /**
+     * Cambia el cupo de un curso. Bajarlo por debajo de los inscritos no da de baja a nadie.
+     * @param courseId El ID del curso.
+     * @param capacity El nuevo cupo, o {@code null} para quitar el límite.
+     * @return El cupo resultante y las vacantes ocupadas.
+     */
+    CourseCapacityDTO changeCapacity(Long courseId, Integer capacity);
+}
@@ -0,0 +1,21 @@
+package com.academia.domain.ports.in.course;
+
+import com.academia.domain.ports.in.commands.CheckInCommand;
+import com.academia.domain.ports.in.dtos.CheckInCodeDTO;
+import com.academia.domain.ports.in.dtos.CheckInResultDTO;
+
+public interface CheckInUseCase {
+    /**
+     * Obtiene el código de auto-registro de la sesión de hoy, para que el docente lo muestre o lo codifique en un QR.
+     * @param courseId El ID del curso.
+     * @return El código vigente durante el día.
+     */
+    CheckInCodeDTO issueCode(Long courseId);
+
+    /**
+     * Registra la presencia del estudiante en la sesión de hoy y responde sin esperar a la BD.
+     * @param command El curso, el estudiante y el código de la sesión.
+     * @return El acuse del registro.
+     */
+    CheckInResultDTO checkIn(CheckInCommand command);
+}
@@ -0,0 +1,23 @@
+package com.academia.domain.ports.in.course;
+
+import com.academia.domain.ports.in.dtos.AbsenceReportDTO;
+import com.academia.domain.ports.in.dtos.CourseAttendanceSummaryDTO;
+
+import java.time.LocalDate;
+
+public interface GetAttendanceStatisticsQuery {
+    /**
+     * Tasa de asistencia y racha de ausencias de cada inscripción del curso.
+     * @param courseId El ID del curso.
+     * @return El resumen por inscripción.
+     */
+    CourseAttendanceSummaryDTO summarizeCourse(Long courseId);
+
+    /**
+     * Estudiantes ausentes en la fecha en toda la organización.
+     * @param organizationId El ID de la organización.
+     * @param date La fecha de las sesiones.
+     * @return El listado de ausencias.
+     */
+    AbsenceReportDTO findAbsences(Long organizationId, LocalDate date);
+}
@@ -0,0 +1,15 @@
+package com.academia.domain.ports.in.course;
+
+import com.academia.domain.ports.in.commands.EnrollStudentInCourseCommand;
+import com.academia.domain.ports.in.dtos.WaitlistEntryDTO;
+
+public interface JoinCourseWaitlistUseCase {
+    /**
+     * Anota al estudiante en la lista de espera de un curso sin vacantes.
+     * @param command El comando con los IDs del estudiante y del curso.
+     * @return El pedido con la prioridad asignada.
+     * @throws IllegalStateException si el curso tiene vacantes, el estudiante ya está inscrito o
+     *                               en la lista, o no cumple una regla de inscripción.
+     */
+    WaitlistEntryDTO joinWaitlist(EnrollStudentInCourseCommand command);
+}
@@ -0,0 +1,13 @@
+package com.academia.domain.ports.in.course;
+
+import com.academia.domain.ports.in.commands.MarkAttendanceCommand;
+import com.academia.domain.ports.in.dtos.AttendanceSheetResultDTO;
+
+public interface MarkAttendanceUseCase {
+    /**
+     * Registra la asistencia de todos los estudiantes de una sesión en una sola operación.
+     * @param command El curso, la fecha de la sesión y una marca por estudiante.
+     * @return El resumen de las marcas registradas.
+     */
+    AttendanceSheetResultDTO markAttendance(MarkAttendanceCommand command);
+}
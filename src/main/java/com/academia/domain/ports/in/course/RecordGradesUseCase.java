@@ -0,0 +1,13 @@
+package com.academia.domain.ports.in.course;
+
+import com.academia.domain.ports.in.commands.RecordGradesCommand;
+import com.academia.domain.ports.in.dtos.GradeSheetResultDTO;
+
+public interface RecordGradesUseCase {
+    /**
+     * Registra en una sola operación las calificaciones de varias tareas para varios estudiantes.
+     * @param command El curso y una calificación por estudiante y tarea.
+     * @return El resumen de las calificaciones registradas.
+     */
+    GradeSheetResultDTO recordGrades(RecordGradesCommand command);
+}
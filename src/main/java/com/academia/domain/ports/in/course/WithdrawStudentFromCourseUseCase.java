@@ -0,0 +1,14 @@
+package com.academia.domain.ports.in.course;
+
+import com.academia.domain.ports.in.dtos.WithdrawalResultDTO;
+
+public interface WithdrawStudentFromCourseUseCase {
+    /**
+     * Retira al estudiante del curso y, en la misma transacción, inscribe en la vacante liberada
+     * al siguiente de la lista de espera que cumpla las reglas de inscripción.
+     * @param courseId         El ID del curso.
+     * @param studentAccountId El ID de cuenta del estudiante.
+     * @return El retiro y las inscripciones promovidas.
+     */
+    WithdrawalResultDTO withdrawStudent(Long courseId, Long studentAccountId);
+}
@@ -0,0 +1,20 @@
+package com.academia.domain.ports.in.dtos;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Estudiantes marcados como ausentes en una fecha, en todos los cursos de la organización.
+ */
+public record AbsenceReportDTO(
+        Long organizationId,
+        LocalDate date,
+        int absentCount,
+        List<AbsentStudentDTO> absences
+) {
+    public record AbsentStudentDTO(
+            Long enrollmentId,
+            Long studentAccountId,
+            Long courseId
+    ) {}
+}
@@ -0,0 +1,14 @@
+package com.academia.domain.ports.in.dtos;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Resultado de tomar la asistencia de una sesión: cantidad de marcas y su desglose por estado.
+ */
+public record AttendanceSheetResultDTO(
+        Long courseId,
+        LocalDate sessionDate,
+        int recorded,
+        Map<String, Integer> totalsByStatus
+) {}
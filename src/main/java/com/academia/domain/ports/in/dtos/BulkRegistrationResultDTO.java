@@ -0,0 +1,23 @@
+package com.academia.domain.ports.in.dtos;
+
+import java.util.List;
+
+/**
+ * DTO que representa el resultado de un registro masivo de estudiantes,
+ * con el detalle de cada fila en el mismo orden en que fue recibida.
+ */
+public record BulkRegistrationResultDTO(
+        int total,
+        int registered,
+        int rejected,
+        List<RowResultDTO> rows
+) {
+    public record RowResultDTO(
+            int rowIndex,
+            String email,
+            String studentIdNumber,
+            Long accountId,
+            String status, // REGISTERED | REJECTED
+            String error
+    ) {}
+}
@@ -0,0 +1,9 @@
+package com.academia.domain.ports.in.dtos;
+
+import java.time.LocalDate;
+
+public record CheckInCodeDTO(
+        Long courseId,
+        LocalDate sessionDate,
+        String code
+) {}
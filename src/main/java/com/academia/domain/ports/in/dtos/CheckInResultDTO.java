@@ -0,0 +1,14 @@
+package com.academia.domain.ports.in.dtos;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Acuse del auto-registro. El registro ya es duradero, aunque todavía no figure en attendance_records.
+ */
+public record CheckInResultDTO(
+        Long courseId,
+        Long studentAccountId,
+        LocalDate sessionDate,
+        LocalDateTime checkedInAt
+) {}
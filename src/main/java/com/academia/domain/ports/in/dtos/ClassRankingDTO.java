@@ -0,0 +1,12 @@
+package com.academia.domain.ports.in.dtos;
+
+import java.util.List;
+
+/**
+ * Primeros puestos del ranking de la organización, sobre el total de estudiantes con cursos completados.
+ */
+public record ClassRankingDTO(
+        Long organizationId,
+        int rankedStudents,
+        List<StudentStandingDTO> top
+) {}
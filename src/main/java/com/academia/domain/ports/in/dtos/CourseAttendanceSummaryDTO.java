@@ -0,0 +1,8 @@
+package com.academia.domain.ports.in.dtos;
+
+import java.util.List;
+
+public record CourseAttendanceSummaryDTO(
+        Long courseId,
+        List<EnrollmentAttendanceDTO> enrollments
+) {}
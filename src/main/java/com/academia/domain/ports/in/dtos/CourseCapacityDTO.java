@@ -0,0 +1,11 @@
+package com.academia.domain.ports.in.dtos;
+
+/**
+ * @param capacity          El cupo del curso, o {@code null} si no tiene límite.
+ * @param activeEnrollments Las inscripciones activas, que son las que ocupan vacante.
+ */
+public record CourseCapacityDTO(
+        Long courseId,
+        Integer capacity,
+        int activeEnrollments
+) {}
@@ -0,0 +1,17 @@
+package com.academia.domain.ports.in.dtos;
+
+/**
+ * Asistencia acumulada de una inscripción en el período lectivo.
+ * La tasa excluye las faltas justificadas y es nula si todavía no hay sesiones computables.
+ */
+public record EnrollmentAttendanceDTO(
+        Long enrollmentId,
+        Long studentAccountId,
+        int recordedSessions,
+        int present,
+        int late,
+        int absent,
+        int excused,
+        Double attendanceRate,
+        int currentAbsenceStreak
+) {}
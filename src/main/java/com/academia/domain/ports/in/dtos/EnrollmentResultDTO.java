@@ -1,5 +1,7 @@
 package com.academia.domain.ports.in.dtos;
 
+import com.academia.domain.model.entities.Enrollment;
+
 import java.time.LocalDateTime;
 
 /**
@@ -11,4 +13,14 @@ public record EnrollmentResultDTO(
         Long courseId,
         String status,
         LocalDateTime enrollmentDate
-) {}
\ No newline at end of file
+) {
+    public static EnrollmentResultDTO of(Enrollment enrollment) {
+        return new EnrollmentResultDTO(
+                enrollment.getId(),
+                enrollment.getStudentId().getValue(),
+                enrollment.getCourseId().getValue(),
+                enrollment.getStatus().name(),
+                enrollment.getEnrollmentDate()
+        );
+    }
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.academia.domain.ports.in.dtos;
+
+/**
+ * Resultado de una carga de calificaciones: cuántas se guardaron y cuántos estudiantes abarcan.
+ */
+public record GradeSheetResultDTO(
+        Long courseId,
+        int recorded,
+        int students
+) {}
@@ -0,0 +1,27 @@
+package com.academia.domain.ports.in.dtos;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Fila de la exportación del padrón: un estudiante con su cuenta y sus tutores.
+ */
+public record RosterEntryDTO(
+        Long accountId,
+        String firstName,
+        String lastName,
+        String email,
+        LocalDate birthDate,
+        String accountStatus,
+        String studentIdNumber,
+        String currentGradeLevel,
+        LocalDate enrollmentDate,
+        List<GuardianEntryDTO> guardians
+) {
+    public record GuardianEntryDTO(
+            Long guardianAccountId,
+            String fullName,
+            String relationshipType,
+            boolean isPrimaryContact
+    ) {}
+}
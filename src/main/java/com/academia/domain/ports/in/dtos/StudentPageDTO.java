@@ -0,0 +1,12 @@
+package com.academia.domain.ports.in.dtos;
+
+import java.util.List;
+
+/**
+ * Página del listado de estudiantes. {@code nextCursor} se envía como {@code after} para pedir
+ * la página siguiente; es {@code null} en la última página.
+ */
+public record StudentPageDTO(
+        List<StudentSummaryDTO> students,
+        Long nextCursor
+) {}
@@ -0,0 +1,14 @@
+package com.academia.domain.ports.in.dtos;
+
+/**
+ * Posición de un estudiante en su organización según el promedio ponderado por créditos
+ * de sus cursos completados. Los empatados comparten puesto.
+ */
+public record StudentStandingDTO(
+        Long studentAccountId,
+        double gpa,
+        double credits,
+        int completedCourses,
+        int rank,
+        double percentile
+) {}
@@ -0,0 +1,13 @@
+package com.academia.domain.ports.in.dtos;
+
+/**
+ * Vista resumida de un estudiante para los listados.
+ */
+public record StudentSummaryDTO(
+        Long accountId,
+        String fullName,
+        String email,
+        String studentIdNumber,
+        String currentGradeLevel,
+        String accountStatus
+) {}
@@ -0,0 +1,39 @@
+package com.academia.domain.ports.in.dtos;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Boletín de un estudiante: sus cursos, del período más reciente al más antiguo, con las
+ * calificaciones de cada tarea. {@code version} cambia cuando cambia cualquier dato del boletín.
+ */
+public record TranscriptDTO(
+        Long studentAccountId,
+        String version,
+        List<TranscriptCourseDTO> courses
+) {
+    /**
+     * @param finalGrade Promedio ponderado de las tareas calificadas, o la nota final registrada si no hay ninguna
+     */
+    public record TranscriptCourseDTO(
+            Long enrollmentId,
+            Long courseId,
+            String courseCode,
+            String subjectCode,
+            String subjectName,
+            double credits,
+            String termName,
+            LocalDate termStart,
+            LocalDate termEnd,
+            String status,
+            Double finalGrade,
+            List<TranscriptGradeDTO> grades
+    ) {}
+
+    public record TranscriptGradeDTO(
+            Long assignmentId,
+            String title,
+            double weight,
+            double grade
+    ) {}
+}
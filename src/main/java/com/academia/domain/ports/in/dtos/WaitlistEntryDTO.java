@@ -0,0 +1,15 @@
+package com.academia.domain.ports.in.dtos;
+
+import java.time.LocalDateTime;
+
+/**
+ * @param priority        La prioridad que la organización da al estudiante; mayor se promueve antes.
+ * @param waitingStudents Los estudiantes que esperan en el curso, incluido este.
+ */
+public record WaitlistEntryDTO(
+        Long courseId,
+        Long studentAccountId,
+        int priority,
+        LocalDateTime requestedAt,
+        int waitingStudents
+) {}
@@ -0,0 +1,14 @@
+package com.academia.domain.ports.in.dtos;
+
+import java.util.List;
+
+/**
+ * @param seatReleased         {@code false} si el estudiante ya estaba retirado.
+ * @param promotedEnrollments  Las inscripciones de la lista de espera que ocuparon las vacantes liberadas.
+ */
+public record WithdrawalResultDTO(
+        Long courseId,
+        Long studentAccountId,
+        boolean seatReleased,
+        List<EnrollmentResultDTO> promotedEnrollments
+) {}
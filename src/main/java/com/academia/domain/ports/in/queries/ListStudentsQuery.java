@@ -0,0 +1,14 @@
+package com.academia.domain.ports.in.queries;
+
+/**
+ * Consulta de una página del listado de estudiantes de una organización.
+ * El cursor es el último accountId de la página anterior ({@code null} para la primera).
+ * Los filtros son opcionales.
+ */
+public record ListStudentsQuery(
+        Long organizationId,
+        Long afterAccountId,
+        Integer size,
+        String gradeLevel,
+        String accountStatus
+) {}
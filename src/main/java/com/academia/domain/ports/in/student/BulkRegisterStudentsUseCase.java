@@ -0,0 +1,14 @@
+package com.academia.domain.ports.in.student;
+
+import com.academia.domain.ports.in.commands.BulkRegisterStudentsCommand;
+import com.academia.domain.ports.in.dtos.BulkRegistrationResultDTO;
+
+public interface BulkRegisterStudentsUseCase {
+    /**
+     * Registra un lote de estudiantes en una organización, procesándolo por bloques.
+     * Las filas inválidas o duplicadas se rechazan sin afectar al resto.
+     * @param command El comando con la organización y las filas a registrar.
+     * @return Un DTO con el resultado de cada fila.
+     */
+    BulkRegistrationResultDTO registerStudents(BulkRegisterStudentsCommand command);
+}
@@ -0,0 +1,22 @@
+package com.academia.domain.ports.in.student;
+
+import com.academia.domain.ports.in.dtos.RosterEntryDTO;
+
+import java.util.function.Consumer;
+
+public interface ExportStudentRosterUseCase {
+    /**
+     * Valida la solicitud y prepara la exportación, sin leer todavía el padrón.
+     * @param organizationId La organización cuyo padrón se exporta.
+     * @return Una exportación que recorre los estudiantes al invocarse.
+     */
+    RosterExport prepareExport(Long organizationId);
+
+    /**
+     * Recorrido del padrón fila a fila. Cada estudiante se entrega al consumidor en cuanto se lee,
+     * sin acumular el padrón en memoria.
+     */
+    interface RosterExport {
+        void forEachEntry(Consumer<RosterEntryDTO> consumer);
+    }
+}
@@ -0,0 +1,24 @@
+package com.academia.domain.ports.in.student;
+
+import com.academia.domain.ports.in.dtos.ClassRankingDTO;
+import com.academia.domain.ports.in.dtos.StudentStandingDTO;
+
+import java.util.Optional;
+
+public interface GetClassRankingQuery {
+    /**
+     * Primeros puestos de la organización por promedio ponderado por créditos.
+     * @param organizationId El ID de la organización.
+     * @param limit Cantidad de puestos a devolver; si es nulo se usa el valor por defecto.
+     * @return El ranking con el total de estudiantes clasificados.
+     */
+    ClassRankingDTO getRanking(Long organizationId, Integer limit);
+
+    /**
+     * Promedio, puesto y percentil de un estudiante dentro de su organización.
+     * @param organizationId El ID de la organización.
+     * @param studentAccountId El ID de cuenta del estudiante.
+     * @return La posición del estudiante, o vacío si no tiene cursos completados con nota.
+     */
+    Optional<StudentStandingDTO> getStanding(Long organizationId, Long studentAccountId);
+}
@@ -0,0 +1,12 @@
+package com.academia.domain.ports.in.student;
+
+import com.academia.domain.ports.in.dtos.TranscriptDTO;
+
+public interface GetTranscriptQuery {
+    /**
+     * Devuelve el boletín de un estudiante con sus cursos y calificaciones.
+     * @param studentAccountId El ID de cuenta del estudiante.
+     * @return El boletín, con una versión que identifica su contenido.
+     */
+    TranscriptDTO getTranscript(Long studentAccountId);
+}
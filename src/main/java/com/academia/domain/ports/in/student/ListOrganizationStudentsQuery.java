@@ -0,0 +1,13 @@
+package com.academia.domain.ports.in.student;
+
+import com.academia.domain.ports.in.dtos.StudentPageDTO;
+import com.academia.domain.ports.in.queries.ListStudentsQuery;
+
+public interface ListOrganizationStudentsQuery {
+    /**
+     * Lista los estudiantes de una organización ordenados por accountId, con paginación por cursor.
+     * @param query Organización, cursor, tamaño de página y filtros opcionales.
+     * @return La página solicitada y el cursor de la siguiente.
+     */
+    StudentPageDTO listStudents(ListStudentsQuery query);
+}
@@ -0,0 +1,34 @@
+package com.academia.domain.ports.out;
+
+import com.academia.domain.model.aggregates.AttendanceSheet;
+import com.academia.domain.model.valueobjects.academic.CheckIn;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface AttendanceRepository {
+    /**
+     * Abre la planilla de una sesión con el padrón de inscripciones activas del curso.
+     * @param courseId El ID del curso.
+     * @param sessionDate La fecha de la sesión.
+     * @return Un Optional vacío si el curso no existe.
+     */
+    Optional<AttendanceSheet> openSheet(CourseId courseId, LocalDate sessionDate);
+
+    /**
+     * Persiste las marcas de la planilla. Una marca existente para la misma inscripción y fecha
+     * se reemplaza (estado y observaciones).
+     * @param sheet La planilla con las marcas a escribir.
+     */
+    void save(AttendanceSheet sheet);
+
+    /**
+     * Registra como presentes a los estudiantes que hicieron el auto-registro. Una marca ya
+     * existente (del docente o de un registro anterior) se conserva, por lo que repetir
+     * el lote no tiene efecto.
+     * @param checkIns Los registros de presencia, posiblemente de distintas sesiones.
+     */
+    void saveCheckIns(List<CheckIn> checkIns);
+}
@@ -0,0 +1,24 @@
+package com.academia.domain.ports.out;
+
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.ports.in.dtos.AbsenceReportDTO.AbsentStudentDTO;
+import com.academia.domain.ports.in.dtos.EnrollmentAttendanceDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Puerto de lectura de indicadores de asistencia por período lectivo.
+ */
+public interface AttendanceStatistics {
+    /**
+     * @return Una entrada por inscripción del curso, ordenadas por ID de inscripción.
+     */
+    List<EnrollmentAttendanceDTO> summarizeCourse(CourseId courseId);
+
+    /**
+     * @return Las inscripciones de la organización marcadas como ausentes en la fecha.
+     */
+    List<AbsentStudentDTO> findAbsences(OrganizationId organizationId, LocalDate date);
+}
@@ -0,0 +1,14 @@
+package com.academia.domain.ports.out;
+
+import com.academia.domain.model.valueobjects.academic.CheckIn;
+
+/**
+ * Puerto de escritura diferida de los registros de presencia.
+ */
+public interface CheckInBuffer {
+    /**
+     * Acepta el registro de forma duradera y vuelve sin esperar a la BD. La escritura en
+     * attendance_records ocurre después, por lotes, y puede repetirse (al menos una vez).
+     */
+    void append(CheckIn checkIn);
+}
@@ -0,0 +1,15 @@
+package com.academia.domain.ports.out;
+
+import com.academia.domain.model.valueobjects.ids.CourseId;
+
+import java.time.LocalDate;
+
+/**
+ * Genera el código de la sesión que el docente muestra (o codifica en un QR) para el auto-registro.
+ */
+public interface CheckInCodeIssuer {
+    /**
+     * @return El código de la sesión. Es determinista: el mismo curso y fecha producen el mismo código.
+     */
+    String codeFor(CourseId courseId, LocalDate sessionDate);
+}
@@ -0,0 +1,23 @@
+package com.academia.domain.ports.out;
+
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.ports.in.dtos.ClassRankingDTO;
+import com.academia.domain.ports.in.dtos.StudentStandingDTO;
+
+import java.util.Optional;
+
+/**
+ * Puerto de cálculo del ranking por promedio de los estudiantes de una organización.
+ */
+public interface ClassRankingCalculator {
+    /**
+     * @return Los {@code limit} primeros puestos, del mejor promedio al peor.
+     */
+    ClassRankingDTO rank(OrganizationId organizationId, int limit);
+
+    /**
+     * @return La posición del estudiante, o vacío si no tiene cursos completados con nota.
+     */
+    Optional<StudentStandingDTO> standingOf(OrganizationId organizationId, AccountId studentId);
+}
@@ -0,0 +1,19 @@
+package com.academia.domain.ports.out;
+
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Puerto de lectura del padrón activo de un curso.
+ */
+public interface CourseRosterReader {
+    /**
+     * Devuelve las inscripciones activas del curso, indexadas por estudiante.
+     * @param courseId El ID del curso.
+     * @return Un Optional vacío si el curso no existe; un mapa vacío si no tiene inscripciones activas.
+     */
+    Optional<Map<AccountId, Long>> findActiveEnrollments(CourseId courseId);
+}
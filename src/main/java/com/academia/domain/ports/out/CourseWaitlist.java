@@ -0,0 +1,31 @@
+package com.academia.domain.ports.out;
+
+import com.academia.domain.model.valueobjects.academic.WaitlistEntry;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+
+import java.util.Optional;
+
+/**
+ * Puerto de las listas de espera de los cursos. Las escrituras forman parte de la transacción en
+ * curso: si se revierte, el estudiante promovido vuelve a su lugar.
+ */
+public interface CourseWaitlist {
+    /**
+     * @return {@code false} si el estudiante ya estaba en la lista de espera del curso.
+     */
+    boolean add(WaitlistEntry entry);
+
+    /**
+     * Retira de la lista al siguiente estudiante según {@link WaitlistEntry#compareTo}.
+     * @return El pedido retirado, o vacío si nadie espera.
+     */
+    Optional<WaitlistEntry> pollNext(CourseId courseId);
+
+    /**
+     * @return {@code false} si el estudiante no estaba en la lista de espera del curso.
+     */
+    boolean remove(CourseId courseId, AccountId studentId);
+
+    int size(CourseId courseId);
+}
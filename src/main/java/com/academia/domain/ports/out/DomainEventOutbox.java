@@ -0,0 +1,17 @@
+package com.academia.domain.ports.out;
+
+import com.academia.domain.model.events.DomainEvent;
+
+import java.util.List;
+
+/**
+ * Bandeja de salida de eventos de dominio. Los eventos se guardan en la misma transacción que el
+ * agregado que los emitió y se despachan a los listeners después del commit; si la transacción se
+ * revierte, nunca se publican.
+ */
+public interface DomainEventOutbox {
+    /**
+     * Debe llamarse dentro de la transacción del caso de uso.
+     */
+    void append(List<DomainEvent> events);
+}
@@ -0,0 +1,16 @@
+package com.academia.domain.ports.out;
+
+import com.academia.domain.model.enums.EnrollmentRuleType;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+
+import java.util.Set;
+
+/**
+ * Puerto de lectura de las reglas de inscripción activas en cada organización.
+ */
+public interface EnrollmentRulePolicy {
+    /**
+     * @return Las reglas opcionales que la organización aplica.
+     */
+    Set<EnrollmentRuleType> enabledRules(OrganizationId organizationId);
+}
@@ -0,0 +1,28 @@
+package com.academia.domain.ports.out;
+
+import com.academia.domain.model.aggregates.GradeSheet;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+public interface GradeRepository {
+    /**
+     * Abre una planilla con las inscripciones, tareas y entregas que necesita la carga, en una sola consulta.
+     * @param courseId El ID del curso.
+     * @param studentIds Los estudiantes de la carga.
+     * @param assignmentIds Las tareas de la carga.
+     * @return Un Optional vacío si el curso no existe.
+     */
+    Optional<GradeSheet> openSheet(CourseId courseId, Collection<AccountId> studentIds, Collection<Long> assignmentIds);
+
+    /**
+     * Persiste las calificaciones de la planilla, creando las entregas que falten. Una calificación
+     * existente para la misma entrega se reemplaza (nota y devolución).
+     * @param sheet La planilla con las calificaciones a escribir.
+     * @return El ID de la calificación guardada para cada celda.
+     */
+    Map<GradeSheet.Cell, Long> save(GradeSheet sheet);
+}
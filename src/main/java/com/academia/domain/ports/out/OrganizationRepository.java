@@ -4,6 +4,9 @@ import com.academia.domain.model.valueobjects.ids.OrganizationId;
 import java.util.Optional;
 
 public interface OrganizationRepository {
+    /**
+     * Devuelve la organización guardada con sus eventos pendientes, ya con el ID asignado.
+     */
     Organization save(Organization organization);
     Optional<Organization> findById(OrganizationId id);
 }
\ No newline at end of file
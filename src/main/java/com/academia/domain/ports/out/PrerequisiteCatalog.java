@@ -0,0 +1,21 @@
+package com.academia.domain.ports.out;
+
+import com.academia.domain.model.services.eligibility.PassedSubjects;
+import com.academia.domain.model.services.eligibility.PrerequisiteGraph;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+
+/**
+ * Puerto de lectura de correlativas e historial académico para la elegibilidad de inscripciones.
+ */
+public interface PrerequisiteCatalog {
+    /**
+     * @return Las correlativas de la organización ya compiladas.
+     */
+    PrerequisiteGraph graphFor(OrganizationId organizationId);
+
+    /**
+     * @return Las materias que el estudiante completó con nota de aprobación, compiladas para el grafo.
+     */
+    PassedSubjects passedSubjects(AccountId studentId, PrerequisiteGraph graph);
+}
@@ -0,0 +1,30 @@
+package com.academia.domain.ports.out;
+
+import com.academia.domain.model.enums.AccountStatus;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.ports.in.dtos.StudentDetailsDTO;
+import com.academia.domain.ports.in.dtos.StudentSummaryDTO;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Puerto de lectura para las vistas de estudiantes.
+ * Devuelve proyecciones listas para el cliente sin reconstruir los agregados.
+ */
+public interface StudentReadRepository {
+    /**
+     * Obtiene los detalles de un estudiante con una única consulta (users JOIN student_profiles).
+     * @param accountId El ID de cuenta del estudiante.
+     * @return Un Optional con el DTO si la cuenta existe y tiene perfil de estudiante.
+     */
+    Optional<StudentDetailsDTO> findStudentDetails(AccountId accountId);
+
+    /**
+     * Obtiene hasta {@code limit} estudiantes de la organización con accountId mayor que {@code afterAccountId},
+     * en orden ascendente. Los filtros {@code null} no se aplican.
+     */
+    List<StudentSummaryDTO> findStudentsAfter(OrganizationId organizationId, long afterAccountId,
+                                              String gradeLevel, AccountStatus accountStatus, int limit);
+}
@@ -3,11 +3,30 @@ import com.academia.domain.model.entities.Student;
 import com.academia.domain.model.valueobjects.ids.AccountId;
 import com.academia.domain.model.valueobjects.ids.OrganizationId;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface StudentRepository {
     Student save(Student student);
+
+    /**
+     * Guarda el perfil de un usuario recién creado. A diferencia de {@link #save}, no consulta
+     * antes si existe, así que falla con clave duplicada si el estudiante ya tenía perfil.
+     */
+    Student insert(Student student);
+
+    /**
+     * Como {@link #insert}, para varios estudiantes en lotes.
+     */
+    List<Student> insertAll(List<Student> students);
     Optional<Student> findById(AccountId accountId);
     boolean existsByStudentIdNumber(OrganizationId orgId, String studentIdNumber);
     Optional<Student> findByAccountId(AccountId accountId);
-}
\ No newline at end of file
+
+    /**
+     * Devuelve, en una sola consulta, cuáles de los legajos indicados ya están en uso en la organización.
+     */
+    Set<String> findExistingStudentIdNumbers(OrganizationId orgId, Collection<String> studentIdNumbers);
+}
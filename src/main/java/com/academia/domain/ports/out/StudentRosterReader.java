@@ -0,0 +1,17 @@
+package com.academia.domain.ports.out;
+
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.ports.in.dtos.RosterEntryDTO;
+
+import java.util.function.Consumer;
+
+/**
+ * Puerto de lectura secuencial del padrón de estudiantes de una organización.
+ */
+public interface StudentRosterReader {
+    /**
+     * Recorre los estudiantes de la organización en orden de accountId y entrega cada uno al consumidor.
+     * La implementación no debe cargar el padrón completo en memoria.
+     */
+    void forEachRosterEntry(OrganizationId organizationId, Consumer<RosterEntryDTO> consumer);
+}
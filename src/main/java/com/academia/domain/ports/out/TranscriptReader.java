@@ -0,0 +1,14 @@
+package com.academia.domain.ports.out;
+
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.ports.in.dtos.TranscriptDTO;
+
+/**
+ * Puerto de lectura del boletín de un estudiante.
+ */
+public interface TranscriptReader {
+    /**
+     * @return El boletín del estudiante; sin cursos si todavía no tiene inscripciones.
+     */
+    TranscriptDTO loadTranscript(AccountId studentId);
+}
@@ -3,11 +3,27 @@ import com.academia.domain.model.aggregates.UserAccount;
 import com.academia.domain.model.valueobjects.ids.AccountId;
 import com.academia.domain.model.valueobjects.ids.OrganizationId;
 import com.academia.domain.model.valueobjects.user.Email;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface UserAccountRepository {
+    /**
+     * Devuelve la cuenta guardada con sus eventos pendientes, ya con el ID asignado.
+     */
     UserAccount save(UserAccount userAccount);
+
+    /**
+     * Como {@link #save}, para varias cuentas; el resultado respeta el orden recibido.
+     */
+    List<UserAccount> saveAll(List<UserAccount> userAccounts);
     Optional<UserAccount> findById(AccountId id);
     Optional<UserAccount> findByEmail(OrganizationId organizationId, Email email);
     boolean existsByEmail(OrganizationId organizationId, Email email);
+
+    /**
+     * Devuelve, en una sola consulta, cuáles de los emails indicados ya están en uso en la organización.
+     */
+    Set<Email> findExistingEmails(OrganizationId organizationId, Collection<Email> emails);
 }
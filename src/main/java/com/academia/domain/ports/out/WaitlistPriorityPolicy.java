@@ -0,0 +1,13 @@
+package com.academia.domain.ports.out;
+
+import com.academia.domain.model.entities.Student;
+
+/**
+ * Puerto de lectura de la prioridad que cada organización da a sus estudiantes en las listas de espera.
+ */
+public interface WaitlistPriorityPolicy {
+    /**
+     * @return La prioridad del estudiante; mayor se promueve antes. 0 si la organización no la define.
+     */
+    int priorityOf(Student student);
+}
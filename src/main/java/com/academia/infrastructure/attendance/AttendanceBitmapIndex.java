@@ -0,0 +1,85 @@
+package com.academia.infrastructure.attendance;
+
+import com.academia.domain.model.enums.AttendanceStatus;
+import com.academia.infrastructure.attendance.EnrollmentAttendanceBitmaps.EnrollmentContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice en memoria de los bitmaps de asistencia, agrupados por curso y por organización
+ * para responder sin recorrer attendance_records.
+ */
+public class AttendanceBitmapIndex {
+
+    private final Map<Long, EnrollmentAttendanceBitmaps> byEnrollment = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> enrollmentsByCourse = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> enrollmentsByOrganization = new ConcurrentHashMap<>();
+
+    /**
+     * Devuelve los bitmaps de la inscripción, creándolos vacíos si todavía no estaba indexada.
+     */
+    public EnrollmentAttendanceBitmaps register(EnrollmentContext context) {
+        return byEnrollment.computeIfAbsent(context.enrollmentId(), id -> {
+            enrollmentsByCourse.computeIfAbsent(context.courseId(), c -> ConcurrentHashMap.newKeySet()).add(id);
+            enrollmentsByOrganization.computeIfAbsent(context.organizationId(), o -> ConcurrentHashMap.newKeySet()).add(id);
+            return new EnrollmentAttendanceBitmaps(context);
+        });
+    }
+
+    /**
+     * Reemplaza los bitmaps de una inscripción por otros recién cargados de la tabla.
+     */
+    public void replace(EnrollmentAttendanceBitmaps bitmaps) {
+        EnrollmentContext context = bitmaps.context();
+        enrollmentsByCourse.computeIfAbsent(context.courseId(), c -> ConcurrentHashMap.newKeySet()).add(context.enrollmentId());
+        enrollmentsByOrganization.computeIfAbsent(context.organizationId(), o -> ConcurrentHashMap.newKeySet()).add(context.enrollmentId());
+        byEnrollment.put(context.enrollmentId(), bitmaps);
+    }
+
+    public Optional<EnrollmentAttendanceBitmaps> find(long enrollmentId) {
+        return Optional.ofNullable(byEnrollment.get(enrollmentId));
+    }
+
+    public boolean contains(long enrollmentId) {
+        return byEnrollment.containsKey(enrollmentId);
+    }
+
+    public List<EnrollmentAttendanceBitmaps> forCourse(long courseId) {
+        return resolve(enrollmentsByCourse.getOrDefault(courseId, Set.of()));
+    }
+
+    /**
+     * Inscripciones de la organización con la sesión de esa fecha marcada con el estado dado:
+     * un test de bit por inscripción, sin tocar la BD.
+     */
+    public List<EnrollmentAttendanceBitmaps> withStatusOn(long organizationId, LocalDate sessionDate, AttendanceStatus status) {
+        List<EnrollmentAttendanceBitmaps> matches = new ArrayList<>();
+        for (EnrollmentAttendanceBitmaps bitmaps : resolve(enrollmentsByOrganization.getOrDefault(organizationId, Set.of()))) {
+            if (bitmaps.hasStatusOn(sessionDate, status)) {
+                matches.add(bitmaps);
+            }
+        }
+        return matches;
+    }
+
+    public int size() {
+        return byEnrollment.size();
+    }
+
+    private List<EnrollmentAttendanceBitmaps> resolve(Set<Long> enrollmentIds) {
+        List<EnrollmentAttendanceBitmaps> result = new ArrayList<>(enrollmentIds.size());
+        for (Long enrollmentId : enrollmentIds) {
+            EnrollmentAttendanceBitmaps bitmaps = byEnrollment.get(enrollmentId);
+            if (bitmaps != null) {
+                result.add(bitmaps);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,253 @@
+package com.academia.infrastructure.attendance;
+
+import com.academia.domain.model.enums.AttendanceStatus;
+import com.academia.domain.model.events.AttendanceEvents;
+import com.academia.domain.model.valueobjects.academic.AttendanceMark;
+import com.academia.domain.model.valueobjects.academic.CheckIn;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.ports.in.dtos.AbsenceReportDTO.AbsentStudentDTO;
+import com.academia.domain.ports.in.dtos.EnrollmentAttendanceDTO;
+import com.academia.domain.ports.out.AttendanceStatistics;
+import com.academia.infrastructure.attendance.EnrollmentAttendanceBitmaps.EnrollmentContext;
+import com.academia.infrastructure.attendance.EnrollmentAttendanceBitmaps.Summary;
+import com.academia.infrastructure.cache.CacheInvalidationBus;
+import com.academia.infrastructure.persistence.jdbc.JdbcAttendanceBitmapLoader;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Indicadores de asistencia servidos desde bitmaps en memoria en lugar de agregar
+ * {@code attendance_records} en cada consulta.
+ * <p>
+ * El índice se construye completo al arrancar y cada madrugada, y entre reconstrucciones se
+ * mantiene con los eventos de asistencia una vez confirmada la transacción. Las actualizaciones
+ * que llegan durante una reconstrucción se guardan y se aplican también al índice nuevo antes
+ * de publicarlo, para que no se pierdan marcas escritas después de que el cursor las leyera.
+ * <p>
+ * Con varios nodos, cada escritura se anuncia por el bus de invalidación y el resto de nodos
+ * relee de la BD las inscripciones afectadas.
+ */
+@Slf4j
+@Component
+public class BitmapAttendanceStatistics implements AttendanceStatistics {
+
+    static final String INVALIDATION_CHANNEL = "attendance-bitmaps";
+
+    private final JdbcAttendanceBitmapLoader loader;
+    private final Duration retention;
+    private final CacheInvalidationBus invalidationBus;
+
+    private final Object updateLock = new Object();
+    private volatile AttendanceBitmapIndex index = new AttendanceBitmapIndex();
+    // No nulo mientras se reconstruye el índice; protegido por updateLock
+    private List<Consumer<AttendanceBitmapIndex>> updatesDuringRebuild;
+
+    public BitmapAttendanceStatistics(JdbcAttendanceBitmapLoader loader,
+                                      @Value("${academia.attendance.bitmaps.retention:30d}") Duration retention,
+                                      ObjectProvider<CacheInvalidationBus> invalidationBus,
+                                      MeterRegistry meterRegistry) {
+        this.loader = loader;
+        this.retention = retention;
+        this.invalidationBus = invalidationBus.getIfAvailable();
+        if (this.invalidationBus != null) {
+            this.invalidationBus.subscribe(INVALIDATION_CHANNEL, this::reloadEnrollment);
+        }
+
+        Gauge.builder("academia.attendance.bitmaps.enrollments", this, statistics -> statistics.index.size())
+                .description("Inscripciones con bitmaps de asistencia en memoria")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<EnrollmentAttendanceDTO> summarizeCourse(CourseId courseId) {
+        return index.forCourse(courseId.getValue()).stream()
+                .sorted(Comparator.comparingLong(bitmaps -> bitmaps.context().enrollmentId()))
+                .map(BitmapAttendanceStatistics::toDto)
+                .toList();
+    }
+
+    @Override
+    public List<AbsentStudentDTO> findAbsences(OrganizationId organizationId, LocalDate date) {
+        return index.withStatusOn(organizationId.getValue(), date, AttendanceStatus.ABSENT).stream()
+                .map(EnrollmentAttendanceBitmaps::context)
+                .sorted(Comparator.comparingLong(EnrollmentContext::courseId).thenComparingLong(EnrollmentContext::enrollmentId))
+                .map(context -> new AbsentStudentDTO(context.enrollmentId(), context.studentAccountId(), context.courseId()))
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttendanceRecorded(AttendanceEvents.AttendanceRecorded event) {
+        List<AttendanceMark> marks = event.marks();
+        safely(() -> {
+            Map<Long, EnrollmentContext> contexts = resolveContexts(marks.stream().map(AttendanceMark::getEnrollmentId).toList());
+            applyUpdate(target -> {
+                for (AttendanceMark mark : marks) {
+                    EnrollmentAttendanceBitmaps bitmaps = bitmapsFor(target, mark.getEnrollmentId(), contexts);
+                    if (bitmaps != null) {
+                        bitmaps.mark(event.sessionDate(), mark.getStatus());
+                    }
+                }
+            });
+            announce(contexts.keySet());
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentsCheckedIn(AttendanceEvents.StudentsCheckedIn event) {
+        List<CheckIn> checkIns = event.checkIns();
+        safely(() -> {
+            Map<Long, EnrollmentContext> contexts = resolveContexts(checkIns.stream().map(CheckIn::getEnrollmentId).toList());
+            applyUpdate(target -> {
+                for (CheckIn checkIn : checkIns) {
+                    EnrollmentAttendanceBitmaps bitmaps = bitmapsFor(target, checkIn.getEnrollmentId(), contexts);
+                    if (bitmaps != null) {
+                        bitmaps.markIfUnrecorded(checkIn.getSessionDate(), AttendanceStatus.PRESENT);
+                    }
+                }
+            });
+            announce(contexts.keySet());
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Reconstruye el índice desde la tabla: corrige cualquier deriva (escrituras fuera de la
+     * aplicación, avisos perdidos entre nodos) y descarta los períodos que ya salieron de la retención.
+     */
+    @Scheduled(cron = "${academia.attendance.bitmaps.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        synchronized (updateLock) {
+            if (updatesDuringRebuild != null) {
+                log.info("Ya hay una reconstrucción de los bitmaps de asistencia en curso");
+                return;
+            }
+            updatesDuringRebuild = new ArrayList<>();
+        }
+
+        long start = System.nanoTime();
+        AttendanceBitmapIndex fresh = null;
+        try {
+            fresh = loader.loadIndex(LocalDate.now().minusDays(retention.toDays())); // LocalDate no admite restar un Duration
+        } catch (RuntimeException e) {
+            log.error("No se pudieron reconstruir los bitmaps de asistencia; se mantiene el índice actual", e);
+        } finally {
+            synchronized (updateLock) {
+                if (fresh != null) {
+                    for (Consumer<AttendanceBitmapIndex> update : updatesDuringRebuild) {
+                        update.accept(fresh);
+                    }
+                    index = fresh;
+                }
+                updatesDuringRebuild = null;
+            }
+        }
+        if (fresh != null) {
+            log.info("Bitmaps de asistencia reconstruidos: {} inscripciones en {} ms",
+                    fresh.size(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * La asistencia ya está confirmada cuando llega el evento: un fallo del índice no debe
+     * convertirse en un error de la petición. La próxima reconstrucción lo corrige.
+     */
+    private void safely(Runnable update) {
+        try {
+            update.run();
+        } catch (RuntimeException e) {
+            log.warn("No se pudieron actualizar los bitmaps de asistencia; se corregirán en la próxima reconstrucción: {}",
+                    e.getMessage());
+        }
+    }
+
+    private void applyUpdate(Consumer<AttendanceBitmapIndex> update) {
+        synchronized (updateLock) {
+            update.accept(index);
+            if (updatesDuringRebuild != null) {
+                updatesDuringRebuild.add(update);
+            }
+        }
+    }
+
+    /**
+     * Datos de las inscripciones: los del índice si ya están indexadas, y de la BD las nuevas.
+     * La consulta se hace fuera del lock de actualización.
+     */
+    private Map<Long, EnrollmentContext> resolveContexts(Collection<Long> enrollmentIds) {
+        AttendanceBitmapIndex current = index;
+        Map<Long, EnrollmentContext> contexts = new HashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long enrollmentId : enrollmentIds) {
+            current.find(enrollmentId).ifPresentOrElse(
+                    bitmaps -> contexts.put(enrollmentId, bitmaps.context()),
+                    () -> missing.add(enrollmentId));
+        }
+        if (!missing.isEmpty()) {
+            contexts.putAll(loader.findContexts(missing));
+        }
+        return contexts;
+    }
+
+    private static EnrollmentAttendanceBitmaps bitmapsFor(AttendanceBitmapIndex target, long enrollmentId,
+                                                          Map<Long, EnrollmentContext> contexts) {
+        EnrollmentContext context = contexts.get(enrollmentId);
+        return context == null ? null : target.register(context);
+    }
+
+    private void reloadEnrollment(String key) {
+        long enrollmentId = Long.parseLong(key);
+        safely(() -> loader.loadEnrollment(enrollmentId)
+                .ifPresent(bitmaps -> applyUpdate(target -> target.replace(bitmaps))));
+    }
+
+    private void announce(Set<Long> enrollmentIds) {
+        if (invalidationBus == null) {
+            return;
+        }
+        try {
+            enrollmentIds.forEach(enrollmentId -> invalidationBus.publish(INVALIDATION_CHANNEL, enrollmentId.toString()));
+        } catch (RuntimeException e) {
+            log.warn("No se pudo avisar a los demás nodos del cambio de asistencia: {}", e.getMessage());
+        }
+    }
+
+    private static EnrollmentAttendanceDTO toDto(EnrollmentAttendanceBitmaps bitmaps) {
+        EnrollmentContext context = bitmaps.context();
+        Summary summary = bitmaps.summarize();
+        return new EnrollmentAttendanceDTO(
+                context.enrollmentId(),
+                context.studentAccountId(),
+                summary.recordedSessions(),
+                summary.present(),
+                summary.late(),
+                summary.absent(),
+                summary.excused(),
+                summary.attendanceRate(),
+                summary.currentAbsenceStreak());
+    }
+}
@@ -0,0 +1,117 @@
+package com.academia.infrastructure.attendance;
+
+import com.academia.domain.model.enums.AttendanceStatus;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Asistencia de una inscripción como un bitset por estado, indexado por el día de la sesión
+ * contado desde el inicio del período lectivo. Un período de un año ocupa 6 {@code long} por
+ * estado; los estados que nunca aparecen no reservan memoria.
+ * <p>
+ * Cada sesión tiene a lo sumo un bit encendido entre todos los estados, igual que
+ * {@code uk_attendance_session} en la tabla.
+ */
+public class EnrollmentAttendanceBitmaps {
+
+    private final EnrollmentContext context;
+    private final Map<AttendanceStatus, BitSet> bitmaps = new EnumMap<>(AttendanceStatus.class);
+
+    public EnrollmentAttendanceBitmaps(EnrollmentContext context) {
+        this.context = context;
+    }
+
+    public EnrollmentContext context() {
+        return context;
+    }
+
+    /**
+     * Registra el estado de la sesión, reemplazando el que tuviera (como el upsert del docente).
+     * @return {@code false} si la fecha es anterior al inicio del período y no se puede indexar.
+     */
+    public synchronized boolean mark(LocalDate sessionDate, AttendanceStatus status) {
+        int ordinal = ordinalOf(sessionDate);
+        if (ordinal < 0) {
+            return false;
+        }
+        for (BitSet bitmap : bitmaps.values()) {
+            bitmap.clear(ordinal);
+        }
+        bitmaps.computeIfAbsent(status, s -> new BitSet()).set(ordinal);
+        return true;
+    }
+
+    /**
+     * Registra el estado solo si la sesión no tenía asistencia (como el auto-registro).
+     */
+    public synchronized boolean markIfUnrecorded(LocalDate sessionDate, AttendanceStatus status) {
+        int ordinal = ordinalOf(sessionDate);
+        if (ordinal < 0) {
+            return false;
+        }
+        for (BitSet bitmap : bitmaps.values()) {
+            if (bitmap.get(ordinal)) {
+                return true;
+            }
+        }
+        bitmaps.computeIfAbsent(status, s -> new BitSet()).set(ordinal);
+        return true;
+    }
+
+    public synchronized boolean hasStatusOn(LocalDate sessionDate, AttendanceStatus status) {
+        int ordinal = ordinalOf(sessionDate);
+        BitSet bitmap = bitmaps.get(status);
+        return ordinal >= 0 && bitmap != null && bitmap.get(ordinal);
+    }
+
+    public synchronized Summary summarize() {
+        BitSet recorded = new BitSet();
+        for (BitSet bitmap : bitmaps.values()) {
+            recorded.or(bitmap);
+        }
+        int present = cardinality(AttendanceStatus.PRESENT);
+        int late = cardinality(AttendanceStatus.LATE);
+        int absent = cardinality(AttendanceStatus.ABSENT);
+        int excused = cardinality(AttendanceStatus.EXCUSED);
+
+        // Racha actual: sesiones registradas consecutivas, desde la última, marcadas como ausente
+        BitSet absences = bitmaps.get(AttendanceStatus.ABSENT);
+        int streak = 0;
+        if (absences != null) {
+            for (int i = recorded.length() - 1; i >= 0 && absences.get(i); i = recorded.previousSetBit(i - 1)) {
+                streak++;
+            }
+        }
+
+        // Las faltas justificadas no cuentan a favor ni en contra
+        int countable = recorded.cardinality() - excused;
+        Double rate = countable == 0 ? null : (double) (present + late) / countable;
+        return new Summary(recorded.cardinality(), present, late, absent, excused, rate, streak);
+    }
+
+    private int cardinality(AttendanceStatus status) {
+        BitSet bitmap = bitmaps.get(status);
+        return bitmap == null ? 0 : bitmap.cardinality();
+    }
+
+    private int ordinalOf(LocalDate sessionDate) {
+        long days = ChronoUnit.DAYS.between(context.termStart(), sessionDate);
+        return days < 0 || days > Integer.MAX_VALUE ? -1 : (int) days;
+    }
+
+    /**
+     * Datos de la inscripción que no cambian mientras se indexa su asistencia.
+     */
+    public record EnrollmentContext(long enrollmentId, long studentAccountId, long courseId,
+                                    long organizationId, LocalDate termStart) {}
+
+    /**
+     * @param attendanceRate (presentes + tardes) / (sesiones registradas - justificadas), o {@code null} si no hay sesiones computables
+     */
+    public record Summary(int recordedSessions, int present, int late, int absent, int excused,
+                          Double attendanceRate, int currentAbsenceStreak) {}
+}
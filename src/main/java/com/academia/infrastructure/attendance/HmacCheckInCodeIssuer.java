@@ -0,0 +1,46 @@
+package com.academia.infrastructure.attendance;
+
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.ports.out.CheckInCodeIssuer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.LocalDate;
+
+/**
+ * Código de sesión de 6 dígitos derivado con HMAC-SHA256 de (curso, fecha).
+ * No se guarda en ninguna tabla: cualquier nodo lo recalcula con el mismo secreto,
+ * así que validar un auto-registro no cuesta una consulta.
+ */
+@Component
+public class HmacCheckInCodeIssuer implements CheckInCodeIssuer {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    public HmacCheckInCodeIssuer(@Value("${academia.attendance.check-in.secret}") String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("Falta academia.attendance.check-in.secret para firmar los códigos de asistencia.");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    @Override
+    public String codeFor(CourseId courseId, LocalDate sessionDate) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM); // Mac no es thread-safe: una instancia por llamada
+            mac.init(key);
+            byte[] digest = mac.doFinal((courseId.getValue() + ":" + sessionDate).getBytes(StandardCharsets.UTF_8));
+            int value = ByteBuffer.wrap(digest).getInt() & Integer.MAX_VALUE;
+            return String.format("%06d", value % 1_000_000);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("No se pudo calcular el código de asistencia", e);
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package com.academia.infrastructure.attendance;
+
+import com.academia.domain.model.events.AttendanceEvents;
+import com.academia.domain.model.events.DomainEvent;
+import com.academia.domain.model.valueobjects.academic.CheckIn;
+import com.academia.domain.ports.out.AttendanceRepository;
+import com.academia.domain.ports.out.CheckInBuffer;
+import com.academia.domain.ports.out.DomainEventPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Buffer de escritura diferida para los auto-registros de presencia.
+ * <p>
+ * Los registros se reparten en franjas según la inscripción; cada franja tiene su propio lock,
+ * su mapa en memoria y su segmento de log local, de modo que los registros concurrentes solo
+ * compiten cuando caen en la misma franja. Antes de aceptar un registro se agrega una línea al
+ * segmento; cada {@code flush-interval} se sellan los segmentos, se escribe el lote con
+ * {@link AttendanceRepository#saveCheckIns} y recién entonces se borran.
+ * <p>
+ * Si el proceso cae, los segmentos que quedan en disco se releen al arrancar y se vuelven a
+ * escribir: la entrega es al menos una vez, y la inserción es idempotente. Por defecto la línea
+ * queda en la caché de páginas del SO (sobrevive a la caída del proceso, no a la del equipo);
+ * {@code sync-on-append} fuerza cada línea a disco a costa de latencia.
+ * <p>
+ * El directorio del log no tiene valor por defecto: cada instancia necesita uno propio, porque al
+ * arrancar se releen todos los segmentos que contiene y los nombres solo son únicos por instancia.
+ * <p>
+ * Se usan {@link ReentrantLock} y no {@code synchronized} para no fijar los hilos virtuales
+ * a su portador mientras esperan el lock.
+ */
+@Component
+@Slf4j
+public class WriteBehindCheckInBuffer implements CheckInBuffer {
+
+    private static final String SEGMENT_PREFIX = "checkins-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+
+    private final AttendanceRepository attendanceRepository;
+    private final DomainEventPublisher domainEventPublisher;
+    private final Path walDirectory;
+    private final boolean syncOnAppend;
+    private final Stripe[] stripes;
+    private final AtomicLong segmentSequence;
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final Deque<PendingBatch> pending = new ConcurrentLinkedDeque<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Counter flushedCounter;
+
+    public WriteBehindCheckInBuffer(AttendanceRepository attendanceRepository,
+                                    DomainEventPublisher domainEventPublisher,
+                                    @Value("${academia.attendance.check-in.wal-directory}") Path walDirectory,
+                                    @Value("${academia.attendance.check-in.stripes:16}") int stripeCount,
+                                    @Value("${academia.attendance.check-in.sync-on-append:false}") boolean syncOnAppend,
+                                    MeterRegistry meterRegistry) throws IOException {
+        this.attendanceRepository = attendanceRepository;
+        this.domainEventPublisher = domainEventPublisher;
+        if (walDirectory.toString().isBlank()) {
+            throw new IllegalStateException("Falta configurar academia.attendance.check-in.wal-directory");
+        }
+        this.walDirectory = Files.createDirectories(walDirectory);
+        this.syncOnAppend = syncOnAppend;
+        this.segmentSequence = new AtomicLong(recoverSegments() + 1);
+
+        this.stripes = new Stripe[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+
+        Gauge.builder("academia.attendance.checkin.buffered", buffered, AtomicInteger::get)
+                .description("Auto-registros aceptados que todavía no se escribieron en la BD")
+                .register(meterRegistry);
+        Gauge.builder("academia.attendance.checkin.pending.batches", pending, Deque::size)
+                .description("Lotes cuya escritura falló y esperan reintento")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("academia.attendance.checkin.flushed").register(meterRegistry);
+    }
+
+    @Override
+    public void append(CheckIn checkIn) {
+        BufferKey key = new BufferKey(checkIn.getEnrollmentId(), checkIn.getSessionDate());
+        Stripe stripe = stripes[Math.floorMod(Long.hashCode(checkIn.getEnrollmentId()), stripes.length)];
+
+        stripe.lock.lock();
+        try {
+            if (stripe.entries.containsKey(key)) {
+                return; // Ya registrado en esta ventana: se conserva la primera hora
+            }
+            stripe.write(encode(checkIn));
+            stripe.entries.put(key, checkIn);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo registrar la presencia en el log local", e);
+        } finally {
+            stripe.lock.unlock();
+        }
+        buffered.incrementAndGet();
+    }
+
+    /**
+     * Vuelca lo acumulado a attendance_records. Primero reintenta los lotes pendientes;
+     * si la BD sigue sin responder, los registros nuevos esperan en sus franjas.
+     */
+    @Scheduled(fixedDelayString = "${academia.attendance.check-in.flush-interval:PT2S}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            while (!pending.isEmpty()) {
+                if (!write(pending.peekFirst())) {
+                    return;
+                }
+                pending.removeFirst();
+            }
+
+            PendingBatch batch = drain();
+            if (batch != null && !write(batch)) {
+                pending.addLast(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.closeSegment();
+            } catch (IOException e) {
+                log.warn("No se pudo cerrar el segmento {}: {}", stripe.segment, e.getMessage());
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        if (buffered.get() > 0 || !pending.isEmpty()) {
+            log.warn("Quedan auto-registros sin volcar; se recuperarán desde {} al reiniciar", walDirectory);
+        }
+    }
+
+    int bufferedCount() {
+        return buffered.get();
+    }
+
+    int pendingBatchCount() {
+        return pending.size();
+    }
+
+    /**
+     * Toma los registros de cada franja y sella su segmento. El lock de cada franja se retiene
+     * solo lo necesario para cambiar el mapa y cerrar el archivo.
+     */
+    private PendingBatch drain() {
+        List<CheckIn> checkIns = new ArrayList<>();
+        List<Path> segments = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                if (stripe.entries.isEmpty()) {
+                    continue;
+                }
+                checkIns.addAll(stripe.entries.values());
+                stripe.entries = new HashMap<>();
+                segments.add(stripe.closeSegment());
+            } catch (IOException e) {
+                // Los datos ya están escritos en el segmento; si no se pudo cerrar se recuperan al reiniciar
+                log.warn("No se pudo cerrar el segmento de la franja: {}", e.getMessage());
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        buffered.addAndGet(-checkIns.size());
+        return checkIns.isEmpty() ? null : new PendingBatch(checkIns, segments);
+    }
+
+    private boolean write(PendingBatch batch) {
+        try {
+            attendanceRepository.saveCheckIns(batch.checkIns());
+        } catch (RuntimeException e) {
+            log.warn("No se pudieron volcar {} auto-registros; se reintentará: {}", batch.checkIns().size(), e.getMessage());
+            return false;
+        }
+        flushedCounter.increment(batch.checkIns().size());
+        for (Path segment : batch.segments()) {
+            try {
+                Files.deleteIfExists(segment);
+            } catch (IOException e) {
+                // Se reescribirá al reiniciar, sin efecto gracias a la inserción idempotente
+                log.warn("No se pudo borrar el segmento {}: {}", segment, e.getMessage());
+            }
+        }
+        try {
+            domainEventPublisher.publish(List.<DomainEvent>of(new AttendanceEvents.StudentsCheckedIn(batch.checkIns())));
+        } catch (RuntimeException e) {
+            // El lote ya está en la BD: un suscriptor que falla no debe provocar que se reescriba
+            log.warn("Falló la publicación del evento de {} auto-registros: {}", batch.checkIns().size(), e.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * Encola como pendientes los registros que quedaron en disco de una ejecución anterior.
+     * @return La mayor secuencia de segmento encontrada, para no reutilizar nombres.
+     */
+    private long recoverSegments() throws IOException {
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(walDirectory)) {
+            segments = files.filter(path -> sequenceOf(path) >= 0)
+                    .sorted(Comparator.comparingLong(WriteBehindCheckInBuffer::sequenceOf))
+                    .toList();
+        }
+        if (segments.isEmpty()) {
+            return 0;
+        }
+
+        Map<BufferKey, CheckIn> recovered = new LinkedHashMap<>();
+        long maxSequence = 0;
+        for (Path segment : segments) {
+            maxSequence = Math.max(maxSequence, sequenceOf(segment));
+            for (String line : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+                try {
+                    CheckIn checkIn = decode(line);
+                    recovered.putIfAbsent(new BufferKey(checkIn.getEnrollmentId(), checkIn.getSessionDate()), checkIn);
+                } catch (RuntimeException e) {
+                    // Típicamente la última línea, cortada por la caída del proceso
+                    log.warn("Línea ilegible en {}: '{}'", segment.getFileName(), line);
+                }
+            }
+        }
+        log.info("Recuperados {} auto-registros de {} segmentos en {}", recovered.size(), segments.size(), walDirectory);
+        pending.add(new PendingBatch(new ArrayList<>(recovered.values()), segments));
+        return maxSequence;
+    }
+
+    private static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static byte[] encode(CheckIn checkIn) {
+        return (checkIn.getEnrollmentId() + "," + checkIn.getSessionDate() + "," + checkIn.getCheckedInAt() + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static CheckIn decode(String line) {
+        String[] fields = line.split(",");
+        if (fields.length != 3) {
+            throw new IllegalArgumentException("Se esperaban 3 campos");
+        }
+        return new CheckIn(Long.parseLong(fields[0]), LocalDate.parse(fields[1]), LocalDateTime.parse(fields[2]));
+    }
+
+    private final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private Map<BufferKey, CheckIn> entries = new HashMap<>();
+        private Path segment;
+        private FileChannel channel;
+
+        /** Se llama con el lock tomado. El segmento se abre con el primer registro tras cada volcado. */
+        void write(byte[] line) throws IOException {
+            if (channel == null) {
+                segment = walDirectory.resolve(SEGMENT_PREFIX + segmentSequence.getAndIncrement() + SEGMENT_SUFFIX);
+                channel = FileChannel.open(segment, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (syncOnAppend) {
+                channel.force(false);
+            }
+        }
+
+        /** Se llama con el lock tomado. */
+        Path closeSegment() throws IOException {
+            Path closed = segment;
+            if (channel != null) {
+                FileChannel current = channel;
+                channel = null;
+                segment = null;
+                current.close();
+            }
+            return closed;
+        }
+    }
+
+    private record BufferKey(long enrollmentId, LocalDate sessionDate) {}
+
+    private record PendingBatch(List<CheckIn> checkIns, List<Path> segments) {}
+}
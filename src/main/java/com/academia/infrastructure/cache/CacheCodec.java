@@ -0,0 +1,17 @@
+package com.academia.infrastructure.cache;
+
+/**
+ * Serialización de los valores de dominio que se guardan en la caché compartida.
+ */
+public interface CacheCodec<V> {
+
+    String encode(V value);
+
+    V decode(String payload);
+
+    /**
+     * Copia independiente del valor, sin pasar por texto. Las cachés en memoria entregan una a
+     * cada lector: los agregados son mutables y no pueden compartirse entre pedidos.
+     */
+    V copy(V value);
+}
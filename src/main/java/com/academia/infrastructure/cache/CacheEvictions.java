@@ -0,0 +1,27 @@
+package com.academia.infrastructure.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utilidad de las cachés de repositorio para repetir una invalidación al terminar la
+ * transacción en curso. La invalidación inmediata no basta: entre ella y el commit, otra
+ * lectura puede volver a cachear el valor anterior.
+ */
+final class CacheEvictions {
+
+    private CacheEvictions() {
+    }
+
+    static void runNowAndAfterCompletion(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.academia.infrastructure.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Canal de difusión de invalidaciones entre nodos. Cada nodo se suscribe por nombre de caché
+ * y descarta de su L1 las claves que otro nodo haya modificado.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(String cacheName, String key);
+
+    void subscribe(String cacheName, Consumer<String> listener);
+}
@@ -0,0 +1,48 @@
+package com.academia.infrastructure.cache;
+
+import com.academia.domain.model.aggregates.Organization;
+import com.academia.domain.model.entities.Student;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+
+import java.time.LocalDate;
+
+/**
+ * Formas serializables de los objetos de dominio que viajan por la caché compartida.
+ * Solo incluyen lo que los adaptadores JPA cargan al reconstruirlos.
+ */
+public final class CacheSnapshots {
+
+    private CacheSnapshots() {
+    }
+
+    public record OrganizationSnapshot(Long id, String name, String subdomain, int digitalConsentAge) {
+
+        public static OrganizationSnapshot of(Organization organization) {
+            return new OrganizationSnapshot(organization.getId().getValue(), organization.getName(),
+                    organization.getSubdomain(), organization.getDigitalConsentAge());
+        }
+
+        public Organization toDomain() {
+            return new Organization(new OrganizationId(id), name, subdomain, digitalConsentAge);
+        }
+    }
+
+    public record StudentSnapshot(Long accountId, Long organizationId, String studentIdNumber,
+                                  LocalDate enrollmentDate, String currentGradeLevel) {
+
+        public static StudentSnapshot of(Student student) {
+            return new StudentSnapshot(student.getAccountId().getValue(), student.getOrganizationId().getValue(),
+                    student.getStudentIdNumber(), student.getEnrollmentDate(), student.getCurrentGradeLevel());
+        }
+
+        public Student toDomain() {
+            Student student = new Student(new AccountId(accountId), new OrganizationId(organizationId),
+                    studentIdNumber, enrollmentDate);
+            if (currentGradeLevel != null) {
+                student.changeGradeLevel(currentGradeLevel);
+            }
+            return student;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.academia.infrastructure.cache;
+
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.ports.out.CourseRosterReader;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Decorador de {@link CourseRosterReader} para el auto-registro de presencia: en la ventana de
+ * entrada todos los estudiantes de un curso consultan el mismo padrón. Las inscripciones no
+ * invalidan la entrada, así que el TTL debe ser corto; un alumno recién inscrito puede
+ * registrarse en cuanto expira.
+ */
+@RequiredArgsConstructor
+public class CachingCourseRosterReader implements CourseRosterReader {
+
+    private final CourseRosterReader delegate;
+    private final RepositoryCache<CourseId, Map<AccountId, Long>> cache;
+
+    @Override
+    public Optional<Map<AccountId, Long>> findActiveEnrollments(CourseId courseId) {
+        return cache.get(courseId, id -> delegate.findActiveEnrollments(id).orElse(null));
+    }
+}
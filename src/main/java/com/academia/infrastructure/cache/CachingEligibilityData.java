@@ -0,0 +1,52 @@
+package com.academia.infrastructure.cache;
+
+import com.academia.domain.model.enums.EnrollmentRuleType;
+import com.academia.domain.model.services.eligibility.PassedSubjects;
+import com.academia.domain.model.services.eligibility.PrerequisiteGraph;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.ports.out.EnrollmentRulePolicy;
+import com.academia.domain.ports.out.PrerequisiteCatalog;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Decorador de los datos de elegibilidad: el grafo compilado y las reglas por organización, y
+ * las materias aprobadas por estudiante. En el período de inscripción cada estudiante se inscribe
+ * en varios cursos seguidos, así que la comprobación queda en operaciones sobre bitsets en memoria.
+ * <p>
+ * Ningún evento avisa cuando se cierra una inscripción o cambian las correlativas: las entradas
+ * expiran por TTL. Las materias aprobadas se compilan contra un grafo concreto; si el grafo se
+ * recompiló, se vuelven a cargar.
+ */
+@RequiredArgsConstructor
+public class CachingEligibilityData implements PrerequisiteCatalog, EnrollmentRulePolicy {
+
+    private final PrerequisiteCatalog catalogDelegate;
+    private final EnrollmentRulePolicy policyDelegate;
+    private final RepositoryCache<OrganizationId, PrerequisiteGraph> graphs;
+    private final RepositoryCache<AccountId, PassedSubjects> passedSubjects;
+    private final RepositoryCache<OrganizationId, Set<EnrollmentRuleType>> rules;
+
+    @Override
+    public PrerequisiteGraph graphFor(OrganizationId organizationId) {
+        return graphs.get(organizationId, catalogDelegate::graphFor).orElseThrow();
+    }
+
+    @Override
+    public PassedSubjects passedSubjects(AccountId studentId, PrerequisiteGraph graph) {
+        Optional<PassedSubjects> cached = passedSubjects.get(studentId, id -> catalogDelegate.passedSubjects(id, graph));
+        if (cached.isPresent() && cached.get().compiledFor(graph)) {
+            return cached.get();
+        }
+        passedSubjects.evict(studentId);
+        return passedSubjects.get(studentId, id -> catalogDelegate.passedSubjects(id, graph)).orElseThrow();
+    }
+
+    @Override
+    public Set<EnrollmentRuleType> enabledRules(OrganizationId organizationId) {
+        return rules.get(organizationId, policyDelegate::enabledRules).orElseThrow();
+    }
+}
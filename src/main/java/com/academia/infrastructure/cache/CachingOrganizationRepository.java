@@ -0,0 +1,33 @@
+package com.academia.infrastructure.cache;
+
+import com.academia.domain.model.aggregates.Organization;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.ports.out.OrganizationRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * Decorador de {@link OrganizationRepository} que cachea las lecturas por ID de organización
+ * (el propio tenant). Evita ir a la BD en cada registro solo para leer la edad de consentimiento.
+ */
+@RequiredArgsConstructor
+public class CachingOrganizationRepository implements OrganizationRepository {
+
+    private final OrganizationRepository delegate;
+    private final RepositoryCache<OrganizationId, Organization> cache;
+
+    @Override
+    public Organization save(Organization organization) {
+        Organization saved = delegate.save(organization);
+        if (saved.getId() != null) {
+            cache.evict(saved.getId());
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<Organization> findById(OrganizationId id) {
+        return cache.get(id, key -> delegate.findById(key).orElse(null));
+    }
+}
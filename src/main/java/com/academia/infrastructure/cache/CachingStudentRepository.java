@@ -0,0 +1,64 @@
+package com.academia.infrastructure.cache;
+
+import com.academia.domain.model.entities.Student;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.ports.out.StudentRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Decorador de {@link StudentRepository} que cachea las lecturas por cuenta. Las comprobaciones
+ * de unicidad de legajo siempre van a la BD: una respuesta desactualizada permitiría duplicados.
+ */
+@RequiredArgsConstructor
+public class CachingStudentRepository implements StudentRepository {
+
+    private final StudentRepository delegate;
+    private final RepositoryCache<AccountId, Student> cache;
+
+    @Override
+    public Student save(Student student) {
+        Student saved = delegate.save(student);
+        cache.evict(saved.getAccountId());
+        return saved;
+    }
+
+    @Override
+    public Student insert(Student student) {
+        Student saved = delegate.insert(student);
+        cache.evict(saved.getAccountId());
+        return saved;
+    }
+
+    @Override
+    public List<Student> insertAll(List<Student> students) {
+        List<Student> saved = delegate.insertAll(students);
+        saved.forEach(student -> cache.evict(student.getAccountId()));
+        return saved;
+    }
+
+    @Override
+    public Optional<Student> findById(AccountId accountId) {
+        return findByAccountId(accountId);
+    }
+
+    @Override
+    public boolean existsByStudentIdNumber(OrganizationId orgId, String studentIdNumber) {
+        return delegate.existsByStudentIdNumber(orgId, studentIdNumber);
+    }
+
+    @Override
+    public Optional<Student> findByAccountId(AccountId accountId) {
+        return cache.get(accountId, key -> delegate.findByAccountId(key).orElse(null));
+    }
+
+    @Override
+    public Set<String> findExistingStudentIdNumbers(OrganizationId orgId, Collection<String> studentIdNumbers) {
+        return delegate.findExistingStudentIdNumbers(orgId, studentIdNumbers);
+    }
+}
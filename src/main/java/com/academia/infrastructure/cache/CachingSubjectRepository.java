@@ -0,0 +1,29 @@
+package com.academia.infrastructure.cache;
+
+import com.academia.domain.model.entities.Subject;
+import com.academia.domain.ports.out.SubjectRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Decorador de {@link SubjectRepository} para el catálogo de materias, que se lee mucho
+ * más de lo que se modifica. Los IDs de materia son globales, por lo que la clave no puede
+ * colisionar entre organizaciones.
+ */
+@RequiredArgsConstructor
+public class CachingSubjectRepository implements SubjectRepository {
+
+    private final SubjectRepository delegate;
+    private final RepositoryCache<Long, Subject> cache;
+
+    @Override
+    public Subject save(Subject subject) {
+        Subject saved = delegate.save(subject);
+        cache.evict(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public Subject findById(Long id) {
+        return cache.get(id, delegate::findById).orElse(null);
+    }
+}
@@ -0,0 +1,48 @@
+package com.academia.infrastructure.cache;
+
+import com.academia.domain.model.events.CourseEvents;
+import com.academia.domain.model.events.GradeEvents;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.ports.in.dtos.TranscriptDTO;
+import com.academia.domain.ports.out.TranscriptReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Decorador de {@link TranscriptReader}: el boletín queda materializado por estudiante hasta que
+ * un evento lo modifica. En la semana de boletines tutores y estudiantes lo consultan muchas
+ * veces sin cambios, así que casi todas las lecturas se sirven de la caché.
+ * <p>
+ * Las inscripciones y los retiros llegan desde la bandeja de salida y, con {@code academia.events.async.enabled},
+ * las notas desde el despacho asíncrono: en ambos casos después del commit, así que por un momento
+ * se puede servir el boletín anterior. Sin despacho asíncrono las notas se escuchan dentro de la
+ * transacción que las publica, y la invalidación se repite al terminarla (ver
+ * {@link RepositoryCache#evict}) para que una lectura concurrente no deje en caché el boletín previo
+ * al commit.
+ */
+@RequiredArgsConstructor
+public class CachingTranscriptReader implements TranscriptReader {
+
+    private final TranscriptReader delegate;
+    private final RepositoryCache<AccountId, TranscriptDTO> cache;
+
+    @Override
+    public TranscriptDTO loadTranscript(AccountId studentId) {
+        return cache.get(studentId, delegate::loadTranscript).orElseThrow();
+    }
+
+    @EventListener
+    public void onStudentEnrolled(CourseEvents.StudentEnrolledInCourse event) {
+        cache.evict(event.studentId());
+    }
+
+    @EventListener
+    public void onStudentWithdrawn(CourseEvents.StudentWithdrawnFromCourse event) {
+        cache.evict(event.studentId());
+    }
+
+    @EventListener
+    public void onGradesRecorded(GradeEvents.GradesRecorded event) {
+        cache.evict(event.studentId());
+    }
+}
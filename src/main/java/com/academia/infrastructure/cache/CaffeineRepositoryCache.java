@@ -0,0 +1,55 @@
+package com.academia.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Implementación en memoria sobre Caffeine, acotada por tamaño y TTL. Registra las métricas
+ * de aciertos, fallos y desalojos en Micrometer bajo el nombre de la caché.
+ * <p>
+ * Para valores mutables se indica cómo copiarlos: se guarda una copia de lo que devuelve el
+ * loader y cada lectura recibe otra, así un pedido que modifica el agregado no cambia lo que
+ * leen los demás. Sin copia, los valores tienen que ser inmutables.
+ */
+public class CaffeineRepositoryCache<K, V> implements RepositoryCache<K, V> {
+
+    private final Cache<K, V> cache;
+    private final UnaryOperator<V> copier;
+
+    public CaffeineRepositoryCache(String name, long maximumSize, Duration timeToLive, MeterRegistry meterRegistry) {
+        this(name, maximumSize, timeToLive, UnaryOperator.identity(), meterRegistry);
+    }
+
+    public CaffeineRepositoryCache(String name, long maximumSize, Duration timeToLive,
+                                   UnaryOperator<V> copier, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        this.copier = copier;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    @Override
+    public Optional<V> get(K key, Function<? super K, ? extends V> loader) {
+        // Caffeine no almacena el resultado cuando el loader devuelve null
+        V cached = cache.get(key, k -> {
+            V loaded = loader.apply(k);
+            return loaded == null ? null : copier.apply(loaded);
+        });
+        return Optional.ofNullable(cached).map(copier);
+    }
+
+    @Override
+    public void evict(K key) {
+        CacheEvictions.runNowAndAfterCompletion(() -> cache.invalidate(key));
+    }
+}
@@ -0,0 +1,52 @@
+package com.academia.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.function.Function;
+
+/**
+ * Codec JSON que pasa por un snapshot intermedio: los objetos de dominio tienen campos
+ * final y constructores con validaciones, así que no se serializan directamente.
+ *
+ * @param <V> tipo de dominio
+ * @param <S> record de snapshot que se escribe en la caché compartida
+ */
+public class JsonCacheCodec<V, S> implements CacheCodec<V> {
+
+    private final ObjectMapper objectMapper;
+    private final Class<S> snapshotType;
+    private final Function<V, S> toSnapshot;
+    private final Function<S, V> fromSnapshot;
+
+    public JsonCacheCodec(ObjectMapper objectMapper, Class<S> snapshotType,
+                          Function<V, S> toSnapshot, Function<S, V> fromSnapshot) {
+        this.objectMapper = objectMapper;
+        this.snapshotType = snapshotType;
+        this.toSnapshot = toSnapshot;
+        this.fromSnapshot = fromSnapshot;
+    }
+
+    @Override
+    public String encode(V value) {
+        try {
+            return objectMapper.writeValueAsString(toSnapshot.apply(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el valor para la caché: " + snapshotType.getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public V copy(V value) {
+        return fromSnapshot.apply(toSnapshot.apply(value));
+    }
+
+    @Override
+    public V decode(String payload) {
+        try {
+            return fromSnapshot.apply(objectMapper.readValue(payload, snapshotType));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo deserializar el valor de la caché: " + snapshotType.getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.academia.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Caché compartida entre nodos (L2). Guarda valores ya serializados bajo claves de texto.
+ */
+public interface RemoteCacheStore {
+
+    Optional<String> get(String key);
+
+    void put(String key, String value, Duration timeToLive);
+
+    void delete(String key);
+}
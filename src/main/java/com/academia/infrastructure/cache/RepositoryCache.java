@@ -0,0 +1,23 @@
+package com.academia.infrastructure.cache;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Caché de lectura usada por los decoradores de repositorios. Los valores ausentes
+ * (el loader devuelve {@code null}) no se almacenan, para que una entidad creada
+ * después de una consulta fallida sea visible en la siguiente lectura.
+ *
+ * @param <K> tipo de la clave, que debe incluir el tenant cuando el dato es por organización
+ * @param <V> tipo del valor de dominio cacheado
+ */
+public interface RepositoryCache<K, V> {
+
+    Optional<V> get(K key, Function<? super K, ? extends V> loader);
+
+    /**
+     * Invalida la entrada. Si hay una transacción activa, se vuelve a invalidar al terminar,
+     * para que ninguna lectura concurrente deje en caché el valor previo al commit.
+     */
+    void evict(K key);
+}
@@ -0,0 +1,100 @@
+package com.academia.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Caché de dos niveles: L1 en memoria del nodo (Caffeine) y L2 compartida entre nodos.
+ * Una lectura consulta L1, luego L2 y solo entonces la BD, rellenando ambos niveles.
+ * Al invalidar se borra la entrada de L2 y se avisa al resto de nodos para que la
+ * descarten de su L1.
+ * <p>
+ * La L2 es un atajo, no una dependencia: si falla, se registra y se lee de la BD.
+ */
+@Slf4j
+public class TwoTierRepositoryCache<K, V> implements RepositoryCache<K, V> {
+
+    private final String name;
+    private final Cache<String, V> localCache;
+    private final RemoteCacheStore remoteStore;
+    private final Duration remoteTimeToLive;
+    private final CacheInvalidationBus invalidationBus;
+    private final Function<K, String> keyFormatter;
+    private final CacheCodec<V> codec;
+
+    public TwoTierRepositoryCache(String name, long maximumSize, Duration localTimeToLive,
+                                  RemoteCacheStore remoteStore, Duration remoteTimeToLive,
+                                  CacheInvalidationBus invalidationBus,
+                                  Function<K, String> keyFormatter, CacheCodec<V> codec,
+                                  MeterRegistry meterRegistry) {
+        this.name = name;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(localTimeToLive)
+                .recordStats()
+                .build();
+        this.remoteStore = remoteStore;
+        this.remoteTimeToLive = remoteTimeToLive;
+        this.invalidationBus = invalidationBus;
+        this.keyFormatter = keyFormatter;
+        this.codec = codec;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, name);
+        invalidationBus.subscribe(name, localCache::invalidate);
+    }
+
+    @Override
+    public Optional<V> get(K key, Function<? super K, ? extends V> loader) {
+        String cacheKey = keyFormatter.apply(key);
+        // L1 guarda su propia instancia y entrega una copia a cada lector, como la L2 al deserializar
+        return Optional.ofNullable(localCache.get(cacheKey, k -> loadThroughRemote(k, key, loader))).map(codec::copy);
+    }
+
+    @Override
+    public void evict(K key) {
+        String cacheKey = keyFormatter.apply(key);
+        CacheEvictions.runNowAndAfterCompletion(() -> {
+            localCache.invalidate(cacheKey);
+            try {
+                remoteStore.delete(remoteKey(cacheKey));
+                invalidationBus.publish(name, cacheKey);
+            } catch (RuntimeException e) {
+                log.warn("No se pudo invalidar la clave {} de la caché compartida '{}': {}", cacheKey, name, e.getMessage());
+            }
+        });
+    }
+
+    private V loadThroughRemote(String cacheKey, K key, Function<? super K, ? extends V> loader) {
+        String remoteKey = remoteKey(cacheKey);
+        try {
+            Optional<String> payload = remoteStore.get(remoteKey);
+            if (payload.isPresent()) {
+                return codec.decode(payload.get());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Lectura de la caché compartida '{}' fallida para la clave {}: {}", name, cacheKey, e.getMessage());
+        }
+
+        V value = loader.apply(key);
+        if (value == null) {
+            return null;
+        }
+        try {
+            remoteStore.put(remoteKey, codec.encode(value), remoteTimeToLive);
+        } catch (RuntimeException e) {
+            log.warn("Escritura en la caché compartida '{}' fallida para la clave {}: {}", name, cacheKey, e.getMessage());
+        }
+        return codec.copy(value);
+    }
+
+    private String remoteKey(String cacheKey) {
+        return "academia:cache:" + name + ":" + cacheKey;
+    }
+}
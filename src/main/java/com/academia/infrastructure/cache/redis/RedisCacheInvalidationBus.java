@@ -0,0 +1,54 @@
+package com.academia.infrastructure.cache.redis;
+
+import com.academia.infrastructure.cache.CacheInvalidationBus;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Bus de invalidación sobre Redis pub/sub. Todos los nodos comparten un único canal; cada
+ * mensaje lleva el nodo de origen, el nombre de la caché y la clave, separados por '|'.
+ * El nodo de origen ignora sus propios mensajes porque ya invalidó su L1.
+ */
+public class RedisCacheInvalidationBus implements CacheInvalidationBus {
+
+    static final String CHANNEL = "academia:cache-invalidation";
+    private static final String SEPARATOR = "|";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Consumer<String>> listeners = new ConcurrentHashMap<>();
+
+    public RedisCacheInvalidationBus(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        listenerContainer.addMessageListener(this::onMessage, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void publish(String cacheName, String key) {
+        redisTemplate.convertAndSend(CHANNEL, nodeId + SEPARATOR + cacheName + SEPARATOR + key);
+    }
+
+    @Override
+    public void subscribe(String cacheName, Consumer<String> listener) {
+        listeners.merge(cacheName, listener, Consumer::andThen);
+    }
+
+    private void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        Consumer<String> listener = listeners.get(parts[1]);
+        if (listener != null) {
+            listener.accept(parts[2]);
+        }
+    }
+}
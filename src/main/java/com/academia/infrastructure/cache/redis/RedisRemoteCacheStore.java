@@ -0,0 +1,29 @@
+package com.academia.infrastructure.cache.redis;
+
+import com.academia.infrastructure.cache.RemoteCacheStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class RedisRemoteCacheStore implements RemoteCacheStore {
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public Optional<String> get(String key) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(key));
+    }
+
+    @Override
+    public void put(String key, String value, Duration timeToLive) {
+        redisTemplate.opsForValue().set(key, value, timeToLive);
+    }
+
+    @Override
+    public void delete(String key) {
+        redisTemplate.delete(key);
+    }
+}
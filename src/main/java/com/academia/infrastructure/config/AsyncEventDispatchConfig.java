@@ -0,0 +1,28 @@
+package com.academia.infrastructure.config;
+
+import com.academia.infrastructure.events.AsyncDomainEventPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Reemplaza la publicación síncrona de eventos por {@link AsyncDomainEventPublisher}.
+ * Solo se activa con {@code academia.events.async.enabled=true}.
+ */
+@Configuration
+@EnableConfigurationProperties(AsyncEventDispatchProperties.class)
+@ConditionalOnProperty(prefix = "academia.events.async", name = "enabled", havingValue = "true")
+public class AsyncEventDispatchConfig {
+
+    @Bean
+    @Primary
+    public AsyncDomainEventPublisher asyncDomainEventPublisher(ApplicationEventPublisher applicationEventPublisher,
+                                                               AsyncEventDispatchProperties properties,
+                                                               MeterRegistry meterRegistry) {
+        return new AsyncDomainEventPublisher(applicationEventPublisher, properties, meterRegistry);
+    }
+}
@@ -0,0 +1,30 @@
+package com.academia.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Despacho asíncrono de eventos de dominio ({@code academia.events.async.*}). Cada tipo de evento
+ * tiene su cola acotada y su límite de listeners simultáneos; {@code type-concurrency} lo ajusta
+ * por nombre simple de la clase del evento (p. ej. {@code StudentsCheckedIn: 1}).
+ */
+@ConfigurationProperties(prefix = "academia.events.async")
+public record AsyncEventDispatchProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("4") int concurrency,
+        @DefaultValue("1000") int queueCapacity,
+        @DefaultValue("1s") Duration offerTimeout,
+        @DefaultValue("10s") Duration shutdownTimeout,
+        @DefaultValue Map<String, Integer> typeConcurrency
+) {
+    public int concurrencyFor(String eventType) {
+        return typeConcurrency.entrySet().stream()
+                .filter(entry -> entry.getKey().equalsIgnoreCase(eventType))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(concurrency);
+    }
+}
@@ -1,6 +1,8 @@
 package com.academia.infrastructure.config;
 
 import com.academia.domain.model.services.EnrollmentEligibilityChecker;
+import com.academia.domain.ports.out.EnrollmentRulePolicy;
+import com.academia.domain.ports.out.PrerequisiteCatalog;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -8,7 +10,8 @@ import org.springframework.context.annotation.Configuration;
 public class DomainServiceConfig {
 
     @Bean
-    public EnrollmentEligibilityChecker enrollmentEligibilityChecker() {
-        return new EnrollmentEligibilityChecker();
+    public EnrollmentEligibilityChecker enrollmentEligibilityChecker(PrerequisiteCatalog prerequisiteCatalog,
+                                                                     EnrollmentRulePolicy enrollmentRulePolicy) {
+        return new EnrollmentEligibilityChecker(prerequisiteCatalog, enrollmentRulePolicy);
     }
-}
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.academia.infrastructure.config;
+
+import com.academia.infrastructure.persistence.routing.Replica;
+import com.academia.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sustituye el DataSource autoconfigurado por uno que envía las transacciones
+ * {@code readOnly} a las réplicas. Solo se activa con {@code academia.datasource.routing.enabled=true}.
+ * <p>
+ * Los pools no se exponen como beans, así que sus métricas se registran aquí con la etiqueta
+ * {@code pool} (primary, replica-1, ...), igual que haría la autoconfiguración de Hikari.
+ */
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(prefix = "academia.datasource.routing", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties primaryProperties,
+                                                             ReadReplicaProperties properties,
+                                                             Environment environment,
+                                                             MeterRegistry meterRegistry) {
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        configurePool(primary, "primary", environment, meterRegistry);
+
+        List<Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.replicas().size(); i++) {
+            ReadReplicaProperties.ReplicaSpec spec = properties.replicas().get(i);
+            String name = spec.name() != null ? spec.name() : "replica-" + (i + 1);
+
+            HikariDataSource pool = new HikariDataSource();
+            configurePool(pool, name, environment, meterRegistry);
+            pool.setDriverClassName(primaryProperties.determineDriverClassName());
+            pool.setJdbcUrl(spec.url());
+            pool.setUsername(spec.username() != null ? spec.username() : primaryProperties.determineUsername());
+            pool.setPassword(spec.password() != null ? spec.password() : primaryProperties.determinePassword());
+            pool.setReadOnly(true);
+
+            Replica replica = new Replica(name, pool);
+            Gauge.builder("academia.datasource.replica.available", replica, r -> r.isAvailable() ? 1 : 0)
+                    .tag("replica", name)
+                    .description("1 si la réplica recibe lecturas, 0 si está retirada del enrutamiento")
+                    .register(meterRegistry);
+            Gauge.builder("academia.datasource.replica.lag", replica, r -> r.getLagSeconds() != null ? r.getLagSeconds() : Double.NaN)
+                    .tag("replica", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            replicas.add(replica);
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicas, properties.maxLag(),
+                properties.lagQuery(), properties.lagColumn(),
+                (target, readOnly) -> meterRegistry.counter("academia.datasource.routing",
+                        "target", target, "readOnly", String.valueOf(readOnly)).increment());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        // Retrasa la elección del destino hasta la primera sentencia, cuando el flag readOnly ya está fijado
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaHealthCheck replicaHealthCheck(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new ReplicaHealthCheck(replicaRoutingDataSource);
+    }
+
+    private static void configurePool(HikariDataSource pool, String poolName, Environment environment,
+                                      MeterRegistry meterRegistry) {
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(poolName);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+    }
+
+    /**
+     * Comprobación periódica de salud y retraso de las réplicas.
+     */
+    public static class ReplicaHealthCheck {
+
+        private final ReplicaRoutingDataSource routingDataSource;
+
+        ReplicaHealthCheck(ReplicaRoutingDataSource routingDataSource) {
+            this.routingDataSource = routingDataSource;
+        }
+
+        @Scheduled(fixedDelayString = "${academia.datasource.routing.health-check-interval:PT5S}")
+        public void check() {
+            routingDataSource.checkReplicas();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.academia.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Réplicas de lectura ({@code academia.datasource.routing.*}). El primario sigue
+ * configurándose con {@code spring.datasource.*}, y las réplicas heredan los ajustes de
+ * pool de {@code spring.datasource.hikari.*}.
+ */
+@ConfigurationProperties(prefix = "academia.datasource.routing")
+public record ReadReplicaProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10s") Duration maxLag,
+        @DefaultValue("PT5S") Duration healthCheckInterval,
+        String lagQuery,
+        String lagColumn,
+        @DefaultValue List<ReplicaSpec> replicas
+) {
+    public record ReplicaSpec(String name, String url, String username, String password) {}
+}
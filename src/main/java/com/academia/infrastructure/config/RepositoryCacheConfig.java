@@ -0,0 +1,169 @@
+package com.academia.infrastructure.config;
+
+import com.academia.domain.model.aggregates.Organization;
+import com.academia.domain.model.entities.Student;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.ports.in.dtos.TranscriptDTO;
+import com.academia.domain.ports.out.CourseRosterReader;
+import com.academia.domain.ports.out.OrganizationRepository;
+import com.academia.domain.ports.out.StudentRepository;
+import com.academia.domain.ports.out.SubjectRepository;
+import com.academia.domain.ports.out.TranscriptReader;
+import com.academia.infrastructure.cache.CacheInvalidationBus;
+import com.academia.infrastructure.cache.CacheSnapshots.OrganizationSnapshot;
+import com.academia.infrastructure.cache.CacheSnapshots.StudentSnapshot;
+import com.academia.infrastructure.cache.CachingCourseRosterReader;
+import com.academia.infrastructure.cache.CachingEligibilityData;
+import com.academia.infrastructure.cache.CachingOrganizationRepository;
+import com.academia.infrastructure.cache.CachingStudentRepository;
+import com.academia.infrastructure.cache.CachingSubjectRepository;
+import com.academia.infrastructure.cache.CachingTranscriptReader;
+import com.academia.infrastructure.cache.CaffeineRepositoryCache;
+import com.academia.infrastructure.cache.JsonCacheCodec;
+import com.academia.infrastructure.cache.RemoteCacheStore;
+import com.academia.infrastructure.cache.RepositoryCache;
+import com.academia.infrastructure.cache.redis.RedisCacheInvalidationBus;
+import com.academia.infrastructure.cache.redis.RedisRemoteCacheStore;
+import com.academia.infrastructure.persistence.adapters.JpaOrganizationRepositoryAdapter;
+import com.academia.infrastructure.persistence.adapters.JpaStudentRepositoryAdapter;
+import com.academia.infrastructure.persistence.adapters.JpaSubjectRepositoryAdapter;
+import com.academia.infrastructure.persistence.jdbc.JdbcAttendanceRepository;
+import com.academia.infrastructure.persistence.jdbc.JdbcEnrollmentEligibilityRepository;
+import com.academia.infrastructure.persistence.jdbc.JdbcTranscriptReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Envuelve los adaptadores JPA más leídos con decoradores de caché.
+ * Los beans son {@link Primary}, así que los servicios siguen inyectando el puerto
+ * sin saber que hay una caché delante. Se desactiva con {@code academia.cache.enabled=false}.
+ */
+@Configuration
+@EnableConfigurationProperties(RepositoryCacheProperties.class)
+@ConditionalOnProperty(prefix = "academia.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RepositoryCacheConfig {
+
+    @Bean
+    @Primary
+    public OrganizationRepository cachingOrganizationRepository(JpaOrganizationRepositoryAdapter delegate,
+                                                                RepositoryCacheFactory cacheFactory,
+                                                                ObjectMapper objectMapper) {
+        RepositoryCache<OrganizationId, Organization> cache = cacheFactory.create("organizations",
+                id -> String.valueOf(id.getValue()),
+                new JsonCacheCodec<>(objectMapper, OrganizationSnapshot.class,
+                        OrganizationSnapshot::of, OrganizationSnapshot::toDomain));
+        return new CachingOrganizationRepository(delegate, cache);
+    }
+
+    @Bean
+    @Primary
+    public SubjectRepository cachingSubjectRepository(JpaSubjectRepositoryAdapter delegate,
+                                                      RepositoryCacheProperties properties,
+                                                      MeterRegistry meterRegistry) {
+        // El catálogo cambia poco y cada nodo lo reconstruye barato: solo caché local
+        RepositoryCacheProperties.Spec spec = properties.subjects();
+        return new CachingSubjectRepository(delegate,
+                new CaffeineRepositoryCache<>("subjects", spec.maximumSize(), spec.timeToLive(), meterRegistry));
+    }
+
+    @Bean
+    @Primary
+    public StudentRepository cachingStudentRepository(JpaStudentRepositoryAdapter delegate,
+                                                      RepositoryCacheFactory cacheFactory,
+                                                      ObjectMapper objectMapper) {
+        RepositoryCache<AccountId, Student> cache = cacheFactory.create("students",
+                id -> String.valueOf(id.getValue()),
+                new JsonCacheCodec<>(objectMapper, StudentSnapshot.class,
+                        StudentSnapshot::of, StudentSnapshot::toDomain));
+        return new CachingStudentRepository(delegate, cache);
+    }
+
+    @Bean
+    @Primary
+    public CourseRosterReader cachingCourseRosterReader(JdbcAttendanceRepository delegate,
+                                                        RepositoryCacheProperties properties,
+                                                        MeterRegistry meterRegistry) {
+        // Solo local: el padrón se consulta en ráfagas y cada nodo lo carga con una consulta
+        RepositoryCacheProperties.Spec spec = properties.rosters();
+        RepositoryCache<CourseId, Map<AccountId, Long>> cache =
+                new CaffeineRepositoryCache<>("rosters", spec.maximumSize(), spec.timeToLive(), meterRegistry);
+        return new CachingCourseRosterReader(delegate, cache);
+    }
+
+    @Bean
+    @Primary
+    public TranscriptReader cachingTranscriptReader(JdbcTranscriptReader delegate,
+                                                    RepositoryCacheFactory cacheFactory,
+                                                    ObjectMapper objectMapper) {
+        // El boletín ya es un record de solo lectura: se serializa tal cual
+        RepositoryCache<AccountId, TranscriptDTO> cache = cacheFactory.create("transcripts",
+                id -> String.valueOf(id.getValue()),
+                new JsonCacheCodec<>(objectMapper, TranscriptDTO.class, Function.identity(), Function.identity()));
+        return new CachingTranscriptReader(delegate, cache);
+    }
+
+    @Bean
+    @Primary
+    public CachingEligibilityData cachingEligibilityData(JdbcEnrollmentEligibilityRepository delegate,
+                                                        RepositoryCacheProperties properties,
+                                                        MeterRegistry meterRegistry) {
+        // Solo local: el grafo compilado no se serializa y cada nodo lo arma con dos consultas.
+        // Un mismo bean es el primario de PrerequisiteCatalog y de EnrollmentRulePolicy
+        RepositoryCacheProperties.Spec graphs = properties.prerequisites();
+        RepositoryCacheProperties.Spec rules = properties.enrollmentRules();
+        RepositoryCacheProperties.Spec passed = properties.passedSubjects();
+        return new CachingEligibilityData(delegate, delegate,
+                new CaffeineRepositoryCache<>("prerequisites", graphs.maximumSize(), graphs.timeToLive(), meterRegistry),
+                new CaffeineRepositoryCache<>("passedSubjects", passed.maximumSize(), passed.timeToLive(), meterRegistry),
+                new CaffeineRepositoryCache<>("enrollmentRules", rules.maximumSize(), rules.timeToLive(), meterRegistry));
+    }
+
+    @Bean
+    public RepositoryCacheFactory repositoryCacheFactory(RepositoryCacheProperties properties,
+                                                         MeterRegistry meterRegistry,
+                                                         ObjectProvider<RemoteCacheStore> remoteStore,
+                                                         ObjectProvider<CacheInvalidationBus> invalidationBus) {
+        return new RepositoryCacheFactory(properties, meterRegistry, remoteStore, invalidationBus);
+    }
+
+    /**
+     * Beans de Redis para el modo de dos niveles. Solo se crean con {@code mode: two-tier},
+     * así los entornos sin Redis (dev, test) no abren conexiones.
+     */
+    @Configuration
+    @ConditionalOnProperty(prefix = "academia.cache", name = "mode", havingValue = "two-tier")
+    static class RedisCacheConfig {
+
+        @Bean
+        public RemoteCacheStore redisRemoteCacheStore(StringRedisTemplate redisTemplate) {
+            return new RedisRemoteCacheStore(redisTemplate);
+        }
+
+        @Bean
+        public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            return container;
+        }
+
+        @Bean
+        public CacheInvalidationBus redisCacheInvalidationBus(StringRedisTemplate redisTemplate,
+                                                              RedisMessageListenerContainer cacheInvalidationListenerContainer) {
+            return new RedisCacheInvalidationBus(redisTemplate, cacheInvalidationListenerContainer);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.academia.infrastructure.config;
+
+import com.academia.infrastructure.cache.CacheCodec;
+import com.academia.infrastructure.cache.CacheInvalidationBus;
+import com.academia.infrastructure.cache.CaffeineRepositoryCache;
+import com.academia.infrastructure.cache.RemoteCacheStore;
+import com.academia.infrastructure.cache.RepositoryCache;
+import com.academia.infrastructure.cache.TwoTierRepositoryCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.function.Function;
+
+/**
+ * Crea la caché de cada repositorio según {@code academia.cache.mode}: solo local, o local
+ * respaldada por la caché compartida con invalidación entre nodos.
+ */
+@RequiredArgsConstructor
+public class RepositoryCacheFactory {
+
+    private final RepositoryCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<RemoteCacheStore> remoteStore;
+    private final ObjectProvider<CacheInvalidationBus> invalidationBus;
+
+    public <K, V> RepositoryCache<K, V> create(String name, Function<K, String> keyFormatter, CacheCodec<V> codec) {
+        RepositoryCacheProperties.Spec spec = spec(name);
+        if (properties.mode() == RepositoryCacheProperties.Mode.LOCAL) {
+            return new CaffeineRepositoryCache<>(name, spec.maximumSize(), spec.timeToLive(), codec::copy, meterRegistry);
+        }
+        return new TwoTierRepositoryCache<>(name, spec.maximumSize(), spec.timeToLive(),
+                remoteStore.getObject(), spec.remoteTimeToLive(),
+                invalidationBus.getObject(), keyFormatter, codec, meterRegistry);
+    }
+
+    private RepositoryCacheProperties.Spec spec(String name) {
+        return switch (name) {
+            case "organizations" -> properties.organizations();
+            case "subjects" -> properties.subjects();
+            case "students" -> properties.students();
+            case "transcripts" -> properties.transcripts();
+            default -> throw new IllegalArgumentException("Caché de repositorio desconocida: " + name);
+        };
+    }
+}
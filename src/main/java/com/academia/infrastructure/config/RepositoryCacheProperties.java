@@ -0,0 +1,33 @@
+package com.academia.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Límites de las cachés de repositorio ({@code academia.cache.*}).
+ * Con {@code mode: two-tier} cada caché local se respalda en Redis y las invalidaciones
+ * se difunden al resto de nodos; con {@code local} cada nodo cachea por su cuenta.
+ */
+@ConfigurationProperties(prefix = "academia.cache")
+public record RepositoryCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("local") Mode mode,
+        @DefaultValue Spec organizations,
+        @DefaultValue Spec subjects,
+        @DefaultValue Spec students,
+        @DefaultValue Spec rosters,
+        @DefaultValue Spec transcripts,
+        @DefaultValue Spec prerequisites,
+        @DefaultValue Spec enrollmentRules,
+        @DefaultValue Spec passedSubjects
+) {
+    public enum Mode { LOCAL, TWO_TIER }
+
+    public record Spec(
+            @DefaultValue("10000") long maximumSize,
+            @DefaultValue("10m") Duration timeToLive,
+            @DefaultValue("1h") Duration remoteTimeToLive
+    ) {}
+}
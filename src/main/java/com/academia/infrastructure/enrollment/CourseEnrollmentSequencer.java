@@ -0,0 +1,284 @@
+package com.academia.infrastructure.enrollment;
+
+import com.academia.application.exceptions.ResourceNotFoundException;
+import com.academia.domain.model.aggregates.Course;
+import com.academia.domain.model.entities.Enrollment;
+import com.academia.domain.model.entities.Student;
+import com.academia.domain.model.events.CourseEvents;
+import com.academia.domain.model.services.EnrollmentEligibilityChecker;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.ports.in.commands.EnrollStudentInCourseCommand;
+import com.academia.domain.ports.in.course.EnrollStudentInCourseUseCase;
+import com.academia.domain.ports.in.dtos.EnrollmentResultDTO;
+import com.academia.domain.ports.out.CourseRepository;
+import com.academia.domain.ports.out.DomainEventOutbox;
+import com.academia.domain.ports.out.StudentRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inscripción con un único escritor por curso, para la apertura de inscripciones de cursos muy pedidos.
+ * <p>
+ * Cada curso con pedidos tiene una cola y un hilo virtual que la consume. El hilo conserva el
+ * agregado en memoria y confirma las inscripciones en grupos de hasta {@code max-batch}, en una
+ * transacción por grupo: un solo INSERT por lotes y una sola reserva de vacantes. Los pedidos del
+ * mismo curso ya no compiten por la fila del curso ni recargan el agregado uno por uno.
+ * <p>
+ * Si la transacción de un grupo falla, el agregado se descarta y cada pedido del grupo se reintenta
+ * en su propia transacción, así un pedido nunca arrastra a los demás. La cola de un curso se cierra
+ * tras {@code idle-timeout} sin pedidos y el agregado se vuelve a cargar al reabrirla. El cupo lo
+ * sigue garantizando la reserva en la BD, así que varios nodos con este modo activo no pueden
+ * sobrepasarlo; lo que no ven es una inscripción duplicada hecha por otro nodo mientras la cola
+ * está abierta, por lo que conviene enrutar cada curso siempre al mismo nodo.
+ * <p>
+ * Se activa con {@code academia.enrollment.sequencer.enabled=true}; sin él, las inscripciones van
+ * por {@code EnrollStudentInCourseServiceImpl} con una transacción por pedido.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(prefix = "academia.enrollment.sequencer", name = "enabled", havingValue = "true")
+public class CourseEnrollmentSequencer implements EnrollStudentInCourseUseCase {
+
+    private final StudentRepository studentRepository;
+    private final CourseRepository courseRepository;
+    private final DomainEventOutbox domainEventOutbox;
+    private final EnrollmentEligibilityChecker eligibilityChecker;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatch;
+    private final Duration idleTimeout;
+    private final DistributionSummary batchSizes;
+    private final Map<Long, CourseLane> lanes = new ConcurrentHashMap<>();
+    private volatile boolean running = true;
+
+    public CourseEnrollmentSequencer(StudentRepository studentRepository,
+                                     CourseRepository courseRepository,
+                                     DomainEventOutbox domainEventOutbox,
+                                     EnrollmentEligibilityChecker eligibilityChecker,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${academia.enrollment.sequencer.max-batch:64}") int maxBatch,
+                                     @Value("${academia.enrollment.sequencer.idle-timeout:30s}") Duration idleTimeout,
+                                     MeterRegistry meterRegistry) {
+        this.studentRepository = studentRepository;
+        this.courseRepository = courseRepository;
+        this.domainEventOutbox = domainEventOutbox;
+        this.eligibilityChecker = eligibilityChecker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxBatch = maxBatch;
+        this.idleTimeout = idleTimeout;
+        this.batchSizes = DistributionSummary.builder("academia.enrollment.sequencer.batch-size")
+                .description("Inscripciones confirmadas por transacción")
+                .register(meterRegistry);
+        Gauge.builder("academia.enrollment.sequencer.lanes", lanes, Map::size)
+                .description("Cursos con cola de inscripción activa")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public EnrollmentResultDTO enrollStudent(EnrollStudentInCourseCommand command) {
+        if (!running) {
+            throw new IllegalStateException("El servicio de inscripciones se está deteniendo.");
+        }
+        PendingEnrollment pending = new PendingEnrollment(command, new CompletableFuture<>());
+        // compute es atómico por curso: un consumidor no puede cerrar la cola mientras se encola
+        lanes.compute(command.courseId(), (courseId, lane) -> {
+            CourseLane target = lane != null ? lane : startLane(courseId);
+            target.queue().add(pending);
+            return target;
+        });
+        try {
+            return pending.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Un cambio de cupo hecho fuera de la cola invalida el agregado retenido. Se marca tras el
+     * commit para que la recarga ya vea el cambio.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCapacityChanged(CourseEvents.CourseCapacityChanged event) {
+        markStale(event.courseId().getValue());
+    }
+
+    /**
+     * Un retiro libera una vacante y puede inscribir a alguien de la lista de espera: ninguno de
+     * los dos cambios está en el agregado retenido. El evento llega desde la bandeja de salida, así
+     * que hasta el próximo despacho el agregado puede seguir viendo al estudiante retirado; el cupo
+     * y los duplicados los sigue decidiendo la BD.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentWithdrawn(CourseEvents.StudentWithdrawnFromCourse event) {
+        markStale(event.courseId().getValue());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+
+    private void markStale(Long courseId) {
+        CourseLane lane = lanes.get(courseId);
+        if (lane != null) {
+            lane.markStale();
+        }
+    }
+
+    private CourseLane startLane(Long courseId) {
+        CourseLane lane = new CourseLane(courseId, new LinkedBlockingQueue<>());
+        Thread.ofVirtual().name("enrollment-course-" + courseId).start(() -> consume(lane));
+        return lane;
+    }
+
+    private void consume(CourseLane lane) {
+        Course course = null;
+        List<PendingEnrollment> batch = new ArrayList<>(maxBatch);
+        while (true) {
+            PendingEnrollment first;
+            try {
+                first = lane.queue().poll(idleTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                // Nadie interrumpe estos hilos: la cola solo se cierra por inactividad
+                continue;
+            }
+            if (first == null) {
+                if (tryClose(lane)) {
+                    return;
+                }
+                continue;
+            }
+
+            batch.add(first);
+            lane.queue().drainTo(batch, maxBatch - 1);
+            if (lane.takeStale()) {
+                course = null;
+            }
+            course = processBatch(lane.courseId(), course, batch);
+            batch.clear();
+        }
+    }
+
+    private boolean tryClose(CourseLane lane) {
+        boolean[] closed = {false};
+        lanes.computeIfPresent(lane.courseId(), (courseId, current) -> {
+            if (current == lane && lane.queue().isEmpty()) {
+                closed[0] = true;
+                return null;
+            }
+            return current;
+        });
+        return closed[0];
+    }
+
+    /**
+     * @return El agregado a conservar para el próximo grupo, o {@code null} si hay que recargarlo.
+     */
+    private Course processBatch(Long courseId, Course heldCourse, List<PendingEnrollment> batch) {
+        List<Runnable> completions = new ArrayList<>(batch.size());
+        try {
+            Course course = transactionTemplate.execute(status -> {
+                Course current = heldCourse != null ? heldCourse : courseRepository.findById(new CourseId(courseId))
+                        .orElseThrow(() -> new ResourceNotFoundException("Curso no encontrado con ID: " + courseId));
+                for (PendingEnrollment pending : batch) {
+                    completions.add(enroll(current, pending));
+                }
+                courseRepository.save(current);
+                domainEventOutbox.append(current.getDomainEvents());
+                current.clearDomainEvents();
+                return current;
+            });
+            // Las respuestas salen después del commit, con los IDs ya asignados
+            batchSizes.record(batch.size());
+            completions.forEach(Runnable::run);
+            return course;
+        } catch (ResourceNotFoundException e) {
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+            return null;
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(e);
+                return null;
+            }
+            log.warn("Falló el grupo de {} inscripciones del curso {}; se reintentan de a una: {}",
+                    batch.size(), courseId, e.getMessage());
+            Course course = null;
+            for (PendingEnrollment pending : batch) {
+                course = processBatch(courseId, course, List.of(pending));
+            }
+            return course;
+        }
+    }
+
+    /**
+     * Aplica un pedido sobre el agregado. Los rechazos de negocio no abortan el grupo: el pedido
+     * se responde con su error y el resto sigue.
+     */
+    private Runnable enroll(Course course, PendingEnrollment pending) {
+        EnrollStudentInCourseCommand command = pending.command();
+        try {
+            Student student = studentRepository.findByAccountId(new AccountId(command.studentAccountId()))
+                    .orElseThrow(() -> new ResourceNotFoundException("Estudiante no encontrado con ID de cuenta: " + command.studentAccountId()));
+            Enrollment enrollment = course.enrollStudent(student, eligibilityChecker);
+            return () -> pending.result().complete(EnrollmentResultDTO.of(enrollment));
+        } catch (ResourceNotFoundException | IllegalStateException | IllegalArgumentException e) {
+            return () -> pending.result().completeExceptionally(e);
+        }
+    }
+
+    private record PendingEnrollment(EnrollStudentInCourseCommand command, CompletableFuture<EnrollmentResultDTO> result) {}
+
+    private static final class CourseLane {
+        private final Long courseId;
+        private final BlockingQueue<PendingEnrollment> queue;
+        private volatile boolean stale;
+
+        CourseLane(Long courseId, BlockingQueue<PendingEnrollment> queue) {
+            this.courseId = courseId;
+            this.queue = queue;
+        }
+
+        Long courseId() {
+            return courseId;
+        }
+
+        BlockingQueue<PendingEnrollment> queue() {
+            return queue;
+        }
+
+        void markStale() {
+            stale = true;
+        }
+
+        boolean takeStale() {
+            boolean wasStale = stale;
+            stale = false;
+            return wasStale;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.academia.infrastructure.enrollment;
+
+import com.academia.domain.model.valueobjects.academic.WaitlistEntry;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * Lista de espera de un curso en memoria: un montículo en el orden de promoción más un mapa de
+ * quién espera. Alta y promoción son O(log n).
+ * <p>
+ * Las bajas solo quitan al estudiante del mapa y dejan su pedido en el montículo, que se descarta
+ * al llegar a la cima; el montículo se reconstruye cuando los descartados superan a los vigentes.
+ * Así un retiro de la lista no recorre el montículo como lo haría {@link PriorityQueue#remove(Object)}.
+ */
+public class CourseWaitlistQueue {
+
+    private final PriorityQueue<WaitlistEntry> heap;
+    private final Map<Long, WaitlistEntry> waiting;
+
+    public CourseWaitlistQueue(Collection<WaitlistEntry> entries) {
+        this.heap = new PriorityQueue<>(Math.max(1, entries.size()));
+        this.waiting = new HashMap<>(entries.size() * 2);
+        for (WaitlistEntry entry : entries) {
+            add(entry);
+        }
+    }
+
+    /**
+     * @return {@code false} si el estudiante ya estaba esperando.
+     */
+    public synchronized boolean add(WaitlistEntry entry) {
+        if (waiting.putIfAbsent(entry.getStudentId().getValue(), entry) != null) {
+            return false;
+        }
+        heap.add(entry);
+        return true;
+    }
+
+    public synchronized Optional<WaitlistEntry> poll() {
+        WaitlistEntry head;
+        while ((head = heap.poll()) != null) {
+            // Un pedido dado de baja (o reemplazado por uno posterior del mismo estudiante) se descarta
+            if (waiting.remove(head.getStudentId().getValue(), head)) {
+                return Optional.of(head);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public synchronized boolean remove(long studentId) {
+        if (waiting.remove(studentId) == null) {
+            return false;
+        }
+        if (heap.size() > 2 * waiting.size() + 16) {
+            heap.clear();
+            heap.addAll(waiting.values());
+        }
+        return true;
+    }
+
+    public synchronized boolean contains(long studentId) {
+        return waiting.containsKey(studentId);
+    }
+
+    public synchronized int size() {
+        return waiting.size();
+    }
+}
@@ -0,0 +1,108 @@
+package com.academia.infrastructure.enrollment;
+
+import com.academia.domain.model.valueobjects.academic.WaitlistEntry;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.ports.out.CourseWaitlist;
+import com.academia.infrastructure.persistence.jdbc.JdbcCourseWaitlistRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Listas de espera ordenadas en memoria con {@code course_waitlist} como respaldo.
+ * <p>
+ * La lista de un curso se carga de la tabla la primera vez que se usa y después cada alta o
+ * promoción cuesta O(log n) más una sentencia por fila, sin ORDER BY sobre la tabla. Los cambios
+ * en memoria se hacen en el momento; si la transacción se revierte, la lista del curso se descarta
+ * y se vuelve a cargar de la tabla, que ya no tiene el cambio.
+ * <p>
+ * Con varios nodos, la tabla evita que dos promuevan al mismo estudiante, pero un nodo no ve las
+ * altas de otro hasta recargar la lista: como con el escritor único, conviene enrutar cada curso
+ * siempre al mismo nodo.
+ */
+@Slf4j
+@Component
+public class InMemoryCourseWaitlist implements CourseWaitlist {
+
+    private final JdbcCourseWaitlistRepository repository;
+    private final Cache<Long, CourseWaitlistQueue> queues;
+
+    public InMemoryCourseWaitlist(JdbcCourseWaitlistRepository repository,
+                                  @Value("${academia.enrollment.waitlist.idle-expiration:6h}") Duration idleExpiration,
+                                  MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.queues = Caffeine.newBuilder()
+                .expireAfterAccess(idleExpiration)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, queues, "waitlist");
+    }
+
+    @Override
+    public boolean add(WaitlistEntry entry) {
+        long courseId = entry.getCourseId().getValue();
+        CourseWaitlistQueue queue = queueFor(courseId);
+        if (queue.contains(entry.getStudentId().getValue()) || !repository.insert(entry)) {
+            return false;
+        }
+        discardOnRollback(courseId);
+        queue.add(entry);
+        return true;
+    }
+
+    @Override
+    public Optional<WaitlistEntry> pollNext(CourseId courseId) {
+        CourseWaitlistQueue queue = queueFor(courseId.getValue());
+        discardOnRollback(courseId.getValue());
+        Optional<WaitlistEntry> next;
+        while ((next = queue.poll()).isPresent()) {
+            if (repository.delete(courseId.getValue(), next.get().getStudentId().getValue())) {
+                return next;
+            }
+            // Otra transacción ya lo promovió o lo dio de baja: se sigue con el siguiente
+            log.debug("El pedido del estudiante {} ya no estaba en la lista del curso {}",
+                    next.get().getStudentId().getValue(), courseId.getValue());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean remove(CourseId courseId, AccountId studentId) {
+        CourseWaitlistQueue queue = queueFor(courseId.getValue());
+        discardOnRollback(courseId.getValue());
+        boolean removedInMemory = queue.remove(studentId.getValue());
+        return repository.delete(courseId.getValue(), studentId.getValue()) || removedInMemory;
+    }
+
+    @Override
+    public int size(CourseId courseId) {
+        return queueFor(courseId.getValue()).size();
+    }
+
+    private CourseWaitlistQueue queueFor(long courseId) {
+        return queues.get(courseId, id -> new CourseWaitlistQueue(repository.loadCourse(id)));
+    }
+
+    private void discardOnRollback(long courseId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        queues.invalidate(courseId);
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.academia.infrastructure.events;
+
+import com.academia.domain.model.events.DomainEvent;
+import com.academia.domain.ports.out.DomainEventPublisher;
+import com.academia.infrastructure.config.AsyncEventDispatchProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Publica los eventos de dominio fuera del hilo del pedido.
+ * <p>
+ * Dentro de una transacción, los eventos se retienen hasta el commit y se descartan si se
+ * revierte; fuera de ella se encolan en el momento. Cada tipo de evento tiene una cola acotada
+ * ({@code queue-capacity}) y como mucho {@code concurrency} hilos virtuales despachándola, así un
+ * listener lento solo frena a los eventos de su tipo. Si la cola sigue llena después de
+ * {@code offer-timeout}, quien publica espera a que ese evento se despache: el productor se frena
+ * en lugar de perder eventos o acumularlos sin límite.
+ * <p>
+ * Con {@code concurrency} 1 el tipo se despacha en el orden de publicación, que es lo que necesitan
+ * los listeners que aplican el último estado de un agregado (notas, marcas de asistencia). En esos
+ * tipos, con la cola llena, quien publica espera un lugar en ella en vez de despachar el evento él
+ * mismo, porque eso lo adelantaría a los que ya estaban encolados.
+ * <p>
+ * Los listeners corren sin transacción, en paralelo con los de otros eventos del mismo tipo: los
+ * {@code @TransactionalEventListener} necesitan {@code fallbackExecution = true}. Un listener que
+ * falla ya no revierte el caso de uso; el error se registra y se cuenta en
+ * {@code academia.events.failed}. Los eventos encolados se despachan antes de cerrar la aplicación,
+ * hasta {@code shutdown-timeout}.
+ */
+@Slf4j
+public class AsyncDomainEventPublisher implements DomainEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final AsyncEventDispatchProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final Map<Class<?>, Lane> lanes = new ConcurrentHashMap<>();
+    private volatile boolean running = true;
+
+    public AsyncDomainEventPublisher(ApplicationEventPublisher applicationEventPublisher,
+                                     AsyncEventDispatchProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("domain-events-", 0).factory());
+    }
+
+    @Override
+    public void publish(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        // El llamador puede limpiar la lista del agregado antes del commit
+        List<DomainEvent> released = List.copyOf(events);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    released.forEach(AsyncDomainEventPublisher.this::enqueue);
+                }
+            });
+        } else {
+            released.forEach(this::enqueue);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        executor.shutdown();
+        if (!executor.awaitTermination(properties.shutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            int queued = lanes.values().stream().mapToInt(lane -> lane.queue.size()).sum();
+            log.warn("Se cerró el despacho de eventos con {} eventos sin despachar", queued);
+        }
+    }
+
+    private void enqueue(DomainEvent event) {
+        Lane lane = lanes.computeIfAbsent(event.getClass(), this::createLane);
+        PendingEvent pending = new PendingEvent(event, System.nanoTime());
+        if (!running) {
+            dispatchAndWait(lane, pending);
+            return;
+        }
+
+        boolean queued;
+        try {
+            queued = lane.queue.offer(pending, properties.offerTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            // Cola llena: quien publica espera el despacho y así deja de producir mientras tanto
+            lane.backpressure.increment();
+            if (!lane.isOrdered() || !awaitPlaceInQueue(lane, pending)) {
+                dispatchAndWait(lane, pending);
+                return;
+            }
+        }
+        signal(lane);
+    }
+
+    private boolean awaitPlaceInQueue(Lane lane, PendingEvent pending) {
+        try {
+            lane.queue.put(pending);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Arranca un despachador si hay eventos en cola y el tipo todavía no llegó a su límite.
+     */
+    private void signal(Lane lane) {
+        while (!lane.queue.isEmpty()) {
+            int active = lane.active.get();
+            if (active >= lane.concurrency) {
+                return;
+            }
+            if (lane.active.compareAndSet(active, active + 1)) {
+                try {
+                    executor.execute(() -> drain(lane));
+                } catch (RejectedExecutionException e) {
+                    // La aplicación se está cerrando: se vacía la cola en este hilo
+                    drain(lane);
+                }
+                return;
+            }
+        }
+    }
+
+    private void drain(Lane lane) {
+        try {
+            PendingEvent pending;
+            while ((pending = lane.queue.poll()) != null) {
+                dispatch(lane, pending);
+            }
+        } finally {
+            lane.active.decrementAndGet();
+            // Un evento encolado entre el último poll y la salida no debe quedar esperando
+            signal(lane);
+        }
+    }
+
+    /**
+     * Despacha en un hilo aparte y lo espera. {@link #enqueue} puede correr dentro de
+     * {@code afterCommit}, donde un {@code @TransactionalEventListener} se registraría en la
+     * transacción que ya terminó y nunca se ejecutaría.
+     */
+    private void dispatchAndWait(Lane lane, PendingEvent pending) {
+        Thread dispatcher = Thread.ofVirtual().name("domain-events-inline").start(() -> dispatch(lane, pending));
+        try {
+            dispatcher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void dispatch(Lane lane, PendingEvent pending) {
+        try {
+            log.debug("Despachando evento de dominio: {}", lane.type);
+            applicationEventPublisher.publishEvent(pending.event());
+        } catch (RuntimeException e) {
+            lane.failed.increment();
+            log.error("Falló un listener del evento {} ({})", lane.type, pending.event().getEventId(), e);
+        } finally {
+            lane.latency.record(System.nanoTime() - pending.enqueuedAt(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Lane createLane(Class<?> eventClass) {
+        String type = eventClass.getSimpleName();
+        Lane lane = new Lane(type, Math.max(1, properties.concurrencyFor(type)),
+                new ArrayBlockingQueue<>(Math.max(1, properties.queueCapacity())),
+                Timer.builder("academia.events.dispatch.latency")
+                        .description("Tiempo desde que el evento se libera hasta que terminan sus listeners")
+                        .tag("type", type)
+                        .register(meterRegistry),
+                Counter.builder("academia.events.backpressure")
+                        .description("Eventos que hicieron esperar a quien publica por tener la cola llena")
+                        .tag("type", type)
+                        .register(meterRegistry),
+                Counter.builder("academia.events.failed")
+                        .description("Eventos con algún listener fallido")
+                        .tag("type", type)
+                        .register(meterRegistry));
+        Gauge.builder("academia.events.queue.depth", lane.queue, BlockingQueue::size)
+                .description("Eventos en cola esperando un despachador")
+                .tag("type", type)
+                .register(meterRegistry);
+        return lane;
+    }
+
+    private record PendingEvent(DomainEvent event, long enqueuedAt) {
+    }
+
+    private static final class Lane {
+        private final String type;
+        private final int concurrency;
+        private final BlockingQueue<PendingEvent> queue;
+        private final AtomicInteger active = new AtomicInteger();
+        private final Timer latency;
+        private final Counter backpressure;
+        private final Counter failed;
+
+        private Lane(String type, int concurrency, BlockingQueue<PendingEvent> queue,
+                     Timer latency, Counter backpressure, Counter failed) {
+            this.type = type;
+            this.concurrency = concurrency;
+            this.queue = queue;
+            this.latency = latency;
+            this.backpressure = backpressure;
+            this.failed = failed;
+        }
+
+        private boolean isOrdered() {
+            return concurrency == 1;
+        }
+    }
+}
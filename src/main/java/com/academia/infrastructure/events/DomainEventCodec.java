@@ -0,0 +1,55 @@
+package com.academia.infrastructure.events;
+
+import com.academia.domain.model.events.DomainEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.ConstructorDetector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serializa en JSON los eventos de dominio para la bandeja de salida, cuando el tipo no tiene
+ * formato binario en {@code BinaryDomainEventCodec}. Los eventos son records y sus IDs
+ * son value objects de un solo campo, así que se leen siempre por el constructor con nombres de
+ * propiedad (sin eso Jackson trataría {@code AccountId(Long)} como delegante).
+ * <p>
+ * El tipo guardado es el nombre de la clase: renombrar o mover un evento deja sin decodificar
+ * las filas que todavía no se despacharon.
+ */
+@Component
+public class DomainEventCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public DomainEventCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper.copy().setConstructorDetector(ConstructorDetector.USE_PROPERTIES_BASED);
+    }
+
+    public String typeOf(DomainEvent event) {
+        return event.getClass().getName();
+    }
+
+    public String encode(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el evento: " + event.getClass().getSimpleName(), e);
+        }
+    }
+
+    public DomainEvent decode(String type, String payload) {
+        Class<?> eventClass;
+        try {
+            eventClass = Class.forName(type);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Tipo de evento desconocido: " + type, e);
+        }
+        if (!DomainEvent.class.isAssignableFrom(eventClass)) {
+            throw new IllegalStateException("El tipo guardado no es un evento de dominio: " + type);
+        }
+        try {
+            return (DomainEvent) objectMapper.readValue(payload, eventClass);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo deserializar el evento: " + type, e);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.academia.infrastructure.events;
+
+import com.academia.domain.model.events.DomainEvent;
+import com.academia.infrastructure.events.binary.BinaryDomainEventCodec;
+import com.academia.infrastructure.persistence.jdbc.JdbcDomainEventOutboxRepository;
+import com.academia.infrastructure.persistence.jdbc.JdbcDomainEventOutboxRepository.OutboxMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Despacha los eventos de {@code domain_event_outbox} a los listeners de Spring.
+ * <p>
+ * Cada {@code poll-interval} toma lotes de hasta {@code batch-size} filas pendientes con
+ * {@code FOR UPDATE SKIP LOCKED}, publica cada evento con {@link ApplicationEventPublisher} y marca
+ * el lote como publicado en la misma transacción. Varios nodos pueden correr el proceso a la vez:
+ * cada uno se salta las filas que otro tiene tomadas, y los listeners corren en el nodo que tomó
+ * el lote. El orden de alta se respeta dentro de un lote, no entre nodos.
+ * <p>
+ * La entrega es al menos una vez: si el nodo cae después de despachar y antes del commit, el lote
+ * se vuelve a despachar, así que los listeners deben tolerar repetidos (el ID del evento no cambia).
+ * Si un listener falla, el evento suma un intento y queda para la próxima pasada; tras
+ * {@code max-attempts} deja de tomarse y queda en la tabla con su último error. Los listeners de
+ * estos eventos ya no corren dentro de la transacción del caso de uso sino después, con el retraso
+ * que mide {@code academia.outbox.lag}.
+ */
+@Slf4j
+@Component
+public class DomainEventOutboxRelay {
+
+    private final JdbcDomainEventOutboxRepository repository;
+    private final DomainEventCodec codec;
+    private final BinaryDomainEventCodec binaryCodec;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean pollingEnabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retention;
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter relayedCounter;
+    private final Counter failedCounter;
+    private final Timer lagTimer;
+
+    public DomainEventOutboxRelay(JdbcDomainEventOutboxRepository repository,
+                                  DomainEventCodec codec,
+                                  BinaryDomainEventCodec binaryCodec,
+                                  ApplicationEventPublisher applicationEventPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${academia.outbox.relay.enabled:true}") boolean pollingEnabled,
+                                  @Value("${academia.outbox.batch-size:200}") int batchSize,
+                                  @Value("${academia.outbox.max-attempts:10}") int maxAttempts,
+                                  @Value("${academia.outbox.retention:7d}") Duration retention,
+                                  MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.codec = codec;
+        this.binaryCodec = binaryCodec;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pollingEnabled = pollingEnabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = maxAttempts;
+        this.retention = retention;
+
+        this.relayedCounter = Counter.builder("academia.outbox.relayed")
+                .description("Eventos despachados desde la bandeja de salida")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("academia.outbox.failed")
+                .description("Intentos de despacho fallidos")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("academia.outbox.lag")
+                .description("Tiempo entre el alta del evento en la bandeja y su despacho")
+                .register(meterRegistry);
+        Gauge.builder("academia.outbox.backlog", backlog, AtomicLong::get)
+                .description("Eventos pendientes de despacho en la última pasada")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${academia.outbox.poll-interval:PT0.5S}")
+    public void poll() {
+        if (pollingEnabled) {
+            relayPending();
+        }
+    }
+
+    /**
+     * Despacha lotes mientras vengan completos. Cada pasada avanza por ID, así un evento que falla
+     * no se reintenta hasta la pasada siguiente.
+     * @return Eventos despachados.
+     */
+    public int relayPending() {
+        int relayed = 0;
+        long afterId = 0;
+        BatchResult result;
+        do {
+            result = relayBatch(afterId);
+            relayed += result.relayed();
+            afterId = result.lastId();
+        } while (result.claimed() == batchSize);
+        backlog.set(repository.countPending(maxAttempts));
+        return relayed;
+    }
+
+    @Scheduled(fixedDelayString = "${academia.outbox.cleanup-interval:PT1H}")
+    public void purgePublished() {
+        if (!pollingEnabled) {
+            return;
+        }
+        int deleted = repository.deletePublishedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Se borraron {} eventos publicados de la bandeja de salida", deleted);
+        }
+    }
+
+    private BatchResult relayBatch(long afterId) {
+        List<Long> claimed = new ArrayList<>(batchSize);
+        try {
+            BatchResult result = transactionTemplate.execute(status -> dispatch(afterId, claimed));
+            relayedCounter.increment(result.relayed());
+            failedCounter.increment(result.claimed() - result.relayed());
+            return result;
+        } catch (RuntimeException e) {
+            // Un listener que se unió a la transacción y la dejó marcada para revertir: el lote
+            // completo vuelve a quedar pendiente y cada evento suma un intento
+            log.warn("Falló la transacción de un lote de {} eventos de la bandeja de salida: {}", claimed.size(), e.getMessage());
+            if (!claimed.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status ->
+                        claimed.forEach(id -> repository.markFailed(id, e.toString())));
+                failedCounter.increment(claimed.size());
+            }
+            return new BatchResult(0, 0, claimed.isEmpty() ? afterId : claimed.get(claimed.size() - 1));
+        }
+    }
+
+    private BatchResult dispatch(long afterId, List<Long> claimed) {
+        List<OutboxMessage> batch = repository.claimPending(afterId, batchSize, maxAttempts);
+        List<Long> published = new ArrayList<>(batch.size());
+        for (OutboxMessage message : batch) {
+            claimed.add(message.id());
+            try {
+                applicationEventPublisher.publishEvent(decode(message));
+                published.add(message.id());
+                lagTimer.record(Duration.between(message.createdAt(), LocalDateTime.now()));
+            } catch (RuntimeException e) {
+                log.warn("Falló el despacho del evento {} ({}): {}", message.id(), message.eventType(), e.getMessage());
+                repository.markFailed(message.id(), e.toString());
+            }
+        }
+        repository.markPublished(published, LocalDateTime.now());
+        long lastId = batch.isEmpty() ? afterId : batch.get(batch.size() - 1).id();
+        return new BatchResult(batch.size(), published.size(), lastId);
+    }
+
+    private DomainEvent decode(OutboxMessage message) {
+        if (message.binaryPayload() != null) {
+            return binaryCodec.decode(message.binaryPayload());
+        }
+        return codec.decode(message.eventType(), message.payload());
+    }
+
+    private record BatchResult(int claimed, int relayed, long lastId) {
+    }
+}
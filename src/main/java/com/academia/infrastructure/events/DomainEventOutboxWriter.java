@@ -0,0 +1,52 @@
+package com.academia.infrastructure.events;
+
+import com.academia.domain.model.events.DomainEvent;
+import com.academia.domain.ports.out.DomainEventOutbox;
+import com.academia.infrastructure.events.binary.BinaryDomainEventCodec;
+import com.academia.infrastructure.persistence.jdbc.JdbcDomainEventOutboxRepository;
+import com.academia.infrastructure.persistence.jdbc.JdbcDomainEventOutboxRepository.NewOutboxMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Escribe los eventos en {@code domain_event_outbox} con la transacción del caso de uso; los
+ * despacha {@link DomainEventOutboxRelay}. Fuera de una transacción falla en lugar de escribir
+ * filas que no acompañan a ningún cambio. Los tipos con esquema binario se guardan en ese formato
+ * y el resto en JSON.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DomainEventOutboxWriter implements DomainEventOutbox {
+
+    private final JdbcDomainEventOutboxRepository repository;
+    private final DomainEventCodec codec;
+    private final BinaryDomainEventCodec binaryCodec;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<NewOutboxMessage> messages = events.stream()
+                .map(this::toMessage)
+                .toList();
+        repository.insertAll(messages, LocalDateTime.now());
+        log.debug("{} eventos de dominio agregados a la bandeja de salida", messages.size());
+    }
+
+    private NewOutboxMessage toMessage(DomainEvent event) {
+        String eventId = event.getEventId().toString();
+        if (binaryCodec.supports(event)) {
+            return new NewOutboxMessage(eventId, codec.typeOf(event), null, binaryCodec.encode(event), event.getOccurredOn());
+        }
+        return new NewOutboxMessage(eventId, codec.typeOf(event), codec.encode(event), null, event.getOccurredOn());
+    }
+}
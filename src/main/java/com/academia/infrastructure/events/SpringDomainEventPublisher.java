@@ -18,7 +18,7 @@ public class SpringDomainEventPublisher implements DomainEventPublisher {
     @Override
     public void publish(List<DomainEvent> events) {
         events.forEach(event -> {
-            log.info("Publishing domain event: {}", event.getClass().getSimpleName());
+            log.debug("Publishing domain event: {}", event.getClass().getSimpleName());
             applicationEventPublisher.publishEvent(event);
         });
     }
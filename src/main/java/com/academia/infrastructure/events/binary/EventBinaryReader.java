@@ -0,0 +1,107 @@
+package com.academia.infrastructure.events.binary;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Lectura de los campos escritos por {@link EventBinaryWriter}, directamente sobre el arreglo
+ * recibido. Un payload truncado o mal formado termina en {@link IllegalStateException}.
+ */
+public final class EventBinaryReader {
+
+    private final byte[] data;
+    private int position;
+
+    public EventBinaryReader(byte[] data) {
+        this.data = data;
+    }
+
+    public int readByte() {
+        require(1);
+        return data[position++] & 0xFF;
+    }
+
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            require(1);
+            byte b = data[position++];
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Varint mal formado en la posición " + position);
+    }
+
+    public long readSignedVarLong() {
+        long raw = readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public int readVarInt() {
+        long value = readVarLong();
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Entero fuera de rango: " + Long.toUnsignedString(value));
+        }
+        return (int) value;
+    }
+
+    public Long readNullableId() {
+        long raw = readVarLong();
+        return raw == 0 ? null : raw - 1;
+    }
+
+    public Integer readNullableInt() {
+        long raw = readVarLong();
+        if (raw == 0) {
+            return null;
+        }
+        int zigzag = (int) (raw - 1);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    public Instant readInstant() {
+        long micros = readSignedVarLong();
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+    }
+
+    public UUID readUuid() {
+        require(16);
+        return new UUID(readFixedLong(), readFixedLong());
+    }
+
+    public String readNullableString() {
+        long raw = readVarLong();
+        if (raw == 0) {
+            return null;
+        }
+        if (raw - 1 > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Longitud de texto fuera de rango: " + (raw - 1));
+        }
+        int length = (int) (raw - 1);
+        require(length);
+        String value = new String(data, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public boolean isExhausted() {
+        return position == data.length;
+    }
+
+    private long readFixedLong() {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (data[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    private void require(int bytes) {
+        if (bytes > data.length - position) {
+            throw new IllegalStateException("Evento binario truncado: faltan " + (bytes - (data.length - position)) + " bytes");
+        }
+    }
+}
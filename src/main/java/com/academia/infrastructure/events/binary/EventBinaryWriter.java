@@ -0,0 +1,138 @@
+package com.academia.infrastructure.events.binary;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Escritura de los campos de un evento sobre un arreglo que crece a demanda. Se puede reutilizar
+ * con {@link #reset()} para codificar muchos eventos sin crear un buffer por evento.
+ * <p>
+ * Los enteros van como varint sin signo (7 bits por byte); los que pueden ser negativos, en
+ * zigzag. Los campos anulables reservan el 0 para {@code null} y guardan el valor más uno.
+ */
+public final class EventBinaryWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    public EventBinaryWriter() {
+        this(64);
+    }
+
+    public EventBinaryWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    public void reset() {
+        position = 0;
+    }
+
+    public int size() {
+        return position;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeSignedVarLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * IDs de base de datos: no negativos, y casi siempre de 3 a 5 bytes.
+     */
+    public void writeNullableId(Long id) {
+        if (id == null) {
+            writeVarLong(0);
+            return;
+        }
+        if (id < 0) {
+            throw new IllegalArgumentException("Un ID no puede ser negativo: " + id);
+        }
+        // Sin signo: Long.MAX_VALUE + 1 sigue siendo representable
+        writeVarLong(id + 1);
+    }
+
+    public void writeNullableInt(Integer value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        int v = value;
+        writeVarLong((((v << 1) ^ (v >> 31)) & 0xFFFFFFFFL) + 1);
+    }
+
+    /**
+     * Microsegundos desde la época: la misma precisión que las columnas {@code TIMESTAMP(6)}.
+     */
+    public void writeInstant(Instant instant) {
+        long micros = Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+        writeSignedVarLong(micros);
+    }
+
+    public void writeUuid(UUID uuid) {
+        ensureCapacity(16);
+        writeFixedLong(uuid.getMostSignificantBits());
+        writeFixedLong(uuid.getLeastSignificantBits());
+    }
+
+    public void writeNullableString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        int length = value.length();
+        if (isAscii(value)) {
+            // Caso habitual (subdominios, emails): un byte por carácter, sin pasar por getBytes
+            writeVarLong(length + 1L);
+            ensureCapacity(length);
+            for (int i = 0; i < length; i++) {
+                buffer[position++] = (byte) value.charAt(i);
+            }
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(utf8.length + 1L);
+        ensureCapacity(utf8.length);
+        System.arraycopy(utf8, 0, buffer, position, utf8.length);
+        position += utf8.length;
+    }
+
+    private void writeFixedLong(long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (position + bytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.academia.infrastructure.events.binary;
+
+import com.academia.domain.model.events.DomainEvent;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Tipos de evento con formato binario: cada uno tiene una etiqueta numérica permanente, la versión
+ * actual de su esquema y cómo escribir y leer sus campos propios (el ID y la fecha del evento los
+ * escribe {@link BinaryDomainEventCodec}).
+ * <p>
+ * Una etiqueta nunca se reutiliza ni se renumera: identifica el tipo en los payloads ya guardados.
+ * Para cambiar los campos de un tipo se sube su versión y el lector sigue aceptando las anteriores.
+ */
+public final class EventTypeRegistry {
+
+    @FunctionalInterface
+    public interface FieldWriter<E extends DomainEvent> {
+        void write(E event, EventBinaryWriter out);
+    }
+
+    @FunctionalInterface
+    public interface FieldReader<E extends DomainEvent> {
+        E read(EventBinaryReader in, int schemaVersion, UUID eventId, Instant occurredOn);
+    }
+
+    public record EventType<E extends DomainEvent>(int tag, Class<E> type, int schemaVersion,
+                                                   FieldWriter<E> writer, FieldReader<E> reader) {
+    }
+
+    private final Map<Class<?>, EventType<?>> byClass = new HashMap<>();
+    private EventType<?>[] byTag = new EventType<?>[32];
+
+    public <E extends DomainEvent> EventTypeRegistry register(int tag, Class<E> type, int schemaVersion,
+                                                              FieldWriter<E> writer, FieldReader<E> reader) {
+        if (tag <= 0 || schemaVersion <= 0) {
+            throw new IllegalArgumentException("La etiqueta y la versión de esquema deben ser positivas: " + type.getName());
+        }
+        if (byClass.containsKey(type) || (tag < byTag.length && byTag[tag] != null)) {
+            throw new IllegalArgumentException("Tipo o etiqueta ya registrados: " + type.getName() + " (" + tag + ")");
+        }
+        if (tag >= byTag.length) {
+            byTag = Arrays.copyOf(byTag, Math.max(byTag.length * 2, tag + 1));
+        }
+        EventType<E> eventType = new EventType<>(tag, type, schemaVersion, writer, reader);
+        byTag[tag] = eventType;
+        byClass.put(type, eventType);
+        return this;
+    }
+
+    public boolean contains(Class<?> type) {
+        return byClass.containsKey(type);
+    }
+
+    // Sin Optional: se consulta una vez por evento codificado o decodificado
+    EventType<?> typeOf(Class<?> type) {
+        return byClass.get(type);
+    }
+
+    EventType<?> typeOf(int tag) {
+        return tag > 0 && tag < byTag.length ? byTag[tag] : null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.academia.infrastructure.gradebook;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Promedio ponderado acumulado de las calificaciones de una inscripción.
+ * <p>
+ * Guarda la suma de (nota × peso), la suma de pesos y el aporte de cada calificación, así que
+ * crear o corregir una calificación cuesta O(1): se resta el aporte anterior y se suma el nuevo.
+ * Notas y pesos se llevan en centésimas como {@code long} (son DECIMAL(5,2) en la BD): las sumas
+ * son exactas y el resultado coincide siempre con recalcular desde cero, sin deriva de punto flotante.
+ */
+public class EnrollmentGradeAggregate {
+
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+    private long weightedSum;  // Σ nota × peso, en diezmilésimas
+    private long totalWeight;  // Σ peso, en centésimas
+
+    /**
+     * Crea o reemplaza el aporte de una calificación.
+     */
+    public synchronized void apply(long gradeId, BigDecimal grade, BigDecimal weight) {
+        Contribution next = new Contribution(toHundredths(grade), toHundredths(weight));
+        Contribution previous = contributions.put(gradeId, next);
+        if (previous != null) {
+            weightedSum -= previous.points() * previous.weight();
+            totalWeight -= previous.weight();
+        }
+        weightedSum += next.points() * next.weight();
+        totalWeight += next.weight();
+    }
+
+    /**
+     * @return La nota final con dos decimales, o {@code null} si la inscripción no tiene calificaciones.
+     */
+    public synchronized BigDecimal finalGrade() {
+        if (totalWeight == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(weightedSum).divide(BigDecimal.valueOf(totalWeight * 100), 2, RoundingMode.HALF_UP);
+    }
+
+    public synchronized int gradeCount() {
+        return contributions.size();
+    }
+
+    private static long toHundredths(BigDecimal value) {
+        return value.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private record Contribution(long points, long weight) {}
+}
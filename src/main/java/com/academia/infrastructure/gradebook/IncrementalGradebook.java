@@ -0,0 +1,125 @@
+package com.academia.infrastructure.gradebook;
+
+import com.academia.domain.model.events.GradeEvents;
+import com.academia.domain.model.valueobjects.academic.WeightedGrade;
+import com.academia.infrastructure.persistence.jdbc.JdbcGradebookRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mantiene {@code enrollments.final_grade} a partir de las calificaciones sin recalcular promedios.
+ * <p>
+ * Cada inscripción tiene en memoria su acumulado ponderado; el primer evento de una inscripción
+ * lo carga de la BD y los siguientes lo actualizan en O(1). Las notas finales que cambian se
+ * escriben en lote cada pocos segundos, así que una planilla de 40 estudiantes corregida varias
+ * veces termina en un solo UPDATE por inscripción y ventana.
+ * <p>
+ * Si la escritura falla, las inscripciones quedan pendientes para la próxima ventana. Los acumulados
+ * inactivos se descartan y se vuelven a cargar cuando hace falta.
+ */
+@Slf4j
+@Component
+public class IncrementalGradebook {
+
+    private final JdbcGradebookRepository repository;
+    private final Cache<Long, EnrollmentGradeAggregate> aggregates;
+    // Inscripciones con nota final sin escribir; retiene su acumulado aunque la caché lo descarte
+    private final Map<Long, EnrollmentGradeAggregate> pending = new ConcurrentHashMap<>();
+
+    public IncrementalGradebook(JdbcGradebookRepository repository,
+                                @Value("${academia.gradebook.max-cached-enrollments:100000}") long maxCachedEnrollments,
+                                @Value("${academia.gradebook.idle-expiration:1h}") Duration idleExpiration,
+                                MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.aggregates = Caffeine.newBuilder()
+                .maximumSize(maxCachedEnrollments)
+                .expireAfterAccess(idleExpiration)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, aggregates, "gradebook");
+        Gauge.builder("academia.gradebook.pending", pending, Map::size)
+                .description("Inscripciones con nota final pendiente de escribir")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGradesRecorded(GradeEvents.GradesRecorded event) {
+        long enrollmentId = event.enrollmentId();
+        try {
+            // Si no estaba en memoria, la carga ya incluye las calificaciones del evento (confirmadas):
+            // aplicarlas otra vez reemplaza cada aporte por sí mismo
+            EnrollmentGradeAggregate aggregate = aggregates.get(enrollmentId, repository::loadAggregate);
+            for (WeightedGrade grade : event.grades()) {
+                aggregate.apply(grade.getGradeId(), BigDecimal.valueOf(grade.getGrade().getValue()), grade.getWeight());
+            }
+            pending.put(enrollmentId, aggregate);
+        } catch (RuntimeException e) {
+            // Las calificaciones ya están confirmadas: se descarta el acumulado para recargarlo completo la próxima vez
+            aggregates.invalidate(enrollmentId);
+            log.warn("No se pudo actualizar la nota final de la inscripción {}: {}", enrollmentId, e.getMessage());
+        }
+    }
+
+    /**
+     * Nota final según las calificaciones procesadas, aunque todavía no se haya escrito.
+     */
+    public Optional<BigDecimal> currentFinalGrade(long enrollmentId) {
+        EnrollmentGradeAggregate aggregate = pending.get(enrollmentId);
+        if (aggregate == null) {
+            aggregate = aggregates.get(enrollmentId, repository::loadAggregate);
+        }
+        return Optional.ofNullable(aggregate.finalGrade());
+    }
+
+    @Scheduled(fixedDelayString = "${academia.gradebook.flush-interval:PT5S}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // Se retira cada inscripción antes de leer su nota: un evento posterior la vuelve a marcar
+        Map<Long, EnrollmentGradeAggregate> batch = new HashMap<>();
+        for (Long enrollmentId : new ArrayList<>(pending.keySet())) {
+            EnrollmentGradeAggregate aggregate = pending.remove(enrollmentId);
+            if (aggregate != null) {
+                batch.put(enrollmentId, aggregate);
+            }
+        }
+        Map<Long, BigDecimal> finalGrades = new HashMap<>();
+        batch.forEach((enrollmentId, aggregate) -> finalGrades.put(enrollmentId, aggregate.finalGrade()));
+
+        try {
+            repository.updateFinalGrades(finalGrades);
+            log.debug("Notas finales actualizadas: {} inscripciones", finalGrades.size());
+        } catch (RuntimeException e) {
+            batch.forEach(pending::putIfAbsent);
+            log.warn("No se pudieron escribir {} notas finales; se reintentará: {}", finalGrades.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.warn("Quedaron {} notas finales sin escribir; se recalcularán con la próxima calificación de cada inscripción",
+                    pending.size());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.academia.infrastructure.imports;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Estado de una importación en curso o terminada. Los contadores se actualizan desde el hilo
+ * de la importación, que los vuelca en {@code student_import_jobs} al terminar cada bloque; las
+ * consultas de progreso leen esa fila, así que responden desde cualquier nodo.
+ */
+@Getter
+public class StudentImportJob {
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final String id;
+    private final Long organizationId;
+    private final Path sourceFile;
+    private final Path errorFile;
+    private final long sourceSize;
+    private final LocalDateTime createdAt;
+
+    private volatile Status status = Status.QUEUED;
+    private volatile LocalDateTime finishedAt;
+    private volatile String failureReason;
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicInteger processedRows = new AtomicInteger();
+    private final AtomicInteger registeredRows = new AtomicInteger();
+    private final AtomicInteger rejectedRows = new AtomicInteger();
+
+    StudentImportJob(String id, Long organizationId, Path sourceFile, Path errorFile, long sourceSize) {
+        this.id = id;
+        this.organizationId = organizationId;
+        this.sourceFile = sourceFile;
+        this.errorFile = errorFile;
+        this.sourceSize = sourceSize;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // Constructor de reconstitución desde la persistencia: el archivo de origen solo existe
+    // en el nodo que corre la importación
+    public StudentImportJob(String id, Long organizationId, Path errorFile, long sourceSize, LocalDateTime createdAt,
+                            Status status, LocalDateTime finishedAt, String failureReason, long bytesRead,
+                            int processedRows, int registeredRows, int rejectedRows) {
+        this.id = id;
+        this.organizationId = organizationId;
+        this.sourceFile = null;
+        this.errorFile = errorFile;
+        this.sourceSize = sourceSize;
+        this.createdAt = createdAt;
+        this.status = status;
+        this.finishedAt = finishedAt;
+        this.failureReason = failureReason;
+        this.bytesRead.set(bytesRead);
+        this.processedRows.set(processedRows);
+        this.registeredRows.set(registeredRows);
+        this.rejectedRows.set(rejectedRows);
+    }
+
+    void markRunning() {
+        status = Status.RUNNING;
+    }
+
+    void markCompleted() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    void markFailed(String reason) {
+        failureReason = reason;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    /**
+     * Avance estimado a partir de los bytes leídos del archivo, de 0 a 100.
+     */
+    public int getProgressPercent() {
+        if (status == Status.COMPLETED) {
+            return 100;
+        }
+        return sourceSize == 0 ? 0 : (int) Math.min(99, bytesRead.get() * 100 / sourceSize);
+    }
+}
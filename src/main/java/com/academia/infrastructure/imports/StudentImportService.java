@@ -0,0 +1,343 @@
+package com.academia.infrastructure.imports;
+
+import com.academia.application.exceptions.ResourceNotFoundException;
+import com.academia.domain.model.valueobjects.user.DNI;
+import com.academia.domain.model.valueobjects.user.Email;
+import com.academia.domain.model.valueobjects.user.Name;
+import com.academia.domain.ports.in.commands.BulkRegisterStudentsCommand;
+import com.academia.domain.ports.in.commands.BulkRegisterStudentsCommand.StudentRow;
+import com.academia.domain.ports.in.dtos.BulkRegistrationResultDTO;
+import com.academia.domain.ports.in.dtos.BulkRegistrationResultDTO.RowResultDTO;
+import com.academia.domain.ports.in.student.BulkRegisterStudentsUseCase;
+import com.academia.infrastructure.persistence.jdbc.JdbcStudentImportJobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Importación asíncrona de estudiantes desde un CSV.
+ * <p>
+ * El archivo se lee registro a registro y se procesa en bloques de {@value #CHUNK_SIZE} filas:
+ * cada bloque se valida en paralelo con los Value Objects del dominio, se filtran los duplicados
+ * del propio archivo y el resto se registra con {@link BulkRegisterStudentsUseCase}, que aplica
+ * la unicidad contra la BD y escribe el bloque en una transacción. La memoria queda acotada por
+ * el bloque en curso y los conjuntos de emails y legajos ya vistos.
+ * <p>
+ * Las filas rechazadas se escriben a medida en un CSV de errores descargable.
+ * <p>
+ * El estado de cada trabajo vive en {@code student_import_jobs} y el CSV de errores en
+ * {@code academia.import.error-directory}: con varios nodos ese directorio tiene que ser
+ * compartido, así el progreso y la descarga se responden desde cualquiera, también después de
+ * un reinicio. El archivo de origen, en cambio, solo está en el nodo que recibió la subida, y
+ * si ese nodo se detiene el trabajo se da por fallido.
+ */
+@Component
+@Slf4j
+public class StudentImportService {
+
+    static final int CHUNK_SIZE = 500;
+    static final List<String> REQUIRED_COLUMNS = List.of(
+            "first_name", "last_name", "email", "birth_date", "student_id_number", "enrollment_date", "grade_level");
+
+    static final String ABANDONED_REASON = "La importación se interrumpió antes de terminar; vuelva a subir el archivo.";
+
+    private final BulkRegisterStudentsUseCase bulkRegisterStudentsUseCase;
+    private final JdbcStudentImportJobRepository jobRepository;
+    private final ExecutorService executor;
+    private final Path errorDirectory;
+    private final Duration retention;
+
+    public StudentImportService(BulkRegisterStudentsUseCase bulkRegisterStudentsUseCase,
+                                JdbcStudentImportJobRepository jobRepository,
+                                @Value("${academia.import.max-concurrent-jobs:2}") int maxConcurrentJobs,
+                                @Value("${academia.import.error-directory:${java.io.tmpdir}}") Path errorDirectory,
+                                @Value("${academia.import.retention:1h}") Duration retention) throws IOException {
+        this.bulkRegisterStudentsUseCase = bulkRegisterStudentsUseCase;
+        this.jobRepository = jobRepository;
+        this.executor = Executors.newFixedThreadPool(maxConcurrentJobs);
+        this.errorDirectory = Files.createDirectories(errorDirectory);
+        this.retention = retention;
+    }
+
+    /**
+     * Encola la importación. El archivo pasa a ser propiedad del servicio, que lo borra al terminar.
+     */
+    public StudentImportJob start(Long organizationId, Path sourceFile) throws IOException {
+        String jobId = UUID.randomUUID().toString();
+        Path errorFile = Files.createTempFile(errorDirectory, "student-import-errors-", ".csv");
+        StudentImportJob job = new StudentImportJob(jobId, organizationId, sourceFile, errorFile, Files.size(sourceFile));
+        jobRepository.insert(job);
+        executor.submit(() -> run(job));
+        return job;
+    }
+
+    /**
+     * Estado guardado del trabajo, sea de este nodo o de otro.
+     */
+    public Optional<StudentImportJob> findJob(String jobId) {
+        return jobRepository.findById(jobId);
+    }
+
+    private void run(StudentImportJob job) {
+        if (!jobRepository.markRunning(job.getId(), LocalDateTime.now())) {
+            log.warn("Importación {} descartada: ya no estaba en cola", job.getId());
+            deleteQuietly(job.getSourceFile());
+            return;
+        }
+        job.markRunning();
+        long start = System.nanoTime();
+        try (InputStream in = new CountingInputStream(Files.newInputStream(job.getSourceFile()), job);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+             Writer errors = Files.newBufferedWriter(job.getErrorFile(), StandardCharsets.UTF_8)) {
+
+            errors.write("row_number,email,student_id_number,error\r\n");
+            CsvRecordReader csv = new CsvRecordReader(reader);
+            Map<String, Integer> columns = readHeader(csv.next());
+
+            Set<String> seenEmails = new HashSet<>();
+            Set<String> seenStudentIds = new HashSet<>();
+            List<RawRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            int rowNumber = 1; // La cabecera es la fila 1, como en la hoja de cálculo
+            List<String> fields;
+            while ((fields = csv.next()) != null) {
+                rowNumber++;
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    continue; // Línea vacía, habitual al final del archivo
+                }
+                chunk.add(new RawRow(rowNumber, fields));
+                if (chunk.size() == CHUNK_SIZE) {
+                    processChunk(job, columns, chunk, seenEmails, seenStudentIds, errors);
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            processChunk(job, columns, chunk, seenEmails, seenStudentIds, errors);
+            job.markCompleted();
+            log.info("Importación {} de la organización {} terminada: {} registrados, {} rechazados en {} ms",
+                    job.getId(), job.getOrganizationId(), job.getRegisteredRows().get(), job.getRejectedRows().get(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (IllegalArgumentException | ResourceNotFoundException | IOException e) {
+            log.warn("Importación {} fallida: {}", job.getId(), e.getMessage());
+            job.markFailed(e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Error inesperado en la importación {}", job.getId(), e);
+            job.markFailed("Error inesperado: " + e.getMessage());
+        } finally {
+            deleteQuietly(job.getSourceFile()); // Solo se conserva el archivo de errores
+            saveFinished(job);
+        }
+    }
+
+    private void saveFinished(StudentImportJob job) {
+        try {
+            jobRepository.update(job, LocalDateTime.now());
+        } catch (RuntimeException e) {
+            // La fila queda en RUNNING y la limpieza la dará por abandonada
+            log.error("No se pudo guardar el estado final de la importación {}", job.getId(), e);
+        }
+    }
+
+    private Map<String, Integer> readHeader(List<String> header) {
+        if (header == null) {
+            throw new IllegalArgumentException("El archivo está vacío.");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(c -> !columns.containsKey(c)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Faltan columnas obligatorias: " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    private void processChunk(StudentImportJob job, Map<String, Integer> columns, List<RawRow> chunk,
+                              Set<String> seenEmails, Set<String> seenStudentIds, Writer errors) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // 1. Validación en paralelo: solo CPU (Value Objects y fechas), sin estado compartido
+        List<ValidatedRow> validated = chunk.parallelStream()
+                .map(raw -> validate(raw, columns))
+                .toList();
+
+        // 2. Duplicados dentro del archivo, en orden: gana la primera aparición
+        List<ValidatedRow> accepted = new ArrayList<>(validated.size());
+        for (ValidatedRow row : validated) {
+            if (row.error() != null) {
+                reject(job, errors, row, row.error());
+            } else if (!seenEmails.add(row.normalizedEmail())) {
+                reject(job, errors, row, "El email está repetido en el archivo.");
+            } else if (!seenStudentIds.add(row.student().studentIdNumber())) {
+                reject(job, errors, row, "El legajo está repetido en el archivo.");
+            } else {
+                accepted.add(row);
+            }
+        }
+
+        // 3. Unicidad contra la BD y escritura del bloque
+        if (!accepted.isEmpty()) {
+            BulkRegistrationResultDTO result = bulkRegisterStudentsUseCase.registerStudents(new BulkRegisterStudentsCommand(
+                    job.getOrganizationId(), accepted.stream().map(ValidatedRow::student).toList()));
+            for (RowResultDTO rowResult : result.rows()) {
+                ValidatedRow row = accepted.get(rowResult.rowIndex());
+                if (rowResult.accountId() != null) {
+                    job.getRegisteredRows().incrementAndGet();
+                } else {
+                    reject(job, errors, row, rowResult.error());
+                }
+            }
+        }
+        job.getProcessedRows().addAndGet(chunk.size());
+        jobRepository.update(job, LocalDateTime.now());
+    }
+
+    private ValidatedRow validate(RawRow raw, Map<String, Integer> columns) {
+        String email = field(raw, columns, "email");
+        String studentIdNumber = field(raw, columns, "student_id_number");
+        try {
+            Name name = new Name(field(raw, columns, "first_name"), field(raw, columns, "last_name"));
+            Email validEmail = new Email(email);
+            String dni = field(raw, columns, "dni");
+            if (columns.containsKey("dni") && dni != null) {
+                new DNI(dni); // Se valida; el dominio todavía no persiste el DNI
+            }
+            StudentRow student = new StudentRow(name.getFirstName(), name.getLastName(), validEmail.value(),
+                    date(raw, columns, "birth_date"), studentIdNumber,
+                    date(raw, columns, "enrollment_date"), field(raw, columns, "grade_level"));
+            return new ValidatedRow(raw.rowNumber(), email, studentIdNumber, validEmail.value(), student, null);
+        } catch (IllegalArgumentException e) {
+            return new ValidatedRow(raw.rowNumber(), email, studentIdNumber, null, null, e.getMessage());
+        }
+    }
+
+    private static String field(RawRow raw, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= raw.fields().size()) {
+            return null;
+        }
+        String value = raw.fields().get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static LocalDate date(RawRow raw, Map<String, Integer> columns, String column) {
+        String value = field(raw, columns, column);
+        if (value == null) {
+            return null; // El registro masivo informa del campo obligatorio
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Fecha inválida en '" + column + "' (formato esperado AAAA-MM-DD): " + value);
+        }
+    }
+
+    private static void reject(StudentImportJob job, Writer errors, ValidatedRow row, String error) throws IOException {
+        job.getRejectedRows().incrementAndGet();
+        errors.write(row.rowNumber() + "," + csv(row.email()) + "," + csv(row.studentIdNumber()) + "," + csv(error) + "\r\n");
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    /**
+     * Los trabajos que no avanzan hace más de la retención se dan por fallidos, y se conservan
+     * una retención más para que el cliente vea el motivo. Cualquier nodo puede hacer la limpieza.
+     */
+    @Scheduled(fixedDelayString = "${academia.import.cleanup-interval:PT10M}")
+    public void removeExpiredJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime limit = now.minus(retention);
+        int abandoned = jobRepository.markAbandoned(limit, ABANDONED_REASON, now);
+        if (abandoned > 0) {
+            log.warn("Se dieron por fallidas {} importaciones sin avance desde {}", abandoned, limit);
+        }
+        List<StudentImportJob> expired = jobRepository.findFinishedBefore(limit);
+        expired.forEach(job -> deleteQuietly(job.getErrorFile()));
+        jobRepository.deleteAll(expired.stream().map(StudentImportJob::getId).toList());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("No se pudo borrar el archivo temporal {}: {}", path, e.getMessage());
+        }
+    }
+
+    private record RawRow(int rowNumber, List<String> fields) {}
+
+    private record ValidatedRow(int rowNumber, String email, String studentIdNumber, String normalizedEmail,
+                                StudentRow student, String error) {}
+
+    /**
+     * Cuenta los bytes leídos del archivo para estimar el progreso.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final StudentImportJob job;
+
+        CountingInputStream(InputStream in, StudentImportJob job) {
+            super(in);
+            this.job = job;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                job.getBytesRead().incrementAndGet();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                job.getBytesRead().addAndGet(n);
+            }
+            return n;
+        }
+    }
+}
@@ -1,28 +1,83 @@
 package com.academia.infrastructure.persistence.adapters;
 
 import com.academia.domain.model.aggregates.Course;
+import com.academia.domain.model.entities.Enrollment;
+import com.academia.domain.model.events.CourseEvents;
 import com.academia.domain.model.valueobjects.ids.CourseId;
 import com.academia.domain.ports.out.CourseRepository;
-// ... (Se necesitarían mappers y repositorios JPA para Course)
-import org.springframework.stereotype.Repository;
+import com.academia.infrastructure.persistence.jdbc.EnrollmentBatchWriter;
+import com.academia.infrastructure.persistence.jpa.mappers.CourseMapper;
+import com.academia.infrastructure.persistence.jpa.repositories.SpringCourseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
 import java.util.Optional;
 
-@Repository
+// @Component y no @Repository: la traducción de excepciones convertiría el IllegalStateException
+// de cupo agotado en InvalidDataAccessApiUsageException y el controlador respondería 500 en vez de 409.
+// Los repositorios de Spring Data y el NamedParameterJdbcTemplate ya traducen las suyas.
+@Component
+@RequiredArgsConstructor
 public class JpaCourseRepositoryAdapter implements CourseRepository {
-    // Esta es una implementación de esqueleto. Se necesitarían las entidades JPA,
-    // repositorios de Spring Data y mappers para que sea funcional.
+
+    private final SpringCourseRepository jpaRepository;
+    private final EnrollmentBatchWriter enrollmentBatchWriter;
+    private final CourseMapper mapper;
 
     @Override
     public Course save(Course course) {
-        // Lógica de mapeo y guardado
-        System.out.println("Simulating save for Course ID: " + course.getId());
+        if (course.getId() == null) {
+            // La creación de cursos requiere un course_code que el agregado aún no modela
+            throw new IllegalArgumentException("Solo se pueden guardar cursos existentes.");
+        }
+
+        // El cambio de profesor solo se escribe si el agregado lo registró como evento
+        boolean teacherChanged = course.getDomainEvents().stream()
+                .anyMatch(CourseEvents.TeacherAssignedToCourse.class::isInstance);
+        if (teacherChanged) {
+            jpaRepository.updateTeacher(course.getId().getValue(), course.getTeacherId().getValue());
+        }
+        boolean capacityChanged = course.getDomainEvents().stream()
+                .anyMatch(CourseEvents.CourseCapacityChanged.class::isInstance);
+        if (capacityChanged) {
+            jpaRepository.updateCapacity(course.getId().getValue(), course.getCapacity());
+        }
+
+        // Los retiros devuelven sus vacantes antes de reservar las de las inscripciones nuevas,
+        // así un estudiante promovido desde la lista de espera ocupa la vacante recién liberada
+        List<Enrollment> withdrawn = course.getDomainEvents().stream()
+                .filter(CourseEvents.StudentWithdrawnFromCourse.class::isInstance)
+                .map(event -> course.findEnrollment(((CourseEvents.StudentWithdrawnFromCourse) event).studentId()))
+                .flatMap(Optional::stream)
+                .filter(enrollment -> !enrollment.isNew())
+                .toList();
+        if (!withdrawn.isEmpty()) {
+            // Dos retiros simultáneos del mismo estudiante cargan la inscripción activa; solo el
+            // primero la cambia en la BD, y el otro se revierte entero en lugar de devolver otra vacante
+            int updated = enrollmentBatchWriter.updateStatuses(withdrawn);
+            if (updated < withdrawn.size()) {
+                throw new IllegalStateException("La inscripción ya no está activa.");
+            }
+            if (jpaRepository.releaseSeats(course.getId().getValue(), updated) == 0) {
+                throw new IllegalStateException("El contador de vacantes del curso es menor que sus inscripciones.");
+            }
+        }
+
+        // El agregado se cargó antes que las inscripciones concurrentes: el cupo se confirma en la
+        // BD con un UPDATE condicionado, y si no alcanza la transacción se revierte entera
+        List<Enrollment> newEnrollments = course.getNewEnrollments();
+        if (!newEnrollments.isEmpty() && jpaRepository.reserveSeats(course.getId().getValue(), newEnrollments.size()) == 0) {
+            throw new IllegalStateException("El curso no tiene vacantes.");
+        }
+
+        // Solo las inscripciones nuevas se insertan, en un único lote JDBC
+        enrollmentBatchWriter.insertAll(newEnrollments);
         return course;
     }
 
     @Override
     public Optional<Course> findById(CourseId courseId) {
-        // Lógica de búsqueda y mapeo
-        System.out.println("Simulating find for Course ID: " + courseId.getValue());
-        return Optional.empty();
+        return jpaRepository.findByIdWithEnrollments(courseId.getValue()).map(mapper::toDomain);
     }
-}
\ No newline at end of file
+}
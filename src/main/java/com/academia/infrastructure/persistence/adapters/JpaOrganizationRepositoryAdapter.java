@@ -26,8 +26,10 @@ public class JpaOrganizationRepositoryAdapter implements OrganizationRepository
         // Guardar en la base de datos
         OrganizationJpaEntity savedEntity = jpaRepository.save(jpaEntity);
 
-        // Convertir de vuelta a dominio
-        return mapper.toDomain(savedEntity);
+        // Convertir de vuelta a dominio; los eventos pendientes la acompañan con el ID asignado
+        Organization saved = mapper.toDomain(savedEntity);
+        saved.takePendingEventsFrom(organization);
+        return saved;
     }
 
     @Override
@@ -0,0 +1,68 @@
+package com.academia.infrastructure.persistence.adapters;
+
+import com.academia.domain.model.enums.AccountStatus;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.ports.in.dtos.StudentDetailsDTO;
+import com.academia.domain.ports.in.dtos.StudentSummaryDTO;
+import com.academia.domain.ports.out.StudentReadRepository;
+import com.academia.infrastructure.persistence.jpa.projections.StudentDetailsRow;
+import com.academia.infrastructure.persistence.jpa.projections.StudentSummaryRow;
+import com.academia.infrastructure.persistence.jpa.repositories.SpringStudentProfileRepository;
+import com.academia.infrastructure.persistence.jpa.repositories.SpringUserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class JpaStudentReadRepositoryAdapter implements StudentReadRepository {
+
+    private final SpringUserRepository userRepository;
+    private final SpringStudentProfileRepository studentProfileRepository;
+
+    @Override
+    public Optional<StudentDetailsDTO> findStudentDetails(AccountId accountId) {
+        return userRepository.findStudentDetailsRow(accountId.getValue()).map(this::toDTO);
+    }
+
+    @Override
+    public List<StudentSummaryDTO> findStudentsAfter(OrganizationId organizationId, long afterAccountId,
+                                                     String gradeLevel, AccountStatus accountStatus, int limit) {
+        return studentProfileRepository.findPageAfter(organizationId.getValue(), afterAccountId,
+                        gradeLevel, accountStatus, Limit.of(limit))
+                .stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    private StudentSummaryDTO toDTO(StudentSummaryRow row) {
+        return new StudentSummaryDTO(
+                row.accountId(),
+                row.firstName() + " " + row.lastName(),
+                row.email(),
+                row.studentIdNumber(),
+                row.currentGradeLevel(),
+                row.accountStatus().name()
+        );
+    }
+
+    private StudentDetailsDTO toDTO(StudentDetailsRow row) {
+        return new StudentDetailsDTO(
+                row.accountId(),
+                row.firstName() + " " + row.lastName(),
+                row.email(),
+                Period.between(row.birthDate(), LocalDate.now()).getYears(),
+                row.studentIdNumber(),
+                row.currentGradeLevel(),
+                row.enrollmentDate(),
+                row.accountStatus().name(),
+                List.of() // Los tutores aún no se persisten
+        );
+    }
+}
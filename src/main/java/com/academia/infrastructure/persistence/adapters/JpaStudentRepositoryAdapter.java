@@ -4,12 +4,17 @@ import com.academia.domain.model.entities.Student;
 import com.academia.domain.model.valueobjects.ids.AccountId;
 import com.academia.domain.model.valueobjects.ids.OrganizationId;
 import com.academia.domain.ports.out.StudentRepository;
+import com.academia.infrastructure.persistence.jpa.entities.StudentProfileJpaEntity;
 import com.academia.infrastructure.persistence.jpa.mappers.StudentMapper; // Necesitaremos este mapper
 import com.academia.infrastructure.persistence.jpa.repositories.SpringStudentProfileRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 @RequiredArgsConstructor
@@ -25,6 +30,20 @@ public class JpaStudentRepositoryAdapter implements StudentRepository {
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    public Student insert(Student student) {
+        var jpaEntity = mapper.toJpa(student);
+        jpaEntity.markNew();
+        return mapper.toDomain(jpaRepository.save(jpaEntity));
+    }
+
+    @Override
+    public List<Student> insertAll(List<Student> students) {
+        var jpaEntities = students.stream().map(mapper::toJpa).toList();
+        jpaEntities.forEach(StudentProfileJpaEntity::markNew);
+        return jpaRepository.saveAll(jpaEntities).stream().map(mapper::toDomain).toList();
+    }
+
     @Override
     public Optional<Student> findById(AccountId accountId) {
         return jpaRepository.findById(accountId.getValue()).map(mapper::toDomain);
@@ -39,4 +58,12 @@ public class JpaStudentRepositoryAdapter implements StudentRepository {
     public boolean existsByStudentIdNumber(OrganizationId orgId, String studentIdNumber) {
         return jpaRepository.existsByOrganizationIdAndStudentIdNumber(orgId.getValue(), studentIdNumber);
     }
+
+    @Override
+    public Set<String> findExistingStudentIdNumbers(OrganizationId orgId, Collection<String> studentIdNumbers) {
+        if (studentIdNumbers.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jpaRepository.findStudentIdNumbersIn(orgId.getValue(), studentIdNumbers));
+    }
 }
@@ -0,0 +1,38 @@
+package com.academia.infrastructure.persistence.adapters;
+
+import com.academia.domain.model.entities.Subject;
+import com.academia.domain.ports.out.SubjectRepository;
+import com.academia.infrastructure.persistence.jpa.entities.SubjectJpaEntity;
+import com.academia.infrastructure.persistence.jpa.mappers.CourseMapper;
+import com.academia.infrastructure.persistence.jpa.repositories.SpringSubjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class JpaSubjectRepositoryAdapter implements SubjectRepository {
+
+    private final SpringSubjectRepository jpaRepository;
+    private final CourseMapper mapper; // Ya sabe reconstruir Subject como parte de Course
+
+    @Override
+    public Subject save(Subject subject) {
+        // Si la materia ya existe se actualiza sobre la entidad cargada, para no perder
+        // columnas que el dominio no modela (is_active, credits)
+        SubjectJpaEntity jpaEntity = subject.getId() != null
+                ? jpaRepository.findById(subject.getId()).orElseGet(SubjectJpaEntity::new)
+                : new SubjectJpaEntity();
+
+        jpaEntity.setOrganizationId(subject.getOrganizationId().getValue());
+        jpaEntity.setName(subject.getName());
+        jpaEntity.setSubjectCode(subject.getSubjectCode());
+        jpaEntity.setGradeLevel(subject.getGradeLevel());
+
+        return mapper.toDomain(jpaRepository.save(jpaEntity));
+    }
+
+    @Override
+    public Subject findById(Long id) {
+        return jpaRepository.findById(id).map(mapper::toDomain).orElse(null);
+    }
+}
@@ -11,7 +11,12 @@ import com.academia.infrastructure.persistence.jpa.repositories.SpringUserReposi
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Repository // <-- Anotación clave que lo convierte en un Bean
 @RequiredArgsConstructor
@@ -25,7 +30,24 @@ public class JpaUserAccountRepositoryAdapter implements UserAccountRepository {
         UserJpaEntity jpaEntity = mapper.toJpa(userAccount);
         UserJpaEntity savedEntity = jpaRepository.save(jpaEntity);
         // Es importante re-mapear la respuesta para obtener el ID generado
-        return mapper.toAggregate(savedEntity);
+        UserAccount saved = mapper.toAggregate(savedEntity);
+        // Los eventos pendientes acompañan a la cuenta guardada, ya con el ID asignado
+        saved.takePendingEventsFrom(userAccount);
+        return saved;
+    }
+
+    @Override
+    public List<UserAccount> saveAll(List<UserAccount> userAccounts) {
+        List<UserJpaEntity> jpaEntities = userAccounts.stream().map(mapper::toJpa).toList();
+        // Los IDs se asignan por bloques al persistir; las inserciones se agrupan en lotes al hacer flush
+        List<UserJpaEntity> savedEntities = jpaRepository.saveAll(jpaEntities);
+        List<UserAccount> saved = new ArrayList<>(savedEntities.size());
+        for (int i = 0; i < savedEntities.size(); i++) {
+            UserAccount account = mapper.toAggregate(savedEntities.get(i));
+            account.takePendingEventsFrom(userAccounts.get(i));
+            saved.add(account);
+        }
+        return saved;
     }
 
     @Override
@@ -43,4 +65,15 @@ public class JpaUserAccountRepositoryAdapter implements UserAccountRepository {
     public boolean existsByEmail(OrganizationId organizationId, Email email) {
         return jpaRepository.existsByOrganizationIdAndEmail(organizationId.getValue(), email.value());
     }
+
+    @Override
+    public Set<Email> findExistingEmails(OrganizationId organizationId, Collection<Email> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        List<String> values = emails.stream().map(Email::value).toList();
+        return jpaRepository.findEmailsIn(organizationId.getValue(), values).stream()
+                .map(Email::new)
+                .collect(Collectors.toSet());
+    }
 }
@@ -0,0 +1,80 @@
+package com.academia.infrastructure.persistence.jdbc;
+
+import com.academia.domain.model.entities.Enrollment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Escribe inscripciones nuevas y cambios de estado mediante sentencias JDBC por lotes.
+ * Evita que JPA cargue y reescriba la colección completa de inscripciones de un curso.
+ */
+@Component
+@RequiredArgsConstructor
+public class EnrollmentBatchWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO enrollments (student_user_id, course_id, enrollment_date, status) " +
+            "VALUES (:studentId, :courseId, :enrollmentDate, :status)";
+
+    private static final String UPDATE_STATUS_SQL =
+            "UPDATE enrollments SET status = :status WHERE id = :id AND status = 'ACTIVE'";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserta las inscripciones en un único lote y asigna a cada una el ID generado.
+     */
+    public void insertAll(List<Enrollment> enrollments) {
+        if (enrollments.isEmpty()) {
+            return;
+        }
+
+        SqlParameterSource[] batch = enrollments.stream()
+                .map(enrollment -> new MapSqlParameterSource()
+                        .addValue("studentId", enrollment.getStudentId().getValue())
+                        .addValue("courseId", enrollment.getCourseId().getValue())
+                        .addValue("enrollmentDate", Timestamp.valueOf(enrollment.getEnrollmentDate()))
+                        .addValue("status", enrollment.getStatus().name()))
+                .toArray(SqlParameterSource[]::new);
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, keyHolder, new String[]{"id"});
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < enrollments.size(); i++) {
+            Number generatedId = (Number) keys.get(i).values().iterator().next();
+            enrollments.get(i).setId(generatedId.longValue());
+        }
+    }
+
+    /**
+     * Escribe el estado actual de inscripciones ya persistidas, en un único lote. Solo cambian las
+     * que siguen activas en la BD: si otra transacción ya la retiró, la fila queda como está.
+     * @return cuántas inscripciones cambiaron de estado.
+     */
+    public int updateStatuses(List<Enrollment> enrollments) {
+        if (enrollments.isEmpty()) {
+            return 0;
+        }
+
+        SqlParameterSource[] batch = enrollments.stream()
+                .map(enrollment -> new MapSqlParameterSource()
+                        .addValue("id", enrollment.getId())
+                        .addValue("status", enrollment.getStatus().name()))
+                .toArray(SqlParameterSource[]::new);
+        // Cuenta por fila: el driver debe informarla (en MySQL, sin rewriteBatchedStatements)
+        return (int) Arrays.stream(jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, batch))
+                .filter(updated -> updated > 0)
+                .count();
+    }
+}
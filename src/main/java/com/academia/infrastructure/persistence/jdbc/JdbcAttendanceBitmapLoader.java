@@ -0,0 +1,122 @@
+package com.academia.infrastructure.persistence.jdbc;
+
+import com.academia.domain.model.enums.AttendanceStatus;
+import com.academia.infrastructure.attendance.AttendanceBitmapIndex;
+import com.academia.infrastructure.attendance.EnrollmentAttendanceBitmaps;
+import com.academia.infrastructure.attendance.EnrollmentAttendanceBitmaps.EnrollmentContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Carga los bitmaps de asistencia desde {@code attendance_records} con un cursor de solo avance.
+ * <p>
+ * La reconstrucción completa recorre una fila por marca ordenada por inscripción, así que no
+ * materializa la tabla: cada fila enciende un bit en los bitmaps de la inscripción actual. Los
+ * perfiles de MySQL fijan el fetch size de streaming; por defecto se usa el del driver.
+ */
+@Component
+public class JdbcAttendanceBitmapLoader {
+
+    private static final String CONTEXT_COLUMNS =
+            "SELECT e.id AS enrollment_id, e.student_user_id, e.course_id, t.organization_id, t.start_date ";
+    private static final String CONTEXT_JOINS =
+            "FROM enrollments e " +
+            "JOIN courses c ON c.id = e.course_id " +
+            "JOIN academic_terms t ON t.id = c.academic_term_id ";
+
+    private static final String CONTEXTS_SQL = CONTEXT_COLUMNS + CONTEXT_JOINS + "WHERE e.id IN (:ids)";
+
+    // LEFT JOIN: una inscripción sin marcas también se indexa (tasa nula, racha cero)
+    private static final String FULL_LOAD_SQL =
+            CONTEXT_COLUMNS + ", a.session_date, a.status " + CONTEXT_JOINS +
+            "LEFT JOIN attendance_records a ON a.enrollment_id = e.id " +
+            "WHERE t.end_date >= ? " +
+            "ORDER BY e.id";
+
+    private static final String RECORDS_SQL =
+            "SELECT session_date, status FROM attendance_records WHERE enrollment_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public JdbcAttendanceBitmapLoader(DataSource dataSource,
+                                      @Value("${academia.attendance.bitmaps.fetch-size:0}") int fetchSize) {
+        // Plantilla propia: el fetch size de streaming no debe afectar al resto de consultas
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    /**
+     * Construye un índice nuevo con los períodos que terminan en {@code activeSince} o después.
+     */
+    public AttendanceBitmapIndex loadIndex(LocalDate activeSince) {
+        AttendanceBitmapIndex index = new AttendanceBitmapIndex();
+        EnrollmentAttendanceBitmaps[] current = {null};
+        jdbcTemplate.query(FULL_LOAD_SQL, rs -> {
+            long enrollmentId = rs.getLong("enrollment_id");
+            if (current[0] == null || current[0].context().enrollmentId() != enrollmentId) {
+                current[0] = index.register(mapContext(rs));
+            }
+            markRow(current[0], rs);
+        }, Date.valueOf(activeSince));
+        return index;
+    }
+
+    /**
+     * @return Los datos de cada inscripción encontrada, indexados por su ID.
+     */
+    public Map<Long, EnrollmentContext> findContexts(Collection<Long> enrollmentIds) {
+        if (enrollmentIds.isEmpty()) {
+            return Map.of();
+        }
+        List<EnrollmentContext> contexts = namedJdbcTemplate.query(CONTEXTS_SQL, Map.of("ids", enrollmentIds),
+                (rs, rowNum) -> mapContext(rs));
+        return contexts.stream().collect(Collectors.toMap(EnrollmentContext::enrollmentId, Function.identity()));
+    }
+
+    /**
+     * Relee todas las marcas de una inscripción, p. ej. tras un cambio hecho en otro nodo.
+     */
+    public Optional<EnrollmentAttendanceBitmaps> loadEnrollment(long enrollmentId) {
+        EnrollmentContext context = findContexts(List.of(enrollmentId)).get(enrollmentId);
+        if (context == null) {
+            return Optional.empty();
+        }
+        EnrollmentAttendanceBitmaps bitmaps = new EnrollmentAttendanceBitmaps(context);
+        jdbcTemplate.query(RECORDS_SQL, rs -> {
+            markRow(bitmaps, rs);
+        }, enrollmentId);
+        return Optional.of(bitmaps);
+    }
+
+    private static EnrollmentContext mapContext(ResultSet rs) throws SQLException {
+        return new EnrollmentContext(
+                rs.getLong("enrollment_id"),
+                rs.getLong("student_user_id"),
+                rs.getLong("course_id"),
+                rs.getLong("organization_id"),
+                rs.getDate("start_date").toLocalDate());
+    }
+
+    private static void markRow(EnrollmentAttendanceBitmaps bitmaps, ResultSet rs) throws SQLException {
+        Date sessionDate = rs.getDate("session_date");
+        if (sessionDate != null) {
+            bitmaps.mark(sessionDate.toLocalDate(), AttendanceStatus.valueOf(rs.getString("status")));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.academia.infrastructure.persistence.jdbc;
+
+import com.academia.domain.model.aggregates.AttendanceSheet;
+import com.academia.domain.model.enums.AttendanceStatus;
+import com.academia.domain.model.valueobjects.academic.CheckIn;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.ports.out.AttendanceRepository;
+import com.academia.domain.ports.out.CourseRosterReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Persistencia de la asistencia con JDBC directo.
+ * <p>
+ * A las 8:00 todos los docentes toman lista a la vez: cada planilla se escribe con una sola
+ * sentencia {@code INSERT ... VALUES (...), (...) ON DUPLICATE KEY UPDATE} sobre
+ * {@code uk_attendance_session}, en lugar de un SELECT + INSERT/UPDATE por estudiante.
+ * Corregir una sesión ya tomada reutiliza la misma sentencia.
+ * <p>
+ * Los auto-registros usan la misma inserción multi-fila, pero sin pisar una marca existente.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcAttendanceRepository implements AttendanceRepository, CourseRosterReader {
+
+    // LEFT JOIN: el curso existe aunque todavía no tenga inscripciones activas
+    private static final String ROSTER_SQL =
+            "SELECT c.id AS course_id, e.id AS enrollment_id, e.student_user_id " +
+            "FROM courses c " +
+            "LEFT JOIN enrollments e ON e.course_id = c.id AND e.status = 'ACTIVE' " +
+            "WHERE c.id = ?";
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO attendance_records (enrollment_id, session_date, status, notes) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?)";
+    // VALUES(col) se mantiene por compatibilidad con H2 (modo MySQL), que no admite el alias de fila de MySQL 8.0.19+
+    private static final MultiRowInsert UPSERT = new MultiRowInsert(INSERT_PREFIX, INSERT_ROW,
+            " ON DUPLICATE KEY UPDATE status = VALUES(status), notes = VALUES(notes)");
+    // Actualización nula: la marca del docente prevalece y reintentar un lote es idempotente.
+    // Se evita INSERT IGNORE porque también silencia errores de clave foránea
+    private static final MultiRowInsert INSERT_KEEPING_EXISTING = new MultiRowInsert(INSERT_PREFIX, INSERT_ROW,
+            " ON DUPLICATE KEY UPDATE enrollment_id = enrollment_id");
+
+    private static final DateTimeFormatter CHECK_IN_TIME = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<AttendanceSheet> openSheet(CourseId courseId, LocalDate sessionDate) {
+        return findActiveEnrollments(courseId)
+                .map(activeEnrollments -> AttendanceSheet.open(courseId, sessionDate, activeEnrollments));
+    }
+
+    @Override
+    public Optional<Map<AccountId, Long>> findActiveEnrollments(CourseId courseId) {
+        Map<AccountId, Long> activeEnrollments = new HashMap<>();
+        boolean[] courseFound = {false};
+        jdbcTemplate.query(ROSTER_SQL, rs -> {
+            courseFound[0] = true;
+            long enrollmentId = rs.getLong("enrollment_id");
+            if (!rs.wasNull()) {
+                activeEnrollments.put(new AccountId(rs.getLong("student_user_id")), enrollmentId);
+            }
+        }, courseId.getValue());
+
+        return courseFound[0] ? Optional.of(Map.copyOf(activeEnrollments)) : Optional.empty();
+    }
+
+    @Override
+    public void save(AttendanceSheet sheet) {
+        Date sessionDate = Date.valueOf(sheet.getSessionDate());
+        List<Object[]> rows = sheet.getMarks().stream()
+                .map(mark -> new Object[]{mark.getEnrollmentId(), sessionDate, mark.getStatus().name(), mark.getNotes()})
+                .toList();
+        UPSERT.execute(jdbcTemplate, rows);
+    }
+
+    @Override
+    public void saveCheckIns(List<CheckIn> checkIns) {
+        List<Object[]> rows = checkIns.stream()
+                .map(checkIn -> new Object[]{checkIn.getEnrollmentId(), Date.valueOf(checkIn.getSessionDate()),
+                        AttendanceStatus.PRESENT.name(),
+                        "Auto-registro " + CHECK_IN_TIME.format(checkIn.getCheckedInAt())})
+                .toList();
+        INSERT_KEEPING_EXISTING.execute(jdbcTemplate, rows);
+    }
+}
@@ -0,0 +1,44 @@
+package com.academia.infrastructure.persistence.jdbc;
+
+import com.academia.infrastructure.ranking.CompletedGrades;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Lee las notas finales de los cursos completados de una organización directo a arreglos primitivos.
+ * <p>
+ * Las filas llegan ordenadas por estudiante con un cursor de solo avance, así que no se
+ * materializa ninguna entidad ni lista intermedia. Los perfiles de MySQL fijan el fetch size de
+ * streaming; por defecto se usa el del driver.
+ */
+@Component
+public class JdbcCompletedGradesReader {
+
+    private static final String COMPLETED_GRADES_SQL =
+            "SELECT e.student_user_id, e.final_grade, s.credits " +
+            "FROM enrollments e " +
+            "JOIN courses c ON c.id = e.course_id " +
+            "JOIN subjects s ON s.id = c.subject_id " +
+            "WHERE s.organization_id = ? AND e.status = 'COMPLETED' AND e.final_grade IS NOT NULL " +
+            "ORDER BY e.student_user_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcCompletedGradesReader(DataSource dataSource,
+                                     @Value("${academia.ranking.fetch-size:0}") int fetchSize) {
+        // Plantilla propia: el fetch size de streaming no debe afectar al resto de consultas
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    public CompletedGrades load(long organizationId) {
+        CompletedGrades.Builder builder = CompletedGrades.builder();
+        jdbcTemplate.query(COMPLETED_GRADES_SQL, rs -> {
+            builder.add(rs.getLong(1), rs.getDouble(2), rs.getDouble(3));
+        }, organizationId);
+        return builder.build();
+    }
+}
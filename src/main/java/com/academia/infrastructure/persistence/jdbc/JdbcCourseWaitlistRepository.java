@@ -0,0 +1,76 @@
+package com.academia.infrastructure.persistence.jdbc;
+
+import com.academia.domain.model.entities.Student;
+import com.academia.domain.model.valueobjects.academic.WaitlistEntry;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.ports.out.WaitlistPriorityPolicy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Tabla de respaldo de las listas de espera y prioridades por nivel de cada organización.
+ * El orden de promoción lo resuelve la lista en memoria; aquí solo se carga y se escribe fila a fila.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcCourseWaitlistRepository implements WaitlistPriorityPolicy {
+
+    private static final String LOAD_SQL =
+            "SELECT student_user_id, priority, requested_at FROM course_waitlist WHERE course_id = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO course_waitlist (course_id, student_user_id, priority, requested_at) VALUES (?, ?, ?, ?)";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM course_waitlist WHERE course_id = ? AND student_user_id = ?";
+
+    private static final String PRIORITY_SQL =
+            "SELECT priority FROM waitlist_priority_rules WHERE organization_id = ? AND grade_level = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<WaitlistEntry> loadCourse(long courseId) {
+        CourseId course = new CourseId(courseId);
+        return jdbcTemplate.query(LOAD_SQL, (rs, rowNum) -> new WaitlistEntry(
+                new AccountId(rs.getLong("student_user_id")), course, rs.getInt("priority"),
+                rs.getTimestamp("requested_at").toLocalDateTime()), courseId);
+    }
+
+    /**
+     * @return {@code false} si el estudiante ya tenía fila en la lista del curso.
+     */
+    public boolean insert(WaitlistEntry entry) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, entry.getCourseId().getValue(), entry.getStudentId().getValue(),
+                    entry.getPriority(), Timestamp.valueOf(entry.getRequestedAt()));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Borra la fila del pedido. Dos transacciones que promueven al mismo estudiante se serializan
+     * en el bloqueo de la fila, y solo la primera la borra.
+     * @return {@code true} si esta transacción borró la fila.
+     */
+    public boolean delete(long courseId, long studentId) {
+        return jdbcTemplate.update(DELETE_SQL, courseId, studentId) == 1;
+    }
+
+    @Override
+    public int priorityOf(Student student) {
+        if (student.getCurrentGradeLevel() == null) {
+            return 0;
+        }
+        List<Integer> priority = jdbcTemplate.queryForList(PRIORITY_SQL, Integer.class,
+                student.getOrganizationId().getValue(), student.getCurrentGradeLevel().trim());
+        return priority.isEmpty() ? 0 : priority.get(0);
+    }
+}
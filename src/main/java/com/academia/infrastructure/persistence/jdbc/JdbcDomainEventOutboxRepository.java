@@ -0,0 +1,118 @@
+package com.academia.infrastructure.persistence.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Filas de {@code domain_event_outbox}: alta por lotes en la transacción del caso de uso y
+ * reclamo de pendientes con {@code FOR UPDATE SKIP LOCKED}, para que varios nodos puedan
+ * despachar a la vez sin tomar las mismas filas ni esperarse entre sí.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcDomainEventOutboxRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO domain_event_outbox (event_id, event_type, payload, binary_payload, occurred_on, created_at) " +
+            "VALUES (:eventId, :eventType, :payload, :binaryPayload, :occurredOn, :createdAt)";
+
+    private static final String CLAIM_SQL =
+            "SELECT id, event_type, payload, binary_payload, created_at FROM domain_event_outbox " +
+            "WHERE published_at IS NULL AND attempts < :maxAttempts AND id > :afterId " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED";
+
+    private static final String MARK_PUBLISHED_SQL =
+            "UPDATE domain_event_outbox SET published_at = :publishedAt WHERE id IN (:ids)";
+
+    private static final String MARK_FAILED_SQL =
+            "UPDATE domain_event_outbox SET attempts = attempts + 1, last_error = :error WHERE id = :id";
+
+    private static final String COUNT_PENDING_SQL =
+            "SELECT COUNT(*) FROM domain_event_outbox WHERE published_at IS NULL AND attempts < :maxAttempts";
+
+    private static final String DELETE_PUBLISHED_SQL =
+            "DELETE FROM domain_event_outbox WHERE published_at < :cutoff";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Cada mensaje lleva {@code payload} (JSON) o {@code binaryPayload}, no ambos.
+     */
+    public record NewOutboxMessage(String eventId, String eventType, String payload, byte[] binaryPayload, Instant occurredOn) {
+    }
+
+    public record OutboxMessage(Long id, String eventType, String payload, byte[] binaryPayload, LocalDateTime createdAt) {
+    }
+
+    public void insertAll(List<NewOutboxMessage> messages, LocalDateTime createdAt) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Timestamp created = Timestamp.valueOf(createdAt);
+        SqlParameterSource[] batch = messages.stream()
+                .map(message -> new MapSqlParameterSource()
+                        .addValue("eventId", message.eventId())
+                        .addValue("eventType", message.eventType())
+                        .addValue("payload", message.payload())
+                        .addValue("binaryPayload", message.binaryPayload())
+                        .addValue("occurredOn", Timestamp.from(message.occurredOn()))
+                        .addValue("createdAt", created))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+    }
+
+    /**
+     * Bloquea hasta {@code limit} filas pendientes con ID mayor que {@code afterId}, en orden de alta,
+     * hasta el fin de la transacción. Las que otra transacción tiene bloqueadas (o todavía no confirmó)
+     * se saltan.
+     */
+    public List<OutboxMessage> claimPending(long afterId, int limit, int maxAttempts) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("maxAttempts", maxAttempts)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(CLAIM_SQL, params, (rs, rowNum) -> new OutboxMessage(
+                rs.getLong("id"), rs.getString("event_type"), rs.getString("payload"),
+                rs.getBytes("binary_payload"), rs.getTimestamp("created_at").toLocalDateTime()));
+    }
+
+    public void markPublished(List<Long> ids, LocalDateTime publishedAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(MARK_PUBLISHED_SQL, new MapSqlParameterSource()
+                .addValue("publishedAt", Timestamp.valueOf(publishedAt))
+                .addValue("ids", ids));
+    }
+
+    public void markFailed(Long id, String error) {
+        String message = error == null ? "" : error;
+        jdbcTemplate.update(MARK_FAILED_SQL, new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("error", message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message));
+    }
+
+    public long countPending(int maxAttempts) {
+        Long pending = jdbcTemplate.queryForObject(COUNT_PENDING_SQL,
+                new MapSqlParameterSource("maxAttempts", maxAttempts), Long.class);
+        return pending == null ? 0 : pending;
+    }
+
+    /**
+     * @return Filas publicadas antes de {@code cutoff} que se borraron.
+     */
+    public int deletePublishedBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update(DELETE_PUBLISHED_SQL, new MapSqlParameterSource("cutoff", Timestamp.valueOf(cutoff)));
+    }
+}
@@ -0,0 +1,86 @@
+package com.academia.infrastructure.persistence.jdbc;
+
+import com.academia.domain.model.enums.EnrollmentRuleType;
+import com.academia.domain.model.services.eligibility.PassedSubjects;
+import com.academia.domain.model.services.eligibility.PrerequisiteGraph;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.ports.out.EnrollmentRulePolicy;
+import com.academia.domain.ports.out.PrerequisiteCatalog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lee correlativas, materias aprobadas y reglas activas con una consulta por dato, sin
+ * materializar entidades: el grafo se compila directamente desde las filas.
+ */
+@Component
+public class JdbcEnrollmentEligibilityRepository implements PrerequisiteCatalog, EnrollmentRulePolicy {
+
+    private static final String SUBJECTS_SQL = "SELECT id FROM subjects WHERE organization_id = ?";
+
+    private static final String PREREQUISITES_SQL =
+            "SELECT sp.subject_id, sp.prerequisite_subject_id " +
+            "FROM subject_prerequisites sp " +
+            "JOIN subjects s ON s.id = sp.subject_id " +
+            "WHERE s.organization_id = ?";
+
+    private static final String PASSED_SUBJECTS_SQL =
+            "SELECT DISTINCT c.subject_id " +
+            "FROM enrollments e " +
+            "JOIN courses c ON c.id = e.course_id " +
+            "WHERE e.student_user_id = ? AND e.status = 'COMPLETED' AND e.final_grade >= ?";
+
+    private static final String RULE_SETTINGS_SQL =
+            "SELECT rule_code, enabled FROM enrollment_rule_settings WHERE organization_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final double passingGrade;
+    private final EnumSet<EnrollmentRuleType> defaultRules;
+
+    public JdbcEnrollmentEligibilityRepository(JdbcTemplate jdbcTemplate,
+                                               @Value("${academia.enrollment.passing-grade:60}") double passingGrade,
+                                               @Value("${academia.enrollment.rules.defaults:PREREQUISITES}") Set<EnrollmentRuleType> defaultRules) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passingGrade = passingGrade;
+        this.defaultRules = defaultRules.isEmpty() ? EnumSet.noneOf(EnrollmentRuleType.class) : EnumSet.copyOf(defaultRules);
+    }
+
+    @Override
+    public PrerequisiteGraph graphFor(OrganizationId organizationId) {
+        List<Long> subjectIds = jdbcTemplate.queryForList(SUBJECTS_SQL, Long.class, organizationId.getValue());
+        Map<Long, List<Long>> prerequisites = new HashMap<>();
+        jdbcTemplate.query(PREREQUISITES_SQL, rs -> {
+            prerequisites.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getLong(2));
+        }, organizationId.getValue());
+        return PrerequisiteGraph.compile(subjectIds, prerequisites);
+    }
+
+    @Override
+    public PassedSubjects passedSubjects(AccountId studentId, PrerequisiteGraph graph) {
+        return graph.passedSubjects(jdbcTemplate.queryForList(PASSED_SUBJECTS_SQL, Long.class, studentId.getValue(), passingGrade));
+    }
+
+    @Override
+    public Set<EnrollmentRuleType> enabledRules(OrganizationId organizationId) {
+        // Las filas de la organización pisan los valores por defecto regla a regla
+        Set<EnrollmentRuleType> enabled = EnumSet.copyOf(defaultRules);
+        jdbcTemplate.query(RULE_SETTINGS_SQL, rs -> {
+            EnrollmentRuleType type = EnrollmentRuleType.valueOf(rs.getString("rule_code"));
+            if (rs.getBoolean("enabled")) {
+                enabled.add(type);
+            } else {
+                enabled.remove(type);
+            }
+        }, organizationId.getValue());
+        return enabled;
+    }
+}
@@ -0,0 +1,164 @@
+package com.academia.infrastructure.persistence.jdbc;
+
+import com.academia.domain.model.aggregates.GradeSheet;
+import com.academia.domain.model.aggregates.GradeSheet.Cell;
+import com.academia.domain.model.valueobjects.academic.GradeEntry;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.ports.out.GradeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Persistencia de calificaciones con JDBC directo.
+ * <p>
+ * Una planilla de 40 estudiantes por 25 tareas se resuelve con una consulta (inscripciones,
+ * tareas y entregas existentes) y se escribe con una inserción multi-fila con upsert sobre
+ * {@code grades.submission_id}. Solo las celdas sin entrega previa requieren crearla antes,
+ * también en una sola sentencia.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcGradeRepository implements GradeRepository {
+
+    // Los LEFT JOIN cruzan las inscripciones y tareas pedidas, acotadas a la carga; el curso
+    // aparece aunque ninguna coincida, para distinguir "curso inexistente" de "datos inválidos"
+    private static final String RESOLVE_SQL =
+            "SELECT c.id AS course_id, e.id AS enrollment_id, e.student_user_id, " +
+            "       a.id AS assignment_id, a.weight, s.id AS submission_id " +
+            "FROM courses c " +
+            "LEFT JOIN enrollments e ON e.course_id = c.id AND e.status = 'ACTIVE' AND e.student_user_id IN (:studentIds) " +
+            "LEFT JOIN assignments a ON a.course_id = c.id AND a.id IN (:assignmentIds) " +
+            "LEFT JOIN submissions s ON s.enrollment_id = e.id AND s.assignment_id = a.id " +
+            "WHERE c.id = :courseId";
+
+    // Actualización nula: si otra carga creó la entrega entre la consulta y la inserción, se reutiliza
+    private static final MultiRowInsert INSERT_SUBMISSIONS = new MultiRowInsert(
+            "INSERT INTO submissions (assignment_id, enrollment_id) VALUES ", "(?, ?)",
+            " ON DUPLICATE KEY UPDATE enrollment_id = enrollment_id");
+
+    private static final String SUBMISSION_IDS_SQL =
+            "SELECT id, assignment_id, enrollment_id FROM submissions " +
+            "WHERE enrollment_id IN (:enrollmentIds) AND assignment_id IN (:assignmentIds)";
+
+    // VALUES(col) se mantiene por compatibilidad con H2 (modo MySQL), que no admite el alias de fila de MySQL 8.0.19+
+    private static final MultiRowInsert UPSERT_GRADES = new MultiRowInsert(
+            "INSERT INTO grades (submission_id, enrollment_id, grade, feedback_from_teacher) VALUES ", "(?, ?, ?, ?)",
+            " ON DUPLICATE KEY UPDATE grade = VALUES(grade), feedback_from_teacher = VALUES(feedback_from_teacher), " +
+            "graded_at = CURRENT_TIMESTAMP");
+
+    private static final String GRADE_IDS_SQL =
+            "SELECT id, submission_id FROM grades WHERE submission_id IN (:submissionIds)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Override
+    public Optional<GradeSheet> openSheet(CourseId courseId, Collection<AccountId> studentIds, Collection<Long> assignmentIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("courseId", courseId.getValue())
+                .addValue("studentIds", studentIds.stream().map(AccountId::getValue).toList())
+                .addValue("assignmentIds", assignmentIds);
+
+        Map<AccountId, Long> activeEnrollments = new HashMap<>();
+        Map<Long, BigDecimal> assignmentWeights = new HashMap<>();
+        Map<Cell, Long> submissions = new HashMap<>();
+        boolean[] courseFound = {false};
+        namedJdbcTemplate.query(RESOLVE_SQL, params, rs -> {
+            courseFound[0] = true;
+            long enrollmentId = rs.getLong("enrollment_id");
+            boolean hasEnrollment = !rs.wasNull();
+            long assignmentId = rs.getLong("assignment_id");
+            boolean hasAssignment = !rs.wasNull();
+            if (hasEnrollment) {
+                activeEnrollments.put(new AccountId(rs.getLong("student_user_id")), enrollmentId);
+            }
+            if (hasAssignment) {
+                assignmentWeights.put(assignmentId, rs.getBigDecimal("weight"));
+            }
+            long submissionId = rs.getLong("submission_id");
+            if (!rs.wasNull()) {
+                submissions.put(new Cell(enrollmentId, assignmentId), submissionId);
+            }
+        });
+
+        return courseFound[0]
+                ? Optional.of(GradeSheet.open(courseId, activeEnrollments, assignmentWeights, submissions))
+                : Optional.empty();
+    }
+
+    @Override
+    public Map<Cell, Long> save(GradeSheet sheet) {
+        List<GradeEntry> entries = sheet.getEntries();
+        Map<Cell, Long> submissionIds = new HashMap<>(sheet.getSubmissions());
+
+        List<Object[]> missingSubmissions = entries.stream()
+                .filter(entry -> entry.getSubmissionId() == null)
+                .map(entry -> new Object[]{entry.getAssignmentId(), entry.getEnrollmentId()})
+                .toList();
+        if (!missingSubmissions.isEmpty()) {
+            INSERT_SUBMISSIONS.execute(jdbcTemplate, missingSubmissions);
+            submissionIds.putAll(findSubmissionIds(entries));
+        }
+
+        List<Object[]> grades = entries.stream()
+                .map(entry -> new Object[]{
+                        submissionIds.get(cellOf(entry)),
+                        entry.getEnrollmentId(),
+                        BigDecimal.valueOf(entry.getGrade().getValue()).setScale(2, RoundingMode.HALF_UP),
+                        entry.getFeedback()})
+                .toList();
+        UPSERT_GRADES.execute(jdbcTemplate, grades);
+
+        return findGradeIds(entries, submissionIds);
+    }
+
+    private Map<Cell, Long> findSubmissionIds(List<GradeEntry> entries) {
+        Set<Long> enrollmentIds = new HashSet<>();
+        Set<Long> assignmentIds = new HashSet<>();
+        entries.forEach(entry -> {
+            enrollmentIds.add(entry.getEnrollmentId());
+            assignmentIds.add(entry.getAssignmentId());
+        });
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("enrollmentIds", enrollmentIds)
+                .addValue("assignmentIds", assignmentIds);
+
+        Map<Cell, Long> submissionIds = new HashMap<>();
+        namedJdbcTemplate.query(SUBMISSION_IDS_SQL, params, rs -> {
+            submissionIds.put(new Cell(rs.getLong("enrollment_id"), rs.getLong("assignment_id")), rs.getLong("id"));
+        });
+        return submissionIds;
+    }
+
+    private Map<Cell, Long> findGradeIds(List<GradeEntry> entries, Map<Cell, Long> submissionIds) {
+        Map<Long, Cell> cellsBySubmission = new HashMap<>();
+        for (GradeEntry entry : entries) {
+            Cell cell = cellOf(entry);
+            cellsBySubmission.put(submissionIds.get(cell), cell);
+        }
+
+        Map<Cell, Long> gradeIds = new HashMap<>();
+        namedJdbcTemplate.query(GRADE_IDS_SQL, Map.of("submissionIds", cellsBySubmission.keySet()), rs -> {
+            gradeIds.put(cellsBySubmission.get(rs.getLong("submission_id")), rs.getLong("id"));
+        });
+        return gradeIds;
+    }
+
+    private static Cell cellOf(GradeEntry entry) {
+        return new Cell(entry.getEnrollmentId(), entry.getAssignmentId());
+    }
+}
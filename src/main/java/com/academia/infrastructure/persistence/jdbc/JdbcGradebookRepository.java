@@ -0,0 +1,53 @@
+package com.academia.infrastructure.persistence.jdbc;
+
+import com.academia.infrastructure.gradebook.EnrollmentGradeAggregate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lectura de calificaciones y escritura de {@code enrollments.final_grade} para el libro de calificaciones.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcGradebookRepository {
+
+    // LEFT JOIN: una calificación sin entrega asociada cuenta con el peso por defecto
+    private static final String GRADES_SQL =
+            "SELECT g.id, g.grade, COALESCE(a.weight, 1) AS weight " +
+            "FROM grades g " +
+            "LEFT JOIN submissions s ON s.id = g.submission_id " +
+            "LEFT JOIN assignments a ON a.id = s.assignment_id " +
+            "WHERE g.enrollment_id = ?";
+
+    // Una inscripción completada conserva la nota con la que se cerró
+    private static final String UPDATE_FINAL_GRADE_SQL =
+            "UPDATE enrollments SET final_grade = ? WHERE id = ? AND status = 'ACTIVE'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Construye el acumulado de una inscripción con todas sus calificaciones guardadas.
+     */
+    public EnrollmentGradeAggregate loadAggregate(long enrollmentId) {
+        EnrollmentGradeAggregate aggregate = new EnrollmentGradeAggregate();
+        jdbcTemplate.query(GRADES_SQL, rs -> {
+            aggregate.apply(rs.getLong("id"), rs.getBigDecimal("grade"), rs.getBigDecimal("weight"));
+        }, enrollmentId);
+        return aggregate;
+    }
+
+    /**
+     * Escribe las notas finales en un solo lote. Un valor nulo deja la inscripción sin nota.
+     */
+    public void updateFinalGrades(Map<Long, BigDecimal> finalGrades) {
+        List<Object[]> rows = finalGrades.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate(UPDATE_FINAL_GRADE_SQL, rows);
+    }
+}
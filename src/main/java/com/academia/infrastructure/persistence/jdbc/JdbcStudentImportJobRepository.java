@@ -0,0 +1,134 @@
+package com.academia.infrastructure.persistence.jdbc;
+
+import com.academia.infrastructure.imports.StudentImportJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Filas de {@code student_import_jobs}. El nodo que corre la importación las escribe sin
+ * transacción (cada sentencia se confirma sola) para que el avance se vea enseguida desde
+ * cualquier nodo.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcStudentImportJobRepository {
+
+    private static final String COLUMNS =
+            "id, organization_id, status, error_file, source_size, bytes_read, processed_rows, registered_rows, " +
+            "rejected_rows, failure_reason, created_at, finished_at";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO student_import_jobs (id, organization_id, status, error_file, source_size, bytes_read, " +
+            "processed_rows, registered_rows, rejected_rows, created_at, updated_at) " +
+            "VALUES (:id, :organizationId, :status, :errorFile, :sourceSize, 0, 0, 0, 0, :createdAt, :createdAt)";
+
+    private static final String MARK_RUNNING_SQL =
+            "UPDATE student_import_jobs SET status = 'RUNNING', updated_at = :updatedAt WHERE id = :id AND status = 'QUEUED'";
+
+    private static final String UPDATE_SQL =
+            "UPDATE student_import_jobs SET status = :status, bytes_read = :bytesRead, processed_rows = :processedRows, " +
+            "registered_rows = :registeredRows, rejected_rows = :rejectedRows, failure_reason = :failureReason, " +
+            "finished_at = :finishedAt, updated_at = :updatedAt WHERE id = :id";
+
+    private static final String FIND_SQL =
+            "SELECT " + COLUMNS + " FROM student_import_jobs WHERE id = :id";
+
+    private static final String MARK_ABANDONED_SQL =
+            "UPDATE student_import_jobs SET status = 'FAILED', failure_reason = :reason, finished_at = :now, updated_at = :now " +
+            "WHERE status IN ('QUEUED', 'RUNNING') AND updated_at < :cutoff";
+
+    private static final String FIND_FINISHED_BEFORE_SQL =
+            "SELECT " + COLUMNS + " FROM student_import_jobs WHERE status IN ('COMPLETED', 'FAILED') AND finished_at < :cutoff";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM student_import_jobs WHERE id IN (:ids)";
+
+    private static final int MAX_REASON_LENGTH = 500;
+
+    private static final RowMapper<StudentImportJob> JOB_MAPPER = (rs, rowNum) -> {
+        Timestamp finishedAt = rs.getTimestamp("finished_at");
+        return new StudentImportJob(rs.getString("id"), rs.getLong("organization_id"), Path.of(rs.getString("error_file")),
+                rs.getLong("source_size"), rs.getTimestamp("created_at").toLocalDateTime(),
+                StudentImportJob.Status.valueOf(rs.getString("status")),
+                finishedAt == null ? null : finishedAt.toLocalDateTime(), rs.getString("failure_reason"),
+                rs.getLong("bytes_read"), rs.getInt("processed_rows"), rs.getInt("registered_rows"), rs.getInt("rejected_rows"));
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void insert(StudentImportJob job) {
+        jdbcTemplate.update(INSERT_SQL, new MapSqlParameterSource()
+                .addValue("id", job.getId())
+                .addValue("organizationId", job.getOrganizationId())
+                .addValue("status", job.getStatus().name())
+                .addValue("errorFile", job.getErrorFile().toString())
+                .addValue("sourceSize", job.getSourceSize())
+                .addValue("createdAt", Timestamp.valueOf(job.getCreatedAt())));
+    }
+
+    /**
+     * @return {@code false} si el trabajo ya no estaba en cola, por ejemplo porque se dio por
+     * abandonado mientras esperaba.
+     */
+    public boolean markRunning(String id, LocalDateTime now) {
+        return jdbcTemplate.update(MARK_RUNNING_SQL, new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("updatedAt", Timestamp.valueOf(now))) == 1;
+    }
+
+    /**
+     * Vuelca el estado y los contadores del trabajo en curso.
+     */
+    public void update(StudentImportJob job, LocalDateTime now) {
+        jdbcTemplate.update(UPDATE_SQL, new MapSqlParameterSource()
+                .addValue("id", job.getId())
+                .addValue("status", job.getStatus().name())
+                .addValue("bytesRead", job.getBytesRead().get())
+                .addValue("processedRows", job.getProcessedRows().get())
+                .addValue("registeredRows", job.getRegisteredRows().get())
+                .addValue("rejectedRows", job.getRejectedRows().get())
+                .addValue("failureReason", truncate(job.getFailureReason()))
+                .addValue("finishedAt", job.getFinishedAt() == null ? null : Timestamp.valueOf(job.getFinishedAt()))
+                .addValue("updatedAt", Timestamp.valueOf(now)));
+    }
+
+    public Optional<StudentImportJob> findById(String id) {
+        return jdbcTemplate.query(FIND_SQL, new MapSqlParameterSource("id", id), JOB_MAPPER).stream().findFirst();
+    }
+
+    /**
+     * Da por fallidos los trabajos sin terminar que no avanzan desde {@code cutoff}: el nodo que
+     * los corría se detuvo, y con él se perdió el archivo de origen.
+     * @return Trabajos marcados.
+     */
+    public int markAbandoned(LocalDateTime cutoff, String reason, LocalDateTime now) {
+        return jdbcTemplate.update(MARK_ABANDONED_SQL, new MapSqlParameterSource()
+                .addValue("cutoff", Timestamp.valueOf(cutoff))
+                .addValue("reason", truncate(reason))
+                .addValue("now", Timestamp.valueOf(now)));
+    }
+
+    public List<StudentImportJob> findFinishedBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.query(FIND_FINISHED_BEFORE_SQL, new MapSqlParameterSource("cutoff", Timestamp.valueOf(cutoff)), JOB_MAPPER);
+    }
+
+    public void deleteAll(List<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(DELETE_SQL, new MapSqlParameterSource("ids", ids));
+    }
+
+    private static String truncate(String value) {
+        return value == null || value.length() <= MAX_REASON_LENGTH ? value : value.substring(0, MAX_REASON_LENGTH);
+    }
+}
@@ -0,0 +1,118 @@
+package com.academia.infrastructure.persistence.jdbc;
+
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.ports.in.dtos.RosterEntryDTO;
+import com.academia.domain.ports.in.dtos.RosterEntryDTO.GuardianEntryDTO;
+import com.academia.domain.ports.out.StudentRosterReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Lee el padrón con un cursor JDBC de solo avance, sin pasar por JPA.
+ * <p>
+ * La consulta devuelve una fila por par estudiante-tutor ordenada por estudiante, así que
+ * basta con acumular los tutores del estudiante actual: la memoria no crece con el padrón.
+ * Con MySQL, un fetch size de {@code Integer.MIN_VALUE} hace que el driver entregue las filas
+ * a medida que llegan en lugar de cargar el resultado completo; lo fijan los perfiles dev y prod.
+ * Por defecto se usa el del driver (0), que vale para cualquier motor.
+ */
+@Component
+public class JdbcStudentRosterReader implements StudentRosterReader {
+
+    private static final String ROSTER_SQL =
+            "SELECT u.id, u.first_name, u.last_name, u.email, u.birth_date, u.account_status, " +
+            "       s.student_id_number, s.current_grade_level, s.enrollment_date, " +
+            "       r.guardian_user_id, g.first_name AS guardian_first_name, g.last_name AS guardian_last_name, " +
+            "       r.relationship_type, r.is_primary_contact " +
+            "FROM student_profiles s " +
+            "JOIN users u ON u.id = s.user_id " +
+            "LEFT JOIN student_guardian_relationships r ON r.student_user_id = s.user_id " +
+            "LEFT JOIN users g ON g.id = r.guardian_user_id " +
+            "WHERE s.organization_id = ? " +
+            "ORDER BY s.user_id, r.guardian_user_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcStudentRosterReader(DataSource dataSource,
+                                   @Value("${academia.export.fetch-size:0}") int fetchSize) {
+        // Plantilla propia: el fetch size de streaming no debe afectar al resto de consultas
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    @Override
+    public void forEachRosterEntry(OrganizationId organizationId, Consumer<RosterEntryDTO> consumer) {
+        RosterRowHandler handler = new RosterRowHandler(consumer);
+        jdbcTemplate.query(ROSTER_SQL, handler, organizationId.getValue());
+        handler.flush();
+    }
+
+    /**
+     * Agrupa las filas consecutivas de un mismo estudiante y lo emite al cambiar de estudiante.
+     */
+    private static final class RosterRowHandler implements RowCallbackHandler {
+
+        private final Consumer<RosterEntryDTO> consumer;
+        private RosterEntryDTO current;
+        private List<GuardianEntryDTO> guardians = new ArrayList<>();
+
+        RosterRowHandler(Consumer<RosterEntryDTO> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long accountId = rs.getLong("id");
+            if (current == null || current.accountId() != accountId) {
+                flush();
+                current = new RosterEntryDTO(
+                        accountId,
+                        rs.getString("first_name"),
+                        rs.getString("last_name"),
+                        rs.getString("email"),
+                        toLocalDate(rs.getDate("birth_date")),
+                        rs.getString("account_status"),
+                        rs.getString("student_id_number"),
+                        rs.getString("current_grade_level"),
+                        toLocalDate(rs.getDate("enrollment_date")),
+                        List.of()
+                );
+            }
+
+            long guardianId = rs.getLong("guardian_user_id");
+            if (!rs.wasNull()) {
+                guardians.add(new GuardianEntryDTO(
+                        guardianId,
+                        rs.getString("guardian_first_name") + " " + rs.getString("guardian_last_name"),
+                        rs.getString("relationship_type"),
+                        rs.getBoolean("is_primary_contact")));
+            }
+        }
+
+        void flush() {
+            if (current == null) {
+                return;
+            }
+            consumer.accept(new RosterEntryDTO(current.accountId(), current.firstName(), current.lastName(),
+                    current.email(), current.birthDate(), current.accountStatus(), current.studentIdNumber(),
+                    current.currentGradeLevel(), current.enrollmentDate(), List.copyOf(guardians)));
+            current = null;
+            guardians = new ArrayList<>();
+        }
+
+        private static LocalDate toLocalDate(Date date) {
+            return date != null ? date.toLocalDate() : null;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.academia.infrastructure.persistence.jdbc;
+
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.ports.in.dtos.TranscriptDTO;
+import com.academia.domain.ports.in.dtos.TranscriptDTO.TranscriptCourseDTO;
+import com.academia.domain.ports.in.dtos.TranscriptDTO.TranscriptGradeDTO;
+import com.academia.domain.ports.out.TranscriptReader;
+import com.academia.infrastructure.gradebook.EnrollmentGradeAggregate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Arma el boletín de un estudiante en una sola consulta: una fila por calificación
+ * (o una por curso sin calificaciones), agrupadas por inscripción.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcTranscriptReader implements TranscriptReader {
+
+    private static final String TRANSCRIPT_SQL =
+            "SELECT e.id AS enrollment_id, e.course_id, e.status, e.final_grade, c.course_code, " +
+            "s.subject_code, s.name AS subject_name, s.credits, t.name AS term_name, t.start_date, t.end_date, " +
+            "g.id AS grade_id, g.grade, a.id AS assignment_id, a.title, COALESCE(a.weight, 1) AS weight " +
+            "FROM enrollments e " +
+            "JOIN courses c ON c.id = e.course_id " +
+            "JOIN subjects s ON s.id = c.subject_id " +
+            "JOIN academic_terms t ON t.id = c.academic_term_id " +
+            "LEFT JOIN grades g ON g.enrollment_id = e.id " +
+            "LEFT JOIN submissions sub ON sub.id = g.submission_id " +
+            "LEFT JOIN assignments a ON a.id = sub.assignment_id " +
+            "WHERE e.student_user_id = ? " +
+            "ORDER BY t.start_date DESC, e.id, a.id, g.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public TranscriptDTO loadTranscript(AccountId studentId) {
+        List<TranscriptCourseDTO> courses = new ArrayList<>();
+        CourseRows[] current = {null};
+        jdbcTemplate.query(TRANSCRIPT_SQL, rs -> {
+            long enrollmentId = rs.getLong("enrollment_id");
+            if (current[0] == null || current[0].enrollmentId != enrollmentId) {
+                if (current[0] != null) {
+                    courses.add(current[0].toDto());
+                }
+                current[0] = new CourseRows(rs);
+            }
+            current[0].addGrade(rs);
+        }, studentId.getValue());
+        if (current[0] != null) {
+            courses.add(current[0].toDto());
+        }
+        return new TranscriptDTO(studentId.getValue(), versionOf(courses), List.copyOf(courses));
+    }
+
+    /**
+     * Huella del contenido: la representación de los records incluye todos sus campos,
+     * así que dos boletines con la misma versión tienen los mismos datos.
+     */
+    private static String versionOf(List<TranscriptCourseDTO> courses) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(courses.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    /**
+     * Filas de una inscripción mientras se recorre el resultado.
+     */
+    private static final class CourseRows {
+        private final long enrollmentId;
+        private final CourseHeader course;
+        private final List<TranscriptGradeDTO> grades = new ArrayList<>();
+        private final EnrollmentGradeAggregate average = new EnrollmentGradeAggregate();
+
+        CourseRows(ResultSet rs) throws SQLException {
+            this.enrollmentId = rs.getLong("enrollment_id");
+            this.course = new CourseHeader(rs.getLong("course_id"), rs.getString("course_code"),
+                    rs.getString("subject_code"), rs.getString("subject_name"), rs.getDouble("credits"),
+                    rs.getString("term_name"), rs.getDate("start_date").toLocalDate(), rs.getDate("end_date").toLocalDate(),
+                    rs.getString("status"), rs.getBigDecimal("final_grade"));
+        }
+
+        void addGrade(ResultSet rs) throws SQLException {
+            long gradeId = rs.getLong("grade_id");
+            if (rs.wasNull()) {
+                return;
+            }
+            BigDecimal grade = rs.getBigDecimal("grade");
+            BigDecimal weight = rs.getBigDecimal("weight");
+            long assignmentId = rs.getLong("assignment_id");
+            grades.add(new TranscriptGradeDTO(rs.wasNull() ? null : assignmentId, rs.getString("title"),
+                    weight.doubleValue(), grade.doubleValue()));
+            average.apply(gradeId, grade, weight);
+        }
+
+        TranscriptCourseDTO toDto() {
+            // Una inscripción activa no espera a que se escriba final_grade: se promedia con la misma
+            // regla que el libro de calificaciones. Una completada conserva la nota con que se cerró
+            BigDecimal finalGrade = "ACTIVE".equals(course.status()) && average.gradeCount() > 0
+                    ? average.finalGrade()
+                    : course.finalGrade();
+            return new TranscriptCourseDTO(enrollmentId, course.courseId(), course.courseCode(),
+                    course.subjectCode(), course.subjectName(), course.credits(), course.termName(),
+                    course.termStart(), course.termEnd(), course.status(),
+                    finalGrade != null ? finalGrade.doubleValue() : null, List.copyOf(grades));
+        }
+    }
+
+    private record CourseHeader(long courseId, String courseCode, String subjectCode, String subjectName,
+                                   double credits, String termName, LocalDate termStart,
+                                   LocalDate termEnd, String status, BigDecimal finalGrade) {}
+}
@@ -0,0 +1,60 @@
+package com.academia.infrastructure.persistence.jdbc;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sentencia {@code INSERT ... VALUES (...), (...)} con una cláusula final opcional
+ * (p. ej. {@code ON DUPLICATE KEY UPDATE}). Escribir N filas cuesta un viaje a la BD por
+ * cada {@value #ROWS_PER_STATEMENT} filas, en lugar de uno por fila.
+ */
+final class MultiRowInsert {
+
+    // Acota el tamaño de la sentencia y la cantidad de parámetros por viaje
+    static final int ROWS_PER_STATEMENT = 1_000;
+
+    private final String prefix;
+    private final String row;
+    private final String suffix;
+
+    /**
+     * @param prefix Hasta {@code VALUES } inclusive.
+     * @param row    El marcador de una fila, p. ej. {@code (?, ?, ?)}.
+     * @param suffix Lo que sigue a la última fila; vacío si no hace falta.
+     */
+    MultiRowInsert(String prefix, String row, String suffix) {
+        this.prefix = prefix;
+        this.row = row;
+        this.suffix = suffix;
+    }
+
+    void execute(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        for (int start = 0; start < rows.size(); start += ROWS_PER_STATEMENT) {
+            List<Object[]> chunk = rows.subList(start, Math.min(start + ROWS_PER_STATEMENT, rows.size()));
+            jdbcTemplate.update(sql(chunk.size()), flatten(chunk));
+        }
+    }
+
+    private String sql(int rows) {
+        StringBuilder sql = new StringBuilder(prefix.length() + rows * (row.length() + 2) + suffix.length());
+        sql.append(prefix);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(row);
+        }
+        return sql.append(suffix).toString();
+    }
+
+    private static Object[] flatten(List<Object[]> rows) {
+        List<Object> args = new ArrayList<>(rows.size() * rows.get(0).length);
+        for (Object[] values : rows) {
+            args.addAll(Arrays.asList(values));
+        }
+        return args.toArray();
+    }
+}
@@ -0,0 +1,44 @@
+package com.academia.infrastructure.persistence.jpa.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA de solo lectura para la tabla assignments.
+ */
+@Entity
+@Table(name = "assignments")
+@Getter
+@Setter
+public class AssignmentJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "course_id", nullable = false)
+    private Long courseId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "created_at", columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL")
+    private LocalDateTime createdAt;
+
+    @Column(name = "due_date")
+    private LocalDateTime dueDate;
+
+    @Column(name = "max_points", precision = 5, scale = 2)
+    private BigDecimal maxPoints;
+
+    // Mismo valor por defecto que la migración V7
+    @Column(columnDefinition = "DECIMAL(5,2) DEFAULT 1.00 NOT NULL")
+    private BigDecimal weight;
+}
@@ -0,0 +1,37 @@
+package com.academia.infrastructure.persistence.jpa.entities;
+
+import com.academia.domain.model.enums.AttendanceStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Entidad JPA de solo lectura para la tabla attendance_records.
+ * Las escrituras se hacen con upserts multi-fila desde {@code JdbcAttendanceRepository}.
+ */
+@Entity
+@Table(name = "attendance_records",
+        uniqueConstraints = @UniqueConstraint(name = "uk_attendance_session", columnNames = {"enrollment_id", "session_date"}))
+@Getter
+@Setter
+public class AttendanceRecordJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "enrollment_id", nullable = false)
+    private Long enrollmentId;
+
+    @Column(name = "session_date", nullable = false)
+    private LocalDate sessionDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AttendanceStatus status;
+
+    @Column(columnDefinition = "TEXT")
+    private String notes;
+}
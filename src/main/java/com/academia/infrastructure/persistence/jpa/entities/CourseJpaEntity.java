@@ -0,0 +1,49 @@
+package com.academia.infrastructure.persistence.jpa.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Entity
+@Table(name = "courses")
+@Getter
+@Setter
+public class CourseJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "subject_id", nullable = false)
+    private SubjectJpaEntity subject;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "academic_term_id", nullable = false)
+    private AcademicTermJpaEntity academicTerm;
+
+    @Column(name = "teacher_user_id")
+    private Long teacherUserId;
+
+    @Column(name = "course_code", nullable = false, length = 50)
+    private String courseCode;
+
+    // Nulo: sin límite de vacantes
+    @Column(name = "capacity")
+    private Integer capacity;
+
+    // Solo se modifica con SpringCourseRepository.reserveSeats y releaseSeats: guardar la entidad pisaría el contador.
+    // Sin columnDefinition: Hibernate la usaría como tipo del CAST de los parámetros en esas sentencias
+    @ColumnDefault("0")
+    @Column(name = "seats_taken", nullable = false)
+    private int seatsTaken;
+
+    // Relación unidireccional de solo lectura: las inscripciones se escriben por lotes JDBC
+    @OneToMany(fetch = FetchType.LAZY)
+    @JoinColumn(name = "course_id", insertable = false, updatable = false)
+    private Set<EnrollmentJpaEntity> enrollments = new HashSet<>();
+}
@@ -0,0 +1,35 @@
+package com.academia.infrastructure.persistence.jpa.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA de la lista de espera de los cursos.
+ * Se lee y escribe con JDBC desde {@code JdbcCourseWaitlistRepository}.
+ */
+@Entity
+@Table(name = "course_waitlist",
+        uniqueConstraints = @UniqueConstraint(name = "uk_course_waitlist_student", columnNames = {"course_id", "student_user_id"}))
+@Getter
+@Setter
+public class CourseWaitlistEntryJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "course_id", nullable = false)
+    private Long courseId;
+
+    @Column(name = "student_user_id", nullable = false)
+    private Long studentUserId;
+
+    @Column(nullable = false)
+    private int priority;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+}
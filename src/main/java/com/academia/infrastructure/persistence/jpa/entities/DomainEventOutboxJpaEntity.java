@@ -0,0 +1,50 @@
+package com.academia.infrastructure.persistence.jpa.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA de la bandeja de salida de eventos de dominio.
+ * Se lee y escribe con JDBC desde {@code JdbcDomainEventOutboxRepository}.
+ */
+@Entity
+@Table(name = "domain_event_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_outbox_event", columnNames = "event_id"))
+@Getter
+@Setter
+public class DomainEventOutboxJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false, length = 36)
+    private String eventId;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "binary_payload", length = 4096)
+    private byte[] binaryPayload;
+
+    @Column(name = "occurred_on", nullable = false)
+    private LocalDateTime occurredOn;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(columnDefinition = "INT DEFAULT 0 NOT NULL")
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
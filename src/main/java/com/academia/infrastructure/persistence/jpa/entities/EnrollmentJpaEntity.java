@@ -0,0 +1,41 @@
+package com.academia.infrastructure.persistence.jpa.entities;
+
+import com.academia.domain.model.enums.EnrollmentStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA de solo lectura para la tabla enrollments.
+ * Las inserciones se realizan por lotes JDBC desde {@code EnrollmentBatchWriter}.
+ */
+@Entity
+@Table(name = "enrollments",
+        uniqueConstraints = @UniqueConstraint(name = "uk_student_course", columnNames = {"student_user_id", "course_id"}))
+@Getter
+@Setter
+public class EnrollmentJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "student_user_id", nullable = false)
+    private Long studentUserId;
+
+    @Column(name = "course_id", nullable = false)
+    private Long courseId;
+
+    @Column(name = "enrollment_date")
+    private LocalDateTime enrollmentDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EnrollmentStatus status;
+
+    @Column(name = "final_grade", precision = 5, scale = 2)
+    private BigDecimal finalGrade;
+}
@@ -0,0 +1,29 @@
+package com.academia.infrastructure.persistence.jpa.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Entidad JPA de la configuración de reglas de inscripción de cada organización.
+ */
+@Entity
+@Table(name = "enrollment_rule_settings",
+        uniqueConstraints = @UniqueConstraint(name = "uk_enrollment_rule_organization", columnNames = {"organization_id", "rule_code"}))
+@Getter
+@Setter
+public class EnrollmentRuleSettingJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "organization_id", nullable = false)
+    private Long organizationId;
+
+    @Column(name = "rule_code", nullable = false, length = 50)
+    private String ruleCode;
+
+    @Column(nullable = false)
+    private boolean enabled;
+}
@@ -0,0 +1,40 @@
+package com.academia.infrastructure.persistence.jpa.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA de solo lectura para la tabla grades.
+ */
+@Entity
+@Table(name = "grades")
+@Getter
+@Setter
+public class GradeJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "submission_id", unique = true)
+    private Long submissionId;
+
+    @Column(name = "enrollment_id", nullable = false)
+    private Long enrollmentId;
+
+    @Column(nullable = false, precision = 5, scale = 2)
+    private BigDecimal grade;
+
+    @Column(name = "graded_at", columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL")
+    private LocalDateTime gradedAt;
+
+    @Column(name = "feedback_from_teacher", columnDefinition = "TEXT")
+    private String feedbackFromTeacher;
+
+    @Column(name = "teacher_user_id")
+    private Long teacherUserId;
+}
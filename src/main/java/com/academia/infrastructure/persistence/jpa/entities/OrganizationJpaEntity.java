@@ -12,8 +12,17 @@ import java.time.LocalDateTime;
 @Setter
 public class OrganizationJpaEntity {
 
+    // IDs asignados por bloques desde id_allocations para no romper el batching de inserciones
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "organizations_id_allocator")
+    @TableGenerator(
+            name = "organizations_id_allocator",
+            table = "id_allocations",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "organizations",
+            allocationSize = 50
+    )
     private Long id;
 
     @Column(nullable = false, unique = true, length = 36)
@@ -0,0 +1,31 @@
+package com.academia.infrastructure.persistence.jpa.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Entidad JPA de la relación estudiante-tutor. Hoy solo se lee, desde la exportación del padrón.
+ */
+@Entity
+@Table(name = "student_guardian_relationships")
+@Getter
+@Setter
+public class StudentGuardianRelationshipJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "student_user_id", nullable = false)
+    private Long studentUserId;
+
+    @Column(name = "guardian_user_id", nullable = false)
+    private Long guardianUserId;
+
+    @Column(name = "relationship_type", nullable = false, length = 50)
+    private String relationshipType;
+
+    @Column(name = "is_primary_contact")
+    private boolean isPrimaryContact;
+}
@@ -0,0 +1,59 @@
+package com.academia.infrastructure.persistence.jpa.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA de los trabajos de importación CSV de estudiantes.
+ * Se lee y escribe con JDBC desde {@code JdbcStudentImportJobRepository}.
+ */
+@Entity
+@Table(name = "student_import_jobs",
+        indexes = @Index(name = "idx_student_import_jobs_updated", columnList = "status, updated_at"))
+@Getter
+@Setter
+public class StudentImportJobJpaEntity {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "organization_id", nullable = false)
+    private Long organizationId;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "error_file", nullable = false, length = 1024)
+    private String errorFile;
+
+    @Column(name = "source_size", nullable = false)
+    private long sourceSize;
+
+    @Column(name = "bytes_read", nullable = false)
+    private long bytesRead;
+
+    @Column(name = "processed_rows", nullable = false)
+    private int processedRows;
+
+    @Column(name = "registered_rows", nullable = false)
+    private int registeredRows;
+
+    @Column(name = "rejected_rows", nullable = false)
+    private int rejectedRows;
+
+    @Column(name = "failure_reason", length = 500)
+    private String failureReason;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
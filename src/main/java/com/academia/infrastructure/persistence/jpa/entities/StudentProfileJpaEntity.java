@@ -2,9 +2,14 @@ package com.academia.infrastructure.persistence.jpa.entities;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDate;
 
@@ -13,11 +18,42 @@ import java.time.LocalDate;
 @Table(name = "student_profiles")
 @Getter
 @Setter
-public class StudentProfileJpaEntity {
+public class StudentProfileJpaEntity implements Persistable<Long> {
     @Id
     private Long userId; // Clave primaria y foránea a la vez
     private Long organizationId;
     private String studentIdNumber;
     private LocalDate enrollmentDate;
     private String currentGradeLevel;
-}
\ No newline at end of file
+
+    // El ID lo aporta el usuario, así que Spring Data no puede deducir si es nuevo: sin marca hace
+    // un merge (SELECT previo) y sirve tanto para altas como para cambios. Las altas la ponen con
+    // markNew() para insertar directamente.
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity;
+
+    @Override
+    public Long getId() {
+        return userId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    /**
+     * Marca el perfil como alta de un usuario recién creado: se inserta sin consultar si existe.
+     */
+    public void markNew() {
+        this.newEntity = true;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
@@ -0,0 +1,37 @@
+package com.academia.infrastructure.persistence.jpa.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "subjects")
+@Getter
+@Setter
+public class SubjectJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "organization_id", nullable = false)
+    private Long organizationId;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "subject_code", nullable = false, length = 20)
+    private String subjectCode;
+
+    @Column(name = "grade_level", length = 50)
+    private String gradeLevel;
+
+    @Column(name = "is_active")
+    private boolean isActive = true;
+
+    // Mismo valor por defecto que la migración V8
+    @Column(columnDefinition = "DECIMAL(4,1) DEFAULT 1.0 NOT NULL")
+    private BigDecimal credits = BigDecimal.ONE;
+}
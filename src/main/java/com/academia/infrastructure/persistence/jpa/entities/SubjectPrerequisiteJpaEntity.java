@@ -0,0 +1,27 @@
+package com.academia.infrastructure.persistence.jpa.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Entidad JPA de las correlativas: la materia {@code subjectId} exige {@code prerequisiteSubjectId} aprobada.
+ * Se lee con JDBC al compilar el grafo de correlativas de la organización.
+ */
+@Entity
+@Table(name = "subject_prerequisites",
+        uniqueConstraints = @UniqueConstraint(name = "uk_subject_prerequisite", columnNames = {"subject_id", "prerequisite_subject_id"}))
+@Getter
+@Setter
+public class SubjectPrerequisiteJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "subject_id", nullable = false)
+    private Long subjectId;
+
+    @Column(name = "prerequisite_subject_id", nullable = false)
+    private Long prerequisiteSubjectId;
+}
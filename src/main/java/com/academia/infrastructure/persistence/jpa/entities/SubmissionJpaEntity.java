@@ -0,0 +1,37 @@
+package com.academia.infrastructure.persistence.jpa.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA de solo lectura para la tabla submissions.
+ */
+@Entity
+@Table(name = "submissions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_submission_assignment_enrollment", columnNames = {"assignment_id", "enrollment_id"}))
+@Getter
+@Setter
+public class SubmissionJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "assignment_id", nullable = false)
+    private Long assignmentId;
+
+    @Column(name = "enrollment_id", nullable = false)
+    private Long enrollmentId;
+
+    @Column(name = "submitted_at", columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL")
+    private LocalDateTime submittedAt;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "notes_from_student", columnDefinition = "TEXT")
+    private String notesFromStudent;
+}
@@ -14,8 +14,17 @@ import java.time.LocalDateTime;
 @Setter
 public class UserJpaEntity {
 
+    // IDs asignados por bloques desde id_allocations para no romper el batching de inserciones
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id_allocator")
+    @TableGenerator(
+            name = "users_id_allocator",
+            table = "id_allocations",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "users",
+            allocationSize = 50
+    )
     private Long id;
 
     @Column(name = "organization_id")
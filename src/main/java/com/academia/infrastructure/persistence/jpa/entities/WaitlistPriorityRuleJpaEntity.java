@@ -0,0 +1,29 @@
+package com.academia.infrastructure.persistence.jpa.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Entidad JPA de la prioridad que cada organización da a un nivel en las listas de espera.
+ */
+@Entity
+@Table(name = "waitlist_priority_rules",
+        uniqueConstraints = @UniqueConstraint(name = "uk_waitlist_priority_level", columnNames = {"organization_id", "grade_level"}))
+@Getter
+@Setter
+public class WaitlistPriorityRuleJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "organization_id", nullable = false)
+    private Long organizationId;
+
+    @Column(name = "grade_level", nullable = false, length = 50)
+    private String gradeLevel;
+
+    @Column(nullable = false)
+    private int priority;
+}
@@ -0,0 +1,85 @@
+package com.academia.infrastructure.persistence.jpa.mappers;
+
+import com.academia.domain.model.aggregates.Course;
+import com.academia.domain.model.entities.AcademicTerm;
+import com.academia.domain.model.entities.Enrollment;
+import com.academia.domain.model.entities.Subject;
+import com.academia.domain.model.valueobjects.academic.Grade;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.infrastructure.persistence.jpa.entities.AcademicTermJpaEntity;
+import com.academia.infrastructure.persistence.jpa.entities.CourseJpaEntity;
+import com.academia.infrastructure.persistence.jpa.entities.EnrollmentJpaEntity;
+import com.academia.infrastructure.persistence.jpa.entities.SubjectJpaEntity;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+/**
+ * Mapper responsable de reconstruir el agregado Course a partir de sus entidades JPA.
+ * Course y sus entidades tienen campos final, por lo que se usan métodos custom.
+ */
+@Mapper(componentModel = "spring")
+public interface CourseMapper {
+
+    default Course toDomain(CourseJpaEntity jpaEntity) {
+        if (jpaEntity == null) {
+            return null;
+        }
+
+        CourseId courseId = new CourseId(jpaEntity.getId());
+        AccountId teacherId = jpaEntity.getTeacherUserId() != null ? new AccountId(jpaEntity.getTeacherUserId()) : null;
+
+        List<Enrollment> enrollments = jpaEntity.getEnrollments().stream()
+                .map(enrollment -> toDomain(enrollment, courseId))
+                .toList();
+
+        return new Course(
+                courseId,
+                toDomain(jpaEntity.getSubject()),
+                toDomain(jpaEntity.getAcademicTerm()),
+                teacherId,
+                jpaEntity.getCapacity(),
+                enrollments
+        );
+    }
+
+    default Subject toDomain(SubjectJpaEntity jpaEntity) {
+        if (jpaEntity == null) {
+            return null;
+        }
+        return new Subject(
+                jpaEntity.getId(),
+                new OrganizationId(jpaEntity.getOrganizationId()),
+                jpaEntity.getName(),
+                jpaEntity.getSubjectCode(),
+                jpaEntity.getGradeLevel()
+        );
+    }
+
+    default AcademicTerm toDomain(AcademicTermJpaEntity jpaEntity) {
+        if (jpaEntity == null) {
+            return null;
+        }
+        return new AcademicTerm(
+                jpaEntity.getId(),
+                new OrganizationId(jpaEntity.getOrganizationId()),
+                jpaEntity.getName(),
+                jpaEntity.getStartDate(),
+                jpaEntity.getEndDate()
+        );
+    }
+
+    default Enrollment toDomain(EnrollmentJpaEntity jpaEntity, CourseId courseId) {
+        Grade finalGrade = jpaEntity.getFinalGrade() != null ? new Grade(jpaEntity.getFinalGrade().doubleValue()) : null;
+        return new Enrollment(
+                jpaEntity.getId(),
+                new AccountId(jpaEntity.getStudentUserId()),
+                courseId,
+                jpaEntity.getStatus(),
+                finalGrade,
+                jpaEntity.getEnrollmentDate()
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package com.academia.infrastructure.persistence.jpa.projections;
+
+import com.academia.domain.model.enums.AccountStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Proyección plana de users JOIN student_profiles, construida directamente por la consulta JPQL.
+ */
+public record StudentDetailsRow(
+        Long accountId,
+        String firstName,
+        String lastName,
+        String email,
+        LocalDate birthDate,
+        AccountStatus accountStatus,
+        String studentIdNumber,
+        String currentGradeLevel,
+        LocalDate enrollmentDate
+) {}
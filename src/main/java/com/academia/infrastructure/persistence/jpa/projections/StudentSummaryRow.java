@@ -0,0 +1,16 @@
+package com.academia.infrastructure.persistence.jpa.projections;
+
+import com.academia.domain.model.enums.AccountStatus;
+
+/**
+ * Fila del listado de estudiantes: solo las columnas que muestra el listado.
+ */
+public record StudentSummaryRow(
+        Long accountId,
+        String firstName,
+        String lastName,
+        String email,
+        AccountStatus accountStatus,
+        String studentIdNumber,
+        String currentGradeLevel
+) {}
@@ -0,0 +1,5 @@
+package com.academia.infrastructure.persistence.jpa.repositories;
+
+import com.academia.infrastructure.persistence.jpa.entities.AcademicTermJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+public interface SpringAcademicTermRepository extends JpaRepository<AcademicTermJpaEntity, Long> {}
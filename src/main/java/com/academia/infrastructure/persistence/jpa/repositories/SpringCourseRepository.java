@@ -0,0 +1,50 @@
+package com.academia.infrastructure.persistence.jpa.repositories;
+
+import com.academia.infrastructure.persistence.jpa.entities.CourseJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface SpringCourseRepository extends JpaRepository<CourseJpaEntity, Long> {
+
+    /**
+     * Carga el curso con su materia, período e inscripciones en una única consulta.
+     */
+    @Query("SELECT DISTINCT c FROM CourseJpaEntity c " +
+            "JOIN FETCH c.subject " +
+            "JOIN FETCH c.academicTerm " +
+            "LEFT JOIN FETCH c.enrollments " +
+            "WHERE c.id = :id")
+    Optional<CourseJpaEntity> findByIdWithEnrollments(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE CourseJpaEntity c SET c.teacherUserId = :teacherId WHERE c.id = :id")
+    int updateTeacher(@Param("id") Long id, @Param("teacherId") Long teacherId);
+
+    @Modifying
+    @Query("UPDATE CourseJpaEntity c SET c.capacity = :capacity WHERE c.id = :id")
+    int updateCapacity(@Param("id") Long id, @Param("capacity") Integer capacity);
+
+    /**
+     * Ocupa vacantes solo si alcanzan: la condición y el incremento son una única sentencia,
+     * así que dos transacciones concurrentes no pueden leer el mismo contador y sobrepasar el cupo.
+     * Bloquea solo la fila del curso hasta el commit.
+     * @return 1 si se reservaron las vacantes, 0 si el curso no tiene suficientes.
+     */
+    @Modifying
+    @Query("UPDATE CourseJpaEntity c SET c.seatsTaken = c.seatsTaken + :seats " +
+            "WHERE c.id = :id AND (c.capacity IS NULL OR c.seatsTaken + :seats <= c.capacity)")
+    int reserveSeats(@Param("id") Long id, @Param("seats") int seats);
+
+    /**
+     * Devuelve vacantes de inscripciones retiradas. Comparte el bloqueo de fila con
+     * {@link #reserveSeats}, así que una reserva concurrente ve el contador ya descontado.
+     */
+    @Modifying
+    @Query("UPDATE CourseJpaEntity c SET c.seatsTaken = c.seatsTaken - :seats " +
+            "WHERE c.id = :id AND c.seatsTaken >= :seats")
+    int releaseSeats(@Param("id") Long id, @Param("seats") int seats);
+}
@@ -0,0 +1,7 @@
+package com.academia.infrastructure.persistence.jpa.repositories;
+
+import com.academia.infrastructure.persistence.jpa.entities.EnrollmentJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+public interface SpringEnrollmentRepository extends JpaRepository<EnrollmentJpaEntity, Long> {
+    long countByCourseId(Long courseId);
+}
@@ -1,6 +1,35 @@
 package com.academia.infrastructure.persistence.jpa.repositories;
+import com.academia.domain.model.enums.AccountStatus;
 import com.academia.infrastructure.persistence.jpa.entities.StudentProfileJpaEntity;
+import com.academia.infrastructure.persistence.jpa.projections.StudentSummaryRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 public interface SpringStudentProfileRepository extends JpaRepository<StudentProfileJpaEntity, Long> {
     boolean existsByOrganizationIdAndStudentIdNumber(Long organizationId, String studentIdNumber);
+
+    // Usa uk_student_id_organization: una sola consulta para todo el bloque
+    @Query("SELECT s.studentIdNumber FROM StudentProfileJpaEntity s " +
+            "WHERE s.organizationId = :organizationId AND s.studentIdNumber IN :studentIdNumbers")
+    List<String> findStudentIdNumbersIn(@Param("organizationId") Long organizationId,
+                                        @Param("studentIdNumbers") Collection<String> studentIdNumbers);
+
+    // Paginación por clave sobre idx_student_profiles_org_user / idx_student_profiles_org_grade_user:
+    // el coste de cada página no depende de cuántas filas la preceden
+    @Query("SELECT new com.academia.infrastructure.persistence.jpa.projections.StudentSummaryRow(" +
+            "u.id, u.firstName, u.lastName, u.email, u.accountStatus, s.studentIdNumber, s.currentGradeLevel) " +
+            "FROM StudentProfileJpaEntity s JOIN UserJpaEntity u ON u.id = s.userId " +
+            "WHERE s.organizationId = :organizationId AND s.userId > :afterUserId " +
+            "AND (:gradeLevel IS NULL OR s.currentGradeLevel = :gradeLevel) " +
+            "AND (:accountStatus IS NULL OR u.accountStatus = :accountStatus) " +
+            "ORDER BY s.userId")
+    List<StudentSummaryRow> findPageAfter(@Param("organizationId") Long organizationId,
+                                          @Param("afterUserId") Long afterUserId,
+                                          @Param("gradeLevel") String gradeLevel,
+                                          @Param("accountStatus") AccountStatus accountStatus,
+                                          Limit limit);
 }
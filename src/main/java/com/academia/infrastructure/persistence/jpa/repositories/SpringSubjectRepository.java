@@ -0,0 +1,5 @@
+package com.academia.infrastructure.persistence.jpa.repositories;
+
+import com.academia.infrastructure.persistence.jpa.entities.SubjectJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+public interface SpringSubjectRepository extends JpaRepository<SubjectJpaEntity, Long> {}
@@ -1,8 +1,26 @@
 package com.academia.infrastructure.persistence.jpa.repositories;
 import com.academia.infrastructure.persistence.jpa.entities.UserJpaEntity;
+import com.academia.infrastructure.persistence.jpa.projections.StudentDetailsRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 public interface SpringUserRepository extends JpaRepository<UserJpaEntity, Long> {
     Optional<UserJpaEntity> findByOrganizationIdAndEmail(Long organizationId, String email);
     boolean existsByOrganizationIdAndEmail(Long organizationId, String email);
+
+    // Usa uk_user_email_organization: una sola consulta para todo el bloque
+    @Query("SELECT u.email FROM UserJpaEntity u WHERE u.organizationId = :organizationId AND u.email IN :emails")
+    List<String> findEmailsIn(@Param("organizationId") Long organizationId, @Param("emails") Collection<String> emails);
+
+    // Proyección en una sola consulta, sin materializar entidades gestionadas
+    @Query("SELECT new com.academia.infrastructure.persistence.jpa.projections.StudentDetailsRow(" +
+            "u.id, u.firstName, u.lastName, u.email, u.birthDate, u.accountStatus, " +
+            "s.studentIdNumber, s.currentGradeLevel, s.enrollmentDate) " +
+            "FROM UserJpaEntity u JOIN StudentProfileJpaEntity s ON s.userId = u.id " +
+            "WHERE u.id = :accountId")
+    Optional<StudentDetailsRow> findStudentDetailsRow(@Param("accountId") Long accountId);
 }
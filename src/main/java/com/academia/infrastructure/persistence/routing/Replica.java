@@ -0,0 +1,32 @@
+package com.academia.infrastructure.persistence.routing;
+
+import lombok.Getter;
+
+import javax.sql.DataSource;
+
+/**
+ * Réplica de lectura con el estado de su última comprobación de salud.
+ * Arranca disponible; la primera comprobación corrige el estado si no lo está.
+ */
+@Getter
+public class Replica {
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean available = true;
+    private volatile Long lagSeconds;
+
+    public Replica(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    void update(Long lagSeconds, boolean available) {
+        this.lagSeconds = lagSeconds;
+        this.available = available;
+    }
+
+    void markDown() {
+        this.available = false;
+    }
+}
@@ -0,0 +1,145 @@
+package com.academia.infrastructure.persistence.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Enruta las transacciones {@code readOnly} a una réplica sana y el resto al primario.
+ * <p>
+ * La decisión usa el flag de la transacción en curso, que Spring fija después de abrir la
+ * conexión; por eso este DataSource debe ir envuelto en un
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, que retrasa la
+ * obtención de la conexión real hasta la primera sentencia.
+ * <p>
+ * Una réplica deja de recibir tráfico si no responde o si su retraso supera {@code maxLag};
+ * cuando no queda ninguna disponible, las lecturas vuelven al primario.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final RoutingListener listener;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas, Duration maxLag,
+                                    String lagQuery, String lagColumn, RoutingListener listener) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.listener = listener;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        this.replicas.forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            listener.routed(PRIMARY, false);
+            return PRIMARY;
+        }
+        // Round-robin entre las réplicas sanas, empezando en una posición distinta en cada llamada
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica candidate = replicas.get((start + i) % size);
+            if (candidate.isAvailable()) {
+                listener.routed(candidate.getName(), true);
+                return candidate.getName();
+            }
+        }
+        listener.routed(PRIMARY, true);
+        return PRIMARY;
+    }
+
+    /**
+     * Comprueba conectividad y retraso de cada réplica. Se invoca periódicamente desde la configuración.
+     */
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean wasAvailable = replica.isAvailable();
+            try (Connection connection = replica.getDataSource().getConnection()) {
+                if (!connection.isValid(2)) {
+                    replica.markDown();
+                } else {
+                    Long lagSeconds = lagQuery != null ? readLagSeconds(connection) : Long.valueOf(0L);
+                    replica.update(lagSeconds, lagSeconds != null && lagSeconds <= maxLag.toSeconds());
+                }
+            } catch (SQLException | RuntimeException e) {
+                log.debug("Comprobación fallida de la réplica {}: {}", replica.getName(), e.getMessage());
+                replica.markDown();
+            }
+            if (wasAvailable != replica.isAvailable()) {
+                log.warn("Réplica {} {} (retraso: {} s)", replica.getName(),
+                        replica.isAvailable() ? "vuelve a recibir lecturas" : "retirada del enrutamiento",
+                        replica.getLagSeconds());
+            }
+        }
+    }
+
+    /**
+     * Lee el retraso en segundos. {@code null} significa que la replicación está detenida.
+     */
+    private Long readLagSeconds(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                return null; // El servidor no es una réplica: no se puede saber si está al día
+            }
+            long lag = lagColumn != null ? rs.getLong(lagColumn) : rs.getLong(1);
+            return rs.wasNull() ? null : lag;
+        }
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.getDataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * Notificación de cada decisión de enrutamiento, usada para métricas.
+     */
+    @FunctionalInterface
+    public interface RoutingListener {
+        void routed(String target, boolean readOnly);
+    }
+}
@@ -0,0 +1,57 @@
+package com.academia.infrastructure.ranking;
+
+import java.util.Arrays;
+import java.util.OptionalInt;
+
+/**
+ * Resultado del ranking de una organización, en arreglos paralelos indexados por estudiante
+ * (en el mismo orden que {@link CompletedGrades}, es decir, por ID de cuenta).
+ */
+public final class ClassRanking {
+
+    private final long[] studentIds;
+    private final double[] gpa;
+    private final double[] totalCredits;
+    private final int[] completedCourses;
+    private final int[] rank;
+    private final double[] percentile;
+    private final int[] byRank; // índices de estudiante ordenados del primer puesto al último
+
+    ClassRanking(long[] studentIds, double[] gpa, double[] totalCredits, int[] completedCourses,
+                 int[] rank, double[] percentile, int[] byRank) {
+        this.studentIds = studentIds;
+        this.gpa = gpa;
+        this.totalCredits = totalCredits;
+        this.completedCourses = completedCourses;
+        this.rank = rank;
+        this.percentile = percentile;
+        this.byRank = byRank;
+    }
+
+    public int size() {
+        return studentIds.length;
+    }
+
+    /**
+     * @return El índice del estudiante, o vacío si no tiene cursos completados con nota.
+     */
+    public OptionalInt indexOf(long studentId) {
+        int index = Arrays.binarySearch(studentIds, studentId);
+        return index >= 0 ? OptionalInt.of(index) : OptionalInt.empty();
+    }
+
+    /**
+     * @param position Puesto en el orden del ranking, desde 0.
+     * @return El índice del estudiante que ocupa esa posición.
+     */
+    public int indexAtPosition(int position) {
+        return byRank[position];
+    }
+
+    public long studentId(int index) { return studentIds[index]; }
+    public double gpa(int index) { return gpa[index]; }
+    public double totalCredits(int index) { return totalCredits[index]; }
+    public int completedCourses(int index) { return completedCourses[index]; }
+    public int rank(int index) { return rank[index]; }
+    public double percentile(int index) { return percentile[index]; }
+}
@@ -0,0 +1,94 @@
+package com.academia.infrastructure.ranking;
+
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.ports.in.dtos.ClassRankingDTO;
+import com.academia.domain.ports.in.dtos.StudentStandingDTO;
+import com.academia.domain.ports.out.ClassRankingCalculator;
+import com.academia.infrastructure.persistence.jdbc.JdbcCompletedGradesReader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Ranking por promedio calculado en memoria con {@link GpaRankingEngine}.
+ * <p>
+ * El puesto de un estudiante depende de toda la organización, así que se calcula el ranking
+ * completo y se conserva unos minutos: las consultas individuales de ese intervalo lo reutilizan.
+ * Las notas finales solo cambian al cerrar cursos, por lo que el desfase es aceptable.
+ */
+@Slf4j
+@Component
+public class GpaClassRankingCalculator implements ClassRankingCalculator {
+
+    private final JdbcCompletedGradesReader reader;
+    private final GpaRankingEngine engine = new GpaRankingEngine();
+    private final Cache<Long, ClassRanking> rankings;
+    private final Timer computeTimer;
+
+    public GpaClassRankingCalculator(JdbcCompletedGradesReader reader,
+                                     @Value("${academia.ranking.cache-ttl:5m}") Duration cacheTtl,
+                                     MeterRegistry meterRegistry) {
+        this.reader = reader;
+        this.rankings = Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+        this.computeTimer = Timer.builder("academia.ranking.compute")
+                .description("Carga y cálculo del ranking de una organización")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, rankings, "class-rankings");
+    }
+
+    @Override
+    public ClassRankingDTO rank(OrganizationId organizationId, int limit) {
+        ClassRanking ranking = rankingOf(organizationId);
+        int size = Math.min(limit, ranking.size());
+        List<StudentStandingDTO> top = new ArrayList<>(size);
+        for (int position = 0; position < size; position++) {
+            top.add(toDto(ranking, ranking.indexAtPosition(position)));
+        }
+        return new ClassRankingDTO(organizationId.getValue(), ranking.size(), top);
+    }
+
+    @Override
+    public Optional<StudentStandingDTO> standingOf(OrganizationId organizationId, AccountId studentId) {
+        ClassRanking ranking = rankingOf(organizationId);
+        var index = ranking.indexOf(studentId.getValue());
+        return index.isPresent() ? Optional.of(toDto(ranking, index.getAsInt())) : Optional.empty();
+    }
+
+    private ClassRanking rankingOf(OrganizationId organizationId) {
+        return rankings.get(organizationId.getValue(), id -> computeTimer.record(() -> {
+            CompletedGrades grades = reader.load(id);
+            ClassRanking ranking = engine.rank(grades);
+            log.debug("Ranking de la organización {}: {} estudiantes, {} notas", id, ranking.size(), grades.gradeCount());
+            return ranking;
+        }));
+    }
+
+    private static StudentStandingDTO toDto(ClassRanking ranking, int index) {
+        return new StudentStandingDTO(
+                ranking.studentId(index),
+                round(ranking.gpa(index), 100),
+                round(ranking.totalCredits(index), 10),
+                ranking.completedCourses(index),
+                ranking.rank(index),
+                round(ranking.percentile(index), 10));
+    }
+
+    private static double round(double value, double scale) {
+        return Math.round(value * scale) / scale;
+    }
+}
@@ -0,0 +1,124 @@
+package com.academia.infrastructure.ranking;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Promedio ponderado por créditos, puesto y percentil de todos los estudiantes de una organización.
+ * <p>
+ * Trabaja sobre los arreglos de {@link CompletedGrades} sin crear objetos por nota ni por estudiante:
+ * los promedios se calculan en paralelo por bloques de estudiantes (fork/join), y el puesto y el
+ * percentil salen de una sola pasada sobre claves {@code long} ordenadas con
+ * {@link Arrays#parallelSort(long[])}.
+ * <p>
+ * Los empates se comparan con el promedio redondeado a 4 decimales y comparten puesto
+ * (1, 2, 2, 4). El percentil cuenta la mitad de los empatados:
+ * {@code (por debajo + empatados / 2) / total * 100}.
+ */
+public class GpaRankingEngine {
+
+    static final int THRESHOLD = 2048;
+    private static final double TIE_SCALE = 10_000d;
+
+    private final ForkJoinPool pool;
+
+    public GpaRankingEngine() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public GpaRankingEngine(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public ClassRanking rank(CompletedGrades grades) {
+        int n = grades.studentCount();
+        double[] gpa = new double[n];
+        double[] totalCredits = new double[n];
+        int[] completedCourses = new int[n];
+        long[] keys = new long[n];
+        pool.invoke(new AverageTask(grades, gpa, totalCredits, completedCourses, keys, 0, n));
+
+        // Clave: promedio escalado en los 32 bits altos e índice del estudiante en los bajos.
+        // El orden ascendente de las claves es el del promedio; el índice solo desempata el orden
+        Arrays.parallelSort(keys);
+
+        int[] rank = new int[n];
+        double[] percentile = new double[n];
+        int[] byRank = new int[n];
+        int position = 0;
+        for (int end = n; end > 0; ) {
+            long score = keys[end - 1] >>> 32;
+            int start = end - 1;
+            while (start > 0 && keys[start - 1] >>> 32 == score) {
+                start--;
+            }
+            int tied = end - start;
+            double groupPercentile = (start + tied / 2d) * 100d / n;
+            for (int k = start; k < end; k++) {
+                int index = (int) keys[k];
+                rank[index] = position + 1;
+                percentile[index] = groupPercentile;
+                byRank[position + (k - start)] = index;
+            }
+            position += tied;
+            end = start;
+        }
+        return new ClassRanking(grades.studentIds, gpa, totalCredits, completedCourses, rank, percentile, byRank);
+    }
+
+    private static final class AverageTask extends RecursiveAction {
+        private final CompletedGrades grades;
+        private final double[] gpa;
+        private final double[] totalCredits;
+        private final int[] completedCourses;
+        private final long[] keys;
+        private final int from;
+        private final int to;
+
+        AverageTask(CompletedGrades grades, double[] gpa, double[] totalCredits, int[] completedCourses,
+                    long[] keys, int from, int to) {
+            this.grades = grades;
+            this.gpa = gpa;
+            this.totalCredits = totalCredits;
+            this.completedCourses = completedCourses;
+            this.keys = keys;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                computeDirectly();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new AverageTask(grades, gpa, totalCredits, completedCourses, keys, from, middle),
+                      new AverageTask(grades, gpa, totalCredits, completedCourses, keys, middle, to));
+        }
+
+        private void computeDirectly() {
+            int[] offsets = grades.offsets;
+            double[] values = grades.grades;
+            double[] credits = grades.credits;
+            for (int i = from; i < to; i++) {
+                double weighted = 0;
+                double creditSum = 0;
+                double plainSum = 0;
+                for (int j = offsets[i]; j < offsets[i + 1]; j++) {
+                    weighted += values[j] * credits[j];
+                    creditSum += credits[j];
+                    plainSum += values[j];
+                }
+                int count = offsets[i + 1] - offsets[i];
+                // Sin créditos cargados todas las materias pesan igual
+                double average = creditSum > 0 ? weighted / creditSum : plainSum / count;
+                gpa[i] = average;
+                totalCredits[i] = creditSum;
+                completedCourses[i] = count;
+                keys[i] = Math.round(average * TIE_SCALE) << 32 | i;
+            }
+        }
+    }
+}
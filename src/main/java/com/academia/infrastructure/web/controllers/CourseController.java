@@ -1,30 +1,267 @@
 package com.academia.infrastructure.web.controllers;
 
+import com.academia.application.exceptions.ResourceNotFoundException;
 import com.academia.domain.ports.in.commands.EnrollStudentInCourseCommand;
+import com.academia.domain.ports.in.course.ChangeCourseCapacityUseCase;
+import com.academia.domain.ports.in.course.CheckInUseCase;
 import com.academia.domain.ports.in.course.EnrollStudentInCourseUseCase;
+import com.academia.domain.ports.in.course.GetAttendanceStatisticsQuery;
+import com.academia.domain.ports.in.course.JoinCourseWaitlistUseCase;
+import com.academia.domain.ports.in.course.MarkAttendanceUseCase;
+import com.academia.domain.ports.in.course.RecordGradesUseCase;
+import com.academia.domain.ports.in.course.WithdrawStudentFromCourseUseCase;
+import com.academia.domain.ports.in.dtos.AttendanceSheetResultDTO;
+import com.academia.domain.ports.in.dtos.CheckInCodeDTO;
+import com.academia.domain.ports.in.dtos.CheckInResultDTO;
+import com.academia.domain.ports.in.dtos.CourseAttendanceSummaryDTO;
+import com.academia.domain.ports.in.dtos.CourseCapacityDTO;
 import com.academia.domain.ports.in.dtos.EnrollmentResultDTO;
+import com.academia.domain.ports.in.dtos.GradeSheetResultDTO;
+import com.academia.domain.ports.in.dtos.WaitlistEntryDTO;
+import com.academia.domain.ports.in.dtos.WithdrawalResultDTO;
+import com.academia.infrastructure.web.mappers.CheckInRequestMapper;
 import com.academia.infrastructure.web.mappers.EnrollStudentRequestMapper;
+import com.academia.infrastructure.web.mappers.MarkAttendanceRequestMapper;
+import com.academia.infrastructure.web.mappers.RecordGradesRequestMapper;
+import com.academia.infrastructure.web.requests.ChangeCourseCapacityRequest;
+import com.academia.infrastructure.web.requests.CheckInRequest;
 import com.academia.infrastructure.web.requests.EnrollStudentInCourseRequest;
+import com.academia.infrastructure.web.requests.MarkAttendanceRequest;
+import com.academia.infrastructure.web.requests.RecordGradesRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+
 @RestController
 @RequestMapping("/api/v1/courses")
 @RequiredArgsConstructor
+@Slf4j
 public class CourseController {
 
     private final EnrollStudentInCourseUseCase enrollStudentUseCase;
+    private final JoinCourseWaitlistUseCase joinCourseWaitlistUseCase;
+    private final WithdrawStudentFromCourseUseCase withdrawStudentUseCase;
+    private final ChangeCourseCapacityUseCase changeCourseCapacityUseCase;
+    private final MarkAttendanceUseCase markAttendanceUseCase;
+    private final CheckInUseCase checkInUseCase;
+    private final GetAttendanceStatisticsQuery attendanceStatisticsQuery;
+    private final RecordGradesUseCase recordGradesUseCase;
     private final EnrollStudentRequestMapper requestMapper;
+    private final MarkAttendanceRequestMapper attendanceRequestMapper;
+    private final CheckInRequestMapper checkInRequestMapper;
+    private final RecordGradesRequestMapper gradesRequestMapper;
 
     @PostMapping("/enroll")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estudiante inscrito"),
+            @ApiResponse(responseCode = "404", description = "El estudiante o el curso no existen"),
+            @ApiResponse(responseCode = "409", description = "El curso no tiene vacantes, el estudiante ya está inscrito o no cumple una regla de inscripción")
+    })
     public ResponseEntity<EnrollmentResultDTO> enrollStudent(@Valid @RequestBody EnrollStudentInCourseRequest request) {
         EnrollStudentInCourseCommand command = requestMapper.toCommand(request);
-        EnrollmentResultDTO result = enrollStudentUseCase.enrollStudent(command);
-        return ResponseEntity.ok(result);
+        try {
+            return ResponseEntity.ok(enrollStudentUseCase.enrollStudent(command));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            log.info("Inscripción rechazada del estudiante {} en el curso {}: {}",
+                    request.studentAccountId(), request.courseId(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (DataIntegrityViolationException e) {
+            // Dos pedidos simultáneos del mismo estudiante pasan el control en memoria; el segundo choca con uk_student_course
+            log.info("Inscripción duplicada del estudiante {} en el curso {}", request.studentAccountId(), request.courseId());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @PostMapping("/waitlist")
+    @Operation(
+            summary = "Anotarse en la lista de espera de un curso completo",
+            description = "El orden de promoción es la prioridad que la organización da al nivel del estudiante " +
+                    "y, a igual prioridad, la fecha del pedido."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estudiante en la lista de espera"),
+            @ApiResponse(responseCode = "404", description = "El estudiante o el curso no existen"),
+            @ApiResponse(responseCode = "409", description = "El curso tiene vacantes, el estudiante ya está inscrito o en la lista, o no cumple una regla de inscripción")
+    })
+    public ResponseEntity<WaitlistEntryDTO> joinWaitlist(@Valid @RequestBody EnrollStudentInCourseRequest request) {
+        EnrollStudentInCourseCommand command = requestMapper.toCommand(request);
+        try {
+            return ResponseEntity.ok(joinCourseWaitlistUseCase.joinWaitlist(command));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            log.info("Lista de espera rechazada del estudiante {} en el curso {}: {}",
+                    request.studentAccountId(), request.courseId(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @PostMapping("/{courseId}/enrollments/{studentAccountId}/withdraw")
+    @Operation(
+            summary = "Retirar a un estudiante de un curso",
+            description = "La vacante liberada pasa, en la misma operación, al siguiente de la lista de espera " +
+                    "que cumpla las reglas de inscripción."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estudiante retirado"),
+            @ApiResponse(responseCode = "400", description = "El estudiante no está inscrito en el curso"),
+            @ApiResponse(responseCode = "404", description = "El curso no existe"),
+            @ApiResponse(responseCode = "409", description = "La inscripción ya está completada")
+    })
+    public ResponseEntity<WithdrawalResultDTO> withdrawStudent(@PathVariable Long courseId,
+                                                               @PathVariable Long studentAccountId) {
+        try {
+            return ResponseEntity.ok(withdrawStudentUseCase.withdrawStudent(courseId, studentAccountId));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @PutMapping("/{courseId}/capacity")
+    @Operation(
+            summary = "Cambiar el cupo de un curso",
+            description = "Fija la cantidad de vacantes, o quita el límite si el cupo es nulo. " +
+                    "Bajarlo por debajo de los inscritos solo cierra las nuevas inscripciones."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cupo actualizado"),
+            @ApiResponse(responseCode = "400", description = "Cupo menor a una vacante"),
+            @ApiResponse(responseCode = "404", description = "El curso no existe")
+    })
+    public ResponseEntity<CourseCapacityDTO> changeCapacity(@PathVariable Long courseId,
+                                                            @Valid @RequestBody ChangeCourseCapacityRequest request) {
+        try {
+            return ResponseEntity.ok(changeCourseCapacityUseCase.changeCapacity(courseId, request.capacity()));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/{courseId}/sessions/{sessionDate}/attendance")
+    @Operation(
+            summary = "Tomar asistencia de una sesión",
+            description = "Registra en una sola operación la asistencia de todos los estudiantes del curso " +
+                    "para la fecha indicada. Si la sesión ya tenía asistencia, las marcas enviadas la reemplazan."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Asistencia registrada"),
+            @ApiResponse(responseCode = "400", description = "Fecha futura, estudiante no inscrito o repetido"),
+            @ApiResponse(responseCode = "404", description = "El curso no existe")
+    })
+    public ResponseEntity<AttendanceSheetResultDTO> markAttendance(
+            @PathVariable Long courseId,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate sessionDate,
+            @Valid @RequestBody MarkAttendanceRequest request) {
+        try {
+            return ResponseEntity.ok(markAttendanceUseCase.markAttendance(
+                    attendanceRequestMapper.toCommand(courseId, sessionDate, request)));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            log.warn("Asistencia rechazada para el curso {} el {}: {}", courseId, sessionDate, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{courseId}/check-in-code")
+    @Operation(
+            summary = "Obtener el código de auto-registro",
+            description = "Devuelve el código de la sesión de hoy, que el docente muestra o codifica en un QR."
+    )
+    public ResponseEntity<CheckInCodeDTO> getCheckInCode(@PathVariable Long courseId) {
+        try {
+            return ResponseEntity.ok(checkInUseCase.issueCode(courseId));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @PostMapping("/{courseId}/check-in")
+    @Operation(
+            summary = "Auto-registro de presencia",
+            description = "El estudiante registra su presencia en la sesión de hoy con el código del curso. " +
+                    "La respuesta llega antes de que el registro figure en la asistencia: se vuelca por lotes."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Registro aceptado"),
+            @ApiResponse(responseCode = "400", description = "Código inválido o estudiante no inscrito"),
+            @ApiResponse(responseCode = "404", description = "El curso no existe")
+    })
+    public ResponseEntity<CheckInResultDTO> checkIn(@PathVariable Long courseId,
+                                                    @Valid @RequestBody CheckInRequest request) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(checkInUseCase.checkIn(checkInRequestMapper.toCommand(courseId, request)));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            log.debug("Auto-registro rechazado en el curso {}: {}", courseId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{courseId}/attendance/summary")
+    @Operation(
+            summary = "Resumen de asistencia del curso",
+            description = "Tasa de asistencia y racha actual de ausencias de cada inscripción en el período lectivo. " +
+                    "Las faltas justificadas no cuentan para la tasa."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resumen por inscripción"),
+            @ApiResponse(responseCode = "404", description = "El curso no existe")
+    })
+    public ResponseEntity<CourseAttendanceSummaryDTO> getAttendanceSummary(@PathVariable Long courseId) {
+        try {
+            return ResponseEntity.ok(attendanceStatisticsQuery.summarizeCourse(courseId));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @PostMapping("/{courseId}/grades/bulk")
+    @Operation(
+            summary = "Cargar calificaciones en bloque",
+            description = "Registra en una sola operación las notas (0-100) de varias tareas para varios estudiantes. " +
+                    "Una nota ya cargada para el mismo estudiante y tarea se reemplaza. Si alguna fila es inválida, no se guarda ninguna."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calificaciones registradas"),
+            @ApiResponse(responseCode = "400", description = "Nota fuera de rango, estudiante no inscrito, tarea ajena al curso o celda repetida"),
+            @ApiResponse(responseCode = "404", description = "El curso no existe")
+    })
+    public ResponseEntity<GradeSheetResultDTO> recordGrades(@PathVariable Long courseId,
+                                                            @Valid @RequestBody RecordGradesRequest request) {
+        try {
+            return ResponseEntity.ok(recordGradesUseCase.recordGrades(gradesRequestMapper.toCommand(courseId, request)));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            log.warn("Calificaciones rechazadas para el curso {}: {}", courseId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 }
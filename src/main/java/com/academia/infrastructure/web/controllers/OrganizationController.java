@@ -1,10 +1,23 @@
 package com.academia.infrastructure.web.controllers;
 
+import com.academia.application.exceptions.ResourceNotFoundException;
 import com.academia.domain.ports.in.commands.CreateOrganizationCommand;
+import com.academia.domain.ports.in.course.GetAttendanceStatisticsQuery;
+import com.academia.domain.ports.in.dtos.AbsenceReportDTO;
+import com.academia.domain.ports.in.dtos.ClassRankingDTO;
 import com.academia.domain.ports.in.dtos.OrganizationDetailsDTO;
+import com.academia.domain.ports.in.dtos.StudentPageDTO;
+import com.academia.domain.ports.in.dtos.StudentStandingDTO;
 import com.academia.domain.ports.in.organization.CreateOrganizationUseCase;
+import com.academia.domain.ports.in.queries.ListStudentsQuery;
+import com.academia.domain.ports.in.student.ExportStudentRosterUseCase;
+import com.academia.domain.ports.in.student.GetClassRankingQuery;
+import com.academia.domain.ports.in.student.ListOrganizationStudentsQuery;
 import com.academia.infrastructure.web.mappers.OrganizationRequestMapper;
+import com.academia.infrastructure.web.export.RosterFormat;
+import com.academia.infrastructure.web.export.RosterWriter;
 import com.academia.infrastructure.web.requests.CreateOrganizationRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -13,10 +26,25 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/v1/organizations")
@@ -26,6 +54,11 @@ import org.springframework.web.bind.annotation.*;
 public class OrganizationController {
 
     private final CreateOrganizationUseCase createOrganizationUseCase;
+    private final ListOrganizationStudentsQuery listOrganizationStudentsQuery;
+    private final ExportStudentRosterUseCase exportStudentRosterUseCase;
+    private final GetAttendanceStatisticsQuery attendanceStatisticsQuery;
+    private final GetClassRankingQuery classRankingQuery;
+    private final ObjectMapper objectMapper;
     private final OrganizationRequestMapper requestMapper;
 
     @PostMapping
@@ -78,4 +111,153 @@ public class OrganizationController {
         log.info("Solicitud para obtener organización con ID: {}", organizationId);
         return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
     }
+
+    @GetMapping("/{organizationId}/students")
+    @Operation(
+            summary = "Listar estudiantes de la organización",
+            description = "Lista los estudiantes ordenados por ID de cuenta. Para la página siguiente, " +
+                    "enviar en 'after' el valor 'nextCursor' de la respuesta anterior."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de estudiantes"),
+            @ApiResponse(responseCode = "400", description = "Tamaño de página o filtro inválido"),
+            @ApiResponse(responseCode = "404", description = "La organización no existe")
+    })
+    public ResponseEntity<StudentPageDTO> listStudents(@PathVariable Long organizationId,
+                                                       @RequestParam(required = false) Long after,
+                                                       @RequestParam(required = false) Integer size,
+                                                       @RequestParam(required = false) String gradeLevel,
+                                                       @RequestParam(required = false) String accountStatus) {
+        try {
+            return ResponseEntity.ok(listOrganizationStudentsQuery.listStudents(
+                    new ListStudentsQuery(organizationId, after, size, gradeLevel, accountStatus)));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            log.warn("Parámetros inválidos al listar estudiantes de la organización {}: {}", organizationId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{organizationId}/attendance/absences")
+    @Operation(
+            summary = "Ausentes del día en la organización",
+            description = "Estudiantes marcados como ausentes en la fecha indicada (hoy si se omite), en todos los cursos."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listado de ausencias"),
+            @ApiResponse(responseCode = "404", description = "La organización no existe")
+    })
+    public ResponseEntity<AbsenceReportDTO> listAbsences(
+            @PathVariable Long organizationId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        try {
+            return ResponseEntity.ok(attendanceStatisticsQuery.findAbsences(
+                    organizationId, date != null ? date : LocalDate.now()));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping("/{organizationId}/class-ranking")
+    @Operation(
+            summary = "Ranking de estudiantes por promedio",
+            description = "Primeros puestos según el promedio de los cursos completados, ponderado por los " +
+                    "créditos de cada materia. Los empatados comparten puesto."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ranking de la organización"),
+            @ApiResponse(responseCode = "400", description = "Cantidad de puestos inválida"),
+            @ApiResponse(responseCode = "404", description = "La organización no existe")
+    })
+    public ResponseEntity<ClassRankingDTO> getClassRanking(@PathVariable Long organizationId,
+                                                           @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(classRankingQuery.getRanking(organizationId, limit));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            log.warn("Parámetros inválidos para el ranking de la organización {}: {}", organizationId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{organizationId}/class-ranking/students/{studentAccountId}")
+    @Operation(
+            summary = "Posición de un estudiante en el ranking",
+            description = "Promedio ponderado, puesto y percentil del estudiante dentro de la organización."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Posición del estudiante"),
+            @ApiResponse(responseCode = "404", description = "La organización no existe o el estudiante no tiene cursos completados")
+    })
+    public ResponseEntity<StudentStandingDTO> getStudentStanding(@PathVariable Long organizationId,
+                                                                 @PathVariable Long studentAccountId) {
+        try {
+            return classRankingQuery.getStanding(organizationId, studentAccountId)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping("/{organizationId}/students/export")
+    @Operation(
+            summary = "Exportar el padrón de estudiantes",
+            description = "Descarga el padrón completo (cuenta, perfil y tutores) en CSV o NDJSON. " +
+                    "La respuesta se genera a medida que se leen las filas, sin cargar el padrón en memoria."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Padrón exportado"),
+            @ApiResponse(responseCode = "400", description = "Formato no soportado"),
+            @ApiResponse(responseCode = "404", description = "La organización no existe")
+    })
+    public ResponseEntity<StreamingResponseBody> exportStudents(@PathVariable Long organizationId,
+                                                                @RequestParam(defaultValue = "csv") String format,
+                                                                @RequestParam(defaultValue = "false") boolean gzip) {
+        RosterFormat rosterFormat;
+        ExportStudentRosterUseCase.RosterExport export;
+        try {
+            rosterFormat = RosterFormat.from(format);
+            export = exportStudentRosterUseCase.prepareExport(organizationId);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            log.warn("Exportación inválida para la organización {}: {}", organizationId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream target = gzip ? new GZIPOutputStream(outputStream, 64 * 1024) : outputStream;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 64 * 1024);
+            RosterWriter rosterWriter = rosterFormat.open(writer, objectMapper);
+            try {
+                export.forEachEntry(entry -> {
+                    try {
+                        rosterWriter.write(entry);
+                    } catch (IOException e) {
+                        // El cliente cortó la descarga: se aborta la lectura y se libera el cursor
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            rosterWriter.finish();
+            if (target instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+        };
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(rosterFormat.contentType() + ";charset=UTF-8"));
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename("padron-" + organizationId + "." + rosterFormat.extension())
+                .build());
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
 }
@@ -1,22 +1,51 @@
 package com.academia.infrastructure.web.controllers;
 
+import com.academia.application.exceptions.ResourceNotFoundException;
+import com.academia.domain.ports.in.commands.BulkRegisterStudentsCommand;
 import com.academia.domain.ports.in.commands.RegisterNewStudentCommand;
+import com.academia.domain.ports.in.dtos.BulkRegistrationResultDTO;
 import com.academia.domain.ports.in.dtos.StudentDetailsDTO;
+import com.academia.domain.ports.in.dtos.TranscriptDTO;
+import com.academia.domain.ports.in.queries.GetStudentDetailsQuery;
+import com.academia.domain.ports.in.student.BulkRegisterStudentsUseCase;
+import com.academia.domain.ports.in.student.FindStudentDetailsQuery;
+import com.academia.domain.ports.in.student.GetTranscriptQuery;
 import com.academia.domain.ports.in.student.RegisterNewStudentUseCase;
+import com.academia.infrastructure.imports.StudentImportJob;
+import com.academia.infrastructure.imports.StudentImportService;
 import com.academia.infrastructure.web.mappers.RegisterStudentRequestMapper;
+import com.academia.infrastructure.web.requests.BulkRegisterStudentsRequest;
 import com.academia.infrastructure.web.requests.RegisterStudentRequest;
+import com.academia.infrastructure.web.responses.StudentImportStatusResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 @RestController
 @RequestMapping("/api/v1/students")
 @RequiredArgsConstructor
+@Slf4j
 public class StudentController {
 
     private final RegisterNewStudentUseCase registerNewStudentUseCase;
+    private final BulkRegisterStudentsUseCase bulkRegisterStudentsUseCase;
+    private final FindStudentDetailsQuery findStudentDetailsQuery;
+    private final GetTranscriptQuery getTranscriptQuery;
+    private final StudentImportService studentImportService;
     private final RegisterStudentRequestMapper requestMapper; // Spring ahora puede inyectar esto
 
     @PostMapping("/register")
@@ -30,4 +59,76 @@ public class StudentController {
         // 3. Devolver la respuesta
         return ResponseEntity.status(HttpStatus.CREATED).body(studentDetails);
     }
-}
\ No newline at end of file
+
+    @PostMapping("/register/bulk")
+    public ResponseEntity<BulkRegistrationResultDTO> registerStudents(@Valid @RequestBody BulkRegisterStudentsRequest request) {
+        BulkRegisterStudentsCommand command = requestMapper.toCommand(request);
+        BulkRegistrationResultDTO result = bulkRegisterStudentsUseCase.registerStudents(command);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/{accountId}")
+    public ResponseEntity<StudentDetailsDTO> getStudentDetails(@PathVariable Long accountId) {
+        return findStudentDetailsQuery.findStudentDetails(new GetStudentDetailsQuery(accountId))
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{accountId}/transcript")
+    public ResponseEntity<TranscriptDTO> getTranscript(@PathVariable Long accountId) {
+        TranscriptDTO transcript;
+        try {
+            transcript = getTranscriptQuery.getTranscript(accountId);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+        // Con ETag en la respuesta, Spring compara If-None-Match y responde 304 sin cuerpo si no cambió.
+        // no-cache: el navegador lo guarda pero revalida cada vez, así nunca muestra notas viejas
+        return ResponseEntity.ok()
+                .eTag(transcript.version())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(transcript);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StudentImportStatusResponse> importStudents(@RequestParam Long organizationId,
+                                                                      @RequestParam("file") MultipartFile file) {
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        Path sourceFile = null;
+        try {
+            // Se copia a disco: la importación continúa después de que termine la petición
+            sourceFile = Files.createTempFile("student-import-", ".csv");
+            file.transferTo(sourceFile);
+            StudentImportJob job = studentImportService.start(organizationId, sourceFile);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(StudentImportStatusResponse.from(job));
+        } catch (IOException e) {
+            log.error("No se pudo recibir el archivo de importación", e);
+            if (sourceFile != null) {
+                sourceFile.toFile().delete();
+            }
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<StudentImportStatusResponse> getImportStatus(@PathVariable String jobId) {
+        return studentImportService.findJob(jobId)
+                .map(StudentImportStatusResponse::from)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/import/{jobId}/errors")
+    public ResponseEntity<Resource> getImportErrors(@PathVariable String jobId) {
+        return studentImportService.findJob(jobId)
+                .filter(StudentImportJob::isFinished)
+                .map(job -> ResponseEntity.ok()
+                        .contentType(MediaType.parseMediaType("text/csv;charset=UTF-8"))
+                        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                .filename("errores-importacion-" + jobId + ".csv").build().toString())
+                        .<Resource>body(new FileSystemResource(job.getErrorFile())))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,67 @@
+package com.academia.infrastructure.web.export;
+
+import com.academia.domain.ports.in.dtos.RosterEntryDTO;
+import com.academia.domain.ports.in.dtos.RosterEntryDTO.GuardianEntryDTO;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.stream.Collectors;
+
+/**
+ * CSV según RFC 4180. Los tutores se agrupan en una única columna ("Nombre (Relación)", separados por ';').
+ * Los valores que empiezan con =, +, - o @ se prefijan con un apóstrofo para que las hojas de
+ * cálculo no los interpreten como fórmulas.
+ */
+public class RosterCsvWriter implements RosterWriter {
+
+    private static final String HEADER = "account_id,first_name,last_name,email,birth_date,account_status," +
+            "student_id_number,current_grade_level,enrollment_date,guardians\r\n";
+
+    private final Writer out;
+
+    public RosterCsvWriter(Writer out) throws IOException {
+        this.out = out;
+        out.write(HEADER);
+    }
+
+    @Override
+    public void write(RosterEntryDTO entry) throws IOException {
+        out.write(String.valueOf(entry.accountId()));
+        field(entry.firstName());
+        field(entry.lastName());
+        field(entry.email());
+        field(entry.birthDate() != null ? entry.birthDate().toString() : null);
+        field(entry.accountStatus());
+        field(entry.studentIdNumber());
+        field(entry.currentGradeLevel());
+        field(entry.enrollmentDate() != null ? entry.enrollmentDate().toString() : null);
+        field(entry.guardians().stream()
+                .map(RosterCsvWriter::describe)
+                .collect(Collectors.joining("; ")));
+        out.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        out.flush();
+    }
+
+    private void field(String value) throws IOException {
+        out.write(',');
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        String safe = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (safe.indexOf(',') >= 0 || safe.indexOf('"') >= 0 || safe.indexOf('\n') >= 0 || safe.indexOf('\r') >= 0) {
+            out.write('"');
+            out.write(safe.replace("\"", "\"\""));
+            out.write('"');
+        } else {
+            out.write(safe);
+        }
+    }
+
+    private static String describe(GuardianEntryDTO guardian) {
+        return guardian.fullName() + " (" + guardian.relationshipType() + (guardian.isPrimaryContact() ? ", principal" : "") + ")";
+    }
+}
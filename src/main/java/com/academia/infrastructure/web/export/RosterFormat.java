@@ -0,0 +1,46 @@
+package com.academia.infrastructure.web.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Formatos de salida de la exportación del padrón.
+ */
+public enum RosterFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    RosterFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public RosterWriter open(Writer out, ObjectMapper objectMapper) throws IOException {
+        return switch (this) {
+            case CSV -> new RosterCsvWriter(out);
+            case NDJSON -> new RosterNdjsonWriter(out, objectMapper);
+        };
+    }
+
+    public static RosterFormat from(String value) {
+        for (RosterFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Formato de exportación no soportado: " + value);
+    }
+}
@@ -0,0 +1,45 @@
+package com.academia.infrastructure.web.export;
+
+import com.academia.domain.ports.in.dtos.RosterEntryDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * NDJSON: un objeto JSON por línea, serializado con el ObjectMapper de la aplicación
+ * para respetar su formato de fechas y de nulos.
+ */
+public class RosterNdjsonWriter implements RosterWriter {
+
+    private final Writer out;
+    private final SequenceWriter sequenceWriter;
+    private boolean empty = true;
+
+    public RosterNdjsonWriter(Writer out, ObjectMapper objectMapper) throws IOException {
+        this.out = out;
+        this.sequenceWriter = objectMapper.writer()
+                .withRootValueSeparator("\n")
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE) // Sin flush por fila: se vacía al llenar el buffer
+                .writeValues(out);
+    }
+
+    @Override
+    public void write(RosterEntryDTO entry) throws IOException {
+        sequenceWriter.write(entry);
+        empty = false;
+    }
+
+    @Override
+    public void finish() throws IOException {
+        sequenceWriter.flush();
+        if (!empty) {
+            out.write('\n'); // El separador solo va entre valores; la última línea también termina en salto
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,18 @@
+package com.academia.infrastructure.web.export;
+
+import com.academia.domain.ports.in.dtos.RosterEntryDTO;
+
+import java.io.IOException;
+
+/**
+ * Escribe las filas del padrón en el formato de salida, una a una y sin retenerlas.
+ */
+public interface RosterWriter {
+
+    void write(RosterEntryDTO entry) throws IOException;
+
+    /**
+     * Completa el documento y vacía los buffers. No cierra el destino.
+     */
+    void finish() throws IOException;
+}
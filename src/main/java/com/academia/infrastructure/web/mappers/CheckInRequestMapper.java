@@ -0,0 +1,15 @@
+package com.academia.infrastructure.web.mappers;
+
+import com.academia.domain.ports.in.commands.CheckInCommand;
+import com.academia.infrastructure.web.requests.CheckInRequest;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface CheckInRequestMapper {
+    @Mapping(target = "courseId", source = "courseId")
+    @Mapping(target = "studentAccountId", source = "request.studentAccountId")
+    @Mapping(target = "code", source = "request.code")
+    CheckInCommand toCommand(Long courseId, CheckInRequest request);
+}
@@ -0,0 +1,20 @@
+package com.academia.infrastructure.web.mappers;
+
+import com.academia.domain.ports.in.commands.MarkAttendanceCommand;
+import com.academia.infrastructure.web.requests.MarkAttendanceRequest;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+import java.time.LocalDate;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface MarkAttendanceRequestMapper {
+    /**
+     * Combina el curso y la fecha de la ruta con las marcas del cuerpo de la petición.
+     */
+    @Mapping(target = "courseId", source = "courseId")
+    @Mapping(target = "sessionDate", source = "sessionDate")
+    @Mapping(target = "entries", source = "request.entries")
+    MarkAttendanceCommand toCommand(Long courseId, LocalDate sessionDate, MarkAttendanceRequest request);
+}
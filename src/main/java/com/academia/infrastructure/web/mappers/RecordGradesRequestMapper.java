@@ -0,0 +1,17 @@
+package com.academia.infrastructure.web.mappers;
+
+import com.academia.domain.ports.in.commands.RecordGradesCommand;
+import com.academia.infrastructure.web.requests.RecordGradesRequest;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface RecordGradesRequestMapper {
+    /**
+     * Combina el curso de la ruta con las calificaciones del cuerpo de la petición.
+     */
+    @Mapping(target = "courseId", source = "courseId")
+    @Mapping(target = "entries", source = "request.entries")
+    RecordGradesCommand toCommand(Long courseId, RecordGradesRequest request);
+}
@@ -1,6 +1,8 @@
 package com.academia.infrastructure.web.mappers;
 
+import com.academia.domain.ports.in.commands.BulkRegisterStudentsCommand;
 import com.academia.domain.ports.in.commands.RegisterNewStudentCommand;
+import com.academia.infrastructure.web.requests.BulkRegisterStudentsRequest;
 import com.academia.infrastructure.web.requests.RegisterStudentRequest;
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingConstants;
@@ -18,4 +20,11 @@ public interface RegisterStudentRequestMapper {
      * @return El Comando listo para ser procesado por el caso de uso.
      */
     RegisterNewStudentCommand toCommand(RegisterStudentRequest request);
+
+    /**
+     * Convierte la solicitud de registro masivo en su Comando de dominio, fila por fila.
+     * @param request El DTO de la solicitud entrante.
+     * @return El Comando con todas las filas del lote.
+     */
+    BulkRegisterStudentsCommand toCommand(BulkRegisterStudentsRequest request);
 }
@@ -0,0 +1,30 @@
+package com.academia.infrastructure.web.requests;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO que representa el cuerpo de la petición HTTP para el registro masivo de estudiantes.
+ * Las filas no se validan aquí: el caso de uso las valida una a una y devuelve el resultado
+ * de cada fila, de modo que un error aislado no rechaza el lote completo.
+ */
+public record BulkRegisterStudentsRequest(
+        @NotNull
+        Long organizationId,
+
+        @NotEmpty @Size(max = 20000)
+        List<StudentRow> students
+) {
+    public record StudentRow(
+            String firstName,
+            String lastName,
+            String email,
+            LocalDate birthDate,
+            String studentIdNumber, // Legajo
+            LocalDate enrollmentDate,
+            String initialGradeLevel
+    ) {}
+}
@@ -0,0 +1,8 @@
+package com.academia.infrastructure.web.requests;
+
+import jakarta.validation.constraints.Min;
+
+public record ChangeCourseCapacityRequest(
+        @Min(1)
+        Integer capacity // Nulo: sin límite de vacantes
+) {}
@@ -0,0 +1,13 @@
+package com.academia.infrastructure.web.requests;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record CheckInRequest(
+        @NotNull
+        Long studentAccountId,
+
+        @NotBlank @Size(max = 12)
+        String code // Código de la sesión, tipeado o leído del QR
+) {}
@@ -0,0 +1,28 @@
+package com.academia.infrastructure.web.requests;
+
+import com.academia.domain.model.enums.AttendanceStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO con la planilla completa de una sesión: una marca por estudiante del curso.
+ */
+public record MarkAttendanceRequest(
+        @NotEmpty @Size(max = 1000)
+        List<@Valid @NotNull Entry> entries
+) {
+    public record Entry(
+            @NotNull
+            Long studentAccountId,
+
+            @NotNull
+            AttendanceStatus status,
+
+            @Size(max = 500)
+            String notes
+    ) {}
+}
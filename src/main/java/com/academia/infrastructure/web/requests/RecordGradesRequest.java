@@ -0,0 +1,31 @@
+package com.academia.infrastructure.web.requests;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO con una planilla de calificaciones: una nota por estudiante y tarea.
+ * El rango de cada nota lo valida el dominio (0-100).
+ */
+public record RecordGradesRequest(
+        @NotEmpty @Size(max = 5000)
+        List<@Valid @NotNull Entry> entries
+) {
+    public record Entry(
+            @NotNull
+            Long studentAccountId,
+
+            @NotNull
+            Long assignmentId,
+
+            @NotNull
+            Double grade,
+
+            @Size(max = 2000)
+            String feedback
+    ) {}
+}
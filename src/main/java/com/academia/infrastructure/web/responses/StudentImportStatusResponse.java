@@ -0,0 +1,36 @@
+package com.academia.infrastructure.web.responses;
+
+import com.academia.infrastructure.imports.StudentImportJob;
+
+import java.time.LocalDateTime;
+
+/**
+ * Estado de una importación de estudiantes tal como se expone por la API.
+ */
+public record StudentImportStatusResponse(
+        String jobId,
+        Long organizationId,
+        String status,
+        int progressPercent,
+        int processedRows,
+        int registeredRows,
+        int rejectedRows,
+        String failureReason,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt
+) {
+    public static StudentImportStatusResponse from(StudentImportJob job) {
+        return new StudentImportStatusResponse(
+                job.getId(),
+                job.getOrganizationId(),
+                job.getStatus().name(),
+                job.getProgressPercent(),
+                job.getProcessedRows().get(),
+                job.getRegisteredRows().get(),
+                job.getRejectedRows().get(),
+                job.getFailureReason(),
+                job.getCreatedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
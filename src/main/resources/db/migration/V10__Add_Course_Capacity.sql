@@ -0,0 +1,12 @@
+-- =================================================================
+-- MIGRACIÓN V10: CUPO POR CURSO
+-- capacity nulo significa sin límite. seats_taken cuenta las inscripciones activas y solo
+-- se modifica con un UPDATE condicionado al cupo, que bloquea únicamente la fila del curso.
+-- =================================================================
+
+ALTER TABLE courses
+    ADD COLUMN capacity INT NULL,
+    ADD COLUMN seats_taken INT NOT NULL DEFAULT 0;
+
+UPDATE courses c
+SET c.seats_taken = (SELECT COUNT(*) FROM enrollments e WHERE e.course_id = c.id AND e.status = 'ACTIVE');
@@ -0,0 +1,26 @@
+-- =================================================================
+-- MIGRACIÓN V11: LISTA DE ESPERA POR CURSO
+-- Los pedidos de cursos completos esperan aquí hasta que un retiro libere una vacante.
+-- La aplicación mantiene cada lista ordenada en memoria; esta tabla es la fuente de verdad
+-- para reconstruirla. Cada organización puede priorizar niveles: sin fila, la prioridad es 0.
+-- =================================================================
+
+CREATE TABLE course_waitlist (
+                                 id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                 course_id BIGINT NOT NULL,
+                                 student_user_id BIGINT NOT NULL,
+                                 priority INT NOT NULL DEFAULT 0,
+                                 requested_at TIMESTAMP(6) NOT NULL,
+                                 FOREIGN KEY (course_id) REFERENCES courses(id) ON DELETE CASCADE,
+                                 FOREIGN KEY (student_user_id) REFERENCES student_profiles(user_id) ON DELETE CASCADE,
+                                 UNIQUE KEY uk_course_waitlist_student (course_id, student_user_id)
+);
+
+CREATE TABLE waitlist_priority_rules (
+                                         id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                         organization_id BIGINT NOT NULL,
+                                         grade_level VARCHAR(50) NOT NULL,
+                                         priority INT NOT NULL,
+                                         FOREIGN KEY (organization_id) REFERENCES organizations(id) ON DELETE CASCADE,
+                                         UNIQUE KEY uk_waitlist_priority_level (organization_id, grade_level)
+);
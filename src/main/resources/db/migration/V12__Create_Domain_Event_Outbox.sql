@@ -0,0 +1,20 @@
+-- =================================================================
+-- MIGRACIÓN V12: BANDEJA DE SALIDA DE EVENTOS DE DOMINIO
+-- Los casos de uso escriben aquí sus eventos en la misma transacción que el agregado.
+-- Un proceso en segundo plano toma las filas pendientes por lotes (FOR UPDATE SKIP LOCKED),
+-- las despacha a los listeners y marca published_at. Las publicadas se borran tras la retención.
+-- =================================================================
+
+CREATE TABLE domain_event_outbox (
+                                     id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                     event_id CHAR(36) NOT NULL,
+                                     event_type VARCHAR(255) NOT NULL,
+                                     payload TEXT NOT NULL,
+                                     occurred_on TIMESTAMP(6) NOT NULL,
+                                     created_at TIMESTAMP(6) NOT NULL,
+                                     published_at TIMESTAMP(6) NULL,
+                                     attempts INT NOT NULL DEFAULT 0,
+                                     last_error VARCHAR(500),
+                                     UNIQUE KEY uk_outbox_event (event_id),
+                                     KEY idx_outbox_pending (published_at, id)
+);
@@ -0,0 +1,8 @@
+-- =================================================================
+-- MIGRACIÓN V13: PAYLOAD BINARIO EN LA BANDEJA DE SALIDA
+-- Los eventos con esquema binario (ver docs/adr/003) se guardan en binary_payload y dejan
+-- payload en NULL. Las filas anteriores y los tipos sin esquema siguen usando JSON.
+-- =================================================================
+
+ALTER TABLE domain_event_outbox MODIFY payload TEXT NULL;
+ALTER TABLE domain_event_outbox ADD COLUMN binary_payload VARBINARY(4096) NULL AFTER payload;
@@ -0,0 +1,25 @@
+-- =================================================================
+-- MIGRACIÓN V14: TRABAJOS DE IMPORTACIÓN CSV DE ESTUDIANTES
+-- Estado y avance de cada importación, para que cualquier nodo responda las consultas de
+-- progreso y la descarga de errores, también después de un reinicio. El nodo que corre el
+-- trabajo actualiza la fila al terminar cada bloque; error_file apunta al CSV de errores en
+-- el directorio compartido academia.import.error-directory.
+-- =================================================================
+
+CREATE TABLE student_import_jobs (
+                                     id CHAR(36) PRIMARY KEY,
+                                     organization_id BIGINT NOT NULL,
+                                     status VARCHAR(20) NOT NULL,
+                                     error_file VARCHAR(1024) NOT NULL,
+                                     source_size BIGINT NOT NULL,
+                                     bytes_read BIGINT NOT NULL DEFAULT 0,
+                                     processed_rows INT NOT NULL DEFAULT 0,
+                                     registered_rows INT NOT NULL DEFAULT 0,
+                                     rejected_rows INT NOT NULL DEFAULT 0,
+                                     failure_reason VARCHAR(500),
+                                     created_at TIMESTAMP(6) NOT NULL,
+                                     updated_at TIMESTAMP(6) NOT NULL,
+                                     finished_at TIMESTAMP(6) NULL,
+                                     FOREIGN KEY (organization_id) REFERENCES organizations(id) ON DELETE CASCADE,
+                                     KEY idx_student_import_jobs_updated (status, updated_at)
+);
@@ -0,0 +1,22 @@
+-- =================================================================
+-- MIGRACIÓN V5: ASIGNACIÓN DE IDS POR BLOQUES (POOLED-LO)
+-- Reemplaza IDENTITY en users y organizations para que Hibernate
+-- pueda agrupar las inserciones en lotes JDBC.
+-- =================================================================
+
+-- -----------------------------------------------------
+-- Tabla: id_allocations
+-- Cada fila guarda el próximo valor libre de una secuencia lógica.
+-- Cada nodo reserva un bloque completo (allocationSize) en una sola actualización.
+-- -----------------------------------------------------
+CREATE TABLE id_allocations (
+                                sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+                                next_val BIGINT NOT NULL
+);
+
+-- Las secuencias continúan a partir de los IDs ya existentes
+INSERT INTO id_allocations (sequence_name, next_val)
+SELECT 'users', COALESCE(MAX(id), 0) + 1 FROM users;
+
+INSERT INTO id_allocations (sequence_name, next_val)
+SELECT 'organizations', COALESCE(MAX(id), 0) + 1 FROM organizations;
@@ -0,0 +1,13 @@
+-- =================================================================
+-- MIGRACIÓN V6: ÍNDICES PARA EL LISTADO PAGINADO DE ESTUDIANTES
+-- El listado usa paginación por clave (WHERE user_id > :cursor ORDER BY user_id),
+-- así que cada página es un rango del índice y no depende de su posición.
+-- =================================================================
+
+-- Listado sin filtros: rango (organization_id, user_id > cursor)
+CREATE INDEX idx_student_profiles_org_user
+    ON student_profiles (organization_id, user_id);
+
+-- Listado filtrado por nivel: la igualdad sobre el nivel precede a la columna del cursor
+CREATE INDEX idx_student_profiles_org_grade_user
+    ON student_profiles (organization_id, current_grade_level, user_id);
@@ -0,0 +1,8 @@
+-- =================================================================
+-- MIGRACIÓN V7: PONDERACIÓN DE TAREAS PARA LA NOTA FINAL
+-- La nota final de una inscripción es el promedio de sus calificaciones ponderado por el
+-- peso de la tarea. Las calificaciones sin entrega asociada pesan 1.
+-- =================================================================
+
+ALTER TABLE assignments
+    ADD COLUMN weight DECIMAL(5,2) NOT NULL DEFAULT 1.00;
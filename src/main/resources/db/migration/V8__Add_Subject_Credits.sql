@@ -0,0 +1,12 @@
+-- =================================================================
+-- MIGRACIÓN V8: CRÉDITOS POR ASIGNATURA
+-- El promedio general (GPA) de un estudiante pondera la nota final de cada curso
+-- completado por los créditos de su asignatura.
+-- =================================================================
+
+ALTER TABLE subjects
+    ADD COLUMN credits DECIMAL(4,1) NOT NULL DEFAULT 1.0;
+
+-- El ranking de una organización lee las inscripciones completadas de todos sus cursos
+CREATE INDEX idx_enrollments_course_status
+    ON enrollments (course_id, status);
@@ -0,0 +1,24 @@
+-- =================================================================
+-- MIGRACIÓN V9: CORRELATIVAS Y REGLAS DE INSCRIPCIÓN POR ORGANIZACIÓN
+-- Una materia puede exigir otras aprobadas antes de inscribirse (grafo acíclico dentro
+-- de la organización). Cada organización activa o desactiva las reglas opcionales;
+-- sin fila se aplica el valor por defecto de la aplicación.
+-- =================================================================
+
+CREATE TABLE subject_prerequisites (
+                                       id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                       subject_id BIGINT NOT NULL,
+                                       prerequisite_subject_id BIGINT NOT NULL,
+                                       FOREIGN KEY (subject_id) REFERENCES subjects(id) ON DELETE CASCADE,
+                                       FOREIGN KEY (prerequisite_subject_id) REFERENCES subjects(id) ON DELETE CASCADE,
+                                       UNIQUE KEY uk_subject_prerequisite (subject_id, prerequisite_subject_id)
+);
+
+CREATE TABLE enrollment_rule_settings (
+                                          id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                          organization_id BIGINT NOT NULL,
+                                          rule_code VARCHAR(50) NOT NULL, -- PREREQUISITES, GRADE_LEVEL
+                                          enabled BOOLEAN NOT NULL,
+                                          FOREIGN KEY (organization_id) REFERENCES organizations(id) ON DELETE CASCADE,
+                                          UNIQUE KEY uk_enrollment_rule_organization (organization_id, rule_code)
+);
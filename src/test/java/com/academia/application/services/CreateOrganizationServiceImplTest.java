@@ -3,27 +3,28 @@ package com.academia.application.services;
 import com.academia.domain.model.aggregates.Organization;
 import com.academia.domain.model.aggregates.UserAccount;
 import com.academia.domain.model.entities.User;
-import com.academia.domain.model.enums.AccountStatus;
+import com.academia.domain.model.events.DomainEvent;
+import com.academia.domain.model.events.OrganizationEvents;
+import com.academia.domain.model.events.UserAccountEvents;
 import com.academia.domain.model.valueobjects.ids.AccountId;
 import com.academia.domain.model.valueobjects.ids.OrganizationId;
 import com.academia.domain.model.valueobjects.user.Email;
-import com.academia.domain.model.valueobjects.user.Name;
 import com.academia.domain.ports.in.commands.CreateOrganizationCommand;
 import com.academia.domain.ports.in.dtos.OrganizationDetailsDTO;
-import com.academia.domain.ports.out.DomainEventPublisher;
+import com.academia.domain.ports.out.DomainEventOutbox;
 import com.academia.domain.ports.out.OrganizationRepository;
 import com.academia.domain.ports.out.UserAccountRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.time.LocalDate;
-import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -40,7 +41,7 @@ class CreateOrganizationServiceImplTest {
     private UserAccountRepository userAccountRepository;
 
     @Mock
-    private DomainEventPublisher domainEventPublisher;
+    private DomainEventOutbox domainEventOutbox;
 
     @Mock
     private PasswordEncoder passwordEncoder;
@@ -49,9 +50,6 @@ class CreateOrganizationServiceImplTest {
     private CreateOrganizationServiceImpl createOrganizationService;
 
     private CreateOrganizationCommand validCommand;
-    private Organization mockOrganization;
-    private UserAccount mockUserAccount;
-    private User mockUser;
 
     @BeforeEach
     void setUp() {
@@ -64,25 +62,6 @@ class CreateOrganizationServiceImplTest {
                 "admin@unitec.edu",
                 "AdminPass123"
         );
-
-        // Mock de organización guardada usando constructor de la base de código actual
-        mockOrganization = new Organization(
-                new OrganizationId(1L),
-                "Universidad Tecnológica",
-                16
-        );
-
-        // Mock de User
-        mockUser = mock(User.class);
-        when(mockUser.getId()).thenReturn(new AccountId(1L));
-        when(mockUser.getName()).thenReturn(new Name("Ana", "García"));
-        when(mockUser.getEmail()).thenReturn(new Email("admin@unitec.edu"));
-        when(mockUser.getAccountStatus()).thenReturn(AccountStatus.ACTIVE);
-
-        // Mock de UserAccount
-        mockUserAccount = mock(UserAccount.class);
-        when(mockUserAccount.getDomainEvents()).thenReturn(new ArrayList<>());
-        when(mockUserAccount.getUser()).thenReturn(mockUser);
     }
 
     @Test
@@ -90,8 +69,7 @@ class CreateOrganizationServiceImplTest {
     void createOrganization_shouldSucceed_whenValidCommand() {
         // Arrange
         when(passwordEncoder.encode(anyString())).thenReturn("hashedPassword123");
-        when(organizationRepository.save(any(Organization.class))).thenReturn(mockOrganization);
-        when(userAccountRepository.save(any(UserAccount.class))).thenReturn(mockUserAccount);
+        stubRepositoriesAssigningIds();
 
         // Act
         OrganizationDetailsDTO result = createOrganizationService.createOrganization(validCommand);
@@ -110,10 +88,36 @@ class CreateOrganizationServiceImplTest {
         // Verificar interacciones
         verify(organizationRepository).save(any(Organization.class));
         verify(userAccountRepository).save(any(UserAccount.class));
-        verify(domainEventPublisher).publish(any());
         verify(passwordEncoder).encode("AdminPass123");
     }
 
+    @Test
+    @DisplayName("Debe registrar en la bandeja de salida el alta de la organización y de su administrador")
+    void createOrganization_shouldAppendCreationEvents_withAssignedIds() {
+        // Arrange
+        when(passwordEncoder.encode(anyString())).thenReturn("hashedPassword123");
+        stubRepositoriesAssigningIds();
+
+        // Act
+        createOrganizationService.createOrganization(validCommand);
+
+        // Assert
+        ArgumentCaptor<List<DomainEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(domainEventOutbox).append(events.capture());
+        assertEquals(2, events.getValue().size());
+
+        OrganizationEvents.OrganizationCreated created =
+                assertInstanceOf(OrganizationEvents.OrganizationCreated.class, events.getValue().get(0));
+        assertEquals(new OrganizationId(1L), created.organizationId());
+        assertEquals("Universidad Tecnológica", created.name());
+        assertEquals("unitec", created.subdomain());
+
+        UserAccountEvents.UserRegisteredEvent registered =
+                assertInstanceOf(UserAccountEvents.UserRegisteredEvent.class, events.getValue().get(1));
+        assertEquals(new AccountId(7L), registered.accountId());
+        assertEquals(new Email("admin@unitec.edu"), registered.email());
+    }
+
     @Test
     @DisplayName("Debe fallar cuando el comando tiene datos inválidos")
     void createOrganization_shouldFail_whenInvalidCommand() {
@@ -136,8 +140,7 @@ class CreateOrganizationServiceImplTest {
     void createOrganization_shouldHashPassword_whenCreatingAdmin() {
         // Arrange
         when(passwordEncoder.encode("AdminPass123")).thenReturn("$2a$10$hashedPassword");
-        when(organizationRepository.save(any(Organization.class))).thenReturn(mockOrganization);
-        when(userAccountRepository.save(any(UserAccount.class))).thenReturn(mockUserAccount);
+        stubRepositoriesAssigningIds();
 
         // Act
         createOrganizationService.createOrganization(validCommand);
@@ -145,4 +148,26 @@ class CreateOrganizationServiceImplTest {
         // Assert
         verify(passwordEncoder).encode("AdminPass123");
     }
-}
\ No newline at end of file
+
+    /**
+     * Los repositorios responden como los adaptadores JPA: devuelven el agregado con el ID asignado
+     * (1 para la organización, 7 para el administrador) y con los eventos pendientes del guardado.
+     */
+    private void stubRepositoriesAssigningIds() {
+        when(organizationRepository.save(any(Organization.class))).thenAnswer(invocation -> {
+            Organization unsaved = invocation.getArgument(0);
+            Organization saved = new Organization(new OrganizationId(1L), unsaved.getName(),
+                    unsaved.getSubdomain(), unsaved.getDigitalConsentAge());
+            saved.takePendingEventsFrom(unsaved);
+            return saved;
+        });
+        when(userAccountRepository.save(any(UserAccount.class))).thenAnswer(invocation -> {
+            UserAccount unsaved = invocation.getArgument(0);
+            User user = unsaved.getUser();
+            UserAccount saved = new UserAccount(new User(new AccountId(7L), user.getOrganizationId(), user.getName(),
+                    user.getEmail(), user.getBirthDate(), user.getPasswordHash(), user.getAccountStatus()));
+            saved.takePendingEventsFrom(unsaved);
+            return saved;
+        });
+    }
+}
@@ -0,0 +1,82 @@
+package com.academia.benchmarks;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.h2.tools.Server;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Base H2 para los benchmarks que pasan por Hibernate, con la misma configuración de lotes que
+ * application.yml. Con {@code "tcp"} la base corre en un servidor H2 local y cada sentencia cruza
+ * un socket, como con MySQL; con {@code "mem"} queda en el mismo proceso y solo se mide la CPU.
+ */
+final class BenchmarkDatabase implements AutoCloseable {
+
+    private final Server server;
+    private final HikariDataSource dataSource;
+    private SessionFactory sessionFactory;
+
+    private BenchmarkDatabase(Server server, HikariDataSource dataSource) {
+        this.server = server;
+        this.dataSource = dataSource;
+    }
+
+    static BenchmarkDatabase start(String name, String transport) throws SQLException {
+        Server server = null;
+        String url = "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1;MODE=MySQL";
+        if ("tcp".equals(transport)) {
+            server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+            url = "jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:" + name + ";DB_CLOSE_DELAY=-1;MODE=MySQL";
+        } else if (!"mem".equals(transport)) {
+            throw new IllegalArgumentException("Transporte desconocido: " + transport);
+        }
+
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(url);
+        config.setUsername("sa");
+        // El generador de tablas reserva los bloques de IDs en su propia conexión
+        config.setMaximumPoolSize(2);
+        return new BenchmarkDatabase(server, new HikariDataSource(config));
+    }
+
+    /**
+     * Crea el esquema de las entidades indicadas y devuelve su fábrica de sesiones, con
+     * estadísticas activadas para contar las sentencias que llegan a la base.
+     *
+     * @param mappingResources orm.xml que sobrescriben el mapeo por anotaciones.
+     */
+    SessionFactory sessionFactory(List<Class<?>> entities, String... mappingResources) {
+        StandardServiceRegistryBuilder registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, dataSource)
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, 50)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .applySetting(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+                .applySetting(AvailableSettings.GENERATE_STATISTICS, true)
+                .applySetting(AvailableSettings.LOG_SESSION_METRICS, false);
+        MetadataSources sources = new MetadataSources(registry.build());
+        entities.forEach(sources::addAnnotatedClass);
+        for (String resource : mappingResources) {
+            sources.addResource(resource);
+        }
+        sessionFactory = sources.buildMetadata().buildSessionFactory();
+        return sessionFactory;
+    }
+
+    @Override
+    public void close() {
+        if (sessionFactory != null) {
+            sessionFactory.close();
+        }
+        dataSource.close();
+        if (server != null) {
+            server.stop();
+        }
+    }
+}
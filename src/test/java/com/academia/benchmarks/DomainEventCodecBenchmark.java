@@ -0,0 +1,157 @@
+package com.academia.benchmarks;
+
+import com.academia.domain.model.events.CourseEvents;
+import com.academia.domain.model.events.DomainEvent;
+import com.academia.domain.model.events.OrganizationEvents;
+import com.academia.domain.model.events.UserAccountEvents;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.model.valueobjects.user.Email;
+import com.academia.infrastructure.events.DomainEventCodec;
+import com.academia.infrastructure.events.binary.BinaryDomainEventCodec;
+import com.academia.infrastructure.events.binary.EventBinaryWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Una ola de inscripciones como la que pasa por la bandeja de salida al abrir el período: sobre
+ * todo {@code StudentEnrolledInCourse}, con algunos retiros, altas de cuentas y cambios de cupo.
+ * Compara el JSON de {@link DomainEventCodec} contra {@link BinaryDomainEventCodec} en eventos por
+ * segundo; el tamaño medio de cada formato se imprime al preparar la iteración.
+ * <p>
+ * Ejecutar con {@code main} desde el IDE o con
+ * {@code java -cp target/test-classes:<classpath de test> com.academia.benchmarks.DomainEventCodecBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainEventCodecBenchmark {
+
+    private static final int EVENTS = 1_024;
+
+    private DomainEventCodec jsonCodec;
+    private BinaryDomainEventCodec binaryCodec;
+    private final EventBinaryWriter writer = new EventBinaryWriter(256);
+
+    private DomainEvent[] events;
+    private String[] types;
+    private String[] jsonPayloads;
+    private byte[][] binaryPayloads;
+    private int next;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        jsonCodec = new DomainEventCodec(objectMapper);
+        binaryCodec = new BinaryDomainEventCodec();
+
+        Random random = new Random(42);
+        Instant opening = Instant.parse("2026-02-20T09:00:00Z");
+        events = new DomainEvent[EVENTS];
+        types = new String[EVENTS];
+        jsonPayloads = new String[EVENTS];
+        binaryPayloads = new byte[EVENTS][];
+        long jsonBytes = 0;
+        long binaryBytes = 0;
+        for (int i = 0; i < EVENTS; i++) {
+            events[i] = event(random, opening.plusMillis(i * 37L));
+            types[i] = jsonCodec.typeOf(events[i]);
+            jsonPayloads[i] = jsonCodec.encode(events[i]);
+            binaryPayloads[i] = binaryCodec.encode(events[i]);
+            jsonBytes += jsonPayloads[i].getBytes(StandardCharsets.UTF_8).length;
+            binaryBytes += binaryPayloads[i].length;
+        }
+        System.out.printf("%nTamaño medio por evento: JSON %.1f bytes, binario %.1f bytes%n",
+                (double) jsonBytes / EVENTS, (double) binaryBytes / EVENTS);
+        next = 0;
+    }
+
+    @Benchmark
+    public String jsonEncode() {
+        return jsonCodec.encode(events[nextIndex()]);
+    }
+
+    @Benchmark
+    public DomainEvent jsonDecode() {
+        int i = nextIndex();
+        return jsonCodec.decode(types[i], jsonPayloads[i]);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return binaryCodec.encode(events[nextIndex()]);
+    }
+
+    @Benchmark
+    public void binaryEncodeReusingWriter(Blackhole blackhole) {
+        // Lo que haría un lote del relay: un solo buffer para todos los eventos
+        writer.reset();
+        binaryCodec.encode(events[nextIndex()], writer);
+        blackhole.consume(writer.size());
+    }
+
+    @Benchmark
+    public DomainEvent binaryDecode() {
+        return binaryCodec.decode(binaryPayloads[nextIndex()]);
+    }
+
+    private int nextIndex() {
+        int i = next;
+        next = (i + 1) & (EVENTS - 1);
+        return i;
+    }
+
+    private static DomainEvent event(Random random, Instant occurredOn) {
+        AccountId student = new AccountId(100_000L + random.nextInt(40_000));
+        CourseId course = new CourseId(1L + random.nextInt(600));
+        int kind = random.nextInt(100);
+        if (kind < 70) {
+            return new CourseEvents.StudentEnrolledInCourse(UUID.randomUUID(), occurredOn, student, course);
+        }
+        if (kind < 85) {
+            return new CourseEvents.StudentWithdrawnFromCourse(UUID.randomUUID(), occurredOn, student, course);
+        }
+        if (kind < 95) {
+            return new UserAccountEvents.UserRegisteredEvent(UUID.randomUUID(), occurredOn, student,
+                    new Email("estudiante" + student.getValue() + "@academia.edu"));
+        }
+        if (kind < 99) {
+            return new CourseEvents.CourseCapacityChanged(UUID.randomUUID(), occurredOn, course, 20 + random.nextInt(30));
+        }
+        return new OrganizationEvents.OrganizationUpdated(UUID.randomUUID(), occurredOn,
+                new OrganizationId(1L + random.nextInt(20)), "Academia Regional " + random.nextInt(20));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DomainEventCodecBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
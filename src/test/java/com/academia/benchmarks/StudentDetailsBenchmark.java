@@ -0,0 +1,183 @@
+package com.academia.benchmarks;
+
+import com.academia.application.mappers.StudentDTOMapper;
+import com.academia.domain.model.aggregates.UserAccount;
+import com.academia.domain.model.entities.Student;
+import com.academia.domain.model.enums.AccountStatus;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.ports.in.dtos.StudentDetailsDTO;
+import com.academia.domain.ports.out.StudentReadRepository;
+import com.academia.domain.ports.out.StudentRepository;
+import com.academia.domain.ports.out.UserAccountRepository;
+import com.academia.infrastructure.persistence.adapters.JpaStudentReadRepositoryAdapter;
+import com.academia.infrastructure.persistence.adapters.JpaStudentRepositoryAdapter;
+import com.academia.infrastructure.persistence.adapters.JpaUserAccountRepositoryAdapter;
+import com.academia.infrastructure.persistence.jpa.entities.StudentProfileJpaEntity;
+import com.academia.infrastructure.persistence.jpa.entities.UserJpaEntity;
+import com.academia.infrastructure.persistence.jpa.mappers.StudentMapper;
+import com.academia.infrastructure.persistence.jpa.mappers.UserAccountMapper;
+import com.academia.infrastructure.persistence.jpa.repositories.SpringStudentProfileRepository;
+import com.academia.infrastructure.persistence.jpa.repositories.SpringUserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ficha de un estudiante por los dos caminos que tuvo FindStudentDetailsServiceImpl, con los
+ * adaptadores y mappers reales sobre H2:
+ * <ul>
+ *     <li>{@code twoLookups}: users y student_profiles por clave primaria, cada uno mapeado a su
+ *     agregado, y StudentDTOMapper para armar el DTO.</li>
+ *     <li>{@code projection}: la consulta única de {@link JpaStudentReadRepositoryAdapter}.</li>
+ * </ul>
+ * Cada lectura usa un contexto de persistencia vacío, como un pedido HTTP. Las sentencias por
+ * lectura se imprimen al terminar; {@code main} agrega el perfilador de GC para ver los bytes
+ * asignados por lectura ({@code gc.alloc.rate.norm}).
+ * <p>
+ * Ejecutar con {@code main} desde el IDE o con
+ * {@code java -cp target/test-classes:<classpath de test> com.academia.benchmarks.StudentDetailsBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StudentDetailsBenchmark {
+
+    private static final int STUDENTS = 10_000;
+    private static final int LOOKUPS = 4_096;
+
+    @Param({"mem", "tcp"})
+    private String transport;
+
+    private BenchmarkDatabase database;
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private UserAccountRepository userAccountRepository;
+    private StudentRepository studentRepository;
+    private StudentReadRepository studentReadRepository;
+    private final StudentDTOMapper studentDTOMapper = StudentDTOMapper.INSTANCE;
+
+    private AccountId[] accountIds;
+    private int next;
+    private long reads;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        database = BenchmarkDatabase.start("student-details", transport);
+        sessionFactory = database.sessionFactory(List.of(UserJpaEntity.class, StudentProfileJpaEntity.class));
+        entityManager = sessionFactory.createEntityManager();
+
+        JpaRepositoryFactory repositories = new JpaRepositoryFactory(entityManager);
+        SpringUserRepository userRepository = repositories.getRepository(SpringUserRepository.class);
+        SpringStudentProfileRepository studentProfileRepository = repositories.getRepository(SpringStudentProfileRepository.class);
+        userAccountRepository = new JpaUserAccountRepositoryAdapter(userRepository, Mappers.getMapper(UserAccountMapper.class));
+        studentRepository = new JpaStudentRepositoryAdapter(studentProfileRepository, Mappers.getMapper(StudentMapper.class));
+        studentReadRepository = new JpaStudentReadRepositoryAdapter(userRepository, studentProfileRepository);
+
+        Long[] ids = insertStudents(userRepository, studentProfileRepository);
+        Random random = new Random(42);
+        accountIds = new AccountId[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            accountIds[i] = new AccountId(ids[random.nextInt(STUDENTS)]);
+        }
+        sessionFactory.getStatistics().clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (reads > 0) {
+            System.out.printf("%nSentencias por lectura (%s): %.2f%n",
+                    transport, (double) sessionFactory.getStatistics().getPrepareStatementCount() / reads);
+        }
+        entityManager.close();
+        database.close();
+    }
+
+    @Benchmark
+    public Optional<StudentDetailsDTO> twoLookups() {
+        AccountId accountId = nextAccountId();
+        Optional<UserAccount> userAccount = userAccountRepository.findById(accountId);
+        Optional<Student> student = studentRepository.findByAccountId(accountId);
+        Optional<StudentDetailsDTO> details = userAccount.isPresent() && student.isPresent()
+                ? Optional.of(studentDTOMapper.toDTO(userAccount.get(), student.get()))
+                : Optional.empty();
+        entityManager.clear();
+        return details;
+    }
+
+    @Benchmark
+    public Optional<StudentDetailsDTO> projection() {
+        Optional<StudentDetailsDTO> details = studentReadRepository.findStudentDetails(nextAccountId());
+        entityManager.clear();
+        return details;
+    }
+
+    private AccountId nextAccountId() {
+        reads++;
+        int i = next;
+        next = (i + 1) & (LOOKUPS - 1);
+        return accountIds[i];
+    }
+
+    private Long[] insertStudents(SpringUserRepository userRepository, SpringStudentProfileRepository studentProfileRepository) {
+        Long[] ids = new Long[STUDENTS];
+        entityManager.getTransaction().begin();
+        for (int i = 0; i < STUDENTS; i++) {
+            UserJpaEntity user = new UserJpaEntity();
+            user.setOrganizationId(1L);
+            user.setFirstName("Alumno" + i);
+            user.setLastName("Benchmark");
+            user.setEmail("alumno" + i + "@academia.test");
+            user.setBirthDate(LocalDate.of(2008, 1, 1).plusDays(i % 1_000));
+            user.setAccountStatus(AccountStatus.ACTIVE);
+            ids[i] = userRepository.save(user).getId();
+
+            StudentProfileJpaEntity profile = new StudentProfileJpaEntity();
+            profile.setUserId(ids[i]);
+            profile.setOrganizationId(1L);
+            profile.setStudentIdNumber("LEG-" + ids[i]);
+            profile.setEnrollmentDate(LocalDate.of(2024, 3, 1));
+            profile.setCurrentGradeLevel("Tercero");
+            profile.markNew();
+            studentProfileRepository.save(profile);
+        }
+        entityManager.getTransaction().commit();
+        entityManager.clear();
+        return ids;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(StudentDetailsBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,177 @@
+package com.academia.benchmarks;
+
+import com.academia.domain.model.enums.AccountStatus;
+import com.academia.infrastructure.persistence.jpa.entities.StudentProfileJpaEntity;
+import com.academia.infrastructure.persistence.jpa.entities.UserJpaEntity;
+import com.academia.infrastructure.persistence.jpa.repositories.SpringStudentProfileRepository;
+import com.academia.infrastructure.persistence.jpa.repositories.SpringUserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Alta de estudiantes (users + student_profiles) en bloques de {@value #ROWS}, como un bloque de
+ * BulkRegisterStudentsServiceImpl, con las mismas entidades y repositorios de Spring Data:
+ * <ul>
+ *     <li>{@code identity}: UserJpaEntity con IDENTITY (redefinido en users-identity.orm.xml) y el
+ *     perfil guardado con merge. Cada usuario se inserta en el acto para conocer su ID y cada perfil
+ *     hace un SELECT antes de insertarse.</li>
+ *     <li>{@code pooled}: el mapeo actual, con IDs reservados de a 50 en id_allocations y perfiles
+ *     marcados como nuevos; ambas tablas se insertan en lotes JDBC.</li>
+ * </ul>
+ * El resultado está en filas por segundo.
+ * <p>
+ * Ejecutar con {@code main} desde el IDE o con
+ * {@code java -cp target/test-classes:<classpath de test> com.academia.benchmarks.StudentRegistrationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+// Hibernate y H2 tardan en estabilizarse: con calentamientos cortos la medición seguía subiendo
+@Warmup(iterations = 8, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StudentRegistrationBenchmark {
+
+    private static final int ROWS = 500;
+    private static final long ORGANIZATION_ID = 1L;
+
+    @Param({"mem", "tcp"})
+    private String transport;
+
+    private BenchmarkDatabase identityDatabase;
+    private BenchmarkDatabase pooledDatabase;
+    private Path identity;
+    private Path pooled;
+    private long nextStudent;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        List<Class<?>> entities = List.of(UserJpaEntity.class, StudentProfileJpaEntity.class);
+        identityDatabase = BenchmarkDatabase.start("registration-identity", transport);
+        identity = new Path(identityDatabase.sessionFactory(entities, "benchmarks/users-identity.orm.xml"));
+        pooledDatabase = BenchmarkDatabase.start("registration-pooled", transport);
+        pooled = new Path(pooledDatabase.sessionFactory(entities));
+    }
+
+    @Setup(Level.Iteration)
+    public void emptyTables() {
+        identity.deleteAll();
+        pooled.deleteAll();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        identityDatabase.close();
+        pooledDatabase.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void identity() {
+        identity.register(false);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void pooled() {
+        pooled.register(true);
+    }
+
+    /**
+     * Un contexto de persistencia por camino, vaciado después de cada bloque como al cerrar la
+     * transacción del servicio.
+     */
+    private final class Path {
+
+        private final EntityManager entityManager;
+        private final SpringUserRepository userRepository;
+        private final SpringStudentProfileRepository studentProfileRepository;
+
+        Path(SessionFactory sessionFactory) {
+            entityManager = sessionFactory.createEntityManager();
+            JpaRepositoryFactory repositories = new JpaRepositoryFactory(entityManager);
+            userRepository = repositories.getRepository(SpringUserRepository.class);
+            studentProfileRepository = repositories.getRepository(SpringStudentProfileRepository.class);
+        }
+
+        void register(boolean markProfilesNew) {
+            List<UserJpaEntity> users = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                users.add(user(nextStudent++));
+            }
+
+            entityManager.getTransaction().begin();
+            List<UserJpaEntity> saved = userRepository.saveAll(users);
+            List<StudentProfileJpaEntity> profiles = new ArrayList<>(ROWS);
+            for (UserJpaEntity user : saved) {
+                StudentProfileJpaEntity profile = profile(user);
+                if (markProfilesNew) {
+                    profile.markNew();
+                }
+                profiles.add(profile);
+            }
+            studentProfileRepository.saveAll(profiles);
+            entityManager.getTransaction().commit();
+            entityManager.clear();
+        }
+
+        void deleteAll() {
+            entityManager.getTransaction().begin();
+            entityManager.createNativeQuery("DELETE FROM student_profiles").executeUpdate();
+            entityManager.createNativeQuery("DELETE FROM users").executeUpdate();
+            entityManager.getTransaction().commit();
+        }
+    }
+
+    private static UserJpaEntity user(long n) {
+        UserJpaEntity user = new UserJpaEntity();
+        user.setOrganizationId(ORGANIZATION_ID);
+        user.setFirstName("Alumno" + n);
+        user.setLastName("Benchmark");
+        user.setEmail("alumno" + n + "@academia.test");
+        user.setBirthDate(LocalDate.of(2008, 1, 1).plusDays(n % 1_000));
+        user.setAccountStatus(AccountStatus.PENDING_VERIFICATION);
+        return user;
+    }
+
+    private static StudentProfileJpaEntity profile(UserJpaEntity user) {
+        StudentProfileJpaEntity profile = new StudentProfileJpaEntity();
+        profile.setUserId(user.getId());
+        profile.setOrganizationId(ORGANIZATION_ID);
+        profile.setStudentIdNumber("LEG-" + user.getId());
+        profile.setEnrollmentDate(LocalDate.of(2026, 3, 1));
+        profile.setCurrentGradeLevel("Primero");
+        return profile;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(StudentRegistrationBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,150 @@
+package com.academia.config;
+
+import com.academia.infrastructure.persistence.jpa.entities.AcademicTermJpaEntity;
+import com.academia.infrastructure.persistence.jpa.entities.CourseJpaEntity;
+import com.academia.infrastructure.persistence.jpa.entities.OrganizationJpaEntity;
+import com.academia.infrastructure.persistence.jpa.entities.SubjectJpaEntity;
+import com.academia.infrastructure.persistence.jpa.repositories.SpringAcademicTermRepository;
+import com.academia.infrastructure.persistence.jpa.repositories.SpringCourseRepository;
+import com.academia.infrastructure.persistence.jpa.repositories.SpringOrganizationRepository;
+import com.academia.infrastructure.persistence.jpa.repositories.SpringSubjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Datos de prueba compartidos por los tests de integración que confirman sus datos: cada test crea
+ * su organización con lo que necesita y al terminar la borra entera con {@link #deleteOrganization}.
+ * Se importa junto con {@link TestSecurityConfig}.
+ * <p>
+ * Los estudiantes se insertan por JDBC con IDs fijos, fuera del rango que reparte id_allocations,
+ * así los tests de carga preparan miles de filas en un lote sin pasar por el registro.
+ */
+@TestComponent
+@RequiredArgsConstructor
+public class AcademicTestData {
+
+    private static final String COURSES_OF_ORGANIZATION =
+            "SELECT c.id FROM courses c JOIN subjects s ON s.id = c.subject_id WHERE s.organization_id = ?";
+    private static final String ENROLLMENTS_OF_ORGANIZATION =
+            "SELECT id FROM enrollments WHERE course_id IN (" + COURSES_OF_ORGANIZATION + ")";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SpringOrganizationRepository organizationRepository;
+    private final SpringSubjectRepository subjectRepository;
+    private final SpringAcademicTermRepository academicTermRepository;
+    private final SpringCourseRepository courseRepository;
+
+    public Long createOrganization(String name, String subdomain) {
+        OrganizationJpaEntity organization = new OrganizationJpaEntity();
+        organization.setName(name);
+        organization.setSubdomain(subdomain);
+        organization.setDigitalConsentAge(14);
+        organization.setActive(true);
+        organization.setUuid(subdomain + "-uuid");
+        return organizationRepository.save(organization).getId();
+    }
+
+    public SubjectJpaEntity createSubject(Long organizationId, String name, String subjectCode) {
+        return createSubject(organizationId, name, subjectCode, BigDecimal.ONE);
+    }
+
+    public SubjectJpaEntity createSubject(Long organizationId, String name, String subjectCode, BigDecimal credits) {
+        SubjectJpaEntity subject = new SubjectJpaEntity();
+        subject.setOrganizationId(organizationId);
+        subject.setName(name);
+        subject.setSubjectCode(subjectCode);
+        subject.setCredits(credits);
+        return subjectRepository.save(subject);
+    }
+
+    public AcademicTermJpaEntity createTerm(Long organizationId, String name, LocalDate startDate, LocalDate endDate) {
+        AcademicTermJpaEntity term = new AcademicTermJpaEntity();
+        term.setOrganizationId(organizationId);
+        term.setName(name);
+        term.setStartDate(startDate);
+        term.setEndDate(endDate);
+        return academicTermRepository.save(term);
+    }
+
+    /**
+     * @param capacity nulo para un curso sin límite de vacantes.
+     */
+    public Long createCourse(SubjectJpaEntity subject, AcademicTermJpaEntity term, String courseCode, Integer capacity) {
+        CourseJpaEntity course = new CourseJpaEntity();
+        course.setSubject(subject);
+        course.setAcademicTerm(term);
+        course.setCourseCode(courseCode);
+        course.setCapacity(capacity);
+        return courseRepository.save(course).getId();
+    }
+
+    /**
+     * Inserta {@code count} estudiantes activos con IDs consecutivos desde {@code firstId}. El
+     * estudiante {@code i} se llama "Alumno{i}", su correo es {@code alumno<ID>@academia.test} y su
+     * legajo {@code LEG-<ID>}; nació el 2006-01-01 e ingresó el 2024-03-01.
+     */
+    public void insertStudents(Long organizationId, long firstId, int count, String lastName, String gradeLevel) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> users = new ArrayList<>(count);
+        List<Object[]> profiles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = firstId + i;
+            users.add(new Object[]{id, organizationId, "Alumno" + i, lastName, "alumno" + id + "@academia.test",
+                    Date.valueOf(LocalDate.of(2006, 1, 1)), "ACTIVE", now, now});
+            profiles.add(new Object[]{id, organizationId, "LEG-" + id, Date.valueOf(LocalDate.of(2024, 3, 1)), gradeLevel});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, organization_id, first_name, last_name, email, birth_date, " +
+                "account_status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", users);
+        jdbcTemplate.batchUpdate("INSERT INTO student_profiles (user_id, organization_id, student_id_number, " +
+                "enrollment_date, current_grade_level) VALUES (?, ?, ?, ?, ?)", profiles);
+    }
+
+    /**
+     * Inscribe como activos a los estudiantes indicados, en un único lote, y ocupa sus vacantes
+     * para que un retiro posterior pueda devolverlas.
+     */
+    public void enrollAll(Long courseId, List<Long> studentIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("INSERT INTO enrollments (student_user_id, course_id, enrollment_date, status) " +
+                        "VALUES (?, ?, ?, 'ACTIVE')",
+                studentIds.stream().map(studentId -> new Object[]{studentId, courseId, now}).toList());
+        jdbcTemplate.update("UPDATE courses SET seats_taken = seats_taken + ? WHERE id = ?", studentIds.size(), courseId);
+    }
+
+    /**
+     * Borra la organización y todo lo que cuelga de ella: cursos con sus inscripciones, notas,
+     * asistencia y listas de espera, períodos, materias, reglas, importaciones y usuarios.
+     */
+    public void deleteOrganization(Long organizationId) {
+        for (String table : List.of("grades", "submissions", "attendance_records")) {
+            jdbcTemplate.update("DELETE FROM " + table + " WHERE enrollment_id IN (" + ENROLLMENTS_OF_ORGANIZATION + ")",
+                    organizationId);
+        }
+        for (String table : List.of("assignments", "enrollments", "course_waitlist")) {
+            jdbcTemplate.update("DELETE FROM " + table + " WHERE course_id IN (" + COURSES_OF_ORGANIZATION + ")",
+                    organizationId);
+        }
+        jdbcTemplate.update("DELETE FROM courses WHERE id IN (" + COURSES_OF_ORGANIZATION + ")", organizationId);
+        jdbcTemplate.update("DELETE FROM academic_terms WHERE organization_id = ?", organizationId);
+        jdbcTemplate.update("DELETE FROM subject_prerequisites WHERE subject_id IN " +
+                "(SELECT id FROM subjects WHERE organization_id = ?)", organizationId);
+        jdbcTemplate.update("DELETE FROM subjects WHERE organization_id = ?", organizationId);
+        jdbcTemplate.update("DELETE FROM waitlist_priority_rules WHERE organization_id = ?", organizationId);
+        jdbcTemplate.update("DELETE FROM enrollment_rule_settings WHERE organization_id = ?", organizationId);
+        jdbcTemplate.update("DELETE FROM student_import_jobs WHERE organization_id = ?", organizationId);
+        jdbcTemplate.update("DELETE FROM student_guardian_relationships WHERE student_user_id IN " +
+                "(SELECT id FROM users WHERE organization_id = ?)", organizationId);
+        jdbcTemplate.update("DELETE FROM student_profiles WHERE organization_id = ?", organizationId);
+        jdbcTemplate.update("DELETE FROM users WHERE organization_id = ?", organizationId);
+        organizationRepository.deleteById(organizationId);
+    }
+}
@@ -0,0 +1,134 @@
+package com.academia.domain.model.aggregates;
+
+import com.academia.domain.model.entities.AcademicTerm;
+import com.academia.domain.model.entities.Enrollment;
+import com.academia.domain.model.entities.Student;
+import com.academia.domain.model.entities.Subject;
+import com.academia.domain.model.enums.EnrollmentStatus;
+import com.academia.domain.model.events.CourseEvents;
+import com.academia.domain.model.services.EnrollmentEligibilityChecker;
+import com.academia.domain.model.services.eligibility.PassedSubjects;
+import com.academia.domain.model.services.eligibility.PrerequisiteGraph;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.ports.out.PrerequisiteCatalog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourseTest {
+
+    private final OrganizationId orgId = new OrganizationId(1L);
+    private final CourseId courseId = new CourseId(10L);
+    private final Subject subject = new Subject(5L, orgId, "Historia", "HIS-1");
+    private final AcademicTerm term = new AcademicTerm(1L, orgId, "2026", LocalDate.of(2026, 3, 1), LocalDate.of(2026, 12, 15));
+
+    // Sin reglas opcionales: solo se comprueba la organización
+    private final EnrollmentEligibilityChecker checker = new EnrollmentEligibilityChecker(new PrerequisiteCatalog() {
+        @Override
+        public PrerequisiteGraph graphFor(OrganizationId organizationId) {
+            throw new AssertionError("No debería consultarse sin la regla de correlativas");
+        }
+
+        @Override
+        public PassedSubjects passedSubjects(AccountId studentId, PrerequisiteGraph graph) {
+            throw new AssertionError("No debería consultarse sin la regla de correlativas");
+        }
+    }, organizationId -> Set.of());
+
+    @Test
+    @DisplayName("Debe rechazar la segunda inscripción del mismo estudiante")
+    void enrollStudent_shouldReject_whenStudentIsAlreadyEnrolled() {
+        Course course = new Course(courseId, subject, term);
+        course.enrollStudent(student(1L), checker);
+
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> course.enrollStudent(student(1L), checker));
+        assertEquals("El estudiante ya está inscrito en este curso.", error.getMessage());
+        assertEquals(1, course.getEnrollments().size());
+        assertEquals(1, course.getNewEnrollments().size());
+    }
+
+    @Test
+    @DisplayName("Debe indexar las inscripciones reconstituidas y contar por estado")
+    void constructor_shouldIndexEnrollments_whenReconstitutingLargeCourse() {
+        List<Enrollment> enrollments = new ArrayList<>();
+        for (long student = 1; student <= 5_000; student++) {
+            EnrollmentStatus status = student % 10 == 0 ? EnrollmentStatus.WITHDRAWN : EnrollmentStatus.ACTIVE;
+            enrollments.add(new Enrollment(student, new AccountId(student), courseId, status, null, LocalDateTime.now()));
+        }
+        Course course = new Course(courseId, subject, term, null, enrollments);
+
+        assertTrue(course.isEnrolled(new AccountId(4_321L)));
+        assertFalse(course.isEnrolled(new AccountId(5_001L)));
+        assertEquals(4_500, course.countEnrollments(EnrollmentStatus.ACTIVE));
+        assertEquals(500, course.countEnrollments(EnrollmentStatus.WITHDRAWN));
+        assertTrue(course.getNewEnrollments().isEmpty());
+        assertThrows(IllegalStateException.class, () -> course.enrollStudent(student(4_321L), checker));
+    }
+
+    @Test
+    @DisplayName("Debe mover los contadores cuando el estudiante se retira del curso")
+    void statusChanges_shouldUpdateCounts() {
+        Course course = new Course(courseId, subject, term);
+        course.enrollStudent(student(1L), checker);
+        course.enrollStudent(student(2L), checker);
+
+        assertTrue(course.withdrawStudent(new AccountId(1L)));
+        assertFalse(course.withdrawStudent(new AccountId(1L))); // Retirar de nuevo no mueve nada
+
+        assertEquals(1, course.countEnrollments(EnrollmentStatus.ACTIVE));
+        assertEquals(1, course.countEnrollments(EnrollmentStatus.WITHDRAWN));
+        assertEquals(EnrollmentStatus.WITHDRAWN, course.findEnrollment(new AccountId(1L)).orElseThrow().getStatus());
+        assertThrows(IllegalArgumentException.class, () -> course.withdrawStudent(new AccountId(3L)));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar la inscripción cuando las inscripciones activas llenan el cupo")
+    void enrollStudent_shouldReject_whenCourseIsFull() {
+        Course course = new Course(courseId, subject, term);
+        course.changeCapacity(2);
+        course.enrollStudent(student(1L), checker);
+        course.enrollStudent(student(2L), checker);
+
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> course.enrollStudent(student(3L), checker));
+        assertEquals("El curso no tiene vacantes.", error.getMessage());
+
+        // Un retiro libera la vacante
+        course.withdrawStudent(new AccountId(1L));
+        assertTrue(course.hasAvailableSeat());
+        assertThrows(IllegalArgumentException.class, () -> course.changeCapacity(0));
+    }
+
+    @Test
+    @DisplayName("Debe registrar el retiro solo cuando libera una vacante")
+    void withdrawStudent_shouldRecordEvent_onlyWhenSeatIsReleased() {
+        List<Enrollment> enrollments = List.of(
+                new Enrollment(1L, new AccountId(1L), courseId, EnrollmentStatus.ACTIVE, null, LocalDateTime.now()),
+                new Enrollment(2L, new AccountId(2L), courseId, EnrollmentStatus.WITHDRAWN, null, LocalDateTime.now()));
+        Course course = new Course(courseId, subject, term, null, 1, enrollments);
+
+        assertTrue(course.withdrawStudent(new AccountId(1L)));
+        assertFalse(course.withdrawStudent(new AccountId(2L)));
+
+        assertEquals(2, course.countEnrollments(EnrollmentStatus.WITHDRAWN));
+        assertTrue(course.hasAvailableSeat());
+        assertEquals(1, course.getDomainEvents().size());
+        CourseEvents.StudentWithdrawnFromCourse event =
+                assertInstanceOf(CourseEvents.StudentWithdrawnFromCourse.class, course.getDomainEvents().get(0));
+        assertEquals(new AccountId(1L), event.studentId());
+    }
+
+    private Student student(long accountId) {
+        return new Student(new AccountId(accountId), orgId, "EST-" + accountId, LocalDate.of(2024, 3, 1));
+    }
+}
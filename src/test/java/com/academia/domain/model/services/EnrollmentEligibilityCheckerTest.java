@@ -0,0 +1,147 @@
+package com.academia.domain.model.services;
+
+import com.academia.domain.model.aggregates.Course;
+import com.academia.domain.model.entities.AcademicTerm;
+import com.academia.domain.model.entities.Student;
+import com.academia.domain.model.entities.Subject;
+import com.academia.domain.model.enums.EnrollmentRuleType;
+import com.academia.domain.model.services.eligibility.PassedSubjects;
+import com.academia.domain.model.services.eligibility.PrerequisiteGraph;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.ports.out.EnrollmentRulePolicy;
+import com.academia.domain.ports.out.PrerequisiteCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnrollmentEligibilityCheckerTest {
+
+    private final OrganizationId orgId = new OrganizationId(1L);
+    private final AcademicTerm term = new AcademicTerm(1L, orgId, "2026", LocalDate.of(2026, 3, 1), LocalDate.of(2026, 12, 15));
+
+    // Álgebra I (10) -> Álgebra II (20) -> Análisis (30) <- Geometría (40)
+    private final Map<Long, List<Long>> prerequisites = Map.of(20L, List.of(10L), 30L, List.of(20L, 40L));
+    private final PrerequisiteGraph graph = PrerequisiteGraph.compile(List.of(10L, 20L, 30L, 40L), prerequisites);
+
+    private Set<Long> passed;
+    private Set<EnrollmentRuleType> enabledRules;
+    private EnrollmentEligibilityChecker checker;
+
+    @BeforeEach
+    void setUp() {
+        passed = Set.of();
+        enabledRules = EnumSet.of(EnrollmentRuleType.PREREQUISITES);
+        PrerequisiteCatalog catalog = new PrerequisiteCatalog() {
+            @Override
+            public PrerequisiteGraph graphFor(OrganizationId organizationId) {
+                return graph;
+            }
+
+            @Override
+            public PassedSubjects passedSubjects(AccountId studentId, PrerequisiteGraph compiled) {
+                return compiled.passedSubjects(passed);
+            }
+        };
+        EnrollmentRulePolicy policy = organizationId -> enabledRules;
+        checker = new EnrollmentEligibilityChecker(catalog, policy);
+    }
+
+    @Test
+    @DisplayName("Debe aceptar al estudiante cuando aprobó todas las correlativas directas")
+    void isStudentEligible_shouldAccept_whenPrerequisitesArePassed() {
+        passed = Set.of(20L, 40L);
+        assertTrue(checker.isStudentEligible(student("Quinto"), course(30L, null)));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar al estudiante indicando las correlativas que le faltan")
+    void isStudentEligible_shouldReject_whenPrerequisiteIsMissing() {
+        passed = Set.of(10L, 20L);
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> checker.isStudentEligible(student("Quinto"), course(30L, null)));
+        assertTrue(error.getMessage().contains("[40]"));
+    }
+
+    @Test
+    @DisplayName("Debe ignorar las correlativas si la organización desactivó la regla")
+    void isStudentEligible_shouldSkipPrerequisites_whenRuleIsDisabled() {
+        enabledRules = EnumSet.noneOf(EnrollmentRuleType.class);
+        assertTrue(checker.isStudentEligible(student("Quinto"), course(30L, null)));
+    }
+
+    @Test
+    @DisplayName("Debe exigir el nivel de la materia solo con la regla activa")
+    void isStudentEligible_shouldCheckGradeLevel_whenRuleIsEnabled() {
+        Course fifthGradeCourse = course(10L, "Quinto");
+        assertTrue(checker.isStudentEligible(student("Cuarto"), fifthGradeCourse));
+
+        enabledRules = EnumSet.allOf(EnrollmentRuleType.class);
+        assertThrows(IllegalStateException.class, () -> checker.isStudentEligible(student("Cuarto"), fifthGradeCourse));
+        assertTrue(checker.isStudentEligible(student("quinto"), fifthGradeCourse));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar a un estudiante de otra organización aunque no haya reglas activas")
+    void isStudentEligible_shouldReject_whenOrganizationsDiffer() {
+        enabledRules = EnumSet.noneOf(EnrollmentRuleType.class);
+        Student outsider = new Student(new AccountId(2L), new OrganizationId(2L), "EXT-1", LocalDate.now());
+        assertThrows(IllegalStateException.class, () -> checker.isStudentEligible(outsider, course(10L, null)));
+    }
+
+    @Test
+    @DisplayName("Debe detectar un ciclo en las correlativas al compilar el grafo")
+    void compile_shouldFail_whenPrerequisitesFormACycle() {
+        Map<Long, List<Long>> cyclic = Map.of(10L, List.of(30L), 20L, List.of(10L), 30L, List.of(20L));
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> PrerequisiteGraph.compile(List.of(10L, 20L, 30L, 40L), cyclic));
+        assertTrue(error.getMessage().contains("[10, 20, 30]"));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una correlativa que no pertenece al catálogo")
+    void compile_shouldFail_whenPrerequisiteIsUnknown() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PrerequisiteGraph.compile(List.of(10L, 20L), Map.of(20L, List.of(99L))));
+    }
+
+    @Test
+    @DisplayName("Debe resolver correlativas en un catálogo de más de 64 materias")
+    void isSatisfied_shouldSpanSeveralWords_whenCatalogIsLarge() {
+        List<Long> subjects = new ArrayList<>();
+        Map<Long, List<Long>> chain = new HashMap<>();
+        for (long id = 1; id <= 200; id++) {
+            subjects.add(id);
+            chain.put(id, id == 1 ? List.of() : List.of(id - 1, 1L));
+        }
+        PrerequisiteGraph large = PrerequisiteGraph.compile(subjects, chain);
+
+        PassedSubjects firstWordOnly = large.passedSubjects(List.of(1L, 130L));
+        assertTrue(large.isSatisfied(131L, firstWordOnly));
+        assertFalse(large.isSatisfied(199L, firstWordOnly));
+        assertEquals(List.of(198L), large.missingPrerequisites(199L, firstWordOnly));
+        assertThrows(IllegalArgumentException.class,
+                () -> graph.isSatisfied(20L, firstWordOnly));
+    }
+
+    private Student student(String gradeLevel) {
+        Student student = new Student(new AccountId(1L), orgId, "EST-1", LocalDate.of(2024, 3, 1));
+        student.changeGradeLevel(gradeLevel);
+        return student;
+    }
+
+    private Course course(long subjectId, String gradeLevel) {
+        return new Course(new CourseId(subjectId * 100), new Subject(subjectId, orgId, "Materia " + subjectId, "M-" + subjectId, gradeLevel), term);
+    }
+}
@@ -0,0 +1,126 @@
+package com.academia.infrastructure.attendance;
+
+import com.academia.domain.model.enums.AttendanceStatus;
+import com.academia.infrastructure.attendance.EnrollmentAttendanceBitmaps.EnrollmentContext;
+import com.academia.infrastructure.attendance.EnrollmentAttendanceBitmaps.Summary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttendanceBitmapIndexTest {
+
+    private static final LocalDate TERM_START = LocalDate.of(2026, 3, 1);
+    private static final long ORGANIZATION_ID = 7L;
+
+    private final AttendanceBitmapIndex index = new AttendanceBitmapIndex();
+
+    @Test
+    @DisplayName("Debe calcular la tasa sin contar las faltas justificadas")
+    void summarize_shouldExcludeExcusedFromRate() {
+        EnrollmentAttendanceBitmaps bitmaps = index.register(context(1L, 100L));
+        bitmaps.mark(TERM_START.plusDays(1), AttendanceStatus.PRESENT);
+        bitmaps.mark(TERM_START.plusDays(2), AttendanceStatus.LATE);
+        bitmaps.mark(TERM_START.plusDays(3), AttendanceStatus.ABSENT);
+        bitmaps.mark(TERM_START.plusDays(4), AttendanceStatus.EXCUSED);
+        bitmaps.mark(TERM_START.plusDays(5), AttendanceStatus.PRESENT);
+
+        Summary summary = bitmaps.summarize();
+
+        assertEquals(5, summary.recordedSessions());
+        assertEquals(2, summary.present());
+        assertEquals(1, summary.late());
+        assertEquals(1, summary.absent());
+        assertEquals(1, summary.excused());
+        assertEquals(0.75, summary.attendanceRate(), 1e-9);
+        assertEquals(0, summary.currentAbsenceStreak());
+    }
+
+    @Test
+    @DisplayName("Debe contar la racha de ausencias desde la última sesión registrada")
+    void summarize_shouldCountTrailingAbsenceStreak() {
+        EnrollmentAttendanceBitmaps bitmaps = index.register(context(1L, 100L));
+        bitmaps.mark(TERM_START.plusDays(1), AttendanceStatus.ABSENT);
+        bitmaps.mark(TERM_START.plusDays(2), AttendanceStatus.PRESENT);
+        // Los días sin sesión entre ausencias no cortan la racha
+        bitmaps.mark(TERM_START.plusDays(7), AttendanceStatus.ABSENT);
+        bitmaps.mark(TERM_START.plusDays(8), AttendanceStatus.ABSENT);
+        bitmaps.mark(TERM_START.plusDays(14), AttendanceStatus.ABSENT);
+
+        assertEquals(3, bitmaps.summarize().currentAbsenceStreak());
+
+        // Corregir la última sesión cambia la marca, no agrega otra
+        bitmaps.mark(TERM_START.plusDays(14), AttendanceStatus.EXCUSED);
+        Summary summary = bitmaps.summarize();
+        assertEquals(0, summary.currentAbsenceStreak());
+        assertEquals(5, summary.recordedSessions());
+    }
+
+    @Test
+    @DisplayName("Debe dejar la tasa nula sin sesiones computables e ignorar fechas previas al período")
+    void summarize_shouldReturnNullRate_whenNothingCountable() {
+        EnrollmentAttendanceBitmaps bitmaps = index.register(context(1L, 100L));
+        assertFalse(bitmaps.mark(TERM_START.minusDays(1), AttendanceStatus.ABSENT));
+        bitmaps.mark(TERM_START, AttendanceStatus.EXCUSED);
+
+        Summary summary = bitmaps.summarize();
+
+        assertNull(summary.attendanceRate());
+        assertEquals(1, summary.recordedSessions());
+    }
+
+    @Test
+    @DisplayName("El auto-registro no debe pisar la marca del docente")
+    void markIfUnrecorded_shouldKeepExistingMark() {
+        EnrollmentAttendanceBitmaps bitmaps = index.register(context(1L, 100L));
+        LocalDate session = TERM_START.plusDays(3);
+        bitmaps.mark(session, AttendanceStatus.ABSENT);
+
+        bitmaps.markIfUnrecorded(session, AttendanceStatus.PRESENT);
+        bitmaps.markIfUnrecorded(session.plusDays(1), AttendanceStatus.PRESENT);
+
+        assertTrue(bitmaps.hasStatusOn(session, AttendanceStatus.ABSENT));
+        assertFalse(bitmaps.hasStatusOn(session, AttendanceStatus.PRESENT));
+        assertTrue(bitmaps.hasStatusOn(session.plusDays(1), AttendanceStatus.PRESENT));
+    }
+
+    @Test
+    @DisplayName("Debe listar los ausentes de la organización en una fecha, en todos sus cursos")
+    void withStatusOn_shouldFilterByOrganizationAndDate() {
+        LocalDate today = TERM_START.plusDays(10);
+        index.register(context(1L, 100L)).mark(today, AttendanceStatus.ABSENT);
+        index.register(context(2L, 200L)).mark(today, AttendanceStatus.ABSENT);
+        index.register(context(3L, 200L)).mark(today, AttendanceStatus.PRESENT);
+        index.register(context(4L, 100L)).mark(today.minusDays(1), AttendanceStatus.ABSENT);
+        index.register(new EnrollmentContext(5L, 5L, 300L, ORGANIZATION_ID + 1, TERM_START)).mark(today, AttendanceStatus.ABSENT);
+
+        List<Long> absent = index.withStatusOn(ORGANIZATION_ID, today, AttendanceStatus.ABSENT).stream()
+                .map(bitmaps -> bitmaps.context().enrollmentId())
+                .sorted()
+                .toList();
+
+        assertEquals(List.of(1L, 2L), absent);
+        assertEquals(2, index.forCourse(200L).size());
+    }
+
+    @Test
+    @DisplayName("Debe reemplazar los bitmaps de una inscripción por los recargados")
+    void replace_shouldSwapEnrollmentBitmaps() {
+        index.register(context(1L, 100L)).mark(TERM_START.plusDays(1), AttendanceStatus.ABSENT);
+
+        EnrollmentAttendanceBitmaps reloaded = new EnrollmentAttendanceBitmaps(context(1L, 100L));
+        reloaded.mark(TERM_START.plusDays(1), AttendanceStatus.EXCUSED);
+        index.replace(reloaded);
+
+        assertSame(reloaded, index.find(1L).orElseThrow());
+        assertEquals(1, index.forCourse(100L).size());
+        assertEquals(1, index.size());
+    }
+
+    private static EnrollmentContext context(long enrollmentId, long courseId) {
+        return new EnrollmentContext(enrollmentId, enrollmentId * 10, courseId, ORGANIZATION_ID, TERM_START);
+    }
+}
@@ -0,0 +1,134 @@
+package com.academia.infrastructure.attendance;
+
+import com.academia.config.AcademicTestData;
+import com.academia.config.TestSecurityConfig;
+import com.academia.domain.ports.in.commands.CheckInCommand;
+import com.academia.domain.ports.in.course.CheckInUseCase;
+import com.academia.infrastructure.persistence.jpa.entities.AcademicTermJpaEntity;
+import com.academia.infrastructure.persistence.jpa.entities.SubjectJpaEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ventana de entrada de una escuela: 10.000 auto-registros lanzados a la vez, cada uno en su
+ * hilo virtual, contra el caso de uso real (código, padrón cacheado y buffer con log local).
+ * Mide el camino que responde al estudiante; el volcado a la BD se comprueba aparte.
+ * Con la caché activada, como en producción, cada curso lee su padrón una sola vez.
+ */
+@SpringBootTest(properties = "academia.cache.enabled=true")
+@ActiveProfiles("test")
+@Import({TestSecurityConfig.class, AcademicTestData.class})
+@Slf4j
+class CheckInPeakLoadIntegrationTest {
+
+    private static final int COURSES = 250;
+    private static final int STUDENTS_PER_COURSE = 40;
+    private static final int CHECK_INS = COURSES * STUDENTS_PER_COURSE;
+    private static final long FIRST_STUDENT_ID = 70_000_000L; // Fuera del rango que reparte id_allocations en los tests
+
+    @Autowired
+    private CheckInUseCase checkInUseCase;
+
+    @Autowired
+    private WriteBehindCheckInBuffer checkInBuffer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AcademicTestData testData;
+
+    private Long organizationId;
+    private final List<Long> courseIds = new ArrayList<>(COURSES);
+
+    @BeforeEach
+    void setUp() {
+        organizationId = testData.createOrganization("Escuela Auto-registro", "escuela-checkin");
+        SubjectJpaEntity subject = testData.createSubject(organizationId, "Historia", "HIS-1");
+        AcademicTermJpaEntity term = testData.createTerm(organizationId, "Año Lectivo",
+                LocalDate.now().minusMonths(1), LocalDate.now().plusMonths(6));
+        for (int c = 0; c < COURSES; c++) {
+            Long courseId = testData.createCourse(subject, term, "HIS-1-" + c, null);
+            courseIds.add(courseId);
+            int course = c;
+            testData.enrollAll(courseId, IntStream.range(0, STUDENTS_PER_COURSE).mapToObj(s -> studentId(course, s)).toList());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteOrganization(organizationId);
+    }
+
+    @Test
+    @DisplayName("Debe aceptar 10k auto-registros simultáneos en hilos virtuales y volcarlos sin pérdidas")
+    void checkIn_shouldSustainEntryWindowOnVirtualThreads() throws Exception {
+        List<String> codes = courseIds.stream().map(id -> checkInUseCase.issueCode(id).code()).toList();
+
+        long[] latenciesMicros = new long[CHECK_INS];
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<?>> calls = new ArrayList<>(CHECK_INS);
+        long elapsedMs;
+        try (ExecutorService students = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CHECK_INS; i++) {
+                int slot = i;
+                int course = i % COURSES; // Intercalados: todos los cursos reciben registros a la vez
+                int student = i / COURSES;
+                calls.add(students.submit(() -> {
+                    startGate.await();
+                    long sent = System.nanoTime();
+                    checkInUseCase.checkIn(new CheckInCommand(courseIds.get(course), studentId(course, student), codes.get(course)));
+                    latenciesMicros[slot] = (System.nanoTime() - sent) / 1_000;
+                    return null;
+                }));
+            }
+            long start = System.nanoTime();
+            startGate.countDown();
+            for (Future<?> call : calls) {
+                call.get(); // Propaga cualquier registro rechazado
+            }
+            elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        }
+
+        Arrays.sort(latenciesMicros);
+        long p99Micros = latenciesMicros[CHECK_INS * 99 / 100];
+        log.info("Auto-registro: {} registros simultáneos en {} ms ({}/s), p50 {} µs, p99 {} µs, máx {} µs",
+                CHECK_INS, elapsedMs, CHECK_INS * 1000L / elapsedMs, latenciesMicros[CHECK_INS / 2],
+                p99Micros, latenciesMicros[CHECK_INS - 1]);
+
+        // Cota holgada para no depender del equipo: sin el buffer cada registro esperaría su propia transacción
+        assertTrue(p99Micros < 1_000_000, "p99 de " + p99Micros / 1000 + " ms");
+
+        // Lo que el volcado programado no haya escrito todavía sigue en el buffer
+        checkInBuffer.flush();
+        assertEquals(0, checkInBuffer.bufferedCount());
+        assertEquals(CHECK_INS, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM attendance_records WHERE session_date = ? AND status = 'PRESENT' " +
+                "AND enrollment_id IN (SELECT id FROM enrollments WHERE student_user_id >= ?)",
+                Integer.class, LocalDate.now(), FIRST_STUDENT_ID));
+    }
+
+    private static long studentId(int course, int student) {
+        return FIRST_STUDENT_ID + (long) course * STUDENTS_PER_COURSE + student;
+    }
+}
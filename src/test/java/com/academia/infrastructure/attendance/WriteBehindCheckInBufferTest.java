@@ -0,0 +1,139 @@
+package com.academia.infrastructure.attendance;
+
+import com.academia.domain.model.aggregates.AttendanceSheet;
+import com.academia.domain.model.valueobjects.academic.CheckIn;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.ports.out.AttendanceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteBehindCheckInBufferTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 2);
+
+    @TempDir
+    Path walDirectory;
+
+    private final RecordingAttendanceRepository repository = new RecordingAttendanceRepository();
+
+    @Test
+    @DisplayName("Debe volcar cada inscripción una sola vez por ventana y borrar los segmentos")
+    void flush_shouldWriteDeduplicatedBatchAndDeleteSegments() throws IOException {
+        WriteBehindCheckInBuffer buffer = newBuffer();
+        buffer.append(checkIn(1L, "08:01"));
+        buffer.append(checkIn(1L, "08:03")); // Repetido: se conserva el primero
+        buffer.append(checkIn(2L, "08:02"));
+        assertEquals(2, buffer.bufferedCount());
+        assertFalse(segments().isEmpty());
+
+        buffer.flush();
+
+        assertEquals(1, repository.batches.size());
+        assertEquals(2, repository.batches.get(0).size());
+        assertTrue(repository.batches.get(0).contains(checkIn(1L, "08:01")));
+        assertEquals(0, buffer.bufferedCount());
+        assertTrue(segments().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe conservar el lote y sus segmentos si la BD falla, y reintentarlo después")
+    void flush_shouldRetryBatch_whenRepositoryFails() throws IOException {
+        WriteBehindCheckInBuffer buffer = newBuffer();
+        buffer.append(checkIn(1L, "08:01"));
+
+        repository.failing = true;
+        buffer.flush();
+        assertEquals(1, buffer.pendingBatchCount());
+        assertFalse(segments().isEmpty());
+
+        buffer.append(checkIn(2L, "08:05"));
+        repository.failing = false;
+        buffer.flush();
+
+        assertEquals(0, buffer.pendingBatchCount());
+        assertEquals(List.of(List.of(checkIn(1L, "08:01")), List.of(checkIn(2L, "08:05"))), repository.batches);
+        assertTrue(segments().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe recuperar desde el log los registros aceptados antes de una caída")
+    void constructor_shouldRecoverSegmentsLeftByPreviousRun() throws IOException {
+        WriteBehindCheckInBuffer crashed = newBuffer();
+        crashed.append(checkIn(1L, "08:01"));
+        crashed.append(checkIn(2L, "08:02"));
+        // Línea cortada a mitad de escritura
+        Files.writeString(walDirectory.resolve("checkins-99.wal"), "3,2026-03-02,2026-03-02T08:0", StandardCharsets.UTF_8);
+
+        WriteBehindCheckInBuffer restarted = newBuffer();
+        assertEquals(1, restarted.pendingBatchCount());
+        restarted.flush();
+
+        assertEquals(1, repository.batches.size());
+        assertEquals(2, repository.batches.get(0).size());
+        assertTrue(segments().isEmpty());
+
+        // Los segmentos nuevos no reutilizan nombres recuperados
+        restarted.append(checkIn(4L, "08:10"));
+        assertTrue(segments().stream().noneMatch(path -> path.getFileName().toString().equals("checkins-99.wal")));
+    }
+
+    @Test
+    @DisplayName("Debe exigir un directorio de log explícito")
+    void constructor_shouldFail_whenWalDirectoryIsBlank() {
+        assertThrows(IllegalStateException.class, () -> new WriteBehindCheckInBuffer(
+                repository, events -> {}, Path.of(""), 4, false, new SimpleMeterRegistry()));
+    }
+
+    private WriteBehindCheckInBuffer newBuffer() throws IOException {
+        return new WriteBehindCheckInBuffer(repository, events -> {}, walDirectory, 4, false, new SimpleMeterRegistry());
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(walDirectory)) {
+            return files.toList();
+        }
+    }
+
+    private static CheckIn checkIn(Long enrollmentId, String time) {
+        return new CheckIn(enrollmentId, TODAY, LocalDateTime.of(TODAY, LocalTime.parse(time)));
+    }
+
+    private static class RecordingAttendanceRepository implements AttendanceRepository {
+        private final List<List<CheckIn>> batches = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public Optional<AttendanceSheet> openSheet(CourseId courseId, LocalDate sessionDate) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void save(AttendanceSheet sheet) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void saveCheckIns(List<CheckIn> checkIns) {
+            if (failing) {
+                throw new IllegalStateException("BD no disponible");
+            }
+            batches.add(List.copyOf(checkIns));
+        }
+    }
+}
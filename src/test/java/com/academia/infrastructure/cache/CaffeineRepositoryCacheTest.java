@@ -0,0 +1,45 @@
+package com.academia.infrastructure.cache;
+
+import com.academia.domain.model.entities.Student;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.infrastructure.cache.CacheSnapshots.StudentSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CaffeineRepositoryCacheTest {
+
+    private static final AccountId STUDENT_ID = new AccountId(7L);
+
+    @Test
+    @DisplayName("Con copia, cada lectura debe recibir su propia instancia del agregado")
+    void get_shouldReturnIndependentCopies_whenCopierIsGiven() {
+        JsonCacheCodec<Student, StudentSnapshot> codec = new JsonCacheCodec<>(new ObjectMapper(), StudentSnapshot.class,
+                StudentSnapshot::of, StudentSnapshot::toDomain);
+        RepositoryCache<AccountId, Student> cache = new CaffeineRepositoryCache<>("students", 100,
+                Duration.ofMinutes(10), codec::copy, new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+        Student loaded = new Student(STUDENT_ID, new OrganizationId(1L), "LEG-7", LocalDate.of(2025, 3, 1));
+        loaded.changeGradeLevel("Primero");
+
+        Student first = cache.get(STUDENT_ID, id -> {
+            loads.incrementAndGet();
+            return loaded;
+        }).orElseThrow();
+        first.changeGradeLevel("Segundo");
+        loaded.changeGradeLevel("Tercero");
+
+        Student second = cache.get(STUDENT_ID, id -> fail("Debe leerse de la caché")).orElseThrow();
+        assertNotSame(first, second);
+        assertEquals("Primero", second.getCurrentGradeLevel());
+        assertEquals(1, loads.get());
+    }
+}
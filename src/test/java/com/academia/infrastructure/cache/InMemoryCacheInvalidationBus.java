@@ -0,0 +1,25 @@
+package com.academia.infrastructure.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Sustituto síncrono del pub/sub de Redis: entrega cada invalidación a todos los suscriptores.
+ */
+class InMemoryCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(String cacheName, String key) {
+        listeners.getOrDefault(cacheName, List.of()).forEach(listener -> listener.accept(key));
+    }
+
+    @Override
+    public void subscribe(String cacheName, Consumer<String> listener) {
+        listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+}
@@ -0,0 +1,40 @@
+package com.academia.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sustituto de Redis para pruebas: un mapa compartido entre los "nodos" de la prueba.
+ * Ignora el TTL y puede simular una caída para comprobar que la L2 no es imprescindible.
+ */
+class InMemoryRemoteCacheStore implements RemoteCacheStore {
+
+    final Map<String, String> entries = new ConcurrentHashMap<>();
+    volatile boolean unavailable;
+
+    @Override
+    public Optional<String> get(String key) {
+        checkAvailable();
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    @Override
+    public void put(String key, String value, Duration timeToLive) {
+        checkAvailable();
+        entries.put(key, value);
+    }
+
+    @Override
+    public void delete(String key) {
+        checkAvailable();
+        entries.remove(key);
+    }
+
+    private void checkAvailable() {
+        if (unavailable) {
+            throw new IllegalStateException("Caché compartida no disponible");
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.academia.infrastructure.cache;
+
+import com.academia.domain.model.aggregates.Organization;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.ports.out.OrganizationRepository;
+import com.academia.infrastructure.cache.CacheSnapshots.OrganizationSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TwoTierRepositoryCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private InMemoryRemoteCacheStore remoteStore;
+    private InMemoryCacheInvalidationBus invalidationBus;
+    private FakeOrganizationRepository database;
+
+    @BeforeEach
+    void setUp() {
+        remoteStore = new InMemoryRemoteCacheStore();
+        invalidationBus = new InMemoryCacheInvalidationBus();
+        database = new FakeOrganizationRepository();
+        database.save(new Organization(new OrganizationId(1L), "Colegio Andino", "colegio-andino", 14));
+    }
+
+    @Test
+    @DisplayName("Un nodo debe leer de la L2 lo que otro nodo ya cargó de la BD")
+    void findById_shouldHitSharedCache_whenAnotherNodeLoadedTheValue() {
+        OrganizationRepository nodeA = newNode();
+        OrganizationRepository nodeB = newNode();
+
+        nodeA.findById(new OrganizationId(1L));
+        Optional<Organization> fromB = nodeB.findById(new OrganizationId(1L));
+
+        assertTrue(fromB.isPresent());
+        assertEquals(14, fromB.get().getDigitalConsentAge());
+        assertEquals(1, database.reads.get());
+    }
+
+    @Test
+    @DisplayName("Guardar en un nodo debe invalidar la L1 del resto de nodos")
+    void save_shouldInvalidateOtherNodes() {
+        OrganizationRepository nodeA = newNode();
+        OrganizationRepository nodeB = newNode();
+        nodeA.findById(new OrganizationId(1L));
+        nodeB.findById(new OrganizationId(1L));
+
+        nodeB.save(new Organization(new OrganizationId(1L), "Colegio Andino", "colegio-andino", 16));
+
+        assertEquals(16, nodeA.findById(new OrganizationId(1L)).orElseThrow().getDigitalConsentAge());
+        assertEquals(2, database.reads.get());
+    }
+
+    @Test
+    @DisplayName("Si la L2 no está disponible, debe leer de la BD sin fallar")
+    void findById_shouldFallBackToDatabase_whenSharedCacheIsDown() {
+        remoteStore.unavailable = true;
+        OrganizationRepository node = newNode();
+
+        assertTrue(node.findById(new OrganizationId(1L)).isPresent());
+        assertTrue(node.findById(new OrganizationId(1L)).isPresent());
+        assertEquals(1, database.reads.get());
+    }
+
+    @Test
+    @DisplayName("No debe cachear organizaciones inexistentes")
+    void findById_shouldNotCacheMisses() {
+        OrganizationRepository node = newNode();
+
+        assertTrue(node.findById(new OrganizationId(2L)).isEmpty());
+        database.save(new Organization(new OrganizationId(2L), "Liceo Norte", "liceo-norte", 13));
+
+        assertTrue(node.findById(new OrganizationId(2L)).isPresent());
+        assertFalse(remoteStore.entries.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Un lector que modifica el agregado no debe cambiar lo que leen los demás")
+    void findById_shouldReturnIndependentCopies() {
+        OrganizationRepository node = newNode();
+
+        node.findById(new OrganizationId(1L)).orElseThrow().updateDetails("Colegio Modificado", 18);
+
+        Organization cached = node.findById(new OrganizationId(1L)).orElseThrow();
+        assertEquals("Colegio Andino", cached.getName());
+        assertEquals(14, cached.getDigitalConsentAge());
+        assertEquals(1, database.reads.get());
+    }
+
+    private OrganizationRepository newNode() {
+        RepositoryCache<OrganizationId, Organization> cache = new TwoTierRepositoryCache<>(
+                "organizations", 100, Duration.ofMinutes(10),
+                remoteStore, Duration.ofHours(1), invalidationBus,
+                id -> String.valueOf(id.getValue()),
+                new JsonCacheCodec<>(objectMapper, OrganizationSnapshot.class,
+                        OrganizationSnapshot::of, OrganizationSnapshot::toDomain),
+                new SimpleMeterRegistry());
+        return new CachingOrganizationRepository(database, cache);
+    }
+
+    private static class FakeOrganizationRepository implements OrganizationRepository {
+
+        private final Map<Long, Organization> rows = new ConcurrentHashMap<>();
+        private final AtomicInteger reads = new AtomicInteger();
+
+        @Override
+        public Organization save(Organization organization) {
+            rows.put(organization.getId().getValue(), organization);
+            return organization;
+        }
+
+        @Override
+        public Optional<Organization> findById(OrganizationId id) {
+            reads.incrementAndGet();
+            return Optional.ofNullable(rows.get(id.getValue()));
+        }
+    }
+}
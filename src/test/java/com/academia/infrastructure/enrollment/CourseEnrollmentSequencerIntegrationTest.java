@@ -0,0 +1,151 @@
+package com.academia.infrastructure.enrollment;
+
+import com.academia.application.services.EnrollStudentInCourseServiceImpl;
+import com.academia.config.AcademicTestData;
+import com.academia.config.TestSecurityConfig;
+import com.academia.domain.ports.in.commands.EnrollStudentInCourseCommand;
+import com.academia.domain.ports.in.course.EnrollStudentInCourseUseCase;
+import com.academia.infrastructure.persistence.jpa.entities.AcademicTermJpaEntity;
+import com.academia.infrastructure.persistence.jpa.entities.SubjectJpaEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de carga del escritor único por curso contra el camino de una transacción por pedido:
+ * los mismos estudiantes piden a la vez dos cursos iguales, uno por cada camino. Llama a los
+ * servicios directamente para medir solo la persistencia; los datos se confirman y se borran al terminar.
+ */
+@SpringBootTest(properties = "academia.enrollment.sequencer.enabled=true")
+@ActiveProfiles("test")
+@Import({TestSecurityConfig.class, AcademicTestData.class})
+@Slf4j
+class CourseEnrollmentSequencerIntegrationTest {
+
+    private static final int STUDENTS = 2_500;
+    private static final int CAPACITY = 1_500;
+    // El camino de una transacción por pedido atiende unos 35 pedidos/s con el pool de 10 conexiones:
+    // con 200 clientes los últimos de la cola superaban los 30 s de espera de Hikari y fallaban
+    private static final int CONCURRENT_CLIENTS = 50;
+    private static final long FIRST_STUDENT_ID = 89_000_000L; // Fuera del rango que reparte id_allocations en los tests
+
+    @Autowired
+    private EnrollStudentInCourseUseCase enrollStudentUseCase;
+
+    @Autowired
+    private EnrollStudentInCourseServiceImpl transactionPerRequest;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AcademicTestData testData;
+
+    private Long organizationId;
+    private final List<Long> courseIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        organizationId = testData.createOrganization("Universidad Secuenciada", "universidad-secuencia");
+        SubjectJpaEntity subject = testData.createSubject(organizationId, "Química General", "QUI-1");
+        AcademicTermJpaEntity term = testData.createTerm(organizationId, "Cuatrimestre 2026",
+                LocalDate.of(2026, 3, 1), LocalDate.of(2026, 7, 15));
+        for (String code : List.of("QUI-1-A", "QUI-1-B")) {
+            courseIds.add(testData.createCourse(subject, term, code, CAPACITY));
+        }
+        testData.insertStudents(organizationId, FIRST_STUDENT_ID, STUDENTS, "Secuencia", "Primero");
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteOrganization(organizationId);
+    }
+
+    @Test
+    @DisplayName("Debe llenar el cupo igual que el camino actual, con menos transacciones")
+    void enrollStudent_shouldFillCapacityInBatches_underConcurrentRequests() {
+        assertInstanceOf(CourseEnrollmentSequencer.class, enrollStudentUseCase);
+
+        Run baseline = run("una transacción por pedido", transactionPerRequest, courseIds.get(0));
+        double batchesBefore = meterRegistry.summary("academia.enrollment.sequencer.batch-size").count();
+        Run sequenced = run("escritor único por curso", enrollStudentUseCase, courseIds.get(1));
+        long transactions = (long) (meterRegistry.summary("academia.enrollment.sequencer.batch-size").count() - batchesBefore);
+        log.info("Escritor único: {} pedidos en {} transacciones ({} por transacción)",
+                STUDENTS, transactions, STUDENTS / Math.max(1, transactions));
+
+        for (Run result : List.of(baseline, sequenced)) {
+            assertEquals(CAPACITY, result.enrolled());
+            assertEquals(STUDENTS - CAPACITY, result.rejected());
+            assertEquals(0, result.failed());
+        }
+        for (Long courseId : courseIds) {
+            assertEquals(CAPACITY, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(DISTINCT student_user_id) FROM enrollments WHERE course_id = ?", Integer.class, courseId));
+            assertEquals(CAPACITY, jdbcTemplate.queryForObject(
+                    "SELECT seats_taken FROM courses WHERE id = ?", Integer.class, courseId));
+        }
+        assertTrue(transactions < CAPACITY, "El escritor único no agrupó las inscripciones");
+    }
+
+    private Run run(String label, EnrollStudentInCourseUseCase useCase, Long courseId) {
+        int[] outcomes = new int[STUDENTS]; // 1: inscrito, 2: rechazado por una regla o el cupo, 3: error inesperado
+        long[] latenciesMicros = new long[STUDENTS];
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENT_CLIENTS);
+        long start = System.nanoTime();
+        try {
+            List<CompletableFuture<Void>> calls = new ArrayList<>(STUDENTS);
+            for (int i = 0; i < STUDENTS; i++) {
+                int student = i;
+                calls.add(CompletableFuture.runAsync(() -> {
+                    long sent = System.nanoTime();
+                    try {
+                        useCase.enrollStudent(new EnrollStudentInCourseCommand(FIRST_STUDENT_ID + student, courseId));
+                        outcomes[student] = 1;
+                    } catch (IllegalStateException e) {
+                        outcomes[student] = 2;
+                    } catch (RuntimeException e) {
+                        outcomes[student] = 3;
+                    }
+                    latenciesMicros[student] = (System.nanoTime() - sent) / 1_000;
+                }, clients));
+            }
+            CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            clients.shutdown();
+        }
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+        Arrays.sort(latenciesMicros);
+        log.info("Inscripción ({}): {} pedidos en {} ms -> {} pedidos/s, p50 {} ms, p99 {} ms",
+                label, STUDENTS, elapsedMs, STUDENTS * 1000L / elapsedMs,
+                latenciesMicros[STUDENTS / 2] / 1_000, latenciesMicros[STUDENTS * 99 / 100] / 1_000);
+        return new Run(count(outcomes, 1), count(outcomes, 2), count(outcomes, 3));
+    }
+
+    private static int count(int[] outcomes, int outcome) {
+        return (int) Arrays.stream(outcomes).filter(o -> o == outcome).count();
+    }
+
+    private record Run(int enrolled, int rejected, int failed) {}
+}
@@ -0,0 +1,66 @@
+package com.academia.infrastructure.enrollment;
+
+import com.academia.domain.model.valueobjects.academic.WaitlistEntry;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourseWaitlistQueueTest {
+
+    private static final CourseId COURSE = new CourseId(1L);
+    private static final LocalDateTime OPENING = LocalDateTime.of(2026, 2, 20, 9, 0);
+
+    @Test
+    @DisplayName("Debe promover por prioridad y, a igual prioridad, por orden de pedido")
+    void poll_shouldFollowPriorityThenRequestTime() {
+        CourseWaitlistQueue queue = new CourseWaitlistQueue(List.of(
+                entry(1L, 0, 1), entry(2L, 5, 3), entry(3L, 0, 0), entry(4L, 5, 2)));
+
+        assertEquals(List.of(4L, 2L, 3L, 1L), drain(queue));
+        assertTrue(queue.poll().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe saltear a los que se bajaron de la lista sin perder el orden de los demás")
+    void remove_shouldSkipRemovedEntries_andCompactHeap() {
+        List<WaitlistEntry> entries = new ArrayList<>();
+        for (long student = 1; student <= 1_000; student++) {
+            entries.add(entry(student, 0, student));
+        }
+        CourseWaitlistQueue queue = new CourseWaitlistQueue(entries);
+
+        for (long student = 1; student <= 1_000; student++) {
+            if (student % 100 != 0) {
+                assertTrue(queue.remove(student));
+            }
+        }
+        assertFalse(queue.remove(1L));
+        assertFalse(queue.add(entry(200L, 9, 0)));
+        assertTrue(queue.add(entry(1L, 0, 5_000)));
+
+        assertEquals(11, queue.size());
+        assertEquals(List.of(100L, 200L, 300L, 400L, 500L, 600L, 700L, 800L, 900L, 1_000L, 1L), drain(queue));
+        assertEquals(0, queue.size());
+    }
+
+    private static List<Long> drain(CourseWaitlistQueue queue) {
+        List<Long> order = new ArrayList<>();
+        Optional<WaitlistEntry> next;
+        while ((next = queue.poll()).isPresent()) {
+            order.add(next.get().getStudentId().getValue());
+        }
+        return order;
+    }
+
+    private static WaitlistEntry entry(long studentId, int priority, long minutesAfterOpening) {
+        return new WaitlistEntry(new AccountId(studentId), COURSE, priority, OPENING.plusMinutes(minutesAfterOpening));
+    }
+}
@@ -0,0 +1,196 @@
+package com.academia.infrastructure.events;
+
+import com.academia.domain.model.events.DomainEvent;
+import com.academia.infrastructure.config.AsyncEventDispatchProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncDomainEventPublisherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AsyncDomainEventPublisher publisher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (publisher != null) {
+            publisher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe retener los eventos hasta el commit y descartarlos si la transacción se revierte")
+    void publish_shouldReleaseEventsOnlyAfterCommit() throws InterruptedException {
+        List<DomainEvent> received = new CopyOnWriteArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(1);
+        publisher = publisher(event -> {
+            received.add((DomainEvent) event);
+            delivered.countDown();
+        }, 4, 100, Map.of());
+
+        TestEvent committed = new TestEvent(1);
+        TransactionSynchronizationManager.initSynchronization();
+        publisher.publish(List.of(committed));
+        List<TransactionSynchronization> committing = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TestEvent rolledBack = new TestEvent(2);
+        TransactionSynchronizationManager.initSynchronization();
+        publisher.publish(List.of(rolledBack));
+        List<TransactionSynchronization> rollingBack = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        Thread.sleep(50);
+        assertTrue(received.isEmpty(), "Nada se despacha antes de que termine la transacción");
+
+        rollingBack.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        committing.forEach(TransactionSynchronization::afterCommit);
+
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        publisher.stop();
+        assertEquals(List.of(committed), received);
+    }
+
+    @Test
+    @DisplayName("No debe superar el límite de listeners simultáneos del tipo de evento")
+    void publish_shouldRespectPerTypeConcurrency() throws InterruptedException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        CountDownLatch delivered = new CountDownLatch(40);
+        publisher = publisher(event -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(5);
+            running.decrementAndGet();
+            delivered.countDown();
+        }, 8, 100, Map.of("TestEvent", 2));
+
+        IntStream.range(0, 40).forEach(i -> publisher.publish(List.of(new TestEvent(i))));
+
+        assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        publisher.stop();
+        assertEquals(2, peak.get());
+        assertEquals(40, meterRegistry.get("academia.events.dispatch.latency").tag("type", "TestEvent").timer().count());
+    }
+
+    @Test
+    @DisplayName("Debe frenar a quien publica cuando la cola del tipo está llena, sin perder eventos")
+    void publish_shouldApplyBackpressure_whenQueueIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        Map<Integer, String> threads = new ConcurrentHashMap<>();
+        publisher = publisher(event -> {
+            TestEvent test = (TestEvent) event;
+            threads.put(test.sequence(), Thread.currentThread().getName());
+            if (test.sequence() < 2) {
+                await(release);
+            }
+        }, 2, 1, Map.of());
+
+        publisher.publish(List.of(new TestEvent(0), new TestEvent(1))); // Los toman los dos despachadores y quedan bloqueados
+        while (!threads.containsKey(0) || !threads.containsKey(1)) {
+            Thread.onSpinWait();
+        }
+        publisher.publish(List.of(new TestEvent(2))); // Ocupa la única plaza de la cola
+        publisher.publish(List.of(new TestEvent(3))); // Cola llena: se despacha y se espera aquí
+
+        assertEquals("domain-events-inline", threads.get(3));
+        assertEquals(1.0, meterRegistry.get("academia.events.backpressure").tag("type", "TestEvent").counter().count());
+        assertEquals(1.0, meterRegistry.get("academia.events.queue.depth").tag("type", "TestEvent").gauge().value());
+
+        release.countDown();
+        publisher.stop();
+        assertEquals(4, threads.size());
+    }
+
+    @Test
+    @DisplayName("Debe despachar en orden los tipos con un solo listener, aun con la cola llena")
+    void publish_shouldKeepOrder_whenTypeConcurrencyIsOne() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        publisher = publisher(event -> {
+            TestEvent test = (TestEvent) event;
+            received.add(test.sequence());
+            if (test.sequence() == 0) {
+                await(release);
+            }
+        }, 4, 1, Map.of("TestEvent", 1));
+
+        publisher.publish(List.of(new TestEvent(0))); // Lo toma el despachador y queda bloqueado
+        while (received.isEmpty()) {
+            Thread.onSpinWait();
+        }
+        publisher.publish(List.of(new TestEvent(1))); // Ocupa la única plaza de la cola
+        Thread blocked = Thread.ofVirtual().start(() -> publisher.publish(List.of(new TestEvent(2))));
+
+        // Cola llena: quien publica espera su lugar en lugar de adelantarse a los encolados
+        while (meterRegistry.get("academia.events.backpressure").tag("type", "TestEvent").counter().count() < 1) {
+            Thread.onSpinWait();
+        }
+        assertTrue(blocked.isAlive());
+        assertEquals(List.of(0), received);
+
+        release.countDown();
+        blocked.join(5_000);
+        publisher.stop();
+        assertEquals(List.of(0, 1, 2), received);
+    }
+
+    private AsyncDomainEventPublisher publisher(ApplicationEventPublisher listeners, int concurrency,
+                                                int queueCapacity, Map<String, Integer> typeConcurrency) {
+        AsyncEventDispatchProperties properties = new AsyncEventDispatchProperties(true, concurrency, queueCapacity,
+                Duration.ofMillis(20), Duration.ofSeconds(5), typeConcurrency);
+        return new AsyncDomainEventPublisher(listeners, properties, meterRegistry);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record TestEvent(UUID eventId, Instant occurredOn, int sequence) implements DomainEvent {
+        TestEvent(int sequence) {
+            this(UUID.randomUUID(), Instant.now(), sequence);
+        }
+
+        @Override
+        public UUID getEventId() {
+            return eventId;
+        }
+
+        @Override
+        public Instant getOccurredOn() {
+            return occurredOn;
+        }
+    }
+}
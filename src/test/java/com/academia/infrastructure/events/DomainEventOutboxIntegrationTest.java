@@ -0,0 +1,156 @@
+package com.academia.infrastructure.events;
+
+import com.academia.config.TestSecurityConfig;
+import com.academia.domain.model.events.CourseEvents;
+import com.academia.domain.model.events.DomainEvent;
+import com.academia.domain.model.events.UserAccountEvents;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.model.valueobjects.user.Email;
+import com.academia.domain.ports.out.DomainEventOutbox;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * El relay corre aparte en cada pasada y en su propia transacción, así que las filas se confirman
+ * de verdad y se borran al terminar. El proceso programado se desactiva aquí además de en el perfil
+ * de test: si tomara las filas antes que la prueba, el listener no las vería.
+ * Las fechas de los eventos se truncan a microsegundos, la precisión del formato binario.
+ */
+@SpringBootTest(properties = "academia.outbox.relay.enabled=false")
+@ActiveProfiles("test")
+@Import({TestSecurityConfig.class, DomainEventOutboxIntegrationTest.RecordingListener.class})
+class DomainEventOutboxIntegrationTest {
+
+    @Autowired
+    private DomainEventOutbox outbox;
+
+    @Autowired
+    private DomainEventOutboxRelay relay;
+
+    @Autowired
+    private RecordingListener listener;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate transactionTemplate;
+    private final List<DomainEvent> appended = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        listener.received.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        appended.forEach(event -> jdbcTemplate.update(
+                "DELETE FROM domain_event_outbox WHERE event_id = ?", event.getEventId().toString()));
+    }
+
+    @Test
+    @DisplayName("Debe despachar tras el commit los eventos guardados con la transacción y marcarlos publicados")
+    void relayPending_shouldDispatchCommittedEvents_andMarkThemPublished() {
+        DomainEvent enrolled = event(new CourseEvents.StudentEnrolledInCourse(UUID.randomUUID(), now(), new AccountId(93_000_001L), new CourseId(93_000_002L)));
+        DomainEvent registered = event(new UserAccountEvents.UserRegisteredEvent(UUID.randomUUID(), now(), new AccountId(93_000_001L), new Email("outbox@academia.edu")));
+        double relayedBefore = meterRegistry.counter("academia.outbox.relayed").count();
+
+        transactionTemplate.executeWithoutResult(status -> outbox.append(List.of(enrolled, registered)));
+        assertTrue(listener.received.isEmpty(), "Nada se despacha al escribir en la bandeja");
+        for (DomainEvent event : appended) {
+            assertEquals(1, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM domain_event_outbox WHERE event_id = ? AND binary_payload IS NOT NULL AND payload IS NULL",
+                    Integer.class, event.getEventId().toString()), "Los tipos con esquema binario no se guardan en JSON");
+        }
+
+        relay.relayPending();
+
+        // Los eventos llegan iguales a los originales y en el orden en que se agregaron
+        List<DomainEvent> ours = listener.received.stream().filter(appended::contains).toList();
+        assertEquals(List.of(enrolled, registered), ours);
+        for (DomainEvent event : appended) {
+            assertEquals(1, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM domain_event_outbox WHERE event_id = ? AND published_at IS NOT NULL",
+                    Integer.class, event.getEventId().toString()));
+        }
+        assertTrue(meterRegistry.counter("academia.outbox.relayed").count() >= relayedBefore + 2);
+
+        // Una segunda pasada no vuelve a despachar lo ya publicado
+        listener.received.clear();
+        relay.relayPending();
+        assertTrue(listener.received.stream().noneMatch(appended::contains));
+    }
+
+    @Test
+    @DisplayName("No debe quedar ningún evento si la transacción del caso de uso se revierte")
+    void append_shouldLeaveNothing_whenTransactionRollsBack() {
+        DomainEvent enrolled = event(new CourseEvents.StudentEnrolledInCourse(UUID.randomUUID(), now(), new AccountId(93_000_003L), new CourseId(93_000_004L)));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            outbox.append(List.of(enrolled));
+            status.setRollbackOnly();
+        });
+        relay.relayPending();
+
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM domain_event_outbox WHERE event_id = ?",
+                Integer.class, enrolled.getEventId().toString()));
+        assertFalse(listener.received.contains(enrolled));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar eventos escritos fuera de una transacción")
+    void append_shouldFail_withoutTransaction() {
+        DomainEvent enrolled = event(new CourseEvents.StudentEnrolledInCourse(UUID.randomUUID(), now(), new AccountId(93_000_005L), new CourseId(93_000_006L)));
+
+        assertThrows(IllegalTransactionStateException.class, () -> outbox.append(List.of(enrolled)));
+    }
+
+    private static Instant now() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private DomainEvent event(DomainEvent event) {
+        appended.add(event);
+        return event;
+    }
+
+    @TestConfiguration
+    static class RecordingListener {
+
+        final List<DomainEvent> received = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        public void on(DomainEvent event) {
+            received.add(event);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.academia.infrastructure.events.binary;
+
+import com.academia.domain.model.events.AttendanceEvents;
+import com.academia.domain.model.events.CourseEvents;
+import com.academia.domain.model.events.DomainEvent;
+import com.academia.domain.model.events.OrganizationEvents;
+import com.academia.domain.model.events.UserAccountEvents;
+import com.academia.domain.model.events.UserEvents;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.CourseId;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.model.valueobjects.user.Email;
+import com.academia.infrastructure.events.DomainEventCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryDomainEventCodecTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T09:30:15.123456Z");
+
+    private final BinaryDomainEventCodec codec = new BinaryDomainEventCodec();
+
+    @Test
+    @DisplayName("Debe decodificar cada tipo registrado igual al evento original")
+    void decode_shouldRoundTripEveryStandardType() {
+        for (DomainEvent event : standardEvents()) {
+            assertTrue(codec.supports(event), event.getClass().getName());
+            assertEquals(event, codec.decode(codec.encode(event)));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe conservar los campos nulos y los textos no ASCII")
+    void decode_shouldKeepNullsAndUtf8() {
+        List<DomainEvent> events = List.of(
+                new OrganizationEvents.OrganizationCreated(UUID.randomUUID(), NOW, null, "Academia Ñandú – Sede Norte", null),
+                new CourseEvents.CourseCapacityChanged(UUID.randomUUID(), NOW, new CourseId(7L), null),
+                new UserAccountEvents.UserRegisteredEvent(UUID.randomUUID(), NOW, new AccountId(1L), null));
+
+        for (DomainEvent event : events) {
+            assertEquals(event, codec.decode(codec.encode(event)));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe truncar la fecha a microsegundos")
+    void encode_shouldTruncateOccurredOnToMicros() {
+        Instant withNanos = Instant.parse("2026-10-18T09:30:15.123456789Z");
+        DomainEvent event = new CourseEvents.StudentEnrolledInCourse(UUID.randomUUID(), withNanos, new AccountId(1L), new CourseId(2L));
+
+        assertEquals(withNanos.truncatedTo(ChronoUnit.MICROS), codec.decode(codec.encode(event)).getOccurredOn());
+
+        Instant beforeEpoch = Instant.parse("1969-12-31T23:59:59.999999Z");
+        DomainEvent old = new CourseEvents.StudentEnrolledInCourse(UUID.randomUUID(), beforeEpoch, new AccountId(1L), new CourseId(2L));
+        assertEquals(beforeEpoch, codec.decode(codec.encode(old)).getOccurredOn());
+    }
+
+    @Test
+    @DisplayName("Debe ocupar menos que el JSON del mismo evento")
+    void encode_shouldBeSmallerThanJson() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        DomainEventCodec json = new DomainEventCodec(objectMapper);
+
+        for (DomainEvent event : standardEvents()) {
+            int jsonSize = json.encode(event).getBytes(StandardCharsets.UTF_8).length;
+            assertTrue(codec.encode(event).length * 2 < jsonSize,
+                    event.getClass().getSimpleName() + ": " + codec.encode(event).length + " contra " + jsonSize);
+        }
+    }
+
+    @Test
+    @DisplayName("No debe tener formato binario para tipos sin esquema registrado")
+    void encode_shouldRejectUnregisteredTypes() {
+        DomainEvent event = new AttendanceEvents.StudentsCheckedIn(List.of());
+
+        assertFalse(codec.supports(event));
+        assertThrows(IllegalArgumentException.class, () -> codec.encode(event));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar formatos, etiquetas o esquemas desconocidos y payloads truncados")
+    void decode_shouldRejectMalformedPayloads() {
+        byte[] valid = codec.encode(new CourseEvents.StudentEnrolledInCourse(UUID.randomUUID(), NOW, new AccountId(1L), new CourseId(2L)));
+
+        byte[] unknownFormat = valid.clone();
+        unknownFormat[0] = 9;
+        assertThrows(IllegalStateException.class, () -> codec.decode(unknownFormat));
+
+        byte[] unknownTag = valid.clone();
+        unknownTag[1] = 99;
+        assertThrows(IllegalStateException.class, () -> codec.decode(unknownTag));
+
+        byte[] newerSchema = valid.clone();
+        newerSchema[2] = 2;
+        assertThrows(IllegalStateException.class, () -> codec.decode(newerSchema));
+
+        assertThrows(IllegalStateException.class, () -> codec.decode(Arrays.copyOf(valid, valid.length - 1)));
+        assertThrows(IllegalStateException.class, () -> codec.decode(Arrays.copyOf(valid, valid.length + 1)));
+    }
+
+    @Test
+    @DisplayName("Debe leer los varint en los extremos de su rango")
+    void varints_shouldRoundTripAtTheEdges() {
+        long[] unsigned = {0, 1, 127, 128, 16_383, 16_384, Integer.MAX_VALUE, Long.MAX_VALUE, -1};
+        long[] signed = {0, -1, 1, -64, 64, Long.MIN_VALUE, Long.MAX_VALUE};
+        Integer[] ints = {null, 0, -1, 1, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        Long[] ids = {null, 0L, 1L, 127L, Long.MAX_VALUE - 1};
+
+        EventBinaryWriter out = new EventBinaryWriter(4);
+        Arrays.stream(unsigned).forEach(out::writeVarLong);
+        Arrays.stream(signed).forEach(out::writeSignedVarLong);
+        Arrays.stream(ints).forEach(out::writeNullableInt);
+        Arrays.stream(ids).forEach(out::writeNullableId);
+
+        EventBinaryReader in = new EventBinaryReader(out.toByteArray());
+        for (long value : unsigned) {
+            assertEquals(value, in.readVarLong());
+        }
+        for (long value : signed) {
+            assertEquals(value, in.readSignedVarLong());
+        }
+        for (Integer value : ints) {
+            assertEquals(value, in.readNullableInt());
+        }
+        for (Long value : ids) {
+            assertEquals(value, in.readNullableId());
+        }
+        assertTrue(in.isExhausted());
+        assertThrows(IllegalArgumentException.class, () -> out.writeNullableId(-1L));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar etiquetas repetidas al registrar tipos")
+    void register_shouldRejectDuplicateTags() {
+        EventTypeRegistry registry = BinaryDomainEventCodec.standardTypes();
+
+        assertThrows(IllegalArgumentException.class, () -> registry.register(21, AttendanceEvents.StudentsCheckedIn.class, 1,
+                (event, out) -> { }, (in, version, eventId, occurredOn) -> null));
+        assertThrows(IllegalArgumentException.class, () -> registry.register(99, CourseEvents.StudentEnrolledInCourse.class, 1,
+                (event, out) -> { }, (in, version, eventId, occurredOn) -> null));
+    }
+
+    private static List<DomainEvent> standardEvents() {
+        return List.of(
+                new OrganizationEvents.OrganizationCreated(UUID.randomUUID(), NOW, new OrganizationId(3L), "Academia Central", "central"),
+                new OrganizationEvents.OrganizationUpdated(UUID.randomUUID(), NOW, new OrganizationId(3L), "Academia Central Norte"),
+                new OrganizationEvents.OrganizationDeactivated(UUID.randomUUID(), NOW, new OrganizationId(3L)),
+                new UserAccountEvents.UserRegisteredEvent(UUID.randomUUID(), NOW, new AccountId(1_500L), new Email("ana.perez@academia.edu")),
+                new UserAccountEvents.AccountActivated(UUID.randomUUID(), NOW, new AccountId(1_500L)),
+                new UserEvents.UserRegisteredEvent(UUID.randomUUID(), NOW, new AccountId(1_501L), new Email("luis.gomez@academia.edu")),
+                new UserEvents.AccountActivated(UUID.randomUUID(), NOW, new AccountId(1_501L)),
+                new CourseEvents.TeacherAssignedToCourse(UUID.randomUUID(), NOW, new CourseId(42L), new AccountId(900L)),
+                new CourseEvents.StudentEnrolledInCourse(UUID.randomUUID(), NOW, new AccountId(1_500L), new CourseId(42L)),
+                new CourseEvents.CourseCapacityChanged(UUID.randomUUID(), NOW, new CourseId(42L), 35),
+                new CourseEvents.StudentWithdrawnFromCourse(UUID.randomUUID(), NOW, new AccountId(1_500L), new CourseId(42L)));
+    }
+}
@@ -0,0 +1,69 @@
+package com.academia.infrastructure.gradebook;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnrollmentGradeAggregateTest {
+
+    @Test
+    @DisplayName("Debe coincidir con el recálculo completo tras miles de altas y correcciones")
+    void finalGrade_shouldMatchFullRecompute() {
+        Random random = new Random(42);
+        EnrollmentGradeAggregate aggregate = new EnrollmentGradeAggregate();
+        Map<Long, BigDecimal[]> stored = new HashMap<>(); // gradeId -> {nota, peso}, como la tabla
+
+        for (int step = 0; step < 5_000; step++) {
+            // Un tercio de los pasos corrige una calificación existente
+            long gradeId = random.nextInt(60);
+            BigDecimal grade = BigDecimal.valueOf(random.nextInt(10_001), 2);
+            BigDecimal weight = BigDecimal.valueOf(1 + random.nextInt(500), 2);
+            stored.put(gradeId, new BigDecimal[]{grade, weight});
+            aggregate.apply(gradeId, grade, weight);
+
+            assertEquals(recompute(stored), aggregate.finalGrade(), "Paso " + step);
+        }
+        assertEquals(stored.size(), aggregate.gradeCount());
+    }
+
+    @Test
+    @DisplayName("Debe ponderar por el peso de la tarea y redondear a dos decimales")
+    void finalGrade_shouldWeightAndRound() {
+        EnrollmentGradeAggregate aggregate = new EnrollmentGradeAggregate();
+        aggregate.apply(1L, new BigDecimal("90.00"), new BigDecimal("3"));
+        aggregate.apply(2L, new BigDecimal("60.00"), BigDecimal.ONE);
+        assertEquals(new BigDecimal("82.50"), aggregate.finalGrade());
+
+        aggregate.apply(3L, new BigDecimal("70.00"), BigDecimal.ONE);
+        assertEquals(new BigDecimal("80.00"), aggregate.finalGrade());
+
+        aggregate.apply(3L, new BigDecimal("71.00"), BigDecimal.ONE); // Corrección: 401 / 5
+        assertEquals(new BigDecimal("80.20"), aggregate.finalGrade());
+
+        aggregate.apply(4L, new BigDecimal("99.00"), BigDecimal.ONE); // 500 / 6 = 83.333...
+        assertEquals(new BigDecimal("83.33"), aggregate.finalGrade());
+    }
+
+    @Test
+    @DisplayName("No debe tener nota final sin calificaciones")
+    void finalGrade_shouldBeNull_whenNoGrades() {
+        assertNull(new EnrollmentGradeAggregate().finalGrade());
+    }
+
+    private static BigDecimal recompute(Map<Long, BigDecimal[]> grades) {
+        BigDecimal weightedSum = BigDecimal.ZERO;
+        BigDecimal totalWeight = BigDecimal.ZERO;
+        for (BigDecimal[] row : grades.values()) {
+            weightedSum = weightedSum.add(row[0].multiply(row[1]));
+            totalWeight = totalWeight.add(row[1]);
+        }
+        return weightedSum.divide(totalWeight, 2, RoundingMode.HALF_UP);
+    }
+}
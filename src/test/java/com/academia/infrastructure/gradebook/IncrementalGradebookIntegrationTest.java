@@ -0,0 +1,187 @@
+package com.academia.infrastructure.gradebook;
+
+import com.academia.config.AcademicTestData;
+import com.academia.config.TestSecurityConfig;
+import com.academia.domain.model.events.DomainEvent;
+import com.academia.domain.model.events.GradeEvents;
+import com.academia.domain.model.valueobjects.academic.Grade;
+import com.academia.domain.model.valueobjects.academic.WeightedGrade;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.ports.out.DomainEventPublisher;
+import com.academia.infrastructure.persistence.jpa.entities.AcademicTermJpaEntity;
+import com.academia.infrastructure.persistence.jpa.entities.SubjectJpaEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara la nota final mantenida por eventos con un recálculo completo en SQL sobre la tabla.
+ * Los eventos se publican fuera de una transacción, como tras confirmar la escritura de las
+ * calificaciones, así que los datos se confirman y se borran al terminar.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({TestSecurityConfig.class, AcademicTestData.class})
+class IncrementalGradebookIntegrationTest {
+
+    private static final int STUDENTS = 40;
+    private static final int ASSIGNMENTS = 6;
+    private static final long FIRST_ID = 75_000_000L; // Fuera del rango que reparte id_allocations en los tests
+    // Cada prueba usa su propio bloque de IDs: el libro conserva en memoria los acumulados de las anteriores
+    private static final long IDS_PER_TEST = 1_000L;
+    private static int testRuns;
+
+    // Recálculo de referencia: promedio ponderado de todas las calificaciones de la inscripción
+    private static final String FULL_RECOMPUTE_SQL =
+            "SELECT SUM(g.grade * COALESCE(a.weight, 1)) AS weighted_sum, SUM(COALESCE(a.weight, 1)) AS total_weight " +
+            "FROM grades g " +
+            "LEFT JOIN submissions s ON s.id = g.submission_id " +
+            "LEFT JOIN assignments a ON a.id = s.assignment_id " +
+            "WHERE g.enrollment_id = ?";
+
+    @Autowired
+    private IncrementalGradebook gradebook;
+
+    @Autowired
+    private DomainEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AcademicTestData testData;
+
+    private final Random random = new Random(7);
+    private long baseId;
+    private Long organizationId;
+    private Long courseId;
+    private final List<BigDecimal> weights = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        baseId = FIRST_ID + testRuns++ * IDS_PER_TEST;
+
+        organizationId = testData.createOrganization("Escuela Calificaciones", "escuela-notas");
+        SubjectJpaEntity subject = testData.createSubject(organizationId, "Matemática", "MAT-1");
+        AcademicTermJpaEntity term = testData.createTerm(organizationId, "Año Lectivo",
+                LocalDate.now().minusMonths(2), LocalDate.now().plusMonths(6));
+        courseId = testData.createCourse(subject, term, "MAT-1-A", null);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int s = 0; s < STUDENTS; s++) {
+            jdbcTemplate.update("INSERT INTO enrollments (id, student_user_id, course_id, enrollment_date, status) " +
+                    "VALUES (?, ?, ?, ?, 'ACTIVE')", enrollmentId(s), baseId + s, courseId, now);
+        }
+        for (int a = 0; a < ASSIGNMENTS; a++) {
+            BigDecimal weight = BigDecimal.valueOf(50 + random.nextInt(250), 2);
+            weights.add(weight);
+            jdbcTemplate.update("INSERT INTO assignments (id, course_id, title, weight) VALUES (?, ?, ?, ?)",
+                    baseId + a, courseId, "Trabajo " + a, weight);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteOrganization(organizationId);
+    }
+
+    @Test
+    @DisplayName("Debe mantener la nota final igual al recálculo completo tras altas y correcciones")
+    void finalGrade_shouldMatchFullRecompute_afterInsertsAndCorrections() {
+        // Planilla completa: una calificación por estudiante y tarea, un evento por inscripción
+        for (int s = 0; s < STUDENTS; s++) {
+            List<WeightedGrade> grades = new ArrayList<>();
+            for (int a = 0; a < ASSIGNMENTS; a++) {
+                grades.add(writeGrade(s, a, randomGrade()));
+            }
+            publish(enrollmentId(s), grades);
+        }
+        // Calificación sin entrega (p. ej. participación): pesa 1
+        long participationId = gradeId(0, ASSIGNMENTS);
+        jdbcTemplate.update("INSERT INTO grades (id, enrollment_id, grade) VALUES (?, ?, 95.00)", participationId, enrollmentId(0));
+        publish(enrollmentId(0), List.of(new WeightedGrade(participationId, new Grade(95.0), WeightedGrade.DEFAULT_WEIGHT)));
+
+        gradebook.flush();
+        assertAllMatchFullRecompute();
+
+        // Correcciones: el docente revisa algunas notas varias veces
+        for (int i = 0; i < 200; i++) {
+            int s = random.nextInt(STUDENTS);
+            int a = random.nextInt(ASSIGNMENTS);
+            BigDecimal corrected = randomGrade();
+            jdbcTemplate.update("UPDATE grades SET grade = ? WHERE id = ?", corrected, gradeId(s, a));
+            publish(enrollmentId(s), List.of(new WeightedGrade(gradeId(s, a), new Grade(corrected.doubleValue()), weights.get(a))));
+        }
+        assertTrue(gradebook.currentFinalGrade(enrollmentId(0)).isPresent());
+
+        gradebook.flush();
+        assertAllMatchFullRecompute();
+    }
+
+    @Test
+    @DisplayName("No debe modificar la nota de una inscripción completada")
+    void flush_shouldNotOverwriteCompletedEnrollment() {
+        jdbcTemplate.update("UPDATE enrollments SET status = 'COMPLETED', final_grade = 55.00 WHERE id = ?", enrollmentId(1));
+
+        publish(enrollmentId(1), List.of(writeGrade(1, 0, new BigDecimal("90.00"))));
+        gradebook.flush();
+
+        assertEquals(0, new BigDecimal("55.00").compareTo(jdbcTemplate.queryForObject(
+                "SELECT final_grade FROM enrollments WHERE id = ?", BigDecimal.class, enrollmentId(1))));
+    }
+
+    private WeightedGrade writeGrade(int student, int assignment, BigDecimal grade) {
+        long submissionId = baseId + (long) student * ASSIGNMENTS + assignment;
+        jdbcTemplate.update("INSERT INTO submissions (id, assignment_id, enrollment_id) VALUES (?, ?, ?)",
+                submissionId, baseId + assignment, enrollmentId(student));
+        jdbcTemplate.update("INSERT INTO grades (id, submission_id, enrollment_id, grade) VALUES (?, ?, ?, ?)",
+                gradeId(student, assignment), submissionId, enrollmentId(student), grade);
+        return new WeightedGrade(gradeId(student, assignment), new Grade(grade.doubleValue()), weights.get(assignment));
+    }
+
+    private void publish(long enrollmentId, List<WeightedGrade> grades) {
+        // Cada estudiante de la prueba usa como ID de cuenta el mismo número que su inscripción
+        eventPublisher.publish(List.<DomainEvent>of(new GradeEvents.GradesRecorded(enrollmentId, new AccountId(enrollmentId), grades)));
+    }
+
+    private void assertAllMatchFullRecompute() {
+        for (int s = 0; s < STUDENTS; s++) {
+            BigDecimal expected = jdbcTemplate.queryForObject(FULL_RECOMPUTE_SQL, (rs, rowNum) ->
+                    rs.getBigDecimal("weighted_sum").divide(rs.getBigDecimal("total_weight"), 2, RoundingMode.HALF_UP),
+                    enrollmentId(s));
+            BigDecimal actual = jdbcTemplate.queryForObject(
+                    "SELECT final_grade FROM enrollments WHERE id = ?", BigDecimal.class, enrollmentId(s));
+            assertNotNull(actual, "Inscripción " + enrollmentId(s) + " sin nota final");
+            assertEquals(0, expected.compareTo(actual), "Inscripción " + enrollmentId(s) + ": " + expected + " != " + actual);
+        }
+    }
+
+    private BigDecimal randomGrade() {
+        return BigDecimal.valueOf(random.nextInt(10_001), 2);
+    }
+
+    private long enrollmentId(int student) {
+        return baseId + student;
+    }
+
+    private long gradeId(int student, int assignment) {
+        return baseId + (long) student * (ASSIGNMENTS + 1) + assignment;
+    }
+}
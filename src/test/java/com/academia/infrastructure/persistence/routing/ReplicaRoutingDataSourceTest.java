@@ -0,0 +1,100 @@
+package com.academia.infrastructure.persistence.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Usa dos bases H2 en memoria como primario y réplica; cada una guarda su propio nombre
+ * en la tabla {@code node} para saber a cuál se conectó cada transacción.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replicaDataSource;
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readOnlyTx;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("routing_primary");
+        replicaDataSource = h2("routing_replica");
+        new JdbcTemplate(primary).execute("CREATE TABLE node (name VARCHAR(20))");
+        new JdbcTemplate(primary).update("INSERT INTO node VALUES ('primary')");
+        new JdbcTemplate(replicaDataSource).execute("CREATE TABLE node (name VARCHAR(20))");
+        new JdbcTemplate(replicaDataSource).update("INSERT INTO node VALUES ('replica')");
+        new JdbcTemplate(replicaDataSource).execute("CREATE TABLE replica_lag (seconds BIGINT)");
+        new JdbcTemplate(replicaDataSource).update("INSERT INTO replica_lag VALUES (0)");
+
+        routingDataSource = new ReplicaRoutingDataSource(primary,
+                List.of(new Replica("replica-1", replicaDataSource)), Duration.ofSeconds(10),
+                "SELECT seconds FROM replica_lag", null, (target, readOnly) -> { });
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTx = new TransactionTemplate(transactionManager);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(primary).execute("DROP ALL OBJECTS");
+        new JdbcTemplate(replicaDataSource).execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("Las transacciones readOnly deben ir a la réplica y las de escritura al primario")
+    void shouldRouteByTransactionReadOnlyFlag() {
+        assertEquals("replica", readOnlyTx.execute(status -> currentNode()));
+        assertEquals("primary", writeTx.execute(status -> currentNode()));
+        assertEquals("primary", currentNode()); // Sin transacción: primario
+    }
+
+    @Test
+    @DisplayName("Una réplica con retraso mayor al permitido debe dejar de recibir lecturas")
+    void shouldFallBackToPrimary_whenReplicaLagsBehind() {
+        new JdbcTemplate(replicaDataSource).update("UPDATE replica_lag SET seconds = 120");
+        routingDataSource.checkReplicas();
+
+        assertEquals("primary", readOnlyTx.execute(status -> currentNode()));
+
+        new JdbcTemplate(replicaDataSource).update("UPDATE replica_lag SET seconds = 1");
+        routingDataSource.checkReplicas();
+
+        assertEquals("replica", readOnlyTx.execute(status -> currentNode()));
+    }
+
+    @Test
+    @DisplayName("Una réplica cuya comprobación de salud falla debe retirarse del enrutamiento")
+    void shouldFallBackToPrimary_whenHealthCheckFails() {
+        new JdbcTemplate(replicaDataSource).execute("DROP TABLE replica_lag");
+        routingDataSource.checkReplicas();
+
+        assertEquals("primary", readOnlyTx.execute(status -> currentNode()));
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
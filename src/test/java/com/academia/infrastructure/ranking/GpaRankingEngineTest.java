@@ -0,0 +1,122 @@
+package com.academia.infrastructure.ranking;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class GpaRankingEngineTest {
+
+    private final GpaRankingEngine engine = new GpaRankingEngine();
+
+    @Test
+    @DisplayName("Debe ponderar por créditos y compartir el puesto entre empatados")
+    void rank_shouldWeightByCreditsAndShareTiedRanks() {
+        CompletedGrades grades = CompletedGrades.builder()
+                .add(10, 90, 4).add(10, 70, 1)   // (360 + 70) / 5 = 86
+                .add(20, 86, 2)                  // 86, empatado con el 10
+                .add(30, 95, 0).add(30, 85, 0)   // Sin créditos: promedio simple, 90
+                .add(40, 60, 3)
+                .build();
+
+        ClassRanking ranking = engine.rank(grades);
+
+        assertEquals(4, ranking.size());
+        assertStanding(ranking, 30, 90.0, 1, 87.5);
+        assertStanding(ranking, 10, 86.0, 2, 50.0);
+        assertStanding(ranking, 20, 86.0, 2, 50.0);
+        assertStanding(ranking, 40, 60.0, 4, 12.5);
+        assertEquals(5.0, ranking.totalCredits(ranking.indexOf(10).getAsInt()));
+        assertEquals(2, ranking.completedCourses(ranking.indexOf(10).getAsInt()));
+
+        assertEquals(30, ranking.studentId(ranking.indexAtPosition(0)));
+        assertEquals(40, ranking.studentId(ranking.indexAtPosition(3)));
+        assertTrue(ranking.indexOf(99).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar notas que no llegan ordenadas por estudiante")
+    void builder_shouldRejectUnorderedStudents() {
+        CompletedGrades.Builder builder = CompletedGrades.builder().add(20, 80, 1);
+        assertThrows(IllegalArgumentException.class, () -> builder.add(10, 80, 1));
+    }
+
+    @Test
+    @DisplayName("Debe coincidir con un cálculo directo sobre objetos para datos aleatorios")
+    void rank_shouldMatchReferenceImplementation() {
+        Random random = new Random(42);
+        CompletedGrades.Builder builder = CompletedGrades.builder();
+        Map<Long, List<double[]>> reference = new TreeMap<>();
+        for (long student = 1; student <= 10_000; student++) {
+            int courses = 1 + random.nextInt(12);
+            for (int c = 0; c < courses; c++) {
+                // Notas enteras para forzar empates frecuentes
+                double grade = 40 + random.nextInt(61);
+                double credits = 1 + random.nextInt(4);
+                builder.add(student, grade, credits);
+                reference.computeIfAbsent(student, s -> new ArrayList<>()).add(new double[]{grade, credits});
+            }
+        }
+
+        ClassRanking ranking = engine.rank(builder.build());
+
+        Map<Long, Double> expectedGpa = new TreeMap<>();
+        reference.forEach((student, rows) -> expectedGpa.put(student,
+                rows.stream().mapToDouble(r -> r[0] * r[1]).sum() / rows.stream().mapToDouble(r -> r[1]).sum()));
+        List<Long> scores = expectedGpa.values().stream()
+                .map(gpa -> Math.round(gpa * 10_000))
+                .sorted(Comparator.reverseOrder())
+                .toList();
+        Map<Long, Integer> expectedRank = new TreeMap<>();
+        for (int i = 0; i < scores.size(); i++) {
+            expectedRank.putIfAbsent(scores.get(i), i + 1);
+        }
+
+        for (Map.Entry<Long, Double> entry : expectedGpa.entrySet()) {
+            int index = ranking.indexOf(entry.getKey()).getAsInt();
+            long score = Math.round(entry.getValue() * 10_000);
+            assertEquals(entry.getValue(), ranking.gpa(index), 1e-9);
+            assertEquals((int) expectedRank.get(score), ranking.rank(index), "Puesto del estudiante " + entry.getKey());
+        }
+    }
+
+    @Test
+    @DisplayName("Debe clasificar 30.000 estudiantes en menos de un segundo")
+    void rank_shouldHandleLargeOrganizations() {
+        Random random = new Random(7);
+        CompletedGrades.Builder builder = CompletedGrades.builder();
+        for (long student = 1; student <= 30_000; student++) {
+            for (int c = 0; c < 40; c++) {
+                builder.add(student, random.nextInt(10_001) / 100d, 1 + random.nextInt(6) / 2d);
+            }
+        }
+        CompletedGrades grades = builder.build();
+        engine.rank(grades); // Calentamiento del JIT
+
+        long start = System.nanoTime();
+        ClassRanking ranking = engine.rank(grades);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("Ranking de {} estudiantes ({} notas) en {} ms", ranking.size(), grades.gradeCount(), elapsedMs);
+
+        assertEquals(30_000, ranking.size());
+        assertEquals(1, ranking.rank(ranking.indexAtPosition(0)));
+        // Cota holgada para máquinas de CI cargadas; el benchmark JMH da la cifra real
+        assertTrue(elapsedMs < 1_000, "El ranking tardó " + elapsedMs + " ms");
+    }
+
+    private static void assertStanding(ClassRanking ranking, long studentId, double gpa, int rank, double percentile) {
+        int index = ranking.indexOf(studentId).getAsInt();
+        assertEquals(gpa, ranking.gpa(index), 1e-9);
+        assertEquals(rank, ranking.rank(index));
+        assertEquals(percentile, ranking.percentile(index), 1e-9);
+    }
+}
@@ -0,0 +1,175 @@
+package com.academia.infrastructure.web.controllers;
+
+import com.academia.config.AcademicTestData;
+import com.academia.config.TestSecurityConfig;
+import com.academia.domain.model.enums.AttendanceStatus;
+import com.academia.infrastructure.persistence.jpa.entities.AcademicTermJpaEntity;
+import com.academia.infrastructure.persistence.jpa.entities.SubjectJpaEntity;
+import com.academia.infrastructure.web.requests.MarkAttendanceRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simula el pico de las 8:00: todos los cursos de la escuela envían su planilla a la vez.
+ * Va contra un servidor real para medir el camino completo (HTTP, validación, transacción y upsert);
+ * los datos se confirman y se borran al terminar.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import({TestSecurityConfig.class, AcademicTestData.class})
+@Slf4j
+class AttendancePeakLoadIntegrationTest {
+
+    private static final int COURSES = 200;
+    private static final int STUDENTS_PER_COURSE = 30;
+    private static final int CONCURRENT_TEACHERS = 32;
+    private static final long FIRST_STUDENT_ID = 60_000_000L; // Fuera del rango que reparte id_allocations en los tests
+    private static final LocalDate SESSION_DATE = LocalDate.of(2026, 3, 2);
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${server.servlet.context-path:}")
+    private String contextPath;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AcademicTestData testData;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private Long organizationId;
+    private final List<Long> courseIds = new ArrayList<>(COURSES);
+
+    @BeforeEach
+    void setUp() {
+        organizationId = testData.createOrganization("Escuela Hora Pico", "escuela-pico");
+        SubjectJpaEntity subject = testData.createSubject(organizationId, "Lengua", "LEN-1");
+        AcademicTermJpaEntity term = testData.createTerm(organizationId, "Año Lectivo 2026",
+                LocalDate.of(2026, 3, 1), LocalDate.of(2026, 12, 15));
+        for (int c = 0; c < COURSES; c++) {
+            Long courseId = testData.createCourse(subject, term, "LEN-1-" + c, null);
+            courseIds.add(courseId);
+            int course = c;
+            testData.enrollAll(courseId, IntStream.range(0, STUDENTS_PER_COURSE).mapToObj(s -> studentId(course, s)).toList());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteOrganization(organizationId);
+    }
+
+    @Test
+    @DisplayName("Debe registrar la asistencia de toda la escuela con los docentes enviando a la vez")
+    void markAttendance_shouldSustainMorningPeak() throws Exception {
+        PeakRun firstCall = runPeak(AttendanceStatus.PRESENT);
+        assertTrue(Arrays.stream(firstCall.statuses()).allMatch(status -> status == 200),
+                "Hubo planillas rechazadas: " + Arrays.toString(firstCall.statuses()));
+        assertEquals(COURSES * STUDENTS_PER_COURSE, countRecords());
+
+        // Segunda ola: todos corrigen la sesión. El upsert actualiza en lugar de duplicar
+        PeakRun corrections = runPeak(AttendanceStatus.LATE);
+        assertTrue(Arrays.stream(corrections.statuses()).allMatch(status -> status == 200));
+        assertEquals(COURSES * STUDENTS_PER_COURSE, countRecords());
+        assertEquals(COURSES * STUDENTS_PER_COURSE, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM attendance_records WHERE status = 'LATE' AND session_date = ?",
+                Integer.class, SESSION_DATE));
+    }
+
+    private PeakRun runPeak(AttendanceStatus status) throws Exception {
+        List<HttpRequest> requests = new ArrayList<>(COURSES);
+        for (int c = 0; c < COURSES; c++) {
+            requests.add(request(courseIds.get(c), roster(c, status)));
+        }
+
+        int[] statuses = new int[COURSES];
+        long[] latenciesMicros = new long[COURSES];
+        ExecutorService teachers = Executors.newFixedThreadPool(CONCURRENT_TEACHERS);
+        long start = System.nanoTime();
+        try {
+            List<CompletableFuture<Void>> calls = new ArrayList<>(COURSES);
+            for (int c = 0; c < COURSES; c++) {
+                int course = c;
+                calls.add(CompletableFuture.runAsync(() -> {
+                    long sent = System.nanoTime();
+                    try {
+                        statuses[course] = httpClient.send(requests.get(course), HttpResponse.BodyHandlers.discarding()).statusCode();
+                    } catch (Exception e) {
+                        statuses[course] = -1;
+                    }
+                    latenciesMicros[course] = (System.nanoTime() - sent) / 1_000;
+                }, teachers));
+            }
+            CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            teachers.shutdown();
+        }
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+        Arrays.sort(latenciesMicros);
+        log.info("Pico de asistencia ({}): {} planillas / {} marcas en {} ms -> {} planillas/s, {} marcas/s, " +
+                        "p50 {} ms, p99 {} ms ({} docentes simultáneos)",
+                status, COURSES, COURSES * STUDENTS_PER_COURSE, elapsedMs,
+                COURSES * 1000L / elapsedMs, COURSES * STUDENTS_PER_COURSE * 1000L / elapsedMs,
+                latenciesMicros[COURSES / 2] / 1_000, latenciesMicros[COURSES * 99 / 100] / 1_000, CONCURRENT_TEACHERS);
+        return new PeakRun(statuses);
+    }
+
+    private MarkAttendanceRequest roster(int course, AttendanceStatus status) {
+        List<MarkAttendanceRequest.Entry> entries = new ArrayList<>(STUDENTS_PER_COURSE);
+        for (int s = 0; s < STUDENTS_PER_COURSE; s++) {
+            entries.add(new MarkAttendanceRequest.Entry(studentId(course, s), status, null));
+        }
+        return new MarkAttendanceRequest(entries);
+    }
+
+    private HttpRequest request(Long courseId, MarkAttendanceRequest body) throws Exception {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + contextPath +
+                        "/api/v1/courses/" + courseId + "/sessions/" + SESSION_DATE + "/attendance"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private int countRecords() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attendance_records WHERE session_date = ?",
+                Integer.class, SESSION_DATE);
+    }
+
+    private static long studentId(int course, int student) {
+        return FIRST_STUDENT_ID + (long) course * STUDENTS_PER_COURSE + student;
+    }
+
+    private record PeakRun(int[] statuses) {}
+}
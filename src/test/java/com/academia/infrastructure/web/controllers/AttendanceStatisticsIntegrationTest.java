@@ -0,0 +1,147 @@
+package com.academia.infrastructure.web.controllers;
+
+import com.academia.config.AcademicTestData;
+import com.academia.config.TestSecurityConfig;
+import com.academia.infrastructure.attendance.BitmapAttendanceStatistics;
+import com.academia.infrastructure.persistence.jpa.entities.AcademicTermJpaEntity;
+import com.academia.infrastructure.persistence.jpa.entities.SubjectJpaEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Los bitmaps se actualizan después de confirmar la transacción, así que los datos de la prueba
+ * se confirman (sin @Transactional) y se borran al terminar.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import({TestSecurityConfig.class, AcademicTestData.class})
+class AttendanceStatisticsIntegrationTest {
+
+    private static final long FIRST_STUDENT_ID = 65_000_000L; // Fuera del rango que reparte id_allocations en los tests
+    private static final String SESSION_PATH = "/api/v1/courses/{courseId}/sessions/{date}/attendance";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BitmapAttendanceStatistics attendanceStatistics;
+
+    @Autowired
+    private AcademicTestData testData;
+
+    private Long organizationId;
+    private Long courseId;
+    private LocalDate termStart;
+
+    @BeforeEach
+    void setUp() {
+        organizationId = testData.createOrganization("Escuela Estadísticas", "escuela-estadisticas");
+        SubjectJpaEntity subject = testData.createSubject(organizationId, "Historia", "HIS-1");
+        // Período en curso: las sesiones de la prueba son de días pasados y el período sigue indexado
+        termStart = LocalDate.now().minusDays(30);
+        AcademicTermJpaEntity term = testData.createTerm(organizationId, "Período en curso", termStart, LocalDate.now().plusDays(60));
+        courseId = testData.createCourse(subject, term, "HIS-1-A", null);
+        testData.enrollAll(courseId, List.of(FIRST_STUDENT_ID, FIRST_STUDENT_ID + 1, FIRST_STUDENT_ID + 2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteOrganization(organizationId);
+    }
+
+    @Test
+    @DisplayName("Debe reflejar la asistencia tomada sin esperar a la reconstrucción")
+    void summary_shouldReflectMarkedAttendanceIncrementally() throws Exception {
+        LocalDate first = termStart.plusDays(1);
+        LocalDate second = termStart.plusDays(2);
+        markSession(first, "PRESENT", "ABSENT", "EXCUSED");
+        markSession(second, "LATE", "ABSENT", "ABSENT");
+
+        mockMvc.perform(get("/api/v1/courses/{courseId}/attendance/summary", courseId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enrollments.length()", is(3)))
+                .andExpect(jsonPath("$.enrollments[0].studentAccountId", is((int) FIRST_STUDENT_ID)))
+                .andExpect(jsonPath("$.enrollments[0].attendanceRate", is(1.0)))
+                .andExpect(jsonPath("$.enrollments[1].attendanceRate", is(0.0)))
+                .andExpect(jsonPath("$.enrollments[1].currentAbsenceStreak", is(2)))
+                .andExpect(jsonPath("$.enrollments[2].excused", is(1)))
+                .andExpect(jsonPath("$.enrollments[2].currentAbsenceStreak", is(1)));
+
+        mockMvc.perform(get("/api/v1/organizations/{organizationId}/attendance/absences", organizationId)
+                        .param("date", second.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.absentCount", is(2)))
+                .andExpect(jsonPath("$.absences[0].courseId", is(courseId.intValue())));
+
+        // Corrección de la sesión: el bit cambia de estado
+        markSession(second, "LATE", "EXCUSED", "ABSENT");
+        mockMvc.perform(get("/api/v1/organizations/{organizationId}/attendance/absences", organizationId)
+                        .param("date", second.toString()))
+                .andExpect(jsonPath("$.absentCount", is(1)))
+                .andExpect(jsonPath("$.absences[0].studentAccountId", is((int) FIRST_STUDENT_ID + 2)));
+    }
+
+    @Test
+    @DisplayName("Debe recoger en la reconstrucción las marcas escritas fuera de la aplicación")
+    void rebuild_shouldLoadRecordsFromTable() throws Exception {
+        Long enrollmentId = jdbcTemplate.queryForObject(
+                "SELECT id FROM enrollments WHERE student_user_id = ?", Long.class, FIRST_STUDENT_ID);
+        jdbcTemplate.update("INSERT INTO attendance_records (enrollment_id, session_date, status) VALUES (?, ?, 'ABSENT')",
+                enrollmentId, Date.valueOf(termStart.plusDays(5)));
+
+        attendanceStatistics.rebuild();
+
+        mockMvc.perform(get("/api/v1/courses/{courseId}/attendance/summary", courseId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enrollments[0].absent", is(1)))
+                .andExpect(jsonPath("$.enrollments[0].attendanceRate", is(0.0)))
+                .andExpect(jsonPath("$.enrollments[1].recordedSessions", is(0)))
+                .andExpect(jsonPath("$.enrollments[1].attendanceRate").doesNotExist()); // default-property-inclusion: non_null
+    }
+
+    @Test
+    @DisplayName("Debe devolver 404 para un curso u organización inexistentes")
+    void statistics_shouldReturn404_whenResourceDoesNotExist() throws Exception {
+        mockMvc.perform(get("/api/v1/courses/{courseId}/attendance/summary", 999_999L))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/organizations/{organizationId}/attendance/absences", 999_999L))
+                .andExpect(status().isNotFound());
+    }
+
+    private void markSession(LocalDate sessionDate, String... statuses) throws Exception {
+        StringBuilder body = new StringBuilder("{\"entries\":[");
+        for (int s = 0; s < statuses.length; s++) {
+            body.append(s > 0 ? "," : "")
+                    .append("{\"studentAccountId\":").append(FIRST_STUDENT_ID + s)
+                    .append(",\"status\":\"").append(statuses[s]).append("\"}");
+        }
+        mockMvc.perform(post(SESSION_PATH, courseId, sessionDate.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body.append("]}").toString()))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,128 @@
+package com.academia.infrastructure.web.controllers;
+
+import com.academia.config.AcademicTestData;
+import com.academia.config.TestSecurityConfig;
+import com.academia.infrastructure.persistence.jpa.entities.AcademicTermJpaEntity;
+import com.academia.infrastructure.persistence.jpa.entities.SubjectJpaEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * El ranking se lee con su propia plantilla JDBC, así que los datos se confirman
+ * (sin @Transactional) y se borran al terminar.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import({TestSecurityConfig.class, AcademicTestData.class})
+class ClassRankingIntegrationTest {
+
+    private static final long FIRST_STUDENT_ID = 85_000_000L; // Fuera del rango que reparte id_allocations en los tests
+    private static final String RANKING_PATH = "/api/v1/organizations/{organizationId}/class-ranking";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AcademicTestData testData;
+
+    private Long organizationId;
+
+    @BeforeEach
+    void setUp() {
+        organizationId = testData.createOrganization("Escuela Ranking", "escuela-ranking");
+        AcademicTermJpaEntity term = testData.createTerm(organizationId, "Período cerrado",
+                LocalDate.now().minusMonths(8), LocalDate.now().minusMonths(2));
+
+        Long math = createCourse(term, "MAT-1", new BigDecimal("4.0"));
+        Long art = createCourse(term, "ART-1", new BigDecimal("1.0"));
+
+        // Estudiante 0: (90·4 + 40·1) / 5 = 80. Estudiante 1: (75·4 + 100·1) / 5 = 80. Estudiante 2: 95
+        enroll(0, math, "COMPLETED", "90.00");
+        enroll(0, art, "COMPLETED", "40.00");
+        enroll(1, math, "COMPLETED", "75.00");
+        enroll(1, art, "COMPLETED", "100.00");
+        enroll(2, math, "COMPLETED", "95.00");
+        enroll(2, art, "ACTIVE", "10.00"); // Curso en marcha: no cuenta
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteOrganization(organizationId);
+    }
+
+    @Test
+    @DisplayName("Debe ordenar por promedio ponderado por créditos con empates compartidos")
+    void getClassRanking_shouldRankByCreditWeightedGpa() throws Exception {
+        mockMvc.perform(get(RANKING_PATH, organizationId).param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rankedStudents", is(3)))
+                .andExpect(jsonPath("$.top.length()", is(2)))
+                .andExpect(jsonPath("$.top[0].studentAccountId", is((int) FIRST_STUDENT_ID + 2)))
+                .andExpect(jsonPath("$.top[0].gpa", is(95.0)))
+                .andExpect(jsonPath("$.top[0].completedCourses", is(1)))
+                .andExpect(jsonPath("$.top[0].rank", is(1)))
+                .andExpect(jsonPath("$.top[1].gpa", is(80.0)))
+                .andExpect(jsonPath("$.top[1].rank", is(2)));
+    }
+
+    @Test
+    @DisplayName("Debe devolver el puesto y el percentil de un estudiante")
+    void getStudentStanding_shouldReturnRankAndPercentile() throws Exception {
+        mockMvc.perform(get(RANKING_PATH + "/students/{studentId}", organizationId, FIRST_STUDENT_ID + 1))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.gpa", is(80.0)))
+                .andExpect(jsonPath("$.credits", is(5.0)))
+                .andExpect(jsonPath("$.rank", is(2)))
+                .andExpect(jsonPath("$.percentile", is(33.3)));
+    }
+
+    @Test
+    @DisplayName("Debe devolver 404 si el estudiante no tiene cursos completados o la organización no existe")
+    void getStudentStanding_shouldReturn404_whenNotRanked() throws Exception {
+        mockMvc.perform(get(RANKING_PATH + "/students/{studentId}", organizationId, FIRST_STUDENT_ID + 9))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get(RANKING_PATH, 999_999L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una cantidad de puestos fuera de rango")
+    void getClassRanking_shouldReturn400_whenLimitIsInvalid() throws Exception {
+        mockMvc.perform(get(RANKING_PATH, organizationId).param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Long createCourse(AcademicTermJpaEntity term, String code, BigDecimal credits) {
+        SubjectJpaEntity subject = testData.createSubject(organizationId, code, code, credits);
+        return testData.createCourse(subject, term, code + "-A", null);
+    }
+
+    private void enroll(int student, Long courseId, String status, String finalGrade) {
+        jdbcTemplate.update("INSERT INTO enrollments (student_user_id, course_id, enrollment_date, status, final_grade) " +
+                        "VALUES (?, ?, ?, ?, ?)", FIRST_STUDENT_ID + student, courseId,
+                Timestamp.valueOf(LocalDateTime.now()), status, new BigDecimal(finalGrade));
+    }
+}
@@ -0,0 +1,231 @@
+package com.academia.infrastructure.web.controllers;
+
+import com.academia.config.AcademicTestData;
+import com.academia.config.TestSecurityConfig;
+import com.academia.domain.model.enums.AccountStatus;
+import com.academia.domain.model.enums.AttendanceStatus;
+import com.academia.domain.model.enums.EnrollmentStatus;
+import com.academia.infrastructure.persistence.jpa.entities.*;
+import com.academia.infrastructure.persistence.jpa.repositories.*;
+import com.academia.infrastructure.web.requests.EnrollStudentInCourseRequest;
+import com.academia.infrastructure.web.requests.MarkAttendanceRequest;
+import com.academia.infrastructure.web.requests.CheckInRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@Import({TestSecurityConfig.class, AcademicTestData.class})
+class CourseControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SpringUserRepository userRepository;
+
+    @Autowired
+    private SpringStudentProfileRepository studentProfileRepository;
+
+    @Autowired
+    private SpringEnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AcademicTestData testData;
+
+    private Long organizationId;
+    private SubjectJpaEntity subject;
+    private AcademicTermJpaEntity term;
+    private Long courseId;
+    private UserJpaEntity testStudent;
+
+    @BeforeEach
+    void setUp() {
+        organizationId = testData.createOrganization("Colegio de Prueba", "colegio-test");
+
+        UserJpaEntity user = new UserJpaEntity();
+        user.setOrganizationId(organizationId);
+        user.setFirstName("Lucia");
+        user.setLastName("Mendez");
+        user.setEmail("lucia.mendez@colegio.edu");
+        user.setBirthDate(LocalDate.of(2005, 5, 10));
+        user.setAccountStatus(AccountStatus.ACTIVE);
+        testStudent = userRepository.save(user);
+
+        StudentProfileJpaEntity profile = new StudentProfileJpaEntity();
+        profile.setUserId(testStudent.getId());
+        profile.setOrganizationId(organizationId);
+        profile.setStudentIdNumber("CT-001");
+        profile.setEnrollmentDate(LocalDate.now());
+        studentProfileRepository.save(profile);
+
+        subject = testData.createSubject(organizationId, "Matemática", "MAT-1");
+        term = testData.createTerm(organizationId, "Año Lectivo 2026", LocalDate.of(2026, 3, 1), LocalDate.of(2026, 12, 15));
+        courseId = testData.createCourse(subject, term, "MAT-1-A", null);
+    }
+
+    @Test
+    @DisplayName("Debe inscribir al estudiante insertando solo la nueva inscripción")
+    void enrollStudent_shouldPersistEnrollment_whenStudentIsEligible() throws Exception {
+        EnrollStudentInCourseRequest request = new EnrollStudentInCourseRequest(testStudent.getId(), courseId);
+
+        mockMvc.perform(post("/api/v1/courses/enroll")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enrollmentId", notNullValue()))
+                .andExpect(jsonPath("$.status", is("ACTIVE")));
+
+        assertEquals(1, enrollmentRepository.countByCourseId(courseId));
+    }
+
+    @Test
+    @DisplayName("Debe registrar la planilla de asistencia y reemplazarla al corregir la sesión")
+    void markAttendance_shouldUpsertOneRecordPerStudent() throws Exception {
+        Long enrollmentId = enrollTestStudent();
+        String sessionPath = "/api/v1/courses/{courseId}/sessions/{date}/attendance";
+
+        mockMvc.perform(post(sessionPath, courseId, "2026-03-02")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(attendanceBody("ABSENT", null)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.recorded", is(1)))
+                .andExpect(jsonPath("$.totalsByStatus.ABSENT", is(1)));
+
+        // Corrección de la misma sesión: se actualiza la fila existente, no se agrega otra
+        mockMvc.perform(post(sessionPath, courseId, "2026-03-02")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(attendanceBody("LATE", "Llegó 10:15")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalsByStatus.LATE", is(1)));
+
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM attendance_records WHERE enrollment_id = ?", Integer.class, enrollmentId));
+        assertEquals("LATE", jdbcTemplate.queryForObject(
+                "SELECT status FROM attendance_records WHERE enrollment_id = ? AND session_date = ?",
+                String.class, enrollmentId, LocalDate.of(2026, 3, 2)));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar la planilla si incluye a un estudiante no inscrito")
+    void markAttendance_shouldReturn400_whenStudentIsNotEnrolled() throws Exception {
+        mockMvc.perform(post("/api/v1/courses/{courseId}/sessions/{date}/attendance", courseId, "2026-03-02")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(attendanceBody("PRESENT", null)))
+                .andExpect(status().isBadRequest());
+
+        // Solo las del curso: el auto-registro de otra prueba se vuelca después del rollback y queda confirmado
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attendance_records a " +
+                "JOIN enrollments e ON e.id = a.enrollment_id WHERE e.course_id = ?", Integer.class, courseId));
+    }
+
+    @Test
+    @DisplayName("Debe devolver 404 al tomar asistencia de un curso inexistente")
+    void markAttendance_shouldReturn404_whenCourseDoesNotExist() throws Exception {
+        mockMvc.perform(post("/api/v1/courses/{courseId}/sessions/{date}/attendance", 999_999L, "2026-03-02")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(attendanceBody("PRESENT", null)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Debe aceptar el auto-registro con el código de la sesión de hoy")
+    void checkIn_shouldAccept_whenCodeMatchesTodaySession() throws Exception {
+        enrollTestStudent();
+        String codeResponse = mockMvc.perform(get("/api/v1/courses/{courseId}/check-in-code", courseId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String code = JsonPath.read(codeResponse, "$.code");
+
+        mockMvc.perform(post("/api/v1/courses/{courseId}/check-in", courseId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CheckInRequest(testStudent.getId(), code))))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.sessionDate", is(LocalDate.now().toString())));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar la inscripción con 409 hasta que el estudiante apruebe la correlativa")
+    void enrollStudent_shouldReturn409_whenPrerequisiteIsNotPassed() throws Exception {
+        SubjectJpaEntity prerequisite = testData.createSubject(organizationId, "Aritmética", "ARI-1");
+        jdbcTemplate.update("INSERT INTO subject_prerequisites (subject_id, prerequisite_subject_id) VALUES (?, ?)",
+                subject.getId(), prerequisite.getId());
+        Long prerequisiteCourseId = testData.createCourse(prerequisite, term, "ARI-1-A", null);
+
+        EnrollmentJpaEntity previous = new EnrollmentJpaEntity();
+        previous.setStudentUserId(testStudent.getId());
+        previous.setCourseId(prerequisiteCourseId);
+        previous.setEnrollmentDate(LocalDateTime.now());
+        previous.setStatus(EnrollmentStatus.COMPLETED);
+        previous.setFinalGrade(new BigDecimal("45.00"));
+        previous = enrollmentRepository.save(previous);
+
+        String body = objectMapper.writeValueAsString(new EnrollStudentInCourseRequest(testStudent.getId(), courseId));
+        mockMvc.perform(post("/api/v1/courses/enroll").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isConflict());
+        assertEquals(0, enrollmentRepository.countByCourseId(courseId));
+
+        // Con la correlativa aprobada la misma inscripción se acepta
+        jdbcTemplate.update("UPDATE enrollments SET final_grade = 82.50 WHERE id = ?", previous.getId());
+        mockMvc.perform(post("/api/v1/courses/enroll").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk());
+        assertEquals(1, enrollmentRepository.countByCourseId(courseId));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar el auto-registro con un código incorrecto")
+    void checkIn_shouldReturn400_whenCodeIsWrong() throws Exception {
+        enrollTestStudent();
+
+        mockMvc.perform(post("/api/v1/courses/{courseId}/check-in", courseId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CheckInRequest(testStudent.getId(), "no-vale"))))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Long enrollTestStudent() {
+        EnrollmentJpaEntity enrollment = new EnrollmentJpaEntity();
+        enrollment.setStudentUserId(testStudent.getId());
+        enrollment.setCourseId(courseId);
+        enrollment.setEnrollmentDate(LocalDateTime.now());
+        enrollment.setStatus(EnrollmentStatus.ACTIVE);
+        return enrollmentRepository.save(enrollment).getId();
+    }
+
+    private String attendanceBody(String status, String notes) throws Exception {
+        return objectMapper.writeValueAsString(new MarkAttendanceRequest(List.of(
+                new MarkAttendanceRequest.Entry(testStudent.getId(), AttendanceStatus.valueOf(status), notes))));
+    }
+}
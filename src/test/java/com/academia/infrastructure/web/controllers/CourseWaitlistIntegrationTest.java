@@ -0,0 +1,208 @@
+package com.academia.infrastructure.web.controllers;
+
+import com.academia.config.AcademicTestData;
+import com.academia.config.TestSecurityConfig;
+import com.academia.domain.model.enums.AccountStatus;
+import com.academia.infrastructure.persistence.jpa.entities.*;
+import com.academia.infrastructure.persistence.jpa.repositories.*;
+import com.academia.infrastructure.web.requests.EnrollStudentInCourseRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Cada pedido corre en su propia transacción, como en producción: la promoción tiene que verse
+ * confirmada junto con el retiro. Los datos de la prueba se borran al terminar.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import({TestSecurityConfig.class, AcademicTestData.class})
+class CourseWaitlistIntegrationTest {
+
+    private static final int ROUNDS = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SpringUserRepository userRepository;
+
+    @Autowired
+    private SpringStudentProfileRepository studentProfileRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AcademicTestData testData;
+
+    private Long organizationId;
+    private Long courseId;
+
+    @BeforeEach
+    void setUp() {
+        organizationId = testData.createOrganization("Liceo Lista de Espera", "liceo-espera");
+        SubjectJpaEntity subject = testData.createSubject(organizationId, "Robótica", "ROB-1");
+        AcademicTermJpaEntity term = testData.createTerm(organizationId, "Año Lectivo 2026",
+                LocalDate.of(2026, 3, 1), LocalDate.of(2026, 12, 15));
+        courseId = testData.createCourse(subject, term, "ROB-1-A", 1);
+
+        // Los de quinto año pasan delante en las listas de espera de esta organización
+        jdbcTemplate.update("INSERT INTO waitlist_priority_rules (organization_id, grade_level, priority) VALUES (?, ?, ?)",
+                organizationId, "Quinto", 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteOrganization(organizationId);
+    }
+
+    @Test
+    @DisplayName("Debe promover al siguiente de la lista, por prioridad, al retirarse un inscrito")
+    void withdrawStudent_shouldPromoteHighestPriorityStudent_inSameTransaction() throws Exception {
+        Long enrolled = createStudent("ana@espera.edu", "Primero");
+        Long earlyFirstYear = createStudent("beto@espera.edu", "Primero");
+        Long lateFifthYear = createStudent("carla@espera.edu", "Quinto");
+
+        perform("/api/v1/courses/enroll", enrolled).andExpect(status().isOk());
+        perform("/api/v1/courses/waitlist", earlyFirstYear)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priority", is(0)))
+                .andExpect(jsonPath("$.waitingStudents", is(1)));
+        perform("/api/v1/courses/waitlist", lateFifthYear)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priority", is(10)))
+                .andExpect(jsonPath("$.waitingStudents", is(2)));
+        perform("/api/v1/courses/waitlist", lateFifthYear).andExpect(status().isConflict());
+
+        mockMvc.perform(post("/api/v1/courses/{courseId}/enrollments/{studentAccountId}/withdraw", courseId, enrolled))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.seatReleased", is(true)))
+                .andExpect(jsonPath("$.promotedEnrollments", hasSize(1)))
+                .andExpect(jsonPath("$.promotedEnrollments[0].studentAccountId", is(lateFifthYear.intValue())));
+
+        assertEquals("WITHDRAWN", jdbcTemplate.queryForObject(
+                "SELECT status FROM enrollments WHERE course_id = ? AND student_user_id = ?", String.class, courseId, enrolled));
+        assertEquals("ACTIVE", jdbcTemplate.queryForObject(
+                "SELECT status FROM enrollments WHERE course_id = ? AND student_user_id = ?", String.class, courseId, lateFifthYear));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT seats_taken FROM courses WHERE id = ?", Integer.class, courseId));
+        assertEquals(earlyFirstYear, jdbcTemplate.queryForObject(
+                "SELECT student_user_id FROM course_waitlist WHERE course_id = ?", Long.class, courseId));
+
+        // Retirarse otra vez no libera otra vacante ni promueve a nadie más
+        mockMvc.perform(post("/api/v1/courses/{courseId}/enrollments/{studentAccountId}/withdraw", courseId, enrolled))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.seatReleased", is(false)))
+                .andExpect(jsonPath("$.promotedEnrollments", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("Debe devolver una sola vacante cuando el mismo estudiante se retira dos veces a la vez")
+    void withdrawStudent_shouldReleaseOneSeat_whenSameStudentWithdrawsConcurrently() throws Exception {
+        Long enrolled = createStudent("elena@espera.edu", "Primero");
+        perform("/api/v1/courses/enroll", enrolled).andExpect(status().isOk());
+        for (int i = 0; i < ROUNDS * 2; i++) {
+            perform("/api/v1/courses/waitlist", createStudent("espera" + i + "@espera.edu", "Primero"))
+                    .andExpect(status().isOk());
+        }
+
+        ExecutorService clients = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                Long withdrawing = enrolled;
+                CyclicBarrier start = new CyclicBarrier(2);
+                List<Future<Integer>> calls = new ArrayList<>();
+                for (int c = 0; c < 2; c++) {
+                    calls.add(clients.submit(() -> {
+                        start.await();
+                        return mockMvc.perform(post("/api/v1/courses/{courseId}/enrollments/{studentAccountId}/withdraw",
+                                courseId, withdrawing)).andReturn().getResponse().getStatus();
+                    }));
+                }
+                for (Future<Integer> call : calls) {
+                    // El que pierde la carrera ve la inscripción ya retirada (200) o choca con la guarda (409)
+                    assertTrue(List.of(200, 409).contains(call.get(10, TimeUnit.SECONDS)));
+                }
+
+                // Un solo promovido ocupa la única vacante, y el contador coincide con las inscripciones activas
+                assertEquals(1, jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM enrollments WHERE course_id = ? AND status = 'ACTIVE'", Integer.class, courseId));
+                assertEquals(1, jdbcTemplate.queryForObject("SELECT seats_taken FROM courses WHERE id = ?", Integer.class, courseId));
+                assertEquals(ROUNDS * 2 - round - 1, jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM course_waitlist WHERE course_id = ?", Integer.class, courseId));
+                enrolled = jdbcTemplate.queryForObject(
+                        "SELECT student_user_id FROM enrollments WHERE course_id = ? AND status = 'ACTIVE'", Long.class, courseId);
+            }
+        } finally {
+            clients.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe rechazar la lista de espera si el curso todavía tiene vacantes")
+    void joinWaitlist_shouldReturn409_whenCourseHasSeats() throws Exception {
+        perform("/api/v1/courses/waitlist", createStudent("dario@espera.edu", "Primero"))
+                .andExpect(status().isConflict());
+
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM course_waitlist WHERE course_id = ?", Integer.class, courseId));
+    }
+
+    private ResultActions perform(String path, Long studentId) throws Exception {
+        return mockMvc.perform(post(path)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new EnrollStudentInCourseRequest(studentId, courseId))));
+    }
+
+    private Long createStudent(String email, String gradeLevel) {
+        UserJpaEntity user = new UserJpaEntity();
+        user.setOrganizationId(organizationId);
+        user.setFirstName(email.substring(0, email.indexOf('@')));
+        user.setLastName("Espera");
+        user.setEmail(email);
+        user.setBirthDate(LocalDate.of(2008, 5, 10));
+        user.setAccountStatus(AccountStatus.ACTIVE);
+        Long userId = userRepository.save(user).getId();
+
+        StudentProfileJpaEntity profile = new StudentProfileJpaEntity();
+        profile.setUserId(userId);
+        profile.setOrganizationId(organizationId);
+        profile.setStudentIdNumber("ESP-" + userId);
+        profile.setEnrollmentDate(LocalDate.now());
+        profile.setCurrentGradeLevel(gradeLevel);
+        studentProfileRepository.save(profile);
+        return userId;
+    }
+}
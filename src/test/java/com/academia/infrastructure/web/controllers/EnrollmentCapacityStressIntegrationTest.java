@@ -0,0 +1,171 @@
+package com.academia.infrastructure.web.controllers;
+
+import com.academia.config.AcademicTestData;
+import com.academia.config.TestSecurityConfig;
+import com.academia.infrastructure.persistence.jpa.entities.AcademicTermJpaEntity;
+import com.academia.infrastructure.persistence.jpa.entities.SubjectJpaEntity;
+import com.academia.infrastructure.web.requests.EnrollStudentInCourseRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simula la apertura de inscripciones: miles de estudiantes piden el mismo curso a la vez y
+ * el cupo no debe sobrepasarse. Va contra un servidor real para que cada pedido tenga su propia
+ * transacción; los datos se confirman y se borran al terminar.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import({TestSecurityConfig.class, AcademicTestData.class})
+@Slf4j
+class EnrollmentCapacityStressIntegrationTest {
+
+    private static final int STUDENTS = 5_000;
+    private static final int CAPACITY = 120;
+    private static final int CONCURRENT_CLIENTS = 200;
+    private static final long FIRST_STUDENT_ID = 88_000_000L; // Fuera del rango que reparte id_allocations en los tests
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${server.servlet.context-path:}")
+    private String contextPath;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AcademicTestData testData;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private Long organizationId;
+    private Long courseId;
+
+    @BeforeEach
+    void setUp() {
+        organizationId = testData.createOrganization("Universidad Cupos", "universidad-cupos");
+        SubjectJpaEntity subject = testData.createSubject(organizationId, "Programación I", "PRO-1");
+        AcademicTermJpaEntity term = testData.createTerm(organizationId, "Cuatrimestre 2026",
+                LocalDate.of(2026, 3, 1), LocalDate.of(2026, 7, 15));
+        courseId = testData.createCourse(subject, term, "PRO-1-A", CAPACITY);
+        testData.insertStudents(organizationId, FIRST_STUDENT_ID, STUDENTS, "Cupo", "Primero");
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteOrganization(organizationId);
+    }
+
+    @Test
+    @DisplayName("Debe ocupar exactamente el cupo con miles de inscripciones simultáneas al mismo curso")
+    void enrollStudent_shouldNeverOversubscribe_underConcurrentRequests() throws Exception {
+        int[] statuses = new int[STUDENTS];
+        long[] latenciesMicros = new long[STUDENTS];
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENT_CLIENTS);
+        long start = System.nanoTime();
+        try {
+            List<CompletableFuture<Void>> calls = new ArrayList<>(STUDENTS);
+            for (int i = 0; i < STUDENTS; i++) {
+                int student = i;
+                HttpRequest request = request(FIRST_STUDENT_ID + student);
+                calls.add(CompletableFuture.runAsync(() -> {
+                    long sent = System.nanoTime();
+                    try {
+                        statuses[student] = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    } catch (Exception e) {
+                        statuses[student] = -1;
+                    }
+                    latenciesMicros[student] = (System.nanoTime() - sent) / 1_000;
+                }, clients));
+            }
+            CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            clients.shutdown();
+        }
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+        Map<Integer, Long> byStatus = Arrays.stream(statuses).boxed()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        Arrays.sort(latenciesMicros);
+        log.info("Apertura de inscripciones: {} pedidos en {} ms -> {} pedidos/s, p50 {} ms, p99 {} ms, " +
+                        "respuestas {} ({} clientes simultáneos)",
+                STUDENTS, elapsedMs, STUDENTS * 1000L / elapsedMs, latenciesMicros[STUDENTS / 2] / 1_000,
+                latenciesMicros[STUDENTS * 99 / 100] / 1_000, byStatus, CONCURRENT_CLIENTS);
+
+        // Todo pedido termina en alta o en rechazo por cupo; ninguno en un error de concurrencia
+        assertEquals(Map.of(200, (long) CAPACITY, 409, (long) (STUDENTS - CAPACITY)), byStatus);
+        assertEquals(CAPACITY, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM enrollments WHERE course_id = ? AND status = 'ACTIVE'", Integer.class, courseId));
+        assertEquals(CAPACITY, jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT student_user_id) FROM enrollments WHERE course_id = ?", Integer.class, courseId));
+        assertEquals(CAPACITY, jdbcTemplate.queryForObject(
+                "SELECT seats_taken FROM courses WHERE id = ?", Integer.class, courseId));
+    }
+
+    @Test
+    @DisplayName("Debe responder 409 y no 500 cuando el mismo estudiante pide el curso varias veces a la vez")
+    void enrollStudent_shouldReturnConflict_whenSameStudentEnrollsConcurrently() throws Exception {
+        int attempts = 20;
+        HttpRequest request = request(FIRST_STUDENT_ID);
+        ExecutorService clients = Executors.newFixedThreadPool(attempts);
+        List<CompletableFuture<Integer>> calls = new ArrayList<>(attempts);
+        try {
+            for (int i = 0; i < attempts; i++) {
+                calls.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    } catch (Exception e) {
+                        return -1;
+                    }
+                }, clients));
+            }
+            CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            clients.shutdown();
+        }
+
+        Map<Integer, Long> byStatus = calls.stream().map(CompletableFuture::join)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        assertEquals(Map.of(200, 1L, 409, (long) (attempts - 1)), byStatus);
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT seats_taken FROM courses WHERE id = ?", Integer.class, courseId));
+    }
+
+    private HttpRequest request(long studentId) throws Exception {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + contextPath + "/api/v1/courses/enroll"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        objectMapper.writeValueAsString(new EnrollStudentInCourseRequest(studentId, courseId))))
+                .build();
+    }
+}
@@ -0,0 +1,198 @@
+package com.academia.infrastructure.web.controllers;
+
+import com.academia.config.AcademicTestData;
+import com.academia.config.TestSecurityConfig;
+import com.academia.domain.model.events.GradeEvents;
+import com.academia.infrastructure.gradebook.IncrementalGradebook;
+import com.academia.infrastructure.persistence.jpa.entities.AcademicTermJpaEntity;
+import com.academia.infrastructure.persistence.jpa.entities.SubjectJpaEntity;
+import com.academia.infrastructure.web.requests.RecordGradesRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntBinaryOperator;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Carga de una planilla de 40 estudiantes por 25 tareas. La nota final se mantiene después de
+ * confirmar la transacción, así que los datos se confirman y se borran al terminar.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import({TestSecurityConfig.class, AcademicTestData.class})
+@RecordApplicationEvents
+@Slf4j
+class GradeSheetIntegrationTest {
+
+    private static final int STUDENTS = 40;
+    private static final int ASSIGNMENTS = 25;
+    private static final long FIRST_STUDENT_ID = 80_000_000L; // Fuera del rango que reparte id_allocations en los tests
+    private static final String BULK_PATH = "/api/v1/courses/{courseId}/grades/bulk";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Autowired
+    private IncrementalGradebook gradebook;
+
+    @Autowired
+    private AcademicTestData testData;
+
+    private Long organizationId;
+    private Long courseId;
+    private Long otherCourseId;
+    private final List<Long> assignmentIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        organizationId = testData.createOrganization("Escuela Planillas", "escuela-planillas");
+        SubjectJpaEntity subject = testData.createSubject(organizationId, "Física", "FIS-1");
+        AcademicTermJpaEntity term = testData.createTerm(organizationId, "Año Lectivo",
+                LocalDate.now().minusMonths(2), LocalDate.now().plusMonths(6));
+        courseId = testData.createCourse(subject, term, "FIS-1-A", null);
+        otherCourseId = testData.createCourse(subject, term, "FIS-1-B", null);
+
+        testData.enrollAll(courseId, LongStream.range(FIRST_STUDENT_ID, FIRST_STUDENT_ID + STUDENTS).boxed().toList());
+        for (int a = 0; a < ASSIGNMENTS; a++) {
+            jdbcTemplate.update("INSERT INTO assignments (course_id, title, weight) VALUES (?, ?, ?)",
+                    courseId, "Trabajo práctico " + a, BigDecimal.valueOf(1 + a % 3));
+        }
+        assignmentIds.addAll(jdbcTemplate.queryForList(
+                "SELECT id FROM assignments WHERE course_id = ? ORDER BY id", Long.class, courseId));
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteOrganization(organizationId);
+    }
+
+    @Test
+    @DisplayName("Debe guardar una planilla de 1.000 notas con un evento por inscripción")
+    void recordGrades_shouldSaveWholeSheetAndCoalesceEvents() throws Exception {
+        long start = System.nanoTime();
+        postSheet((s, a) -> (s * 7 + a * 13) % 101)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.recorded", is(STUDENTS * ASSIGNMENTS)))
+                .andExpect(jsonPath("$.students", is(STUDENTS)));
+        long firstMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(STUDENTS, applicationEvents.stream(GradeEvents.GradesRecorded.class).count());
+        assertEquals(STUDENTS * ASSIGNMENTS, countRows("grades"));
+        assertEquals(STUDENTS * ASSIGNMENTS, countRows("submissions"));
+
+        // Corrección de la planilla completa: las entregas ya existen y las notas se reemplazan
+        start = System.nanoTime();
+        postSheet((s, a) -> (s * 11 + a * 3) % 101).andExpect(status().isOk());
+        long correctionMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("Planilla de {} notas: {} ms la primera carga, {} ms la corrección",
+                STUDENTS * ASSIGNMENTS, firstMs, correctionMs);
+
+        assertEquals(STUDENTS * ASSIGNMENTS, countRows("grades"));
+        assertEquals(new BigDecimal("33.00"), jdbcTemplate.queryForObject(
+                "SELECT g.grade FROM grades g JOIN submissions s ON s.id = g.submission_id " +
+                "JOIN enrollments e ON e.id = s.enrollment_id WHERE e.student_user_id = ? AND s.assignment_id = ?",
+                BigDecimal.class, FIRST_STUDENT_ID + 3, assignmentIds.get(0)));
+        // Cota holgada: H2 en memoria y el mismo proceso que MockMvc; el objetivo de 200 ms es sobre MySQL
+        assertTrue(correctionMs < 2_000, "La corrección de la planilla tardó " + correctionMs + " ms");
+
+        // La nota final de cada inscripción refleja la planilla corregida
+        gradebook.flush();
+        Long enrollmentId = jdbcTemplate.queryForObject(
+                "SELECT id FROM enrollments WHERE student_user_id = ?", Long.class, FIRST_STUDENT_ID + 3);
+        BigDecimal expected = jdbcTemplate.queryForObject(
+                "SELECT SUM(g.grade * a.weight) / SUM(a.weight) FROM grades g " +
+                "JOIN submissions s ON s.id = g.submission_id JOIN assignments a ON a.id = s.assignment_id " +
+                "WHERE g.enrollment_id = ?", BigDecimal.class, enrollmentId).setScale(2, RoundingMode.HALF_UP);
+        assertEquals(0, expected.compareTo(jdbcTemplate.queryForObject(
+                "SELECT final_grade FROM enrollments WHERE id = ?", BigDecimal.class, enrollmentId)));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar la planilla completa si una nota está fuera de rango")
+    void recordGrades_shouldReturn400_whenGradeIsOutOfRange() throws Exception {
+        postSheet((s, a) -> s == 5 && a == 5 ? 101 : 80).andExpect(status().isBadRequest());
+
+        assertEquals(0, countRows("grades"));
+        assertEquals(0, countRows("submissions"));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una tarea de otro curso")
+    void recordGrades_shouldReturn400_whenAssignmentBelongsToAnotherCourse() throws Exception {
+        jdbcTemplate.update("INSERT INTO assignments (course_id, title) VALUES (?, 'Ajena')", otherCourseId);
+        Long foreignAssignment = jdbcTemplate.queryForObject(
+                "SELECT id FROM assignments WHERE course_id = ?", Long.class, otherCourseId);
+
+        RecordGradesRequest request = new RecordGradesRequest(List.of(
+                new RecordGradesRequest.Entry(FIRST_STUDENT_ID, foreignAssignment, 70.0, null)));
+        mockMvc.perform(post(BULK_PATH, courseId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Debe devolver 404 al cargar notas de un curso inexistente")
+    void recordGrades_shouldReturn404_whenCourseDoesNotExist() throws Exception {
+        RecordGradesRequest request = new RecordGradesRequest(List.of(
+                new RecordGradesRequest.Entry(FIRST_STUDENT_ID, assignmentIds.get(0), 70.0, null)));
+        mockMvc.perform(post(BULK_PATH, 999_999L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNotFound());
+    }
+
+    private ResultActions postSheet(IntBinaryOperator gradeFor) throws Exception {
+        List<RecordGradesRequest.Entry> entries = new ArrayList<>(STUDENTS * ASSIGNMENTS);
+        for (int s = 0; s < STUDENTS; s++) {
+            for (int a = 0; a < ASSIGNMENTS; a++) {
+                entries.add(new RecordGradesRequest.Entry(FIRST_STUDENT_ID + s, assignmentIds.get(a),
+                        (double) gradeFor.applyAsInt(s, a), a == 0 ? "Revisar la consigna" : null));
+            }
+        }
+        return mockMvc.perform(post(BULK_PATH, courseId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RecordGradesRequest(entries))));
+    }
+
+    private int countRows(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE enrollment_id IN " +
+                "(SELECT id FROM enrollments WHERE course_id = ?)", Integer.class, courseId);
+    }
+}
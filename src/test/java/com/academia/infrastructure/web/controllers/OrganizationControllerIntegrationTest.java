@@ -1,9 +1,20 @@
 package com.academia.infrastructure.web.controllers;
 
 import com.academia.config.TestSecurityConfig;
+import com.academia.domain.model.events.DomainEvent;
+import com.academia.domain.model.events.OrganizationEvents;
+import com.academia.domain.model.events.UserAccountEvents;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.ids.OrganizationId;
+import com.academia.domain.model.valueobjects.user.Email;
+import com.academia.infrastructure.events.binary.BinaryDomainEventCodec;
+import com.academia.infrastructure.persistence.jpa.entities.OrganizationJpaEntity;
 import com.academia.infrastructure.persistence.jpa.repositories.SpringOrganizationRepository;
+import com.academia.infrastructure.persistence.jpa.repositories.SpringStudentProfileRepository;
 import com.academia.infrastructure.persistence.jpa.repositories.SpringUserRepository;
+import com.academia.infrastructure.web.requests.BulkRegisterStudentsRequest;
 import com.academia.infrastructure.web.requests.CreateOrganizationRequest;
+import com.jayway.jsonpath.JsonPath;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,14 +24,21 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -43,9 +61,19 @@ class OrganizationControllerIntegrationTest {
     @Autowired
     private SpringOrganizationRepository organizationRepository;
 
+    @Autowired
+    private SpringStudentProfileRepository studentProfileRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BinaryDomainEventCodec binaryCodec;
+
     @BeforeEach
     void setUp() {
         // Limpiar datos de pruebas anteriores
+        studentProfileRepository.deleteAll();
         userRepository.deleteAll();
         organizationRepository.deleteAll();
     }
@@ -66,7 +94,7 @@ class OrganizationControllerIntegrationTest {
         );
 
         // Act & Assert
-        mockMvc.perform(post("/api/v1/organizations")
+        String response = mockMvc.perform(post("/api/v1/organizations")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isCreated())
@@ -79,11 +107,36 @@ class OrganizationControllerIntegrationTest {
                 .andExpect(jsonPath("$.initialAdmin", notNullValue()))
                 .andExpect(jsonPath("$.initialAdmin.fullName", is("Ana García")))
                 .andExpect(jsonPath("$.initialAdmin.email", is("admin@unitecfuturo.edu")))
-                .andExpect(jsonPath("$.initialAdmin.accountStatus", is("ACTIVE")));
+                .andExpect(jsonPath("$.initialAdmin.accountStatus", is("ACTIVE")))
+                .andReturn().getResponse().getContentAsString();
 
         // Verificar que se crearon los registros en la base de datos
         assertEquals(1, organizationRepository.count());
         assertEquals(1, userRepository.count());
+
+        // El alta de la organización y la de su administrador quedan en la bandeja de salida con sus IDs.
+        // Hibernate recrea las tablas en cada contexto de la suite, pero no la bandeja: los IDs pueden
+        // repetirse entre contextos, así que se compara el evento completo salvo su ID y su fecha
+        Number createdOrganizationId = JsonPath.read(response, "$.organizationId");
+        Number createdAdminId = JsonPath.read(response, "$.initialAdmin.adminAccountId");
+        OrganizationId organizationId = new OrganizationId(createdOrganizationId.longValue());
+        AccountId adminId = new AccountId(createdAdminId.longValue());
+        List<DomainEvent> outboxEvents = jdbcTemplate.queryForList(
+                        "SELECT binary_payload FROM domain_event_outbox WHERE binary_payload IS NOT NULL", byte[].class)
+                .stream()
+                .map(binaryCodec::decode)
+                .toList();
+        assertEquals(1, outboxEvents.stream()
+                .filter(event -> event instanceof OrganizationEvents.OrganizationCreated created
+                        && created.organizationId().equals(organizationId)
+                        && created.name().equals("Universidad Tecnológica del Futuro")
+                        && created.subdomain().equals("unitecfuturo"))
+                .count());
+        assertEquals(1, outboxEvents.stream()
+                .filter(event -> event instanceof UserAccountEvents.UserRegisteredEvent registered
+                        && registered.accountId().equals(adminId)
+                        && registered.email().equals(new Email("admin@unitecfuturo.edu")))
+                .count());
     }
 
     @Test
@@ -155,4 +208,63 @@ class OrganizationControllerIntegrationTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isForbidden());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Debe listar los estudiantes por páginas siguiendo el cursor")
+    void listStudents_shouldPaginateWithCursor() throws Exception {
+        OrganizationJpaEntity org = new OrganizationJpaEntity();
+        org.setName("Colegio del Valle");
+        org.setSubdomain("colegio-valle");
+        org.setDigitalConsentAge(14);
+        org.setActive(true);
+        org.setUuid("list-uuid-123");
+        Long orgId = organizationRepository.save(org).getId();
+
+        List<BulkRegisterStudentsRequest.StudentRow> rows = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            rows.add(new BulkRegisterStudentsRequest.StudentRow("Alumno" + i, "Valle", "alumno" + i + "@valle.edu",
+                    LocalDate.of(2005, 1, i), "CV-00" + i, LocalDate.now(), i <= 3 ? "Primero" : "Segundo"));
+        }
+        mockMvc.perform(post("/api/v1/students/register/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BulkRegisterStudentsRequest(orgId, rows))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.registered", is(5)));
+
+        String firstPage = mockMvc.perform(get("/api/v1/organizations/{id}/students", orgId).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.students", hasSize(2)))
+                .andExpect(jsonPath("$.students[0].studentIdNumber", is("CV-001")))
+                .andExpect(jsonPath("$.nextCursor", notNullValue()))
+                .andReturn().getResponse().getContentAsString();
+        Number cursor = JsonPath.read(firstPage, "$.nextCursor");
+
+        String secondPage = mockMvc.perform(get("/api/v1/organizations/{id}/students", orgId)
+                        .param("size", "2").param("after", cursor.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.students", hasSize(2)))
+                .andExpect(jsonPath("$.students[0].studentIdNumber", is("CV-003")))
+                .andReturn().getResponse().getContentAsString();
+        cursor = JsonPath.read(secondPage, "$.nextCursor");
+
+        mockMvc.perform(get("/api/v1/organizations/{id}/students", orgId)
+                        .param("size", "2").param("after", cursor.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.students", hasSize(1)))
+                .andExpect(jsonPath("$.students[0].studentIdNumber", is("CV-005")))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist()); // non_null: el cursor se omite en la última página
+
+        mockMvc.perform(get("/api/v1/organizations/{id}/students", orgId)
+                        .param("gradeLevel", "Segundo").param("accountStatus", "PENDING_VERIFICATION"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.students", hasSize(2)))
+                .andExpect(jsonPath("$.students[0].fullName", is("Alumno4 Valle")));
+    }
+
+    @Test
+    @DisplayName("Debe devolver 404 al listar estudiantes de una organización inexistente")
+    void listStudents_shouldReturn404_whenOrganizationDoesNotExist() throws Exception {
+        mockMvc.perform(get("/api/v1/organizations/{id}/students", 999_999L))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,171 @@
+package com.academia.infrastructure.web.controllers;
+
+import com.academia.config.AcademicTestData;
+import com.academia.config.TestSecurityConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exportación del padrón contra un servidor real: MockMvc acumula la respuesta completa en memoria,
+ * lo que ocultaría justamente lo que se quiere medir. Los datos se confirman (sin @Transactional)
+ * porque la exportación se lee desde el hilo que escribe la respuesta.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import({TestSecurityConfig.class, AcademicTestData.class})
+@Slf4j
+class RosterExportIntegrationTest {
+
+    private static final int STUDENTS = 50_000;
+    private static final long FIRST_ID = 50_000_000L; // Fuera del rango que reparte id_allocations en los tests
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${server.servlet.context-path:}")
+    private String contextPath;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AcademicTestData testData;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private Long organizationId;
+
+    @BeforeEach
+    void setUp() {
+        organizationId = testData.createOrganization("Instituto Exportación", "instituto-export");
+        testData.insertStudents(organizationId, FIRST_ID, STUDENTS, "Export, Test", "Cuarto");
+
+        long guardianId = FIRST_ID + STUDENTS;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO users (id, organization_id, first_name, last_name, email, birth_date, " +
+                "account_status, created_at, updated_at) VALUES (?, ?, 'Laura', 'Tutora', 'laura@export.edu', ?, 'ACTIVE', ?, ?)",
+                guardianId, organizationId, Date.valueOf(LocalDate.of(1980, 1, 1)), now, now);
+        jdbcTemplate.update("INSERT INTO student_guardian_relationships (student_user_id, guardian_user_id, " +
+                "relationship_type, is_primary_contact) VALUES (?, ?, 'Madre', TRUE)", FIRST_ID, guardianId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteOrganization(organizationId);
+    }
+
+    @Test
+    @DisplayName("Debe exportar el padrón completo en CSV con memoria acotada")
+    void exportCsv_shouldStreamAllRows() throws Exception {
+        ExportRun run = export("csv", false);
+
+        assertEquals(200, run.status());
+        assertEquals(STUDENTS + 1, run.lines().size()); // Cabecera + una línea por estudiante
+        assertTrue(run.lines().get(0).startsWith("account_id,first_name,last_name"));
+        assertEquals(FIRST_ID + ",Alumno0,\"Export, Test\",alumno" + FIRST_ID + "@academia.test,2006-01-01,ACTIVE,LEG-" + FIRST_ID +
+                ",Cuarto,2024-03-01," +
+                "\"Laura Tutora (Madre, principal)\"", run.lines().get(1));
+        assertHeapStayedBounded(run);
+    }
+
+    @Test
+    @DisplayName("Debe exportar el padrón en NDJSON comprimido con gzip")
+    void exportNdjsonGzip_shouldStreamAllRows() throws Exception {
+        ExportRun run = export("ndjson", true);
+
+        assertEquals(200, run.status());
+        assertEquals(STUDENTS, run.lines().size());
+        JsonNode first = objectMapper.readTree(run.lines().get(0));
+        assertEquals("LEG-" + FIRST_ID, first.get("studentIdNumber").asText());
+        assertEquals("Laura Tutora", first.get("guardians").get(0).get("fullName").asText());
+        assertEquals(0, objectMapper.readTree(run.lines().get(1)).get("guardians").size());
+        assertHeapStayedBounded(run);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un formato no soportado")
+    void export_shouldReturn400_whenFormatIsUnknown() throws Exception {
+        HttpResponse<Void> response = httpClient.send(request("xml", false), HttpResponse.BodyHandlers.discarding());
+        assertEquals(400, response.statusCode());
+    }
+
+    private ExportRun export(String format, boolean gzip) throws Exception {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baseline = memory.getHeapMemoryUsage().getUsed();
+        long peak = baseline;
+
+        long start = System.nanoTime();
+        HttpResponse<InputStream> response = httpClient.send(request(format, gzip), HttpResponse.BodyHandlers.ofInputStream());
+        List<String> lines = new ArrayList<>(STUDENTS + 1);
+        long bytes = 0;
+        InputStream body = gzip ? new GZIPInputStream(response.body()) : response.body();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // Solo se guardan las líneas que se comprueban; del resto basta con contar
+                lines.add(lines.size() < 2 ? line : "");
+                bytes += line.length() + 1;
+                if (lines.size() % 5_000 == 0) {
+                    peak = Math.max(peak, memory.getHeapMemoryUsage().getUsed());
+                }
+            }
+        }
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+        log.info("Exportación {}{}: {} filas, {} KB en {} ms ({} filas/s), pico de heap +{} MB",
+                format, gzip ? "+gzip" : "", lines.size(), bytes / 1024, elapsedMs,
+                lines.size() * 1000L / elapsedMs, (peak - baseline) / (1024 * 1024));
+        return new ExportRun(response.statusCode(), lines, peak - baseline);
+    }
+
+    private void assertHeapStayedBounded(ExportRun run) {
+        // Cota holgada: materializar 50k entidades JPA con su contexto de persistencia supera con creces
+        // este margen, mientras que el streaming solo retiene buffers y el estudiante en curso
+        assertTrue(run.heapGrowth() < 256L * 1024 * 1024,
+                "El heap creció " + run.heapGrowth() / (1024 * 1024) + " MB durante la exportación");
+    }
+
+    private HttpRequest request(String format, boolean gzip) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + contextPath +
+                        "/api/v1/organizations/" + organizationId + "/students/export?format=" + format + "&gzip=" + gzip))
+                .GET()
+                .build();
+    }
+
+    private record ExportRun(int status, List<String> lines, long heapGrowth) {}
+}
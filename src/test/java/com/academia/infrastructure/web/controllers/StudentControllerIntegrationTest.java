@@ -1,10 +1,18 @@
 package com.academia.infrastructure.web.controllers;
 
 import com.academia.config.TestSecurityConfig; // <-- IMPORTAR LA CONFIG DE SEGURIDAD
+import com.academia.domain.model.entities.Student;
+import com.academia.domain.model.events.DomainEvent;
+import com.academia.domain.model.events.UserAccountEvents;
+import com.academia.domain.model.valueobjects.ids.AccountId;
+import com.academia.domain.model.valueobjects.user.Email;
+import com.academia.domain.ports.out.StudentRepository;
+import com.academia.infrastructure.events.binary.BinaryDomainEventCodec;
 import com.academia.infrastructure.persistence.jpa.entities.OrganizationJpaEntity;
 import com.academia.infrastructure.persistence.jpa.repositories.SpringOrganizationRepository;
 import com.academia.infrastructure.persistence.jpa.repositories.SpringStudentProfileRepository;
 import com.academia.infrastructure.persistence.jpa.repositories.SpringUserRepository;
+import com.academia.infrastructure.web.requests.BulkRegisterStudentsRequest;
 import com.academia.infrastructure.web.requests.RegisterStudentRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,14 +23,17 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import; // <-- IMPORTAR
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -48,6 +59,15 @@ class StudentControllerIntegrationTest {
     @Autowired
     private SpringOrganizationRepository organizationRepository;
 
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BinaryDomainEventCodec binaryCodec;
+
     private OrganizationJpaEntity testOrganization;
 
     @BeforeEach
@@ -91,6 +111,39 @@ class StudentControllerIntegrationTest {
         assertEquals(1, studentProfileRepository.count());
     }
 
+    @Test
+    @DisplayName("Debe dejar en la bandeja de salida el registro del estudiante con su ID asignado")
+    void registerStudent_shouldAppendRegistrationToOutbox() throws Exception {
+        RegisterStudentRequest request = new RegisterStudentRequest(
+                testOrganization.getId(),
+                "Valentina", "Rios", "valentina.rios@unifuturo.edu",
+                LocalDate.of(2005, 5, 20),
+                "UF-TEST-030", LocalDate.now(), "Semestre 1"
+        );
+
+        mockMvc.perform(post("/api/v1/students/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+        AccountId accountId = new AccountId(userRepository
+                .findByOrganizationIdAndEmail(testOrganization.getId(), "valentina.rios@unifuturo.edu")
+                .orElseThrow().getId());
+
+        // Hibernate recrea las tablas de usuarios en cada contexto de la suite, pero no la bandeja de
+        // salida: otro contexto pudo dejar un registro con el mismo ID, así que se compara también el email
+        Email email = new Email("valentina.rios@unifuturo.edu");
+        List<DomainEvent> registrations = jdbcTemplate.queryForList(
+                        "SELECT binary_payload FROM domain_event_outbox WHERE event_type = ?", byte[].class,
+                        UserAccountEvents.UserRegisteredEvent.class.getName())
+                .stream()
+                .map(binaryCodec::decode)
+                .filter(event -> event instanceof UserAccountEvents.UserRegisteredEvent registered
+                        && registered.accountId().equals(accountId)
+                        && registered.email().equals(email))
+                .toList();
+        assertEquals(1, registrations.size());
+    }
+
     @Test
     @DisplayName("Debe fallar el registro y devolver 400 Bad Request si el email es inválido")
     void registerStudent_shouldReturn400_whenEmailIsInvalid() throws Exception {
@@ -106,4 +159,92 @@ class StudentControllerIntegrationTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    @DisplayName("Debe registrar un lote y rechazar solo las filas inválidas o duplicadas")
+    void registerStudentsBulk_shouldReturnPerRowResults() throws Exception {
+        BulkRegisterStudentsRequest request = new BulkRegisterStudentsRequest(
+                testOrganization.getId(),
+                List.of(
+                        new BulkRegisterStudentsRequest.StudentRow("Ana", "Lopez", "ana.lopez@unifuturo.edu",
+                                LocalDate.of(2005, 1, 10), "UF-BULK-001", LocalDate.now(), "Semestre 1"),
+                        new BulkRegisterStudentsRequest.StudentRow("Bruno", "Diaz", "email-invalido",
+                                LocalDate.of(2005, 2, 10), "UF-BULK-002", LocalDate.now(), "Semestre 1"),
+                        new BulkRegisterStudentsRequest.StudentRow("Carla", "Paz", "ana.lopez@unifuturo.edu",
+                                LocalDate.of(2005, 3, 10), "UF-BULK-003", LocalDate.now(), "Semestre 1"),
+                        new BulkRegisterStudentsRequest.StudentRow("Diego", "Sosa", "diego.sosa@unifuturo.edu",
+                                LocalDate.of(2005, 4, 10), "UF-BULK-004", LocalDate.now(), "Semestre 1")
+                )
+        );
+
+        mockMvc.perform(post("/api/v1/students/register/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(4)))
+                .andExpect(jsonPath("$.registered", is(2)))
+                .andExpect(jsonPath("$.rejected", is(2)))
+                .andExpect(jsonPath("$.rows[0].status", is("REGISTERED")))
+                .andExpect(jsonPath("$.rows[1].status", is("REJECTED")))
+                .andExpect(jsonPath("$.rows[2].status", is("REJECTED")))
+                .andExpect(jsonPath("$.rows[3].status", is("REGISTERED")));
+
+        assertEquals(2, userRepository.count());
+        assertEquals(2, studentProfileRepository.count());
+    }
+
+    @Test
+    @DisplayName("Debe devolver los detalles del estudiante desde la proyección")
+    void getStudentDetails_shouldReturnProjection_whenStudentExists() throws Exception {
+        RegisterStudentRequest request = new RegisterStudentRequest(
+                testOrganization.getId(),
+                "Martina", "Ibarra", "martina.ibarra@unifuturo.edu",
+                LocalDate.of(2004, 6, 1),
+                "UF-TEST-010", LocalDate.now(), "Semestre 3"
+        );
+        mockMvc.perform(post("/api/v1/students/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+        Long accountId = userRepository.findByOrganizationIdAndEmail(testOrganization.getId(), "martina.ibarra@unifuturo.edu")
+                .orElseThrow().getId();
+
+        mockMvc.perform(get("/api/v1/students/{accountId}", accountId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fullName", is("Martina Ibarra")))
+                .andExpect(jsonPath("$.studentIdNumber", is("UF-TEST-010")))
+                .andExpect(jsonPath("$.currentGradeLevel", is("Semestre 3")));
+    }
+
+    @Test
+    @DisplayName("Debe actualizar el perfil de un estudiante existente al guardarlo")
+    void save_shouldUpdateExistingStudent() throws Exception {
+        RegisterStudentRequest request = new RegisterStudentRequest(
+                testOrganization.getId(),
+                "Tomas", "Quiroga", "tomas.quiroga@unifuturo.edu",
+                LocalDate.of(2004, 9, 1),
+                "UF-TEST-020", LocalDate.now(), "Semestre 1"
+        );
+        mockMvc.perform(post("/api/v1/students/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+        Long accountId = userRepository.findByOrganizationIdAndEmail(testOrganization.getId(), "tomas.quiroga@unifuturo.edu")
+                .orElseThrow().getId();
+
+        Student student = studentRepository.findByAccountId(new AccountId(accountId)).orElseThrow();
+        student.changeGradeLevel("Semestre 2");
+        studentRepository.save(student);
+        studentProfileRepository.flush();
+
+        assertEquals(1, studentProfileRepository.count());
+        assertEquals("Semestre 2", studentProfileRepository.findById(accountId).orElseThrow().getCurrentGradeLevel());
+    }
+
+    @Test
+    @DisplayName("Debe devolver 404 Not Found si el estudiante no existe")
+    void getStudentDetails_shouldReturn404_whenStudentDoesNotExist() throws Exception {
+        mockMvc.perform(get("/api/v1/students/{accountId}", 999_999L))
+                .andExpect(status().isNotFound());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,202 @@
+package com.academia.infrastructure.web.controllers;
+
+import com.academia.config.AcademicTestData;
+import com.academia.config.TestSecurityConfig;
+import com.academia.infrastructure.imports.StudentImportService;
+import com.jayway.jsonpath.JsonPath;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * La importación corre en su propio hilo y transacciones, así que los datos de la prueba
+ * se confirman (sin @Transactional) y se borran al terminar.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import({TestSecurityConfig.class, AcademicTestData.class})
+@Slf4j
+class StudentImportIntegrationTest {
+
+    private static final int VALID_ROWS = 2_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AcademicTestData testData;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StudentImportService studentImportService;
+
+    private Long organizationId;
+
+    @BeforeEach
+    void setUp() {
+        organizationId = testData.createOrganization("Escuela Importación", "escuela-import");
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteOrganization(organizationId);
+    }
+
+    @Test
+    @DisplayName("Debe importar el CSV por bloques y generar el archivo de errores")
+    void importStudents_shouldRegisterValidRowsAndReportErrors() throws Exception {
+        StringBuilder csv = new StringBuilder("\uFEFFfirst_name,last_name,email,birth_date,student_id_number,enrollment_date,grade_level,dni\r\n");
+        for (int i = 0; i < VALID_ROWS; i++) {
+            csv.append("Alumno").append(i).append(",\"Pérez, Gómez\",alumno").append(i).append("@escuela.edu,2008-05-01,IMP-")
+                    .append(i).append(",2024-03-01,Primero,").append(30_000_000 + i).append("\r\n");
+        }
+        csv.append("Malo,Email,sin-arroba,2008-05-01,IMP-X1,2024-03-01,Primero,1\r\n");         // fila 2002
+        csv.append("Repetido,Email,ALUMNO0@escuela.edu,2008-05-01,IMP-X2,2024-03-01,Primero,2\r\n"); // fila 2003
+        csv.append("Mala,Fecha,fecha@escuela.edu,01/05/2008,IMP-X3,2024-03-01,Primero,3\r\n");    // fila 2004
+
+        MockMultipartFile file = new MockMultipartFile("file", "alumnos.csv", "text/csv",
+                csv.toString().getBytes(StandardCharsets.UTF_8));
+
+        long start = System.nanoTime();
+        String accepted = mockMvc.perform(multipart("/api/v1/students/import")
+                        .file(file)
+                        .param("organizationId", organizationId.toString()))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        String jobId = JsonPath.read(accepted, "$.jobId");
+
+        String finished = awaitFinished(jobId);
+        log.info("Importación de {} filas en {} ms", VALID_ROWS + 3, (System.nanoTime() - start) / 1_000_000);
+
+        assertEquals("COMPLETED", JsonPath.read(finished, "$.status"));
+        assertEquals(VALID_ROWS, (int) JsonPath.read(finished, "$.registeredRows"));
+        assertEquals(3, (int) JsonPath.read(finished, "$.rejectedRows"));
+        assertEquals(100, (int) JsonPath.read(finished, "$.progressPercent"));
+        assertEquals(VALID_ROWS, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM student_profiles WHERE organization_id = ?", Integer.class, organizationId));
+        assertEquals("COMPLETED", jdbcTemplate.queryForObject(
+                "SELECT status FROM student_import_jobs WHERE id = ?", String.class, jobId));
+
+        String errors = mockMvc.perform(get("/api/v1/students/import/{jobId}/errors", jobId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        String[] lines = errors.split("\r\n");
+        assertEquals(4, lines.length);
+        assertTrue(lines[1].startsWith("2002,sin-arroba,IMP-X1,"));
+        assertTrue(lines[2].startsWith("2003,ALUMNO0@escuela.edu,IMP-X2,El email está repetido"));
+        assertTrue(lines[3].startsWith("2004,fecha@escuela.edu,IMP-X3,"));
+    }
+
+    @Test
+    @DisplayName("Debe fallar el trabajo si faltan columnas obligatorias")
+    void importStudents_shouldFail_whenHeaderIsIncomplete() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "alumnos.csv", "text/csv",
+                "first_name,last_name\r\nAna,Paz\r\n".getBytes(StandardCharsets.UTF_8));
+
+        String accepted = mockMvc.perform(multipart("/api/v1/students/import")
+                        .file(file)
+                        .param("organizationId", organizationId.toString()))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+
+        String finished = awaitFinished(JsonPath.read(accepted, "$.jobId"));
+        assertEquals("FAILED", JsonPath.read(finished, "$.status"));
+        assertTrue(JsonPath.<String>read(finished, "$.failureReason").contains("email"));
+    }
+
+    @Test
+    @DisplayName("Debe responder el estado y los errores de un trabajo que corrió en otro nodo")
+    void getImportStatus_shouldReadJobsStartedByAnotherNode() throws Exception {
+        // La fila y el archivo de errores son lo único que deja el otro nodo: este nunca vio el trabajo
+        Path errorFile = Files.createTempFile("student-import-errors-", ".csv");
+        Files.writeString(errorFile, "row_number,email,student_id_number,error\r\n7,x,IMP-7,Email inválido\r\n");
+        String jobId = UUID.randomUUID().toString();
+        LocalDateTime finishedAt = LocalDateTime.now().minusMinutes(1);
+        jdbcTemplate.update("INSERT INTO student_import_jobs (id, organization_id, status, error_file, source_size, " +
+                        "bytes_read, processed_rows, registered_rows, rejected_rows, created_at, updated_at, finished_at) " +
+                        "VALUES (?, ?, 'COMPLETED', ?, 100, 100, 10, 9, 1, ?, ?, ?)",
+                jobId, organizationId, errorFile.toString(), Timestamp.valueOf(finishedAt.minusMinutes(1)),
+                Timestamp.valueOf(finishedAt), Timestamp.valueOf(finishedAt));
+
+        mockMvc.perform(get("/api/v1/students/import/{jobId}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("COMPLETED")))
+                .andExpect(jsonPath("$.progressPercent", is(100)))
+                .andExpect(jsonPath("$.registeredRows", is(9)))
+                .andExpect(jsonPath("$.rejectedRows", is(1)));
+        String errors = mockMvc.perform(get("/api/v1/students/import/{jobId}/errors", jobId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertTrue(errors.contains("7,x,IMP-7,Email inválido"));
+        Files.deleteIfExists(errorFile);
+    }
+
+    @Test
+    @DisplayName("Debe dar por fallido un trabajo que dejó de avanzar")
+    void removeExpiredJobs_shouldFailJobsWithoutProgress() throws Exception {
+        // Un nodo que se detuvo a mitad de la importación deja la fila en RUNNING
+        String jobId = UUID.randomUUID().toString();
+        Timestamp lastUpdate = Timestamp.valueOf(LocalDateTime.now().minusHours(2));
+        jdbcTemplate.update("INSERT INTO student_import_jobs (id, organization_id, status, error_file, source_size, " +
+                        "bytes_read, processed_rows, registered_rows, rejected_rows, created_at, updated_at) " +
+                        "VALUES (?, ?, 'RUNNING', ?, 100, 40, 4, 4, 0, ?, ?)",
+                jobId, organizationId, Path.of("no-existe.csv").toString(), lastUpdate, lastUpdate);
+
+        studentImportService.removeExpiredJobs();
+
+        mockMvc.perform(get("/api/v1/students/import/{jobId}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("FAILED")))
+                .andExpect(jsonPath("$.registeredRows", is(4)));
+    }
+
+    @Test
+    @DisplayName("Debe devolver 404 para un trabajo inexistente")
+    void getImportStatus_shouldReturn404_whenJobDoesNotExist() throws Exception {
+        mockMvc.perform(get("/api/v1/students/import/{jobId}", "no-existe"))
+                .andExpect(status().isNotFound());
+    }
+
+    private String awaitFinished(String jobId) throws Exception {
+        long deadline = System.currentTimeMillis() + 60_000;
+        while (System.currentTimeMillis() < deadline) {
+            String body = mockMvc.perform(get("/api/v1/students/import/{jobId}", jobId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            String jobStatus = JsonPath.read(body, "$.status");
+            if ("COMPLETED".equals(jobStatus) || "FAILED".equals(jobStatus)) {
+                return body;
+            }
+            Thread.sleep(100);
+        }
+        fail("La importación " + jobId + " no terminó en 60 segundos");
+        return null;
+    }
+}
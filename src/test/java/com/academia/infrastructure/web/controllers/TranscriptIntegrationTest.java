@@ -0,0 +1,169 @@
+package com.academia.infrastructure.web.controllers;
+
+import com.academia.config.AcademicTestData;
+import com.academia.config.TestSecurityConfig;
+import com.academia.infrastructure.events.DomainEventOutboxRelay;
+import com.academia.infrastructure.persistence.jpa.entities.AcademicTermJpaEntity;
+import com.academia.infrastructure.persistence.jpa.entities.SubjectJpaEntity;
+import com.academia.infrastructure.web.requests.RecordGradesRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Boletín con la caché de repositorios activada (el perfil de test la desactiva), para comprobar
+ * que las calificaciones nuevas y los retiros lo invalidan. Las cargas confirman su transacción, así que los
+ * datos se borran al terminar.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "academia.cache.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import({TestSecurityConfig.class, AcademicTestData.class})
+class TranscriptIntegrationTest {
+
+    private static final long STUDENT_ID = 87_000_000L; // Fuera del rango que reparte id_allocations en los tests
+    private static final String TRANSCRIPT_PATH = "/api/v1/students/{accountId}/transcript";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AcademicTestData testData;
+
+    @Autowired
+    private DomainEventOutboxRelay outboxRelay;
+
+    private Long organizationId;
+    private Long currentCourseId;
+    private List<Long> assignmentIds;
+
+    @BeforeEach
+    void setUp() {
+        organizationId = testData.createOrganization("Escuela Boletines", "escuela-boletines");
+        testData.insertStudents(organizationId, STUDENT_ID, 1, "Boletín", "Segundo");
+
+        SubjectJpaEntity subject = testData.createSubject(organizationId, "Química", "QUI-1", new BigDecimal("3.0"));
+        Long pastCourseId = saveCourse(subject, "Año anterior", LocalDate.now().minusYears(1), "QUI-1-2024");
+        currentCourseId = saveCourse(subject, "Año en curso", LocalDate.now().minusMonths(2), "QUI-1-2025");
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO enrollments (student_user_id, course_id, enrollment_date, status, final_grade) " +
+                "VALUES (?, ?, ?, 'COMPLETED', 88.00)", STUDENT_ID, pastCourseId, now);
+        testData.enrollAll(currentCourseId, List.of(STUDENT_ID));
+        jdbcTemplate.update("INSERT INTO assignments (course_id, title, weight) VALUES (?, 'Laboratorio', 1)", currentCourseId);
+        jdbcTemplate.update("INSERT INTO assignments (course_id, title, weight) VALUES (?, 'Examen', 3)", currentCourseId);
+        assignmentIds = jdbcTemplate.queryForList(
+                "SELECT id FROM assignments WHERE course_id = ? ORDER BY id", Long.class, currentCourseId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteOrganization(organizationId);
+    }
+
+    @Test
+    @DisplayName("Debe servir el boletín con ETag y regenerarlo al cargar calificaciones")
+    void getTranscript_shouldRevalidateWithETagAndReflectNewGrades() throws Exception {
+        recordGrade(assignmentIds.get(0), 60.0);
+
+        String etag = mockMvc.perform(get(TRANSCRIPT_PATH, STUDENT_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.courses.length()", is(2)))
+                .andExpect(jsonPath("$.courses[0].courseCode", is("QUI-1-2025")))
+                .andExpect(jsonPath("$.courses[0].credits", is(3.0)))
+                .andExpect(jsonPath("$.courses[0].finalGrade", is(60.0)))
+                .andExpect(jsonPath("$.courses[0].grades.length()", is(1)))
+                .andExpect(jsonPath("$.courses[1].status", is("COMPLETED")))
+                .andExpect(jsonPath("$.courses[1].finalGrade", is(88.0)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        mockMvc.perform(get(TRANSCRIPT_PATH, STUDENT_ID).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // La nueva calificación invalida el boletín cacheado: la misma revalidación ya no da 304
+        recordGrade(assignmentIds.get(1), 80.0);
+
+        String newEtag = mockMvc.perform(get(TRANSCRIPT_PATH, STUDENT_ID).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.courses[0].finalGrade", is(75.0))) // (60·1 + 80·3) / 4
+                .andExpect(jsonPath("$.courses[0].grades.length()", is(2)))
+                .andExpect(jsonPath("$.courses[0].grades[1].title", is("Examen")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+    }
+
+    @Test
+    @DisplayName("Debe regenerar el boletín cuando el estudiante se retira de un curso")
+    void getTranscript_shouldReflectWithdrawal() throws Exception {
+        String etag = mockMvc.perform(get(TRANSCRIPT_PATH, STUDENT_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.courses[0].status", is("ACTIVE")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        mockMvc.perform(post("/api/v1/courses/{courseId}/enrollments/{studentAccountId}/withdraw", currentCourseId, STUDENT_ID))
+                .andExpect(status().isOk());
+        // El retiro llega a la caché por la bandeja de salida, cuyo relay está apagado en los tests
+        outboxRelay.relayPending();
+
+        String newEtag = mockMvc.perform(get(TRANSCRIPT_PATH, STUDENT_ID).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.courses[0].courseCode", is("QUI-1-2025")))
+                .andExpect(jsonPath("$.courses[0].status", is("WITHDRAWN")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+    }
+
+    @Test
+    @DisplayName("Debe devolver 404 si el estudiante no existe")
+    void getTranscript_shouldReturn404_whenStudentDoesNotExist() throws Exception {
+        mockMvc.perform(get(TRANSCRIPT_PATH, STUDENT_ID + 1))
+                .andExpect(status().isNotFound());
+    }
+
+    private void recordGrade(Long assignmentId, double grade) throws Exception {
+        RecordGradesRequest request = new RecordGradesRequest(List.of(
+                new RecordGradesRequest.Entry(STUDENT_ID, assignmentId, grade, null)));
+        mockMvc.perform(post("/api/v1/courses/{courseId}/grades/bulk", currentCourseId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+    }
+
+    private Long saveCourse(SubjectJpaEntity subject, String termName, LocalDate termStart, String code) {
+        AcademicTermJpaEntity term = testData.createTerm(organizationId, termName, termStart, termStart.plusMonths(10));
+        return testData.createCourse(subject, term, code, null);
+    }
+}